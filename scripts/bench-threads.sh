@@ -0,0 +1,78 @@
+#!/bin/bash
+# Compares platform-thread and virtual-thread request handling at 1k-10k concurrent connections.
+# Needs wrk, Docker and a high open-file limit (ulimit -n 65536). Results go to build/bench/threads/.
+set -e
+
+CONNECTIONS="${CONNECTIONS:-1000 2500 5000 10000}"
+DURATION="${DURATION:-30s}"
+THREADS="${THREADS:-8}"
+BASE_URL="http://localhost:8080"
+OUT=build/bench/threads
+DB_URL="jdbc:mysql://localhost:3307/taskdb?useSSL=false&allowPublicKeyRetrieval=true&rewriteBatchedStatements=true"
+
+mkdir -p "$OUT"
+
+echo "Starting MySQL database..."
+docker compose up -d db
+until docker exec taskmanager-mysql mysqladmin ping -h localhost --silent; do
+  printf "."
+  sleep 2
+done
+echo " MySQL ready!"
+
+echo "Building Spring Boot JAR..."
+./gradlew bootJar
+JAR=$(ls build/libs/*.jar | grep -v plain | head -1)
+
+start_app() {
+  java -jar "$JAR" --spring.profiles.active="$1" \
+    --spring.datasource.url="$DB_URL" \
+    --spring.datasource.username=taskuser \
+    --spring.datasource.password=taskpass \
+    --spring.jpa.hibernate.ddl-auto=update \
+    --server.tomcat.max-connections=20000 \
+    --server.tomcat.accept-count=1000 \
+    --taskmanager.concurrency-limit.enabled=false \
+    > "$OUT/app-$1.log" 2>&1 &
+  APP_PID=$!
+  until curl -sf "$BASE_URL/actuator/health" > /dev/null; do
+    sleep 1
+  done
+}
+
+stop_app() {
+  kill "$APP_PID"
+  wait "$APP_PID" 2>/dev/null || true
+}
+
+seed() {
+  body=$(printf '{"title":"bench %s","description":"seeded for bench-threads","completed":false},' $(seq 1 1000))
+  curl -sf -X POST "$BASE_URL/tasks:batch" -H 'Content-Type: application/json' -d "[${body%,}]" > /dev/null
+}
+
+# GET /tasks goes to the database on every call; GET /tasks/{id} would mostly hit the cache.
+for mode in default vthreads; do
+  echo "== $mode =="
+  start_app "$mode"
+  [ "$mode" = default ] && seed
+  wrk -t"$THREADS" -c100 -d10s "$BASE_URL/tasks?limit=20" > /dev/null  # warm-up
+  for c in $CONNECTIONS; do
+    echo "-- $c connections"
+    wrk -t"$THREADS" -c"$c" -d"$DURATION" --timeout 30s --latency "$BASE_URL/tasks?limit=20" | tee "$OUT/$mode-$c.txt"
+  done
+  curl -s "$BASE_URL/actuator/metrics/taskmanager.db.permit.wait" > "$OUT/$mode-permit-wait.json"
+  stop_app
+done
+
+echo ""
+printf '%-10s %8s %12s %10s %10s %10s\n' mode conns req/s p50 p99 errors
+for mode in default vthreads; do
+  for c in $CONNECTIONS; do
+    f="$OUT/$mode-$c.txt"
+    rps=$(awk '/Requests\/sec/ {print $2}' "$f")
+    p50=$(awk '$1 == "50%" {print $2}' "$f")
+    p99=$(awk '$1 == "99%" {print $2}' "$f")
+    errors=$(awk '/Socket errors|Non-2xx/ {for (i = 1; i <= NF; i++) {v = $i; sub(/,$/, "", v); if (v ~ /^[0-9]+$/) n += v}} END {print n + 0}' "$f")
+    printf '%-10s %8s %12s %10s %10s %10s\n' "$mode" "$c" "$rps" "$p50" "$p99" "$errors"
+  done
+done
@@ -178,8 +178,8 @@ class TaskmanagerApplicationTests {
     }
 
     @Test
-    void patchIsNotSupportedReturns405() {
-        Long taskId = 1L;
+    void patchNonExistentTaskReturns404() {
+        Long taskId = 9999L;
         String patchJson = "{\"title\": \"Patched\"}";
 
         HttpHeaders headers = new HttpHeaders();
@@ -193,7 +193,7 @@ class TaskmanagerApplicationTests {
             Void.class
         );
 
-        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.METHOD_NOT_ALLOWED);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
     }
 
     @Test
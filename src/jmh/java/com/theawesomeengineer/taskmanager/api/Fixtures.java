@@ -0,0 +1,73 @@
+package com.theawesomeengineer.taskmanager.api;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.theawesomeengineer.taskmanager.model.TaskRequest;
+import com.theawesomeengineer.taskmanager.repository.TaskEntity;
+import org.openapitools.jackson.nullable.JsonNullableModule;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.text.SimpleDateFormat;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Inputs shared by the hot-path benchmarks. Descriptions come in two sizes: a typical short one
+ * and the 1000-character maximum the API accepts.
+ */
+final class Fixtures {
+
+    static final int LIST_SIZE = 1000;
+
+    private Fixtures() {
+    }
+
+    static String description(String size) {
+        return "large".equals(size) ? "d".repeat(1000) : "Pick up groceries on the way home";
+    }
+
+    static TaskEntity entity(long id, String description) {
+        OffsetDateTime now = OffsetDateTime.parse("2025-10-28T12:34:46.383096+07:00");
+        return new TaskEntity(id, "Task " + id, description, id % 2 == 0, now, now.plusMinutes(id), 3L);
+    }
+
+    static List<TaskEntity> entities(int count, String description) {
+        List<TaskEntity> entities = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            entities.add(entity(id, description));
+        }
+        return entities;
+    }
+
+    static TaskRequest request(String description) {
+        return new TaskRequest("Buy milk", description).completed(false);
+    }
+
+    /**
+     * An {@link ObjectMapper} configured the way Spring Boot builds it from the
+     * {@code spring.jackson.*} settings in {@code application.properties}.
+     */
+    static ObjectMapper objectMapper() {
+        return Jackson2ObjectMapperBuilder.json()
+                                          .dateFormat(new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSSZ"))
+                                          .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                                          .featuresToEnable(SerializationFeature.WRITE_DATES_WITH_ZONE_ID)
+                                          .modulesToInstall(new JsonNullableModule())
+                                          .build();
+    }
+
+    /**
+     * The CBOR or Smile {@link ObjectMapper} of {@code WireFormatConfig}: the settings above, with
+     * dates as epoch timestamps.
+     */
+    static ObjectMapper binaryObjectMapper(JsonFactory factory) {
+        return Jackson2ObjectMapperBuilder.json()
+                                          .factory(factory)
+                                          .featuresToEnable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS,
+                                                            SerializationFeature.WRITE_DATES_WITH_ZONE_ID)
+                                          .modulesToInstall(new JsonNullableModule())
+                                          .build();
+    }
+}
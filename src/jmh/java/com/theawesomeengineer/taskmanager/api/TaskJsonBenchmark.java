@@ -0,0 +1,157 @@
+package com.theawesomeengineer.taskmanager.api;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.type.CollectionType;
+import com.theawesomeengineer.taskmanager.cache.TaskJsonCache;
+import com.theawesomeengineer.taskmanager.cache.TaskJsonHttpMessageConverter;
+import com.theawesomeengineer.taskmanager.config.TaskmanagerProperties;
+import com.theawesomeengineer.taskmanager.model.Error;
+import com.theawesomeengineer.taskmanager.model.Task;
+import com.theawesomeengineer.taskmanager.model.TaskRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Jackson (de)serialization of the API models with the application's date settings: what the
+ * message converters do for every request and response body. Readers and writers are created
+ * once, as Spring's converters cache them per type. The {@code *FromCache} variants write the same
+ * bodies through {@link TaskJsonHttpMessageConverter} with every task already cached, as repeated
+ * reads of unchanged tasks do.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TaskJsonBenchmark {
+
+    @Param({"small", "large"})
+    public String description;
+
+    private ObjectWriter taskWriter;
+    private ObjectWriter listWriter;
+    private ObjectWriter errorWriter;
+    private ObjectReader taskReader;
+    private ObjectReader requestReader;
+    private ObjectReader listReader;
+    private TaskJsonHttpMessageConverter cachedWriter;
+    private Type pageType;
+
+    private Task task;
+    private List<Task> page;
+    private Error error;
+    private byte[] taskJson;
+    private byte[] requestJson;
+    private byte[] pageJson;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper mapper = Fixtures.objectMapper();
+        CollectionType listType = mapper.getTypeFactory().constructCollectionType(List.class, Task.class);
+        taskWriter = mapper.writerFor(Task.class);
+        listWriter = mapper.writerFor(listType);
+        errorWriter = mapper.writerFor(Error.class);
+        taskReader = mapper.readerFor(Task.class);
+        requestReader = mapper.readerFor(TaskRequest.class);
+        listReader = mapper.readerFor(listType);
+
+        String text = Fixtures.description(description);
+        task = TasksApiDelegateImpl.map(Fixtures.entity(1, text));
+        page = Fixtures.entities(Fixtures.LIST_SIZE, text).stream()
+                       .map(TasksApiDelegateImpl::map)
+                       .collect(Collectors.toList());
+        error = new Error("Validation failed", OffsetDateTime.parse("2025-10-28T12:34:46.383+07:00"))
+                .details("title: must not be blank, description: size must be between 0 and 1000");
+        taskJson = taskWriter.writeValueAsBytes(task);
+        requestJson = mapper.writeValueAsBytes(Fixtures.request(text));
+        pageJson = listWriter.writeValueAsBytes(page);
+
+        cachedWriter = new TaskJsonHttpMessageConverter(new TaskJsonCache(new TaskmanagerProperties(), mapper,
+                                                                           new SimpleMeterRegistry()));
+        pageType = ResolvableType.forClassWithGenerics(List.class, Task.class).getType();
+        writeTaskFromCache();
+        writePageFromCache();
+    }
+
+    /** A response body that is only ever written to memory, sized like the Jackson output. */
+    private static final class Body implements HttpOutputMessage {
+
+        private final HttpHeaders headers = new HttpHeaders();
+        private final ByteArrayOutputStream body;
+
+        Body(int size) {
+            this.body = new ByteArrayOutputStream(size);
+        }
+
+        @Override
+        public OutputStream getBody() {
+            return body;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+
+    @Benchmark
+    public byte[] writeTask() throws JsonProcessingException {
+        return taskWriter.writeValueAsBytes(task);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Fixtures.LIST_SIZE)
+    public byte[] writePage() throws JsonProcessingException {
+        return listWriter.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public ByteArrayOutputStream writeTaskFromCache() throws IOException {
+        Body body = new Body(taskJson.length);
+        cachedWriter.write(task, Task.class, MediaType.APPLICATION_JSON, body);
+        return body.body;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Fixtures.LIST_SIZE)
+    public ByteArrayOutputStream writePageFromCache() throws IOException {
+        Body body = new Body(pageJson.length);
+        cachedWriter.write(page, pageType, MediaType.APPLICATION_JSON, body);
+        return body.body;
+    }
+
+    @Benchmark
+    public byte[] writeError() throws JsonProcessingException {
+        return errorWriter.writeValueAsBytes(error);
+    }
+
+    @Benchmark
+    public Task readTask() throws IOException {
+        return taskReader.readValue(taskJson);
+    }
+
+    @Benchmark
+    public TaskRequest readRequest() throws IOException {
+        return requestReader.readValue(requestJson);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Fixtures.LIST_SIZE)
+    public List<Task> readPage() throws IOException {
+        return listReader.readValue(pageJson);
+    }
+}
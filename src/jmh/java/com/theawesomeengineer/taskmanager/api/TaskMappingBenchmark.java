@@ -0,0 +1,53 @@
+package com.theawesomeengineer.taskmanager.api;
+
+import com.theawesomeengineer.taskmanager.model.Task;
+import com.theawesomeengineer.taskmanager.model.TaskRequest;
+import com.theawesomeengineer.taskmanager.repository.TaskEntity;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * {@code TasksApiDelegateImpl.map} in both directions: entity to API model for every task a read
+ * returns, request to entity for every write.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TaskMappingBenchmark {
+
+    @Param({"small", "large"})
+    public String description;
+
+    private TaskEntity entity;
+    private List<TaskEntity> page;
+    private TaskRequest request;
+
+    @Setup
+    public void setUp() {
+        String text = Fixtures.description(description);
+        entity = Fixtures.entity(1, text);
+        page = Fixtures.entities(Fixtures.LIST_SIZE, text);
+        request = Fixtures.request(text);
+    }
+
+    @Benchmark
+    public Task mapEntity() {
+        return TasksApiDelegateImpl.map(entity);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Fixtures.LIST_SIZE)
+    public List<Task> mapPage() {
+        return page.stream()
+                   .map(TasksApiDelegateImpl::map)
+                   .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public TaskEntity mapRequest() {
+        return TasksApiDelegateImpl.map(request);
+    }
+}
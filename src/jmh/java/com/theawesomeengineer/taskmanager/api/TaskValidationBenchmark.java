@@ -0,0 +1,52 @@
+package com.theawesomeengineer.taskmanager.api;
+
+import com.theawesomeengineer.taskmanager.model.TaskRequest;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bean Validation of a {@link TaskRequest}, as {@code @Valid} runs it on every create and update.
+ * Invalid requests are measured separately because building violation messages dominates them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TaskValidationBenchmark {
+
+    @Param({"small", "large"})
+    public String description;
+
+    private ValidatorFactory factory;
+    private Validator validator;
+    private TaskRequest valid;
+    private TaskRequest invalid;
+
+    @Setup
+    public void setUp() {
+        factory = Validation.buildDefaultValidatorFactory();
+        validator = factory.getValidator();
+        valid = Fixtures.request(Fixtures.description(description));
+        invalid = new TaskRequest(null, Fixtures.description(description) + "!".repeat(1000));
+    }
+
+    @TearDown
+    public void tearDown() {
+        factory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<TaskRequest>> validRequest() {
+        return validator.validate(valid);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<TaskRequest>> invalidRequest() {
+        return validator.validate(invalid);
+    }
+}
@@ -0,0 +1,71 @@
+package com.theawesomeengineer.taskmanager.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.type.CollectionType;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.theawesomeengineer.taskmanager.model.Task;
+import com.theawesomeengineer.taskmanager.wire.TaskProtobuf;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * A list of tasks in each body format the API offers, encoded and decoded whole, at a page size
+ * (1,000) and at the size of a large export (100,000). The encoded size of every combination is
+ * printed once per trial, next to the timings.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class WireFormatBenchmark {
+
+    @Param({"json", "smile", "cbor", "protobuf"})
+    public String format;
+
+    @Param({"1000", "100000"})
+    public int tasks;
+
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private List<Task> list;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper mapper = switch (format) {
+            case "json" -> Fixtures.objectMapper();
+            case "smile" -> Fixtures.binaryObjectMapper(new SmileFactory());
+            case "cbor" -> Fixtures.binaryObjectMapper(new CBORFactory());
+            case "protobuf" -> null;
+            default -> throw new IllegalArgumentException(format);
+        };
+        if (mapper != null) {
+            CollectionType listType = mapper.getTypeFactory().constructCollectionType(List.class, Task.class);
+            writer = mapper.writerFor(listType);
+            reader = mapper.readerFor(listType);
+        }
+        list = Fixtures.entities(tasks, Fixtures.description("small")).stream()
+                       .map(TasksApiDelegateImpl::map)
+                       .collect(Collectors.toList());
+        encoded = encode();
+        System.out.printf("%n%s, %d tasks: %d bytes (%.1f per task)%n",
+                          format, tasks, encoded.length, (double) encoded.length / tasks);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return writer != null ? writer.writeValueAsBytes(list) : TaskProtobuf.toBytes(list);
+    }
+
+    @Benchmark
+    public List<Task> decode() throws IOException {
+        return reader != null ? reader.readValue(encoded) : TaskProtobuf.readList(new ByteArrayInputStream(encoded));
+    }
+}
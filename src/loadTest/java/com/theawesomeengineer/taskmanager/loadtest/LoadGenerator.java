@@ -0,0 +1,161 @@
+package com.theawesomeengineer.taskmanager.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load: requests are scheduled at a fixed rate and sent on time whether or not earlier
+ * ones have completed, the way independent clients arrive in production. A closed loop (send,
+ * wait, send) slows down with the server and under-reports exactly the latencies that matter.
+ */
+final class LoadGenerator {
+
+    private static final int SEED_CHUNK = 500;
+
+    private final HttpClient client = HttpClient.newBuilder()
+                                                .version(HttpClient.Version.HTTP_1_1)
+                                                .connectTimeout(Duration.ofSeconds(10))
+                                                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                                                .build();
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final URI base;
+    private final TaskIds ids = new TaskIds();
+    private final Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+
+    LoadGenerator(URI base, Map<Operation, Integer> mix) {
+        this.base = base;
+        this.operations = mix.keySet().toArray(Operation[]::new);
+        this.cumulativeWeights = new int[operations.length];
+        int total = 0;
+        for (int i = 0; i < operations.length; i++) {
+            total += mix.get(operations[i]);
+            cumulativeWeights[i] = total;
+            stats.put(operations[i], new OperationStats());
+        }
+    }
+
+    /**
+     * Creates {@code count} tasks through {@code POST /tasks:batch} so the run starts with ids to
+     * read, update and delete.
+     */
+    void seed(int count) throws IOException, InterruptedException {
+        for (int done = 0; done < count; done += SEED_CHUNK) {
+            int n = Math.min(SEED_CHUNK, count - done);
+            List<String> items = new ArrayList<>(n);
+            for (int i = 0; i < n; i++) {
+                items.add("{\"title\":\"Seed task " + (done + i) + "\",\"description\":\"Seeded by the load test\"}");
+            }
+            HttpRequest request = HttpRequest.newBuilder(base.resolve("/tasks:batch"))
+                                             .header("Content-Type", "application/json")
+                                             .POST(HttpRequest.BodyPublishers.ofString("[" + String.join(",", items) + "]"))
+                                             .build();
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() >= 400) {
+                throw new IOException("Seeding failed with " + response.statusCode() + ": " + response.body());
+            }
+            for (JsonNode task : mapper.readTree(response.body()).path("created")) {
+                ids.add(task.path("id").asLong());
+            }
+        }
+    }
+
+    /**
+     * Sends {@code rate} requests per second for {@code warmup + duration}, then waits for the
+     * requests still in flight. Only requests scheduled after the warmup are recorded.
+     */
+    void run(int rate, Duration warmup, Duration duration) throws InterruptedException {
+        double nanosPerRequest = 1e9 / rate;
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+        Phaser inFlight = new Phaser(1);
+
+        for (long n = 0; ; n++) {
+            long intended = start + (long) (n * nanosPerRequest);
+            if (intended >= end) {
+                break;
+            }
+            long wait;
+            while ((wait = intended - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            send(pick(), n, intended, intended >= measureFrom, inFlight);
+        }
+
+        try {
+            inFlight.awaitAdvanceInterruptibly(inFlight.arrive(), 60, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            System.err.println("Gave up waiting for " + inFlight.getUnarrivedParties() + " requests still in flight");
+        }
+    }
+
+    Map<Operation, OperationStats> stats() {
+        return stats;
+    }
+
+    private void send(Operation operation, long seq, long intended, boolean record, Phaser inFlight) {
+        OperationStats opStats = stats.get(operation);
+        long id = -1;
+        if (operation.targetsTask()) {
+            id = operation == Operation.DELETE ? ids.take() : ids.any();
+            if (id < 0) {
+                if (record) {
+                    opStats.skip();
+                }
+                return;
+            }
+        }
+
+        inFlight.register();
+        long sent = System.nanoTime();
+        client.sendAsync(operation.request(base, id, seq), HttpResponse.BodyHandlers.ofString())
+              .whenComplete((response, error) -> {
+                  long done = System.nanoTime();
+                  boolean ok = error == null && response.statusCode() < 400;
+                  if (ok && operation == Operation.CREATE) {
+                      rememberCreated(response.body());
+                  }
+                  if (record) {
+                      opStats.record(intended, sent, done, ok);
+                  }
+                  inFlight.arriveAndDeregister();
+              });
+    }
+
+    private void rememberCreated(String body) {
+        try {
+            ids.add(mapper.readTree(body).path("id").asLong());
+        } catch (IOException e) {
+            // the request still counts; the task just is not targeted later
+        }
+    }
+
+    private Operation pick() {
+        int r = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (r < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        throw new IllegalStateException("unreachable");
+    }
+}
@@ -0,0 +1,81 @@
+package com.theawesomeengineer.taskmanager.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Writes {@code summary.txt} (one row per operation plus a total) and an HdrHistogram percentile
+ * distribution per operation ({@code <operation>.hgrm}, plottable with HdrHistogram's plotter).
+ * Latencies are reported in milliseconds.
+ */
+final class LoadReport {
+
+    private static final double NANOS_PER_MILLI = 1e6;
+    private static final String HEADER = String.format(Locale.ROOT, "%-10s %9s %7s %7s %9s %9s %9s %9s %9s %14s",
+            "operation", "count", "errors", "skipped", "req/s", "p50", "p99", "p99.9", "max", "p99 uncorr.");
+
+    private LoadReport() {
+    }
+
+    static void write(LoadTestSettings settings, Map<Operation, OperationStats> stats, Path out) throws IOException {
+        Files.createDirectories(out);
+        double seconds = settings.duration().toMillis() / 1000.0;
+        Histogram totalCorrected = new Histogram(3);
+        Histogram totalService = new Histogram(3);
+        long totalErrors = 0;
+        long totalSkipped = 0;
+
+        StringBuilder table = new StringBuilder();
+        table.append(String.format(Locale.ROOT, "rate %d req/s, warmup %s, duration %s, mix %s%n%n",
+                settings.rate(), format(settings.warmup()), format(settings.duration()), settings.mix()));
+        table.append(HEADER).append(System.lineSeparator());
+        for (Map.Entry<Operation, OperationStats> entry : stats.entrySet()) {
+            String name = entry.getKey().name().toLowerCase(Locale.ROOT);
+            OperationStats opStats = entry.getValue();
+            Histogram corrected = opStats.corrected();
+            Histogram service = opStats.service();
+            table.append(row(name, corrected, service, opStats.errors(), opStats.skipped(), seconds));
+            try (PrintStream hgrm = new PrintStream(Files.newOutputStream(out.resolve(name + ".hgrm")))) {
+                corrected.outputPercentileDistribution(hgrm, NANOS_PER_MILLI);
+            }
+            totalCorrected.add(corrected);
+            totalService.add(service);
+            totalErrors += opStats.errors();
+            totalSkipped += opStats.skipped();
+        }
+        table.append(row("total", totalCorrected, totalService, totalErrors, totalSkipped, seconds));
+
+        Files.writeString(out.resolve("summary.txt"), table);
+        System.out.println(table);
+        System.out.println("Report written to " + out.toAbsolutePath());
+    }
+
+    private static String row(String name, Histogram corrected, Histogram service, long errors, long skipped, double seconds) {
+        return String.format(Locale.ROOT, "%-10s %9d %7d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %14.2f%n",
+                name,
+                corrected.getTotalCount(),
+                errors,
+                skipped,
+                corrected.getTotalCount() / seconds,
+                millis(corrected, 50),
+                millis(corrected, 99),
+                millis(corrected, 99.9),
+                corrected.getMaxValue() / NANOS_PER_MILLI,
+                millis(service, 99));
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / NANOS_PER_MILLI;
+    }
+
+    private static String format(Duration duration) {
+        return duration.toString().substring(2).toLowerCase(Locale.ROOT);
+    }
+}
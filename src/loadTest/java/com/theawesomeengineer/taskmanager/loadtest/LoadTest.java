@@ -0,0 +1,57 @@
+package com.theawesomeengineer.taskmanager.loadtest;
+
+import com.theawesomeengineer.TaskmanagerApplication;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Entry point of {@code ./gradlew loadTest}. Without {@code loadtest.base-url} the application is
+ * started in this JVM with the {@code loadtest} profile (H2 in MySQL mode, random port), so a
+ * run needs no Docker or network; with it, any running instance can be measured instead.
+ */
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        ConfigurableApplicationContext application = null;
+        URI base;
+        if (settings.baseUrl().isBlank()) {
+            application = start(settings.profiles());
+            base = URI.create("http://localhost:" + application.getEnvironment().getRequiredProperty("local.server.port"));
+        } else {
+            base = URI.create(settings.baseUrl());
+        }
+
+        try {
+            LoadGenerator generator = new LoadGenerator(base, settings.mix());
+            System.out.printf("Seeding %d tasks at %s%n", settings.seedTasks(), base);
+            generator.seed(settings.seedTasks());
+            System.out.printf("Running %d req/s for %s after %s warmup%n", settings.rate(), settings.duration(), settings.warmup());
+            generator.run(settings.rate(), settings.warmup(), settings.duration());
+            LoadReport.write(settings, generator.stats(), settings.out());
+        } finally {
+            if (application != null) {
+                application.close();
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext start(String extraProfiles) {
+        List<String> profiles = new ArrayList<>(List.of("loadtest"));
+        Arrays.stream(extraProfiles.split(","))
+              .map(String::trim)
+              .filter(p -> !p.isEmpty())
+              .forEach(profiles::add);
+        SpringApplication application = new SpringApplication(TaskmanagerApplication.class);
+        application.setAdditionalProfiles(profiles.toArray(String[]::new));
+        return application.run();
+    }
+}
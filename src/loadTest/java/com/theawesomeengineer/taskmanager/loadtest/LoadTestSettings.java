@@ -0,0 +1,68 @@
+package com.theawesomeengineer.taskmanager.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Load-test knobs, read from {@code loadtest.*} system properties ({@code ./gradlew loadTest
+ * -Ploadtest.rate=500} passes them through). Durations use the same syntax as application
+ * properties ({@code 30s}, {@code 2m}).
+ *
+ * @param baseUrl     server to drive; blank boots the application in-process against H2
+ * @param profiles    extra Spring profiles for the in-process application, e.g. {@code vthreads}
+ * @param rate        requests per second across all operations
+ * @param warmup      time run at full rate before recording starts
+ * @param duration    recorded time
+ * @param mix         relative weight of each operation
+ * @param seedTasks   tasks created before the run so reads and writes have ids to target
+ * @param out         report directory
+ */
+record LoadTestSettings(String baseUrl,
+                        String profiles,
+                        int rate,
+                        Duration warmup,
+                        Duration duration,
+                        Map<Operation, Integer> mix,
+                        int seedTasks,
+                        Path out) {
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                System.getProperty("loadtest.base-url", ""),
+                System.getProperty("loadtest.profiles", ""),
+                Integer.getInteger("loadtest.rate", 200),
+                DurationStyle.detectAndParse(System.getProperty("loadtest.warmup", "10s")),
+                DurationStyle.detectAndParse(System.getProperty("loadtest.duration", "60s")),
+                parseMix(System.getProperty("loadtest.mix", "get=50,list=20,create=15,update=10,delete=5")),
+                Integer.getInteger("loadtest.seed-tasks", 1000),
+                Path.of(System.getProperty("loadtest.out", "build/reports/loadtest")));
+    }
+
+    /**
+     * Parses {@code get=50,list=20,...}. Operations left out are not sent.
+     */
+    static Map<Operation, Integer> parseMix(String spec) {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (String part : spec.split(",")) {
+            String[] kv = part.trim().split("=");
+            if (kv.length != 2) {
+                throw new IllegalArgumentException("Bad mix entry '" + part + "', expected operation=weight");
+            }
+            int weight = Integer.parseInt(kv[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Negative weight for " + kv[0]);
+            }
+            if (weight > 0) {
+                mix.put(Operation.fromName(kv[0].trim()), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("Mix '" + spec + "' selects no operations");
+        }
+        return mix;
+    }
+}
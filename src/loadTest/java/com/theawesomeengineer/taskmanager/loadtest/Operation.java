@@ -0,0 +1,77 @@
+package com.theawesomeengineer.taskmanager.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * The five {@code TasksApi} operations the harness drives. Each builds its request against a
+ * task id drawn from {@link TaskIds}; {@link #CREATE} and {@link #LIST} ignore it.
+ */
+enum Operation {
+
+    CREATE {
+        @Override
+        HttpRequest request(URI base, long id, long seq) {
+            return json(base.resolve("/tasks"))
+                    .POST(HttpRequest.BodyPublishers.ofString(body("Load task " + seq)))
+                    .build();
+        }
+    },
+    GET {
+        @Override
+        HttpRequest request(URI base, long id, long seq) {
+            return builder(base.resolve("/tasks/" + id)).GET().build();
+        }
+    },
+    LIST {
+        @Override
+        HttpRequest request(URI base, long id, long seq) {
+            return builder(base.resolve("/tasks?limit=20")).GET().build();
+        }
+    },
+    UPDATE {
+        @Override
+        HttpRequest request(URI base, long id, long seq) {
+            return json(base.resolve("/tasks/" + id))
+                    .PUT(HttpRequest.BodyPublishers.ofString(body("Updated task " + seq)))
+                    .build();
+        }
+    },
+    DELETE {
+        @Override
+        HttpRequest request(URI base, long id, long seq) {
+            return builder(base.resolve("/tasks/" + id)).DELETE().build();
+        }
+    };
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    abstract HttpRequest request(URI base, long id, long seq);
+
+    /** Whether the operation needs an existing task id. */
+    boolean targetsTask() {
+        return this != CREATE && this != LIST;
+    }
+
+    static Operation fromName(String name) {
+        try {
+            return valueOf(name.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown operation '" + name + "'; expected one of create, get, list, update, delete");
+        }
+    }
+
+    private static HttpRequest.Builder builder(URI uri) {
+        return HttpRequest.newBuilder(uri).timeout(TIMEOUT);
+    }
+
+    private static HttpRequest.Builder json(URI uri) {
+        return builder(uri).header("Content-Type", "application/json");
+    }
+
+    private static String body(String title) {
+        return "{\"title\":\"" + title + "\",\"description\":\"Generated by the load test\"}";
+    }
+}
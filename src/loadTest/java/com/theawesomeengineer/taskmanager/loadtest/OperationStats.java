@@ -0,0 +1,49 @@
+package com.theawesomeengineer.taskmanager.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latencies of one operation, in nanoseconds. {@link #corrected} is measured from the time the
+ * request was scheduled to be sent, so time spent queued behind a slow server counts against it
+ * (no coordinated omission); {@link #service} is measured from the actual send and is kept only
+ * to show how much the correction matters.
+ */
+final class OperationStats {
+
+    private final Recorder corrected = new Recorder(3);
+    private final Recorder service = new Recorder(3);
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+
+    void record(long intendedNanos, long sentNanos, long doneNanos, boolean ok) {
+        corrected.recordValue(doneNanos - intendedNanos);
+        service.recordValue(doneNanos - sentNanos);
+        if (!ok) {
+            errors.increment();
+        }
+    }
+
+    /** Counts a slot that could not be sent because no task id was available. */
+    void skip() {
+        skipped.increment();
+    }
+
+    Histogram corrected() {
+        return corrected.getIntervalHistogram();
+    }
+
+    Histogram service() {
+        return service.getIntervalHistogram();
+    }
+
+    long errors() {
+        return errors.sum();
+    }
+
+    long skipped() {
+        return skipped.sum();
+    }
+}
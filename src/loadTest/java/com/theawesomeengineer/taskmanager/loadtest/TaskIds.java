@@ -0,0 +1,41 @@
+package com.theawesomeengineer.taskmanager.loadtest;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Ids of tasks known to exist. Creates add to it from response callbacks; deletes take an id
+ * out before the request is sent so later reads do not target it.
+ */
+final class TaskIds {
+
+    private long[] ids = new long[1024];
+    private int size;
+
+    synchronized void add(long id) {
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+        }
+        ids[size++] = id;
+    }
+
+    /** A random known id, or {@code -1} when there is none. */
+    synchronized long any() {
+        return size == 0 ? -1 : ids[ThreadLocalRandom.current().nextInt(size)];
+    }
+
+    /** Removes and returns a random known id, or {@code -1} when there is none. */
+    synchronized long take() {
+        if (size == 0) {
+            return -1;
+        }
+        int i = ThreadLocalRandom.current().nextInt(size);
+        long id = ids[i];
+        ids[i] = ids[--size];
+        return id;
+    }
+
+    synchronized int size() {
+        return size;
+    }
+}
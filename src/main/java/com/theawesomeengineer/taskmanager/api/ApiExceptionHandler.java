@@ -0,0 +1,25 @@
+package com.theawesomeengineer.taskmanager.api;
+
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.ConstraintViolationException;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+
+import java.io.IOException;
+
+/**
+ * Maps constraint violations on query/path parameters (e.g. {@code limit} out of range) to 400.
+ * The error body is rendered by Spring Boot's error controller, same as for
+ * {@link org.springframework.web.server.ResponseStatusException}.
+ */
+@Profile("!reactive")
+@ControllerAdvice(assignableTypes = TasksApiController.class)
+public class ApiExceptionHandler {
+
+    @ExceptionHandler(ConstraintViolationException.class)
+    public void handleConstraintViolation(ConstraintViolationException e, HttpServletResponse response) throws IOException {
+        response.sendError(HttpStatus.BAD_REQUEST.value(), e.getMessage());
+    }
+}
@@ -0,0 +1,232 @@
+package com.theawesomeengineer.taskmanager.api;
+
+import com.theawesomeengineer.taskmanager.changes.TaskChange;
+import com.theawesomeengineer.taskmanager.model.Task;
+import com.theawesomeengineer.taskmanager.model.TaskBatchResponse;
+import com.theawesomeengineer.taskmanager.model.TaskBulkResult;
+import com.theawesomeengineer.taskmanager.model.TaskBulkUpdateRequest;
+import com.theawesomeengineer.taskmanager.model.TaskFilter;
+import com.theawesomeengineer.taskmanager.model.TaskPatch;
+import com.theawesomeengineer.taskmanager.model.TaskRequest;
+import com.theawesomeengineer.taskmanager.model.TaskStats;
+import com.theawesomeengineer.taskmanager.model.TaskSyncResponse;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * Non-blocking counterpart of {@link TasksApi} for the {@code reactive} profile: the same paths,
+ * parameters, headers and status codes (see {@code openapi.yaml}), with {@link Mono} / {@link Flux}
+ * results. Parameter constraints are checked by WebFlux's built-in method validation, so this
+ * interface is deliberately not {@code @Validated}.
+ */
+public interface ReactiveTasksApi {
+
+    ReactiveTasksApiDelegate getDelegate();
+
+    @RequestMapping(
+        method = RequestMethod.POST,
+        value = TasksApi.PATH_BULK_DELETE_TASKS,
+        produces = { "application/json", "application/cbor", "application/x-jackson-smile" },
+        consumes = { "application/json", "application/cbor", "application/x-jackson-smile" }
+    )
+    default Mono<ResponseEntity<TaskBulkResult>> bulkDeleteTasks(
+        @Valid @RequestBody TaskFilter taskFilter
+    ) {
+        return getDelegate().bulkDeleteTasks(taskFilter);
+    }
+
+    @RequestMapping(
+        method = RequestMethod.POST,
+        value = TasksApi.PATH_BULK_UPDATE_TASKS,
+        produces = { "application/json", "application/cbor", "application/x-jackson-smile" },
+        consumes = { "application/json", "application/cbor", "application/x-jackson-smile" }
+    )
+    default Mono<ResponseEntity<TaskBulkResult>> bulkUpdateTasks(
+        @Valid @RequestBody TaskBulkUpdateRequest taskBulkUpdateRequest
+    ) {
+        return getDelegate().bulkUpdateTasks(taskBulkUpdateRequest);
+    }
+
+    @RequestMapping(
+        method = RequestMethod.POST,
+        value = TasksApi.PATH_CREATE_TASK,
+        produces = { "application/json", "application/cbor", "application/x-jackson-smile", "application/x-protobuf" },
+        consumes = { "application/json", "application/cbor", "application/x-jackson-smile", "application/x-protobuf" }
+    )
+    default Mono<ResponseEntity<Task>> createTask(
+        @Valid @RequestBody TaskRequest taskRequest,
+        @RequestHeader(value = "Prefer", required = false) String prefer,
+        @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey
+    ) {
+        return getDelegate().createTask(taskRequest, prefer, idempotencyKey);
+    }
+
+    @RequestMapping(
+        method = RequestMethod.POST,
+        value = TasksApi.PATH_CREATE_TASKS_BATCH,
+        produces = { "application/json", "application/cbor", "application/x-jackson-smile" },
+        consumes = { "application/json", "application/cbor", "application/x-jackson-smile" }
+    )
+    default Mono<ResponseEntity<TaskBatchResponse>> createTasksBatch(
+        @RequestBody List<TaskRequest> taskRequest
+    ) {
+        return getDelegate().createTasksBatch(taskRequest);
+    }
+
+    @RequestMapping(
+        method = RequestMethod.DELETE,
+        value = TasksApi.PATH_DELETE_TASK,
+        produces = { "application/json", "application/cbor", "application/x-jackson-smile" }
+    )
+    default Mono<ResponseEntity<Void>> deleteTask(
+        @NotNull @PathVariable("id") Long id,
+        @RequestHeader(value = "If-Match", required = false) String ifMatch
+    ) {
+        return getDelegate().deleteTask(id, ifMatch);
+    }
+
+    /**
+     * GET /tasks : one page of tasks. The body is a {@link Flux} written element by element as
+     * the connection accepts it; the page is read up front because its ETag and
+     * {@code X-Next-Cursor} header depend on every row.
+     */
+    @RequestMapping(
+        method = RequestMethod.GET,
+        value = TasksApi.PATH_GET_ALL_TASKS,
+        produces = { "application/json", "application/cbor", "application/x-jackson-smile", "application/x-protobuf" }
+    )
+    default Mono<ResponseEntity<Flux<Task>>> getAllTasks(
+        @Min(value = 1) @Max(value = 1000) @RequestParam(value = "limit", required = false) Integer limit,
+        @RequestParam(value = "sort", required = false, defaultValue = "id") String sort,
+        @RequestParam(value = "cursor", required = false) String cursor,
+        @RequestParam(value = "completed", required = false) Boolean completed,
+        @RequestParam(value = "createdAfter", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime createdAfter,
+        @RequestParam(value = "createdBefore", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime createdBefore,
+        @RequestParam(value = "updatedAfter", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime updatedAfter,
+        @RequestParam(value = "updatedBefore", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime updatedBefore,
+        @Size(min = 1, max = 255) @RequestParam(value = "titlePrefix", required = false) String titlePrefix,
+        @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch
+    ) {
+        return getDelegate().getAllTasks(limit, sort, cursor, completed, createdAfter, createdBefore,
+                                         updatedAfter, updatedBefore, titlePrefix, ifNoneMatch);
+    }
+
+    /**
+     * GET /tasks with {@code Accept: application/x-ndjson}: every task, one JSON object per line,
+     * streamed from the database with backpressure (the reactive form of
+     * {@link TasksStreamController}).
+     */
+    @RequestMapping(
+        method = RequestMethod.GET,
+        value = TasksApi.PATH_GET_ALL_TASKS,
+        produces = { "application/x-ndjson" }
+    )
+    @ResponseBody
+    default Flux<Task> streamAllTasks() {
+        return getDelegate().streamAllTasks();
+    }
+
+    /**
+     * GET /tasks/changes : Server-Sent Events stream of task changes, resumable with
+     * {@code Last-Event-ID} (the reactive form of {@link TaskChangesController}).
+     */
+    @RequestMapping(
+        method = RequestMethod.GET,
+        value = TaskChangesController.PATH_TASK_CHANGES,
+        produces = { "text/event-stream" }
+    )
+    @ResponseBody
+    default Flux<ServerSentEvent<TaskChange>> streamChanges(
+        @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId
+    ) {
+        return getDelegate().streamChanges(lastEventId);
+    }
+
+    @RequestMapping(
+        method = RequestMethod.GET,
+        value = TasksApi.PATH_GET_TASK_BY_ID,
+        produces = { "application/json", "application/cbor", "application/x-jackson-smile", "application/x-protobuf" }
+    )
+    default Mono<ResponseEntity<Task>> getTaskById(
+        @NotNull @PathVariable("id") Long id,
+        @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch,
+        @RequestHeader(value = "If-Modified-Since", required = false) String ifModifiedSince
+    ) {
+        return getDelegate().getTaskById(id, ifNoneMatch, ifModifiedSince);
+    }
+
+    @RequestMapping(
+        method = RequestMethod.GET,
+        value = TasksApi.PATH_GET_TASK_STATS,
+        produces = { "application/json", "application/cbor", "application/x-jackson-smile" }
+    )
+    default Mono<ResponseEntity<TaskStats>> getTaskStats() {
+        return getDelegate().getTaskStats();
+    }
+
+    @RequestMapping(
+        method = RequestMethod.PATCH,
+        value = TasksApi.PATH_PATCH_TASK,
+        produces = { "application/json", "application/cbor", "application/x-jackson-smile", "application/x-protobuf" },
+        consumes = { "application/json", "application/merge-patch+json" }
+    )
+    default Mono<ResponseEntity<Task>> patchTask(
+        @NotNull @PathVariable("id") Long id,
+        @Valid @RequestBody TaskPatch taskPatch,
+        @RequestHeader(value = "If-Match", required = false) String ifMatch
+    ) {
+        return getDelegate().patchTask(id, taskPatch, ifMatch);
+    }
+
+    /** GET /tasks/search : ranked full-text search, answered from the in-memory index. */
+    @RequestMapping(
+        method = RequestMethod.GET,
+        value = TasksApi.PATH_SEARCH_TASKS,
+        produces = { "application/json", "application/cbor", "application/x-jackson-smile", "application/x-protobuf" }
+    )
+    default Mono<ResponseEntity<Flux<Task>>> searchTasks(
+        @NotNull @Size(min = 1, max = 200) @RequestParam(value = "q") String q,
+        @Min(value = 1) @Max(value = 100) @RequestParam(value = "limit", required = false) Integer limit
+    ) {
+        return getDelegate().searchTasks(q, limit);
+    }
+
+    @RequestMapping(
+        method = RequestMethod.GET,
+        value = TasksApi.PATH_SYNC_TASKS,
+        produces = { "application/json", "application/cbor", "application/x-jackson-smile" }
+    )
+    default Mono<ResponseEntity<TaskSyncResponse>> syncTasks(
+        @RequestParam(value = "changedSince", required = false) String changedSince,
+        @Min(value = 1) @Max(value = 1000) @RequestParam(value = "limit", required = false) Integer limit
+    ) {
+        return getDelegate().syncTasks(changedSince, limit);
+    }
+
+    @RequestMapping(
+        method = RequestMethod.PUT,
+        value = TasksApi.PATH_UPDATE_TASK,
+        produces = { "application/json", "application/cbor", "application/x-jackson-smile", "application/x-protobuf" },
+        consumes = { "application/json", "application/cbor", "application/x-jackson-smile", "application/x-protobuf" }
+    )
+    default Mono<ResponseEntity<Task>> updateTask(
+        @NotNull @PathVariable("id") Long id,
+        @Valid @RequestBody TaskRequest taskRequest,
+        @RequestHeader(value = "If-Match", required = false) String ifMatch,
+        @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey
+    ) {
+        return getDelegate().updateTask(id, taskRequest, ifMatch, idempotencyKey);
+    }
+}
@@ -0,0 +1,22 @@
+package com.theawesomeengineer.taskmanager.api;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+@Controller
+@Profile("reactive")
+@RequestMapping("${openapi.taskManager.base-path:}")
+public class ReactiveTasksApiController implements ReactiveTasksApi {
+
+    private final ReactiveTasksApiDelegate delegate;
+
+    public ReactiveTasksApiController(ReactiveTasksApiDelegate delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public ReactiveTasksApiDelegate getDelegate() {
+        return delegate;
+    }
+}
@@ -0,0 +1,57 @@
+package com.theawesomeengineer.taskmanager.api;
+
+import com.theawesomeengineer.taskmanager.changes.TaskChange;
+import com.theawesomeengineer.taskmanager.model.Task;
+import com.theawesomeengineer.taskmanager.model.TaskBatchResponse;
+import com.theawesomeengineer.taskmanager.model.TaskBulkResult;
+import com.theawesomeengineer.taskmanager.model.TaskBulkUpdateRequest;
+import com.theawesomeengineer.taskmanager.model.TaskFilter;
+import com.theawesomeengineer.taskmanager.model.TaskPatch;
+import com.theawesomeengineer.taskmanager.model.TaskRequest;
+import com.theawesomeengineer.taskmanager.model.TaskStats;
+import com.theawesomeengineer.taskmanager.model.TaskSyncResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * A delegate to be called by the {@link ReactiveTasksApiController}.
+ * Implement this interface with a {@link org.springframework.stereotype.Service} annotated class.
+ */
+public interface ReactiveTasksApiDelegate {
+
+    Mono<ResponseEntity<TaskBulkResult>> bulkDeleteTasks(TaskFilter taskFilter);
+
+    Mono<ResponseEntity<TaskBulkResult>> bulkUpdateTasks(TaskBulkUpdateRequest taskBulkUpdateRequest);
+
+    Mono<ResponseEntity<Task>> createTask(TaskRequest taskRequest, String prefer, String idempotencyKey);
+
+    Mono<ResponseEntity<TaskBatchResponse>> createTasksBatch(List<TaskRequest> taskRequest);
+
+    Mono<ResponseEntity<Void>> deleteTask(Long id, String ifMatch);
+
+    Mono<ResponseEntity<Flux<Task>>> getAllTasks(Integer limit, String sort, String cursor, Boolean completed,
+                                                 OffsetDateTime createdAfter, OffsetDateTime createdBefore,
+                                                 OffsetDateTime updatedAfter, OffsetDateTime updatedBefore,
+                                                 String titlePrefix, String ifNoneMatch);
+
+    Flux<Task> streamAllTasks();
+
+    Flux<ServerSentEvent<TaskChange>> streamChanges(String lastEventId);
+
+    Mono<ResponseEntity<Task>> getTaskById(Long id, String ifNoneMatch, String ifModifiedSince);
+
+    Mono<ResponseEntity<TaskStats>> getTaskStats();
+
+    Mono<ResponseEntity<Task>> patchTask(Long id, TaskPatch taskPatch, String ifMatch);
+
+    Mono<ResponseEntity<Flux<Task>>> searchTasks(String q, Integer limit);
+
+    Mono<ResponseEntity<TaskSyncResponse>> syncTasks(String changedSince, Integer limit);
+
+    Mono<ResponseEntity<Task>> updateTask(Long id, TaskRequest taskRequest, String ifMatch, String idempotencyKey);
+}
@@ -0,0 +1,424 @@
+package com.theawesomeengineer.taskmanager.api;
+
+import com.theawesomeengineer.taskmanager.cache.CachedTask;
+import com.theawesomeengineer.taskmanager.cache.TaskCache;
+import com.theawesomeengineer.taskmanager.changes.TaskChange;
+import com.theawesomeengineer.taskmanager.changes.TaskChangeFeed;
+import com.theawesomeengineer.taskmanager.config.TaskmanagerProperties;
+import com.theawesomeengineer.taskmanager.idempotency.IdempotencyStore;
+import com.theawesomeengineer.taskmanager.model.*;
+import com.theawesomeengineer.taskmanager.repository.ReactiveTaskRepository;
+import com.theawesomeengineer.taskmanager.repository.TaskChanges;
+import com.theawesomeengineer.taskmanager.repository.TaskCriteria;
+import com.theawesomeengineer.taskmanager.repository.TaskEntity;
+import com.theawesomeengineer.taskmanager.repository.TaskKeyset;
+import com.theawesomeengineer.taskmanager.repository.TaskSortKey;
+import com.theawesomeengineer.taskmanager.repository.TaskTombstone;
+import com.theawesomeengineer.taskmanager.repository.TaskValidators;
+import com.theawesomeengineer.taskmanager.search.SearchHit;
+import com.theawesomeengineer.taskmanager.search.TaskSearchIndex;
+import com.theawesomeengineer.taskmanager.stats.TaskStatistics;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+
+import static com.theawesomeengineer.taskmanager.api.TasksApiDelegateImpl.*;
+
+/**
+ * {@link TasksApiDelegateImpl} for the {@code reactive} profile: same statements, status codes,
+ * validators and cache handling, but every database call is an R2DBC {@link Mono} / {@link Flux},
+ * so no request ever holds a thread while it waits on the database.
+ */
+@Component
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveTasksApiDelegateImpl implements ReactiveTasksApiDelegate {
+
+    private final ReactiveTaskRepository repo;
+    private final TaskmanagerProperties properties;
+    private final Validator validator;
+    private final TaskCache cache;
+    private final TaskSearchIndex searchIndex;
+    private final TaskStatistics stats;
+    private final TaskChangeFeed changeFeed;
+    private final IdempotencyStore idempotency;
+
+    /* ---------- helpers ---------- */
+
+    /**
+     * Cache hit, or a load that is cached unless a writer refreshed the entry meanwhile (a
+     * blocking {@link TaskCache#get} cannot host a non-blocking load).
+     */
+    private Mono<CachedTask> cachedOrLoad(Long id) {
+        return Mono.justOrEmpty(cache.getIfPresent(id))
+                   .switchIfEmpty(load(id).doOnNext(cache::putIfNewer));
+    }
+
+    private Mono<CachedTask> load(Long id) {
+        return repo.findById(id).map(TasksApiDelegateImpl::cached);
+    }
+
+    /** See {@code TasksApiDelegateImpl.expectedVersion}; empty when any version will do. */
+    private Mono<Optional<Long>> expectedVersion(Long id, String ifMatch) {
+        if (ifMatch == null || ifMatch.trim().equals("*")) {
+            return Mono.just(Optional.empty());
+        }
+        OptionalLong version = TaskETags.versionOf(ifMatch, id);
+        return version.isPresent() ? Mono.just(Optional.of(version.getAsLong())) : failedWrite(id);
+    }
+
+    private <T> Mono<T> failedWrite(Long id) {
+        return repo.existsById(id).flatMap(exists -> Mono.error(exists
+                ? new ResponseStatusException(HttpStatus.PRECONDITION_FAILED, "Task was modified; fetch it again")
+                : notFound()));
+    }
+
+    /**
+     * Runs {@code statement} over keyset chunks of the matching tasks, one chunk at a time; see
+     * {@code TasksApiDelegateImpl.inChunks}.
+     */
+    private Mono<Long> inChunks(BiFunction<Long, Integer, Mono<List<TaskEntity>>> statement) {
+        int chunk = properties.getBulk().getChunkSize();
+        return statement.apply(Long.MIN_VALUE, chunk)
+                        .expand(rows -> rows.size() < chunk
+                                ? Mono.empty()
+                                : statement.apply(rows.get(rows.size() - 1).getId(), chunk))
+                        .reduce(0L, (affected, rows) -> affected + rows.size());
+    }
+
+    /* ---------- API methods ---------- */
+
+    @Override
+    public Mono<ResponseEntity<TaskBulkResult>> bulkUpdateTasks(TaskBulkUpdateRequest request) {
+        TaskCriteria criteria = criteria(request.getFilter(), properties.getBulk().getMaxIds());
+        TaskBulkPatch patch = request.getPatch();
+        TaskChanges changes = new TaskChanges(patch.getTitle(), patch.getDescription(), patch.getCompleted());
+        if (changes.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Patch must change at least one field");
+        }
+        return inChunks((after, limit) -> {
+                    OffsetDateTime now = TaskEntity.now();
+                    return repo.updateChunk(criteria, after, limit, changes, now)
+                               .doOnNext(before -> before.forEach(e -> {
+                                   CachedTask updated = new CachedTask(applied(map(e), changes, now), e.getVersion() + 1);
+                                   cache.invalidate(e.getId());
+                                   searchIndex.index(updated);
+                                   stats.updated(map(e), updated.task());
+                                   changeFeed.publish(TaskChange.updated(updated.task()));
+                               }));
+                })
+                .map(affected -> ResponseEntity.ok(new TaskBulkResult(affected)));
+    }
+
+    @Override
+    public Mono<ResponseEntity<TaskBulkResult>> bulkDeleteTasks(TaskFilter filter) {
+        TaskCriteria criteria = criteria(filter, properties.getBulk().getMaxIds());
+        return inChunks((after, limit) -> repo.deleteChunk(criteria, after, limit)
+                                              .doOnNext(deleted -> deleted.forEach(e -> {
+                                                  cache.invalidate(e.getId());
+                                                  searchIndex.remove(e.getId());
+                                                  stats.deleted(map(e));
+                                                  changeFeed.publish(TaskChange.deleted(e.getId()));
+                                              })))
+                .map(affected -> ResponseEntity.ok(new TaskBulkResult(affected)));
+    }
+
+    @Override
+    public Mono<ResponseEntity<Flux<Task>>> getAllTasks(Integer limit, String sort, String cursor, Boolean completed,
+                                                        OffsetDateTime createdAfter, OffsetDateTime createdBefore,
+                                                        OffsetDateTime updatedAfter, OffsetDateTime updatedBefore,
+                                                        String titlePrefix, String ifNoneMatch) {
+        TaskSortKey sortKey = sortKey(sort);
+        TaskKeyset after = cursor == null ? null : decodeCursor(cursor, sortKey);
+        TaskCriteria criteria = new TaskCriteria(null, completed, createdAfter, createdBefore,
+                                                 updatedAfter, updatedBefore, titlePrefix);
+        TaskmanagerProperties.Page page = properties.getPage();
+        int pageSize = Math.min(limit != null ? limit : page.getDefaultLimit(), page.getMaxLimit());
+
+        return repo.findPage(sortKey, after, criteria, pageSize + 1).collectList().map(rows -> {
+            boolean hasNext = rows.size() > pageSize;
+            List<TaskEntity> tasks = hasNext ? rows.subList(0, pageSize) : rows;
+
+            String etag = TaskETags.ofList(tasks);
+            boolean notModified = ifNoneMatch != null && TaskETags.matches(ifNoneMatch, etag);
+            ResponseEntity.BodyBuilder response = ResponseEntity.status(notModified ? HttpStatus.NOT_MODIFIED : HttpStatus.OK)
+                                                                .eTag(etag);
+            if (hasNext) {
+                response.header(NEXT_CURSOR_HEADER, TaskCursor.encode(TaskKeyset.of(sortKey, tasks.get(tasks.size() - 1))));
+            }
+            return notModified
+                    ? response.<Flux<Task>>build()
+                    : response.body(Flux.fromIterable(tasks).map(TasksApiDelegateImpl::map));
+        });
+    }
+
+    @Override
+    public Flux<Task> streamAllTasks() {
+        return repo.streamAll().map(TasksApiDelegateImpl::map);
+    }
+
+    /** Marks the end of a subscriber that fell behind; never written. */
+    private static final ServerSentEvent<TaskChange> DROPPED = ServerSentEvent.<TaskChange>builder().build();
+
+    /**
+     * See {@code TaskChangesController}. Instead of a thread per subscriber, every publish (and
+     * every heartbeat) is a tick that makes the subscriber read what it has not sent yet; ticks
+     * arriving while a batch is still being written collapse into one, so a slow connection never
+     * holds more than one batch.
+     */
+    @Override
+    public Flux<ServerSentEvent<TaskChange>> streamChanges(String lastEventId) {
+        if (!changeFeed.subscribe()) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many change-feed subscribers");
+        }
+        long resumeFrom = changeFeed.resumeFrom(lastEventId);
+        AtomicLong cursor = new AtomicLong(resumeFrom < 0 ? changeFeed.head() : resumeFrom);
+        Flux<ServerSentEvent<TaskChange>> start = Flux.just(comment("connected"));
+        if (resumeFrom < 0) {
+            start = start.concatWith(Flux.just(changeEvent(cursor.get(), TaskChange.reset())));
+        }
+
+        Duration heartbeat = properties.getChanges().getHeartbeat();
+        Flux<ServerSentEvent<TaskChange>> changes = Flux.merge(changeFeed.published(),
+                                                               Flux.interval(heartbeat).map(i -> -1L),
+                                                               Mono.just(0L))
+                .onBackpressureLatest()
+                // off the publishing thread: a write must not serialize events for every subscriber
+                .publishOn(Schedulers.parallel(), 1)
+                .concatMap(tick -> {
+                    List<TaskChangeFeed.Event> events = changeFeed.since(cursor.get());
+                    if (events == null) {
+                        changeFeed.dropped();
+                        return Flux.just(changeEvent(changeFeed.head(), TaskChange.reset()), DROPPED);
+                    }
+                    if (events.isEmpty()) {
+                        return tick < 0 ? Flux.just(comment("keep-alive")) : Flux.empty();
+                    }
+                    cursor.set(events.getLast().sequence());
+                    return Flux.fromIterable(events).map(e -> changeEvent(e.sequence(), e.change()));
+                }, 1)
+                .takeWhile(event -> event != DROPPED);
+        return start.concatWith(changes)
+                    .doFinally(signal -> changeFeed.unsubscribe());
+    }
+
+    private ServerSentEvent<TaskChange> changeEvent(long sequence, TaskChange change) {
+        return ServerSentEvent.builder(change)
+                              .id(changeFeed.eventId(sequence))
+                              .event(change.type())
+                              .build();
+    }
+
+    private static ServerSentEvent<TaskChange> comment(String text) {
+        return ServerSentEvent.<TaskChange>builder().comment(text).build();
+    }
+
+    /** See {@code TasksApiDelegateImpl.searchTasks}. */
+    @Override
+    public Mono<ResponseEntity<Flux<Task>>> searchTasks(String q, Integer limit) {
+        List<SearchHit> hits = search(searchIndex, properties.getSearch(), q, limit);
+        Map<Long, Task> found = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+        for (SearchHit hit : hits) {
+            cache.getIfPresent(hit.id())
+                 .ifPresentOrElse(c -> found.put(c.id(), c.task()), () -> misses.add(hit.id()));
+        }
+        Mono<Map<Long, Task>> resolved = misses.isEmpty()
+                ? Mono.just(found)
+                : repo.findAllById(misses)
+                      .doOnNext(e -> found.put(e.getId(), map(e)))
+                      .then(Mono.fromSupplier(() -> {
+                          misses.stream().filter(id -> !found.containsKey(id)).forEach(searchIndex::remove);
+                          return found;
+                      }));
+        return resolved.map(tasks -> ResponseEntity.ok(Flux.fromIterable(hits)
+                                                         .mapNotNull(hit -> tasks.get(hit.id()))));
+    }
+
+    /** See {@code TasksApiDelegateImpl.syncTasks}. */
+    @Override
+    public Mono<ResponseEntity<TaskSyncResponse>> syncTasks(String changedSince, Integer limit) {
+        TaskmanagerProperties.Sync sync = properties.getSync();
+        OffsetDateTime settled = settled(sync);
+        TaskSyncToken since = syncToken(changedSince, settled, sync);
+        TaskmanagerProperties.Page page = properties.getPage();
+        int pageSize = Math.min(limit != null ? limit : page.getDefaultLimit(), page.getMaxLimit());
+
+        Mono<List<TaskEntity>> rows = repo.findPage(TaskSortKey.UPDATED_AT, since.tasksAfter(), updatedBefore(settled), pageSize + 1)
+                                          .collectList();
+        Mono<List<TaskTombstone>> deleted = repo.findTombstones(since.deletedAt(), since.tombstoneId(), settled, pageSize + 1)
+                                                .collectList();
+        return Mono.zip(rows, deleted)
+                   .map(pages -> ResponseEntity.ok(syncResponse(since, pages.getT1(), pages.getT2(), pageSize)));
+    }
+
+    @Override
+    public Mono<ResponseEntity<TaskStats>> getTaskStats() {
+        return Mono.fromSupplier(() -> ResponseEntity.ok(taskStats(stats)));
+    }
+
+    /**
+     * Always writes synchronously: write-behind needs a blocking writer thread and a local
+     * journal, which this profile avoids. {@code Prefer} is only a hint, so {@code respond-async}
+     * is ignored and no {@code Preference-Applied} is sent.
+     */
+    @Override
+    public Mono<ResponseEntity<Task>> createTask(TaskRequest taskRequest, String prefer, String idempotencyKey) {
+        return idempotency.executeReactive(CREATE_TASK, idempotencyKey, Arrays.asList(taskRequest, prefer),
+                                           () -> create(taskRequest));
+    }
+
+    private Mono<ResponseEntity<Task>> create(TaskRequest taskRequest) {
+        return repo.insert(map(taskRequest))
+                   .map(TasksApiDelegateImpl::cached)
+                   .doOnNext(cache::put)
+                   .doOnNext(searchIndex::index)
+                   .doOnNext(created -> stats.created(created.task()))
+                   .doOnNext(created -> changeFeed.publish(TaskChange.created(created.task())))
+                   .map(created -> withValidators(ResponseEntity.status(HttpStatus.CREATED), created).body(created.task()));
+    }
+
+    /** Validates every item on its own and inserts the valid ones in one transaction. */
+    @Override
+    public Mono<ResponseEntity<TaskBatchResponse>> createTasksBatch(List<TaskRequest> taskRequests) {
+        int maxSize = properties.getBatch().getMaxSize();
+        if (taskRequests.size() > maxSize) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Batch exceeds " + maxSize + " items");
+        }
+
+        List<TaskBatchError> errors = new ArrayList<>();
+        List<TaskEntity> valid = new ArrayList<>(taskRequests.size());
+        for (int i = 0; i < taskRequests.size(); i++) {
+            TaskBatchError error = batchError(i, taskRequests.get(i), validator);
+            if (error == null) {
+                valid.add(map(taskRequests.get(i)));
+            } else {
+                errors.add(error);
+            }
+        }
+
+        // collected first so the index and counters only see the batch once it is committed
+        return repo.insertAll(valid)
+                   .collectList()
+                   .doOnNext(rows -> rows.forEach(searchIndex::index))
+                   .map(rows -> rows.stream().map(TasksApiDelegateImpl::map).toList())
+                   .doOnNext(created -> created.forEach(stats::created))
+                   .doOnNext(created -> created.forEach(task -> changeFeed.publish(TaskChange.created(task))))
+                   .map(created -> {
+                       HttpStatus status = created.isEmpty() && !errors.isEmpty() ? HttpStatus.UNPROCESSABLE_ENTITY : HttpStatus.CREATED;
+                       return ResponseEntity.status(status).body(new TaskBatchResponse(created, errors));
+                   });
+    }
+
+    @Override
+    public Mono<ResponseEntity<Task>> getTaskById(Long id, String ifNoneMatch, String ifModifiedSince) {
+        Mono<ResponseEntity<Task>> full = cachedOrLoad(id)
+                .map(task -> withValidators(ResponseEntity.ok(), task).body(task.task()))
+                .switchIfEmpty(Mono.error(TasksApiDelegateImpl::notFound));
+        if (ifNoneMatch == null && ifModifiedSince == null) {
+            return full;
+        }
+        Mono<TaskValidators> current = cache.getIfPresent(id)
+                                            .map(c -> Mono.just(new TaskValidators(c.version(), c.task().getUpdatedAt())))
+                                            .orElseGet(() -> repo.findValidatorsById(id));
+        return current.switchIfEmpty(Mono.error(TasksApiDelegateImpl::notFound))
+                      .flatMap(validators -> {
+                          boolean notModified = ifNoneMatch != null
+                                  ? TaskETags.matches(ifNoneMatch, TaskETags.of(id, validators.version()))
+                                  : TaskETags.notModifiedSince(ifModifiedSince, validators.updatedAt());
+                          if (!notModified) {
+                              return full;
+                          }
+                          return Mono.just(ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                                                         .eTag(TaskETags.of(id, validators.version()))
+                                                         .lastModified(validators.updatedAt().toInstant())
+                                                         .<Task>build());
+                      });
+    }
+
+    /** See {@code TasksApiDelegateImpl.write}. */
+    private Mono<ResponseEntity<Task>> write(Long id, String ifMatch, TaskChanges changes) {
+        return expectedVersion(id, ifMatch).flatMap(expected -> {
+            OffsetDateTime now = TaskEntity.now();
+            CachedTask before = cache.getIfPresent(id).orElse(null);
+            return repo.updateIfVersion(id, expected.orElse(null), changes, now).flatMap(rows -> {
+                if (rows == 0) {
+                    return failedWrite(id);
+                }
+                Mono<CachedTask> updated = Mono.justOrEmpty(
+                        cache.getIfPresent(id)
+                             .filter(c -> expected.isPresent() && c.version() == expected.get())
+                             .map(c -> new CachedTask(applied(c.task(), changes, now), expected.get() + 1)));
+                return updated.switchIfEmpty(load(id))
+                              .doOnNext(cache::putIfNewer)
+                              .doOnNext(searchIndex::index)
+                              .doOnNext(task -> stats.updated(previous(before, task), task.task()))
+                              .doOnNext(task -> changeFeed.publish(TaskChange.updated(task.task())))
+                              .map(task -> withValidators(ResponseEntity.ok(), task).body(task.task()))
+                              .switchIfEmpty(Mono.defer(() -> {
+                                  // deleted straight after our update
+                                  cache.invalidate(id);
+                                  searchIndex.remove(id);
+                                  return Mono.error(notFound());
+                              }));
+            });
+        });
+    }
+
+    @Override
+    public Mono<ResponseEntity<Task>> updateTask(Long id, TaskRequest taskRequest, String ifMatch, String idempotencyKey) {
+        return idempotency.executeReactive(UPDATE_TASK, idempotencyKey, Arrays.asList(id, taskRequest, ifMatch),
+                () -> write(id, ifMatch, new TaskChanges(taskRequest.getTitle(), taskRequest.getDescription(),
+                                                         taskRequest.getCompleted() != null && taskRequest.getCompleted())));
+    }
+
+    @Override
+    public Mono<ResponseEntity<Task>> patchTask(Long id, TaskPatch taskPatch, String ifMatch) {
+        TaskChanges changes = new TaskChanges(taskPatch.getTitle().toOptional().orElse(null),
+                                              taskPatch.getDescription().toOptional().orElse(null),
+                                              taskPatch.getCompleted().toOptional().orElse(null));
+        if (changes.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Patch must change at least one field");
+        }
+        return write(id, ifMatch, changes);
+    }
+
+    @Override
+    public Mono<ResponseEntity<Void>> deleteTask(Long id, String ifMatch) {
+        return expectedVersion(id, ifMatch).flatMap(expected -> {
+            CachedTask before = cache.getIfPresent(id)
+                                     .filter(c -> expected.isEmpty() || c.version() == expected.get())
+                                     .orElse(null);
+            return repo.deleteIfVersion(id, expected.orElse(null)).flatMap(rows -> {
+                if (rows == 0) {
+                    return failedWrite(id);
+                }
+                cache.invalidate(id);
+                searchIndex.remove(id);
+                stats.deleted(before == null ? null : before.task());
+                changeFeed.publish(TaskChange.deleted(id));
+                return Mono.just(ResponseEntity.noContent().<Void>build());
+            });
+        });
+    }
+}
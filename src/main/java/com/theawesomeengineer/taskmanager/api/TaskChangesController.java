@@ -0,0 +1,96 @@
+package com.theawesomeengineer.taskmanager.api;
+
+import com.theawesomeengineer.taskmanager.changes.TaskChange;
+import com.theawesomeengineer.taskmanager.changes.TaskChangeFeed;
+import com.theawesomeengineer.taskmanager.config.TaskmanagerProperties;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * {@code GET /tasks/changes}: a Server-Sent Events stream of task changes made after the client
+ * connected, or after the {@code Last-Event-ID} it reconnects with. Each subscriber is served by
+ * its own virtual thread reading {@link TaskChangeFeed} at the pace the connection allows; one
+ * that falls behind the feed's buffer gets a {@code reset} event and is disconnected.
+ */
+@Controller
+@Profile("!reactive")
+@RequestMapping("${openapi.taskManager.base-path:}")
+public class TaskChangesController {
+
+    public static final String PATH_TASK_CHANGES = "/tasks/changes";
+
+    private final TaskChangeFeed feed;
+    private final Duration heartbeat;
+
+    public TaskChangesController(TaskChangeFeed feed, TaskmanagerProperties properties) {
+        this.feed = feed;
+        this.heartbeat = properties.getChanges().getHeartbeat();
+    }
+
+    @GetMapping(value = PATH_TASK_CHANGES, produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        if (!feed.subscribe()) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many change-feed subscribers");
+        }
+        // timeout from spring.mvc.async.request-timeout; the client reconnects with Last-Event-ID
+        SseEmitter emitter = new SseEmitter();
+        Thread subscriber = Thread.ofVirtual()
+                                  .name("task-changes")
+                                  .unstarted(() -> deliver(emitter, feed.resumeFrom(lastEventId)));
+        emitter.onCompletion(subscriber::interrupt);
+        emitter.onTimeout(subscriber::interrupt);
+        emitter.onError(e -> subscriber.interrupt());
+        subscriber.start();
+        return emitter;
+    }
+
+    private void deliver(SseEmitter emitter, long resumeFrom) {
+        try {
+            // commits the response headers straight away rather than with the first change
+            emitter.send(SseEmitter.event().comment("connected"));
+            long cursor = resumeFrom;
+            if (cursor < 0) {
+                cursor = feed.head();
+                send(emitter, cursor, TaskChange.reset());
+            }
+            while (!Thread.currentThread().isInterrupted()) {
+                List<TaskChangeFeed.Event> events = feed.since(cursor);
+                if (events == null) {
+                    feed.dropped();
+                    send(emitter, feed.head(), TaskChange.reset());
+                    emitter.complete();
+                    return;
+                }
+                for (TaskChangeFeed.Event event : events) {
+                    send(emitter, event.sequence(), event.change());
+                    cursor = event.sequence();
+                }
+                if (events.isEmpty() && !feed.awaitAfter(cursor, heartbeat)) {
+                    emitter.send(SseEmitter.event().comment("keep-alive"));
+                }
+            }
+        } catch (InterruptedException | IOException | IllegalStateException e) {
+            // the connection was closed or timed out; the container completes the emitter
+        } finally {
+            feed.unsubscribe();
+        }
+    }
+
+    private void send(SseEmitter emitter, long sequence, TaskChange change) throws IOException {
+        emitter.send(SseEmitter.event()
+                               .id(feed.eventId(sequence))
+                               .name(change.type())
+                               .data(change, MediaType.APPLICATION_JSON));
+    }
+}
@@ -0,0 +1,44 @@
+package com.theawesomeengineer.taskmanager.api;
+
+import com.theawesomeengineer.taskmanager.repository.TaskKeyset;
+import com.theawesomeengineer.taskmanager.repository.TaskSortKey;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Encodes a {@link TaskKeyset} as the opaque {@code cursor} handed to clients.
+ * The payload is {@code sort|id|value} in URL-safe Base64; clients must not rely on it.
+ */
+final class TaskCursor {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private TaskCursor() {
+    }
+
+    static String encode(TaskKeyset keyset) {
+        String raw = keyset.sort().attribute() + '|' + keyset.id() + '|' + keyset.value();
+        return ENCODER.encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    static TaskKeyset decode(String cursor) {
+        String raw = new String(DECODER.decode(cursor), StandardCharsets.UTF_8);
+        // the value goes last because titles may themselves contain '|'
+        String[] parts = raw.split("\\|", 3);
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("Malformed cursor");
+        }
+        TaskSortKey sort = TaskSortKey.fromAttribute(parts[0])
+                                      .orElseThrow(() -> new IllegalArgumentException("Malformed cursor"));
+        try {
+            return new TaskKeyset(sort, sort.parseValue(parts[2]), Long.parseLong(parts[1]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Malformed cursor", e);
+        }
+    }
+}
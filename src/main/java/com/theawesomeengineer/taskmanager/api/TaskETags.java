@@ -0,0 +1,84 @@
+package com.theawesomeengineer.taskmanager.api;
+
+import com.theawesomeengineer.taskmanager.repository.TaskEntity;
+
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * HTTP validators. A task's strong ETag is {@code "<id>-<version>"}, so it can be computed from
+ * the narrow {@code (id, version)} pair without loading the row, and turned back into the version
+ * an {@code If-Match} write must find. A list's weak ETag hashes the ids and versions of every
+ * task on the page, in order.
+ */
+final class TaskETags {
+
+    private TaskETags() {
+    }
+
+    static String of(Long id, long version) {
+        return "\"" + id + "-" + version + "\"";
+    }
+
+    static String ofList(List<TaskEntity> tasks) {
+        long hash = 17;
+        for (TaskEntity t : tasks) {
+            hash = 31 * hash + t.getId();
+            hash = 31 * hash + t.getVersion();
+        }
+        return "W/\"" + tasks.size() + "-" + Long.toHexString(hash) + "\"";
+    }
+
+    /**
+     * Evaluates {@code If-None-Match} with the weak comparison RFC 9110 prescribes for it:
+     * {@code W/} prefixes are ignored and {@code *} matches any current representation.
+     */
+    static boolean matches(String ifNoneMatch, String etag) {
+        String opaque = opaque(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || opaque(tag).equals(opaque)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The version named by a single strong {@code If-Match} tag for task {@code id}. Empty when
+     * the tag is weak, malformed or belongs to another task, none of which can ever match.
+     */
+    static OptionalLong versionOf(String ifMatch, Long id) {
+        String tag = ifMatch.trim();
+        String prefix = "\"" + id + "-";
+        if (!tag.startsWith(prefix) || !tag.endsWith("\"") || tag.length() <= prefix.length() + 1) {
+            return OptionalLong.empty();
+        }
+        try {
+            return OptionalLong.of(Long.parseLong(tag.substring(prefix.length(), tag.length() - 1)));
+        } catch (NumberFormatException e) {
+            return OptionalLong.empty();
+        }
+    }
+
+    /**
+     * True when {@code updatedAt}, at the one-second precision of HTTP dates, is not after the
+     * {@code If-Modified-Since} date. An unparseable date is ignored, as RFC 9110 requires.
+     */
+    static boolean notModifiedSince(String ifModifiedSince, OffsetDateTime updatedAt) {
+        try {
+            ZonedDateTime since = ZonedDateTime.parse(ifModifiedSince, DateTimeFormatter.RFC_1123_DATE_TIME);
+            return updatedAt.toEpochSecond() <= since.toEpochSecond();
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+
+    private static String opaque(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+}
@@ -0,0 +1,68 @@
+package com.theawesomeengineer.taskmanager.api;
+
+import com.theawesomeengineer.taskmanager.repository.TaskEntity;
+import com.theawesomeengineer.taskmanager.repository.TaskKeyset;
+import com.theawesomeengineer.taskmanager.repository.TaskSortKey;
+import com.theawesomeengineer.taskmanager.repository.TaskTombstone;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Position of a delta sync, handed to clients as the opaque {@code changedSince} token: the
+ * {@code (updatedAt, id)} of the last task reported, absent until one has been, and the
+ * {@code (deletedAt, id)} of the last tombstone. The payload is
+ * {@code updatedAt|id|deletedAt|id} in URL-safe Base64; clients must not rely on it.
+ */
+record TaskSyncToken(OffsetDateTime updatedAt, long taskId, OffsetDateTime deletedAt, long tombstoneId) {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    /** Start of a full sync: every task, and the deletions made from {@code since} on. */
+    static TaskSyncToken initial(OffsetDateTime since) {
+        return new TaskSyncToken(null, 0, since, 0);
+    }
+
+    /** Where the task page continues, or null to start from the first task. */
+    TaskKeyset tasksAfter() {
+        return updatedAt == null ? null : new TaskKeyset(TaskSortKey.UPDATED_AT, updatedAt, taskId);
+    }
+
+    /** This position moved past the last of {@code tasks} and of {@code tombstones}. */
+    TaskSyncToken after(List<TaskEntity> tasks, List<TaskTombstone> tombstones) {
+        TaskSyncToken next = this;
+        if (!tasks.isEmpty()) {
+            TaskEntity last = tasks.get(tasks.size() - 1);
+            next = new TaskSyncToken(last.getUpdatedAt(), last.getId(), next.deletedAt, next.tombstoneId);
+        }
+        if (!tombstones.isEmpty()) {
+            TaskTombstone last = tombstones.get(tombstones.size() - 1);
+            next = new TaskSyncToken(next.updatedAt, next.taskId, last.getDeletedAt(), last.getId());
+        }
+        return next;
+    }
+
+    String encode() {
+        String raw = (updatedAt == null ? "" : updatedAt.toString()) + '|' + taskId + '|' + deletedAt + '|' + tombstoneId;
+        return ENCODER.encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    static TaskSyncToken decode(String token) {
+        String[] parts = new String(DECODER.decode(token), StandardCharsets.UTF_8).split("\\|", -1);
+        if (parts.length != 4) {
+            throw new IllegalArgumentException("Malformed sync token");
+        }
+        try {
+            return new TaskSyncToken(parts[0].isEmpty() ? null : OffsetDateTime.parse(parts[0]), Long.parseLong(parts[1]),
+                                     OffsetDateTime.parse(parts[2]), Long.parseLong(parts[3]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Malformed sync token", e);
+        }
+    }
+}
@@ -7,7 +7,15 @@ package com.theawesomeengineer.taskmanager.api;
 
 import com.theawesomeengineer.taskmanager.model.Error;
 import com.theawesomeengineer.taskmanager.model.Task;
+import com.theawesomeengineer.taskmanager.model.TaskBatchResponse;
+import com.theawesomeengineer.taskmanager.model.TaskBulkResult;
+import com.theawesomeengineer.taskmanager.model.TaskBulkUpdateRequest;
+import com.theawesomeengineer.taskmanager.model.TaskFilter;
+import com.theawesomeengineer.taskmanager.model.TaskPatch;
 import com.theawesomeengineer.taskmanager.model.TaskRequest;
+import com.theawesomeengineer.taskmanager.model.TaskStats;
+import com.theawesomeengineer.taskmanager.model.TaskSyncResponse;
+import java.time.OffsetDateTime;
 import io.swagger.v3.oas.annotations.ExternalDocumentation;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -40,44 +48,251 @@ public interface TasksApi {
         return new TasksApiDelegate() {};
     }
 
+    public static final String PATH_BULK_DELETE_TASKS = "/tasks:bulkDelete";
+    /**
+     * POST /tasks:bulkDelete : Delete all tasks matching a filter
+     * Delete every task matching the filter. The work runs as set-based DELETE statements over consecutive chunks of the matching ids, each in its own short transaction.
+     *
+     * @param taskFilter  (required)
+     * @return Tasks deleted (status code 200)
+     *         or Invalid input or empty filter (status code 400)
+     *         or Internal server error (status code 500)
+     *         or Server is busy; retry after the Retry-After delay (status code 503)
+     */
+    @Operation(
+        operationId = "bulkDeleteTasks",
+        summary = "Delete all tasks matching a filter",
+        description = "Delete every task matching the filter. The work runs as set-based DELETE statements over consecutive chunks of the matching ids, each in its own short transaction.",
+        tags = { "Tasks" },
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Tasks deleted", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = TaskBulkResult.class)),
+                @Content(mediaType = "application/cbor", schema = @Schema(implementation = TaskBulkResult.class)),
+                @Content(mediaType = "application/x-jackson-smile", schema = @Schema(implementation = TaskBulkResult.class))
+            }),
+            @ApiResponse(responseCode = "400", description = "Invalid input or empty filter", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/cbor", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/x-jackson-smile", schema = @Schema(implementation = Error.class))
+            }),
+            @ApiResponse(responseCode = "500", description = "Internal server error", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/cbor", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/x-jackson-smile", schema = @Schema(implementation = Error.class))
+            }),
+            @ApiResponse(responseCode = "503", description = "Server is busy; retry after the Retry-After delay", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/cbor", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/x-jackson-smile", schema = @Schema(implementation = Error.class))
+            })
+        }
+    )
+    @RequestMapping(
+        method = RequestMethod.POST,
+        value = TasksApi.PATH_BULK_DELETE_TASKS,
+        produces = { "application/json", "application/cbor", "application/x-jackson-smile" },
+        consumes = { "application/json", "application/cbor", "application/x-jackson-smile" }
+    )
+    
+    default ResponseEntity<TaskBulkResult> bulkDeleteTasks(
+        @Parameter(name = "TaskFilter", description = "", required = true) @Valid @RequestBody TaskFilter taskFilter
+    ) {
+        return getDelegate().bulkDeleteTasks(taskFilter);
+    }
+
+
+    public static final String PATH_BULK_UPDATE_TASKS = "/tasks:bulkUpdate";
+    /**
+     * POST /tasks:bulkUpdate : Update all tasks matching a filter
+     * Apply the same field changes to every task matching the filter. The work runs as set-based UPDATE statements over consecutive chunks of the matching ids, each in its own short transaction.
+     *
+     * @param taskBulkUpdateRequest  (required)
+     * @return Tasks updated (status code 200)
+     *         or Invalid input, empty filter or empty patch (status code 400)
+     *         or Internal server error (status code 500)
+     *         or Server is busy; retry after the Retry-After delay (status code 503)
+     */
+    @Operation(
+        operationId = "bulkUpdateTasks",
+        summary = "Update all tasks matching a filter",
+        description = "Apply the same field changes to every task matching the filter. The work runs as set-based UPDATE statements over consecutive chunks of the matching ids, each in its own short transaction.",
+        tags = { "Tasks" },
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Tasks updated", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = TaskBulkResult.class)),
+                @Content(mediaType = "application/cbor", schema = @Schema(implementation = TaskBulkResult.class)),
+                @Content(mediaType = "application/x-jackson-smile", schema = @Schema(implementation = TaskBulkResult.class))
+            }),
+            @ApiResponse(responseCode = "400", description = "Invalid input, empty filter or empty patch", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/cbor", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/x-jackson-smile", schema = @Schema(implementation = Error.class))
+            }),
+            @ApiResponse(responseCode = "500", description = "Internal server error", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/cbor", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/x-jackson-smile", schema = @Schema(implementation = Error.class))
+            }),
+            @ApiResponse(responseCode = "503", description = "Server is busy; retry after the Retry-After delay", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/cbor", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/x-jackson-smile", schema = @Schema(implementation = Error.class))
+            })
+        }
+    )
+    @RequestMapping(
+        method = RequestMethod.POST,
+        value = TasksApi.PATH_BULK_UPDATE_TASKS,
+        produces = { "application/json", "application/cbor", "application/x-jackson-smile" },
+        consumes = { "application/json", "application/cbor", "application/x-jackson-smile" }
+    )
+    
+    default ResponseEntity<TaskBulkResult> bulkUpdateTasks(
+        @Parameter(name = "TaskBulkUpdateRequest", description = "", required = true) @Valid @RequestBody TaskBulkUpdateRequest taskBulkUpdateRequest
+    ) {
+        return getDelegate().bulkUpdateTasks(taskBulkUpdateRequest);
+    }
+
+
     public static final String PATH_CREATE_TASK = "/tasks";
     /**
      * POST /tasks : Create a new task
-     * Create a new task with the provided information
+     * Create a new task with the provided information. With &#x60;Prefer: respond-async&#x60; (and &#x60;taskmanager.write-behind.enabled&#x60;) the task is validated, given its id and queued, and the response is 202 while a background writer inserts it; &#x60;Location&#x60; names the task, which reads as 404 until the write lands.
      *
      * @param taskRequest  (required)
+     * @param prefer &#x60;respond-async&#x60; asks for write-behind creation (optional)
+     * @param idempotencyKey Client-chosen key that makes retries safe; a repeat with the same key gets the first response back (optional)
      * @return Task created successfully (status code 201)
+     *         or Task accepted and queued for writing (status code 202)
      *         or Invalid input (status code 400)
+     *         or A request with the same Idempotency-Key is still in progress (status code 409)
+     *         or Idempotency-Key was already used for a different request (status code 422)
+     *         or Write-behind queue is full; retry after the Retry-After delay (status code 429)
      *         or Internal server error (status code 500)
+     *         or Server is busy; retry after the Retry-After delay (status code 503)
      */
     @Operation(
         operationId = "createTask",
         summary = "Create a new task",
-        description = "Create a new task with the provided information",
+        description = "Create a new task with the provided information. With `Prefer: respond-async` (and `taskmanager.write-behind.enabled`) the task is validated, given its id and queued, and the response is 202 while a background writer inserts it; `Location` names the task, which reads as 404 until the write lands.",
         tags = { "Tasks" },
         responses = {
             @ApiResponse(responseCode = "201", description = "Task created successfully", content = {
-                @Content(mediaType = "application/json", schema = @Schema(implementation = Task.class))
+                @Content(mediaType = "application/json", schema = @Schema(implementation = Task.class)),
+                @Content(mediaType = "application/cbor", schema = @Schema(implementation = Task.class)),
+                @Content(mediaType = "application/x-jackson-smile", schema = @Schema(implementation = Task.class)),
+                @Content(mediaType = "application/x-protobuf", schema = @Schema(implementation = Task.class))
+            }),
+            @ApiResponse(responseCode = "202", description = "Task accepted and queued for writing", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = Task.class)),
+                @Content(mediaType = "application/cbor", schema = @Schema(implementation = Task.class)),
+                @Content(mediaType = "application/x-jackson-smile", schema = @Schema(implementation = Task.class)),
+                @Content(mediaType = "application/x-protobuf", schema = @Schema(implementation = Task.class))
             }),
             @ApiResponse(responseCode = "400", description = "Invalid input", content = {
-                @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class))
+                @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/cbor", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/x-jackson-smile", schema = @Schema(implementation = Error.class))
+            }),
+            @ApiResponse(responseCode = "409", description = "A request with the same Idempotency-Key is still in progress", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/cbor", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/x-jackson-smile", schema = @Schema(implementation = Error.class))
+            }),
+            @ApiResponse(responseCode = "422", description = "Idempotency-Key was already used for a different request", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/cbor", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/x-jackson-smile", schema = @Schema(implementation = Error.class))
+            }),
+            @ApiResponse(responseCode = "429", description = "Write-behind queue is full; retry after the Retry-After delay", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/cbor", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/x-jackson-smile", schema = @Schema(implementation = Error.class))
             }),
             @ApiResponse(responseCode = "500", description = "Internal server error", content = {
-                @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class))
+                @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/cbor", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/x-jackson-smile", schema = @Schema(implementation = Error.class))
+            }),
+            @ApiResponse(responseCode = "503", description = "Server is busy; retry after the Retry-After delay", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/cbor", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/x-jackson-smile", schema = @Schema(implementation = Error.class))
             })
         }
     )
     @RequestMapping(
         method = RequestMethod.POST,
         value = TasksApi.PATH_CREATE_TASK,
-        produces = { "application/json" },
-        consumes = { "application/json" }
+        produces = { "application/json", "application/cbor", "application/x-jackson-smile", "application/x-protobuf" },
+        consumes = { "application/json", "application/cbor", "application/x-jackson-smile", "application/x-protobuf" }
     )
     
     default ResponseEntity<Task> createTask(
-        @Parameter(name = "TaskRequest", description = "", required = true) @Valid @RequestBody TaskRequest taskRequest
+        @Parameter(name = "TaskRequest", description = "", required = true) @Valid @RequestBody TaskRequest taskRequest,
+        @Parameter(name = "Prefer", description = "`respond-async` asks for write-behind creation", in = ParameterIn.HEADER) @RequestHeader(value = "Prefer", required = false) String prefer,
+        @Parameter(name = "Idempotency-Key", description = "Client-chosen key that makes retries safe; a repeat with the same key gets the first response back", in = ParameterIn.HEADER) @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey
+    ) {
+        return getDelegate().createTask(taskRequest, prefer, idempotencyKey);
+    }
+
+
+    public static final String PATH_CREATE_TASKS_BATCH = "/tasks:batch";
+    /**
+     * POST /tasks:batch : Create tasks in bulk
+     * Create many tasks in a single transaction. Each item is validated on its own; invalid items are reported in &#x60;errors&#x60; and do not prevent the others from being created. The number of items is capped by &#x60;taskmanager.batch.max-size&#x60;.
+     *
+     * @param taskRequest  (required)
+     * @return Valid items created; rejected items listed in errors (status code 201)
+     *         or Malformed body or too many items (status code 400)
+     *         or Every item was rejected (status code 422)
+     *         or Internal server error (status code 500)
+     *         or Server is busy; retry after the Retry-After delay (status code 503)
+     */
+    @Operation(
+        operationId = "createTasksBatch",
+        summary = "Create tasks in bulk",
+        description = "Create many tasks in a single transaction. Each item is validated on its own; invalid items are reported in `errors` and do not prevent the others from being created. The number of items is capped by `taskmanager.batch.max-size`.",
+        tags = { "Tasks" },
+        responses = {
+            @ApiResponse(responseCode = "201", description = "Valid items created; rejected items listed in errors", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = TaskBatchResponse.class)),
+                @Content(mediaType = "application/cbor", schema = @Schema(implementation = TaskBatchResponse.class)),
+                @Content(mediaType = "application/x-jackson-smile", schema = @Schema(implementation = TaskBatchResponse.class))
+            }),
+            @ApiResponse(responseCode = "400", description = "Malformed body or too many items", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/cbor", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/x-jackson-smile", schema = @Schema(implementation = Error.class))
+            }),
+            @ApiResponse(responseCode = "422", description = "Every item was rejected", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = TaskBatchResponse.class)),
+                @Content(mediaType = "application/cbor", schema = @Schema(implementation = TaskBatchResponse.class)),
+                @Content(mediaType = "application/x-jackson-smile", schema = @Schema(implementation = TaskBatchResponse.class))
+            }),
+            @ApiResponse(responseCode = "500", description = "Internal server error", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/cbor", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/x-jackson-smile", schema = @Schema(implementation = Error.class))
+            }),
+            @ApiResponse(responseCode = "503", description = "Server is busy; retry after the Retry-After delay", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/cbor", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/x-jackson-smile", schema = @Schema(implementation = Error.class))
+            })
+        }
+    )
+    @RequestMapping(
+        method = RequestMethod.POST,
+        value = TasksApi.PATH_CREATE_TASKS_BATCH,
+        produces = { "application/json", "application/cbor", "application/x-jackson-smile" },
+        consumes = { "application/json", "application/cbor", "application/x-jackson-smile" }
+    )
+    
+    default ResponseEntity<TaskBatchResponse> createTasksBatch(
+        @Parameter(name = "TaskRequest", description = "", required = true) @RequestBody List<TaskRequest> taskRequest
     ) {
-        return getDelegate().createTask(taskRequest);
+        return getDelegate().createTasksBatch(taskRequest);
     }
 
 
@@ -87,9 +302,12 @@ public interface TasksApi {
      * Delete a specific task by its ID
      *
      * @param id Task ID (required)
+     * @param ifMatch ETag the task must still have; the write fails with 412 if it has changed since (optional)
      * @return Task deleted successfully (status code 204)
      *         or Task not found (status code 404)
+     *         or Task was modified since the ETag sent in If-Match (status code 412)
      *         or Internal server error (status code 500)
+     *         or Server is busy; retry after the Retry-After delay (status code 503)
      */
     @Operation(
         operationId = "deleteTask",
@@ -99,23 +317,38 @@ public interface TasksApi {
         responses = {
             @ApiResponse(responseCode = "204", description = "Task deleted successfully"),
             @ApiResponse(responseCode = "404", description = "Task not found", content = {
-                @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class))
+                @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/cbor", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/x-jackson-smile", schema = @Schema(implementation = Error.class))
+            }),
+            @ApiResponse(responseCode = "412", description = "Task was modified since the ETag sent in If-Match", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/cbor", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/x-jackson-smile", schema = @Schema(implementation = Error.class))
             }),
             @ApiResponse(responseCode = "500", description = "Internal server error", content = {
-                @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class))
+                @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/cbor", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/x-jackson-smile", schema = @Schema(implementation = Error.class))
+            }),
+            @ApiResponse(responseCode = "503", description = "Server is busy; retry after the Retry-After delay", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/cbor", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/x-jackson-smile", schema = @Schema(implementation = Error.class))
             })
         }
     )
     @RequestMapping(
         method = RequestMethod.DELETE,
         value = TasksApi.PATH_DELETE_TASK,
-        produces = { "application/json" }
+        produces = { "application/json", "application/cbor", "application/x-jackson-smile" }
     )
     
     default ResponseEntity<Void> deleteTask(
-        @NotNull @Parameter(name = "id", description = "Task ID", required = true, in = ParameterIn.PATH) @PathVariable("id") Long id
+        @NotNull @Parameter(name = "id", description = "Task ID", required = true, in = ParameterIn.PATH) @PathVariable("id") Long id,
+        @Parameter(name = "If-Match", description = "ETag the task must still have; the write fails with 412 if it has changed since", in = ParameterIn.HEADER) @RequestHeader(value = "If-Match", required = false) String ifMatch
     ) {
-        return getDelegate().deleteTask(id);
+        return getDelegate().deleteTask(id, ifMatch);
     }
 
 
@@ -124,8 +357,21 @@ public interface TasksApi {
      * GET /tasks : Get all tasks
      * Retrieve a list of all tasks
      *
+     * @param limit Maximum number of tasks to return (defaults to the server page size) (optional)
+     * @param sort Sort key; ties are broken by id (optional, default to id)
+     * @param cursor Opaque cursor taken from the X-Next-Cursor header of the previous page (optional)
+     * @param completed Only tasks with this completion flag (optional)
+     * @param createdAfter Only tasks created at or after this instant (optional)
+     * @param createdBefore Only tasks created before this instant (optional)
+     * @param updatedAfter Only tasks updated at or after this instant (optional)
+     * @param updatedBefore Only tasks updated before this instant (optional)
+     * @param titlePrefix Only tasks whose title starts with this text (case-insensitive) (optional)
+     * @param ifNoneMatch ETag of a previously fetched page; answered with 304 if the page is unchanged (optional)
      * @return List of tasks retrieved successfully (status code 200)
+     *         or Page unchanged since the ETag sent in If-None-Match (status code 304)
+     *         or Invalid limit, sort, cursor or filter (status code 400)
      *         or Internal server error (status code 500)
+     *         or Server is busy; retry after the Retry-After delay (status code 503)
      */
     @Operation(
         operationId = "getAllTasks",
@@ -134,35 +380,65 @@ public interface TasksApi {
         tags = { "Tasks" },
         responses = {
             @ApiResponse(responseCode = "200", description = "List of tasks retrieved successfully", content = {
-                @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = Task.class)))
+                @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = Task.class))),
+                @Content(mediaType = "application/cbor", array = @ArraySchema(schema = @Schema(implementation = Task.class))),
+                @Content(mediaType = "application/x-jackson-smile", array = @ArraySchema(schema = @Schema(implementation = Task.class))),
+                @Content(mediaType = "application/x-protobuf", array = @ArraySchema(schema = @Schema(implementation = Task.class)))
+            }),
+            @ApiResponse(responseCode = "304", description = "Page unchanged since the ETag sent in If-None-Match"),
+            @ApiResponse(responseCode = "400", description = "Invalid limit, sort, cursor or filter", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/cbor", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/x-jackson-smile", schema = @Schema(implementation = Error.class))
             }),
             @ApiResponse(responseCode = "500", description = "Internal server error", content = {
-                @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class))
+                @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/cbor", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/x-jackson-smile", schema = @Schema(implementation = Error.class))
+            }),
+            @ApiResponse(responseCode = "503", description = "Server is busy; retry after the Retry-After delay", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/cbor", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/x-jackson-smile", schema = @Schema(implementation = Error.class))
             })
         }
     )
     @RequestMapping(
         method = RequestMethod.GET,
         value = TasksApi.PATH_GET_ALL_TASKS,
-        produces = { "application/json" }
+        produces = { "application/json", "application/cbor", "application/x-jackson-smile", "application/x-protobuf" }
     )
     
     default ResponseEntity<List<Task>> getAllTasks(
-        
+        @Min(value = 1) @Max(value = 1000) @Parameter(name = "limit", description = "Maximum number of tasks to return (defaults to the server page size)", in = ParameterIn.QUERY) @Valid @RequestParam(value = "limit", required = false) Integer limit,
+        @Parameter(name = "sort", description = "Sort key; ties are broken by id", schema = @Schema(allowableValues = {"id", "createdAt", "updatedAt", "title"}), in = ParameterIn.QUERY) @Valid @RequestParam(value = "sort", required = false, defaultValue = "id") String sort,
+        @Parameter(name = "cursor", description = "Opaque cursor taken from the X-Next-Cursor header of the previous page", in = ParameterIn.QUERY) @Valid @RequestParam(value = "cursor", required = false) String cursor,
+        @Parameter(name = "completed", description = "Only tasks with this completion flag", in = ParameterIn.QUERY) @Valid @RequestParam(value = "completed", required = false) Boolean completed,
+        @Parameter(name = "createdAfter", description = "Only tasks created at or after this instant", in = ParameterIn.QUERY) @Valid @RequestParam(value = "createdAfter", required = false) @org.springframework.format.annotation.DateTimeFormat(iso = org.springframework.format.annotation.DateTimeFormat.ISO.DATE_TIME) OffsetDateTime createdAfter,
+        @Parameter(name = "createdBefore", description = "Only tasks created before this instant", in = ParameterIn.QUERY) @Valid @RequestParam(value = "createdBefore", required = false) @org.springframework.format.annotation.DateTimeFormat(iso = org.springframework.format.annotation.DateTimeFormat.ISO.DATE_TIME) OffsetDateTime createdBefore,
+        @Parameter(name = "updatedAfter", description = "Only tasks updated at or after this instant", in = ParameterIn.QUERY) @Valid @RequestParam(value = "updatedAfter", required = false) @org.springframework.format.annotation.DateTimeFormat(iso = org.springframework.format.annotation.DateTimeFormat.ISO.DATE_TIME) OffsetDateTime updatedAfter,
+        @Parameter(name = "updatedBefore", description = "Only tasks updated before this instant", in = ParameterIn.QUERY) @Valid @RequestParam(value = "updatedBefore", required = false) @org.springframework.format.annotation.DateTimeFormat(iso = org.springframework.format.annotation.DateTimeFormat.ISO.DATE_TIME) OffsetDateTime updatedBefore,
+        @Size(min = 1, max = 255) @Parameter(name = "titlePrefix", description = "Only tasks whose title starts with this text (case-insensitive)", in = ParameterIn.QUERY) @Valid @RequestParam(value = "titlePrefix", required = false) String titlePrefix,
+        @Parameter(name = "If-None-Match", description = "ETag of a previously fetched page; answered with 304 if the page is unchanged", in = ParameterIn.HEADER) @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch
     ) {
-        return getDelegate().getAllTasks();
+        return getDelegate().getAllTasks(limit, sort, cursor, completed, createdAfter, createdBefore, updatedAfter, updatedBefore, titlePrefix, ifNoneMatch);
     }
 
 
-    public static final String PATH_GET_TASK_BY_ID = "/tasks/{id}";
+    // numeric only, so /tasks/stats and friends never fall through to it when their produces does not match
+    public static final String PATH_GET_TASK_BY_ID = "/tasks/{id:\\d+}";
     /**
      * GET /tasks/{id} : Get task by ID
      * Retrieve a specific task by its ID
      *
      * @param id Task ID (required)
+     * @param ifNoneMatch ETag of a previously fetched copy; answered with 304 if the task is unchanged (optional)
+     * @param ifModifiedSince HTTP date; answered with 304 if the task was not updated after it. Ignored when If-None-Match is sent (optional)
      * @return Task retrieved successfully (status code 200)
+     *         or Task unchanged since the validator sent by the client (status code 304)
      *         or Task not found (status code 404)
      *         or Internal server error (status code 500)
+     *         or Server is busy; retry after the Retry-After delay (status code 503)
      */
     @Operation(
         operationId = "getTaskById",
@@ -171,26 +447,283 @@ public interface TasksApi {
         tags = { "Tasks" },
         responses = {
             @ApiResponse(responseCode = "200", description = "Task retrieved successfully", content = {
-                @Content(mediaType = "application/json", schema = @Schema(implementation = Task.class))
+                @Content(mediaType = "application/json", schema = @Schema(implementation = Task.class)),
+                @Content(mediaType = "application/cbor", schema = @Schema(implementation = Task.class)),
+                @Content(mediaType = "application/x-jackson-smile", schema = @Schema(implementation = Task.class)),
+                @Content(mediaType = "application/x-protobuf", schema = @Schema(implementation = Task.class))
             }),
+            @ApiResponse(responseCode = "304", description = "Task unchanged since the validator sent by the client"),
             @ApiResponse(responseCode = "404", description = "Task not found", content = {
-                @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class))
+                @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/cbor", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/x-jackson-smile", schema = @Schema(implementation = Error.class))
             }),
             @ApiResponse(responseCode = "500", description = "Internal server error", content = {
-                @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class))
+                @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/cbor", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/x-jackson-smile", schema = @Schema(implementation = Error.class))
+            }),
+            @ApiResponse(responseCode = "503", description = "Server is busy; retry after the Retry-After delay", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/cbor", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/x-jackson-smile", schema = @Schema(implementation = Error.class))
             })
         }
     )
     @RequestMapping(
         method = RequestMethod.GET,
         value = TasksApi.PATH_GET_TASK_BY_ID,
-        produces = { "application/json" }
+        produces = { "application/json", "application/cbor", "application/x-jackson-smile", "application/x-protobuf" }
     )
     
     default ResponseEntity<Task> getTaskById(
-        @NotNull @Parameter(name = "id", description = "Task ID", required = true, in = ParameterIn.PATH) @PathVariable("id") Long id
+        @NotNull @Parameter(name = "id", description = "Task ID", required = true, in = ParameterIn.PATH) @PathVariable("id") Long id,
+        @Parameter(name = "If-None-Match", description = "ETag of a previously fetched copy; answered with 304 if the task is unchanged", in = ParameterIn.HEADER) @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch,
+        @Parameter(name = "If-Modified-Since", description = "HTTP date; answered with 304 if the task was not updated after it. Ignored when If-None-Match is sent", in = ParameterIn.HEADER) @RequestHeader(value = "If-Modified-Since", required = false) String ifModifiedSince
     ) {
-        return getDelegate().getTaskById(id);
+        return getDelegate().getTaskById(id, ifNoneMatch, ifModifiedSince);
+    }
+
+
+    public static final String PATH_GET_TASK_STATS = "/tasks/stats";
+    /**
+     * GET /tasks/stats : Get task statistics
+     * Totals and recent activity, served from counters kept in memory and reconciled with the database every &#x60;taskmanager.stats.reconcile-interval&#x60;. Figures may briefly lag behind bulk operations.
+     *
+     * @return Current task statistics (status code 200)
+     *         or Statistics are still being loaded (status code 503)
+     *         or Internal server error (status code 500)
+     *         or Server is busy; retry after the Retry-After delay (status code 503)
+     */
+    @Operation(
+        operationId = "getTaskStats",
+        summary = "Get task statistics",
+        description = "Totals and recent activity, served from counters kept in memory and reconciled with the database every `taskmanager.stats.reconcile-interval`. Figures may briefly lag behind bulk operations.",
+        tags = { "Tasks" },
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Current task statistics", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = TaskStats.class)),
+                @Content(mediaType = "application/cbor", schema = @Schema(implementation = TaskStats.class)),
+                @Content(mediaType = "application/x-jackson-smile", schema = @Schema(implementation = TaskStats.class))
+            }),
+            @ApiResponse(responseCode = "500", description = "Internal server error", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/cbor", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/x-jackson-smile", schema = @Schema(implementation = Error.class))
+            }),
+            @ApiResponse(responseCode = "503", description = "Server is busy; retry after the Retry-After delay", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/cbor", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/x-jackson-smile", schema = @Schema(implementation = Error.class))
+            }),
+            @ApiResponse(responseCode = "503", description = "Statistics are still being loaded", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/cbor", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/x-jackson-smile", schema = @Schema(implementation = Error.class))
+            })
+        }
+    )
+    @RequestMapping(
+        method = RequestMethod.GET,
+        value = TasksApi.PATH_GET_TASK_STATS,
+        produces = { "application/json", "application/cbor", "application/x-jackson-smile" }
+    )
+    
+    default ResponseEntity<TaskStats> getTaskStats(
+        
+    ) {
+        return getDelegate().getTaskStats();
+    }
+
+
+    public static final String PATH_PATCH_TASK = "/tasks/{id}";
+    /**
+     * PATCH /tasks/{id} : Partially update task by ID
+     * Change only the fields present in the body; omitted fields keep their current values
+     *
+     * @param id Task ID (required)
+     * @param taskPatch  (required)
+     * @param ifMatch ETag the task must still have; the write fails with 412 if it has changed since (optional)
+     * @return Task updated successfully (status code 200)
+     *         or Invalid input, a null field or an empty patch (status code 400)
+     *         or Task not found (status code 404)
+     *         or Task was modified since the ETag sent in If-Match (status code 412)
+     *         or Internal server error (status code 500)
+     *         or Server is busy; retry after the Retry-After delay (status code 503)
+     */
+    @Operation(
+        operationId = "patchTask",
+        summary = "Partially update task by ID",
+        description = "Change only the fields present in the body; omitted fields keep their current values",
+        tags = { "Tasks" },
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Task updated successfully", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = Task.class)),
+                @Content(mediaType = "application/cbor", schema = @Schema(implementation = Task.class)),
+                @Content(mediaType = "application/x-jackson-smile", schema = @Schema(implementation = Task.class)),
+                @Content(mediaType = "application/x-protobuf", schema = @Schema(implementation = Task.class))
+            }),
+            @ApiResponse(responseCode = "400", description = "Invalid input, a null field or an empty patch", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/cbor", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/x-jackson-smile", schema = @Schema(implementation = Error.class))
+            }),
+            @ApiResponse(responseCode = "404", description = "Task not found", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/cbor", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/x-jackson-smile", schema = @Schema(implementation = Error.class))
+            }),
+            @ApiResponse(responseCode = "412", description = "Task was modified since the ETag sent in If-Match", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/cbor", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/x-jackson-smile", schema = @Schema(implementation = Error.class))
+            }),
+            @ApiResponse(responseCode = "500", description = "Internal server error", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/cbor", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/x-jackson-smile", schema = @Schema(implementation = Error.class))
+            }),
+            @ApiResponse(responseCode = "503", description = "Server is busy; retry after the Retry-After delay", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/cbor", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/x-jackson-smile", schema = @Schema(implementation = Error.class))
+            })
+        }
+    )
+    @RequestMapping(
+        method = RequestMethod.PATCH,
+        value = TasksApi.PATH_PATCH_TASK,
+        produces = { "application/json", "application/cbor", "application/x-jackson-smile", "application/x-protobuf" },
+        consumes = { "application/json", "application/merge-patch+json" }
+    )
+    
+    default ResponseEntity<Task> patchTask(
+        @NotNull @Parameter(name = "id", description = "Task ID", required = true, in = ParameterIn.PATH) @PathVariable("id") Long id,
+        @Parameter(name = "TaskPatch", description = "", required = true) @Valid @RequestBody TaskPatch taskPatch,
+        @Parameter(name = "If-Match", description = "ETag the task must still have; the write fails with 412 if it has changed since", in = ParameterIn.HEADER) @RequestHeader(value = "If-Match", required = false) String ifMatch
+    ) {
+        return getDelegate().patchTask(id, taskPatch, ifMatch);
+    }
+
+
+    public static final String PATH_SEARCH_TASKS = "/tasks/search";
+    /**
+     * GET /tasks/search : Search tasks
+     * Full-text search over task titles and descriptions. Tasks containing any of the query&#39;s words are ranked by relevance (BM25), title matches counting double. Served from an in-memory index, without querying the database.
+     *
+     * @param q Words to search for; case and accents are ignored (required)
+     * @param limit Maximum number of tasks to return (defaults to the server search limit) (optional)
+     * @return Matching tasks, best match first (status code 200)
+     *         or Missing or invalid query or limit (status code 400)
+     *         or Search is disabled or its index is still loading (status code 503)
+     *         or Internal server error (status code 500)
+     *         or Server is busy; retry after the Retry-After delay (status code 503)
+     */
+    @Operation(
+        operationId = "searchTasks",
+        summary = "Search tasks",
+        description = "Full-text search over task titles and descriptions. Tasks containing any of the query's words are ranked by relevance (BM25), title matches counting double. Served from an in-memory index, without querying the database.",
+        tags = { "Tasks" },
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Matching tasks, best match first", content = {
+                @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = Task.class))),
+                @Content(mediaType = "application/cbor", array = @ArraySchema(schema = @Schema(implementation = Task.class))),
+                @Content(mediaType = "application/x-jackson-smile", array = @ArraySchema(schema = @Schema(implementation = Task.class))),
+                @Content(mediaType = "application/x-protobuf", array = @ArraySchema(schema = @Schema(implementation = Task.class)))
+            }),
+            @ApiResponse(responseCode = "400", description = "Missing or invalid query or limit", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/cbor", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/x-jackson-smile", schema = @Schema(implementation = Error.class))
+            }),
+            @ApiResponse(responseCode = "500", description = "Internal server error", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/cbor", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/x-jackson-smile", schema = @Schema(implementation = Error.class))
+            }),
+            @ApiResponse(responseCode = "503", description = "Server is busy; retry after the Retry-After delay", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/cbor", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/x-jackson-smile", schema = @Schema(implementation = Error.class))
+            }),
+            @ApiResponse(responseCode = "503", description = "Search is disabled or its index is still loading", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/cbor", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/x-jackson-smile", schema = @Schema(implementation = Error.class))
+            })
+        }
+    )
+    @RequestMapping(
+        method = RequestMethod.GET,
+        value = TasksApi.PATH_SEARCH_TASKS,
+        produces = { "application/json", "application/cbor", "application/x-jackson-smile", "application/x-protobuf" }
+    )
+    
+    default ResponseEntity<List<Task>> searchTasks(
+        @NotNull @Size(min = 1, max = 200) @Parameter(name = "q", description = "Words to search for; case and accents are ignored", required = true, in = ParameterIn.QUERY) @Valid @RequestParam(value = "q", required = true) String q,
+        @Min(value = 1) @Max(value = 100) @Parameter(name = "limit", description = "Maximum number of tasks to return (defaults to the server search limit)", in = ParameterIn.QUERY) @Valid @RequestParam(value = "limit", required = false) Integer limit
+    ) {
+        return getDelegate().searchTasks(q, limit);
+    }
+
+
+    public static final String PATH_SYNC_TASKS = "/tasks:sync";
+    /**
+     * GET /tasks:sync : Get task changes since a sync token
+     * Delta sync for offline clients. Returns the tasks created or updated and the ids of the tasks deleted since the position in `changedSince`, oldest change first, plus the token to send next time. Without `changedSince` every task is returned (page by page) and the token starts tracking deletions from now. Writes are reported once they are `taskmanager.sync.settle-time` old, and deletions are kept for `taskmanager.sync.tombstone-retention`.
+     *
+     * @param changedSince Opaque token from the `next` property of the previous sync response (optional)
+     * @param limit Maximum number of changed tasks, and of deleted ids, to return (defaults to the server page size) (optional)
+     * @return Changes since the token; request again with `next` while `hasMore` is true (status code 200)
+     *         or Malformed token or invalid limit (status code 400)
+     *         or The token is older than the tombstone retention; sync again without `changedSince` (status code 410)
+     *         or Internal server error (status code 500)
+     *         or Server is busy; retry after the Retry-After delay (status code 503)
+     */
+    @Operation(
+        operationId = "syncTasks",
+        summary = "Get task changes since a sync token",
+        description = "Delta sync for offline clients. Returns the tasks created or updated and the ids of the tasks deleted since the position in `changedSince`, oldest change first, plus the token to send next time. Without `changedSince` every task is returned (page by page) and the token starts tracking deletions from now. Writes are reported once they are `taskmanager.sync.settle-time` old, and deletions are kept for `taskmanager.sync.tombstone-retention`.",
+        tags = { "Tasks" },
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Changes since the token; request again with `next` while `hasMore` is true", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = TaskSyncResponse.class)),
+                @Content(mediaType = "application/cbor", schema = @Schema(implementation = TaskSyncResponse.class)),
+                @Content(mediaType = "application/x-jackson-smile", schema = @Schema(implementation = TaskSyncResponse.class))
+            }),
+            @ApiResponse(responseCode = "400", description = "Malformed token or invalid limit", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/cbor", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/x-jackson-smile", schema = @Schema(implementation = Error.class))
+            }),
+            @ApiResponse(responseCode = "410", description = "The token is older than the tombstone retention; sync again without `changedSince`", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/cbor", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/x-jackson-smile", schema = @Schema(implementation = Error.class))
+            }),
+            @ApiResponse(responseCode = "500", description = "Internal server error", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/cbor", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/x-jackson-smile", schema = @Schema(implementation = Error.class))
+            }),
+            @ApiResponse(responseCode = "503", description = "Server is busy; retry after the Retry-After delay", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/cbor", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/x-jackson-smile", schema = @Schema(implementation = Error.class))
+            })
+        }
+    )
+    @RequestMapping(
+        method = RequestMethod.GET,
+        value = TasksApi.PATH_SYNC_TASKS,
+        produces = { "application/json", "application/cbor", "application/x-jackson-smile" }
+    )
+    
+    default ResponseEntity<TaskSyncResponse> syncTasks(
+        @Parameter(name = "changedSince", description = "Opaque token from the `next` property of the previous sync response", in = ParameterIn.QUERY) @Valid @RequestParam(value = "changedSince", required = false) String changedSince,
+        @Min(value = 1) @Max(value = 1000) @Parameter(name = "limit", description = "Maximum number of changed tasks, and of deleted ids, to return (defaults to the server page size)", in = ParameterIn.QUERY) @Valid @RequestParam(value = "limit", required = false) Integer limit
+    ) {
+        return getDelegate().syncTasks(changedSince, limit);
     }
 
 
@@ -201,10 +734,16 @@ public interface TasksApi {
      *
      * @param id Task ID (required)
      * @param taskRequest  (required)
+     * @param ifMatch ETag the task must still have; the write fails with 412 if it has changed since (optional)
+     * @param idempotencyKey Client-chosen key that makes retries safe; a repeat with the same key gets the first response back (optional)
      * @return Task updated successfully (status code 200)
      *         or Invalid input (status code 400)
      *         or Task not found (status code 404)
+     *         or A request with the same Idempotency-Key is still in progress (status code 409)
+     *         or Task was modified since the ETag sent in If-Match (status code 412)
+     *         or Idempotency-Key was already used for a different request (status code 422)
      *         or Internal server error (status code 500)
+     *         or Server is busy; retry after the Retry-After delay (status code 503)
      */
     @Operation(
         operationId = "updateTask",
@@ -213,31 +752,62 @@ public interface TasksApi {
         tags = { "Tasks" },
         responses = {
             @ApiResponse(responseCode = "200", description = "Task updated successfully", content = {
-                @Content(mediaType = "application/json", schema = @Schema(implementation = Task.class))
+                @Content(mediaType = "application/json", schema = @Schema(implementation = Task.class)),
+                @Content(mediaType = "application/cbor", schema = @Schema(implementation = Task.class)),
+                @Content(mediaType = "application/x-jackson-smile", schema = @Schema(implementation = Task.class)),
+                @Content(mediaType = "application/x-protobuf", schema = @Schema(implementation = Task.class))
             }),
             @ApiResponse(responseCode = "400", description = "Invalid input", content = {
-                @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class))
+                @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/cbor", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/x-jackson-smile", schema = @Schema(implementation = Error.class))
             }),
             @ApiResponse(responseCode = "404", description = "Task not found", content = {
-                @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class))
+                @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/cbor", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/x-jackson-smile", schema = @Schema(implementation = Error.class))
+            }),
+            @ApiResponse(responseCode = "409", description = "A request with the same Idempotency-Key is still in progress", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/cbor", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/x-jackson-smile", schema = @Schema(implementation = Error.class))
+            }),
+            @ApiResponse(responseCode = "412", description = "Task was modified since the ETag sent in If-Match", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/cbor", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/x-jackson-smile", schema = @Schema(implementation = Error.class))
+            }),
+            @ApiResponse(responseCode = "422", description = "Idempotency-Key was already used for a different request", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/cbor", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/x-jackson-smile", schema = @Schema(implementation = Error.class))
             }),
             @ApiResponse(responseCode = "500", description = "Internal server error", content = {
-                @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class))
+                @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/cbor", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/x-jackson-smile", schema = @Schema(implementation = Error.class))
+            }),
+            @ApiResponse(responseCode = "503", description = "Server is busy; retry after the Retry-After delay", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/cbor", schema = @Schema(implementation = Error.class)),
+                @Content(mediaType = "application/x-jackson-smile", schema = @Schema(implementation = Error.class))
             })
         }
     )
     @RequestMapping(
         method = RequestMethod.PUT,
         value = TasksApi.PATH_UPDATE_TASK,
-        produces = { "application/json" },
-        consumes = { "application/json" }
+        produces = { "application/json", "application/cbor", "application/x-jackson-smile", "application/x-protobuf" },
+        consumes = { "application/json", "application/cbor", "application/x-jackson-smile", "application/x-protobuf" }
     )
     
     default ResponseEntity<Task> updateTask(
         @NotNull @Parameter(name = "id", description = "Task ID", required = true, in = ParameterIn.PATH) @PathVariable("id") Long id,
-        @Parameter(name = "TaskRequest", description = "", required = true) @Valid @RequestBody TaskRequest taskRequest
+        @Parameter(name = "TaskRequest", description = "", required = true) @Valid @RequestBody TaskRequest taskRequest,
+        @Parameter(name = "If-Match", description = "ETag the task must still have; the write fails with 412 if it has changed since", in = ParameterIn.HEADER) @RequestHeader(value = "If-Match", required = false) String ifMatch,
+        @Parameter(name = "Idempotency-Key", description = "Client-chosen key that makes retries safe; a repeat with the same key gets the first response back", in = ParameterIn.HEADER) @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey
     ) {
-        return getDelegate().updateTask(id, taskRequest);
+        return getDelegate().updateTask(id, taskRequest, ifMatch, idempotencyKey);
     }
 
 }
@@ -6,6 +6,7 @@ import com.theawesomeengineer.taskmanager.model.TaskRequest;
 
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -29,6 +30,7 @@ import jakarta.annotation.Generated;
 
 @Generated(value = "org.openapitools.codegen.languages.SpringCodegen", date = "2025-10-28T12:34:46.383096376+07:00[Asia/Jakarta]", comments = "Generator version: 7.16.0")
 @Controller
+@Profile("!reactive")
 @RequestMapping("${openapi.taskManager.base-path:}")
 public class TasksApiController implements TasksApi {
 
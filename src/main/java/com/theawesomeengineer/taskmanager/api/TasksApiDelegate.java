@@ -2,7 +2,15 @@ package com.theawesomeengineer.taskmanager.api;
 
 import com.theawesomeengineer.taskmanager.model.Error;
 import com.theawesomeengineer.taskmanager.model.Task;
+import com.theawesomeengineer.taskmanager.model.TaskBatchResponse;
+import com.theawesomeengineer.taskmanager.model.TaskBulkResult;
+import com.theawesomeengineer.taskmanager.model.TaskBulkUpdateRequest;
+import com.theawesomeengineer.taskmanager.model.TaskFilter;
+import com.theawesomeengineer.taskmanager.model.TaskPatch;
 import com.theawesomeengineer.taskmanager.model.TaskRequest;
+import com.theawesomeengineer.taskmanager.model.TaskStats;
+import com.theawesomeengineer.taskmanager.model.TaskSyncResponse;
+import java.time.OffsetDateTime;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -27,19 +35,100 @@ public interface TasksApiDelegate {
         return Optional.empty();
     }
 
+    /**
+     * POST /tasks:bulkDelete : Delete all tasks matching a filter
+     * Delete every task matching the filter. The work runs as set-based DELETE statements over consecutive chunks of the matching ids, each in its own short transaction.
+     *
+     * @param taskFilter  (required)
+     * @return Tasks deleted (status code 200)
+     *         or Invalid input or empty filter (status code 400)
+     *         or Internal server error (status code 500)
+     * @see TasksApi#bulkDeleteTasks
+     */
+    default ResponseEntity<TaskBulkResult> bulkDeleteTasks(TaskFilter taskFilter) {
+        getRequest().ifPresent(request -> {
+            for (MediaType mediaType: MediaType.parseMediaTypes(request.getHeader("Accept"))) {
+                if (mediaType.isCompatibleWith(MediaType.valueOf("application/json"))) {
+                    String exampleString = "{ \"affected\" : 42 }";
+                    ApiUtil.setExampleResponse(request, "application/json", exampleString);
+                    break;
+                }
+                if (mediaType.isCompatibleWith(MediaType.valueOf("application/json"))) {
+                    String exampleString = "{ \"details\" : \"Task with ID 123 does not exist\", \"message\" : \"Task not found\", \"timestamp\" : \"2024-01-01T10:00:00Z\" }";
+                    ApiUtil.setExampleResponse(request, "application/json", exampleString);
+                    break;
+                }
+                if (mediaType.isCompatibleWith(MediaType.valueOf("application/json"))) {
+                    String exampleString = "{ \"details\" : \"Task with ID 123 does not exist\", \"message\" : \"Task not found\", \"timestamp\" : \"2024-01-01T10:00:00Z\" }";
+                    ApiUtil.setExampleResponse(request, "application/json", exampleString);
+                    break;
+                }
+            }
+        });
+        return new ResponseEntity<>(HttpStatus.NOT_IMPLEMENTED);
+
+    }
+
+    /**
+     * POST /tasks:bulkUpdate : Update all tasks matching a filter
+     * Apply the same field changes to every task matching the filter. The work runs as set-based UPDATE statements over consecutive chunks of the matching ids, each in its own short transaction.
+     *
+     * @param taskBulkUpdateRequest  (required)
+     * @return Tasks updated (status code 200)
+     *         or Invalid input, empty filter or empty patch (status code 400)
+     *         or Internal server error (status code 500)
+     * @see TasksApi#bulkUpdateTasks
+     */
+    default ResponseEntity<TaskBulkResult> bulkUpdateTasks(TaskBulkUpdateRequest taskBulkUpdateRequest) {
+        getRequest().ifPresent(request -> {
+            for (MediaType mediaType: MediaType.parseMediaTypes(request.getHeader("Accept"))) {
+                if (mediaType.isCompatibleWith(MediaType.valueOf("application/json"))) {
+                    String exampleString = "{ \"affected\" : 42 }";
+                    ApiUtil.setExampleResponse(request, "application/json", exampleString);
+                    break;
+                }
+                if (mediaType.isCompatibleWith(MediaType.valueOf("application/json"))) {
+                    String exampleString = "{ \"details\" : \"Task with ID 123 does not exist\", \"message\" : \"Task not found\", \"timestamp\" : \"2024-01-01T10:00:00Z\" }";
+                    ApiUtil.setExampleResponse(request, "application/json", exampleString);
+                    break;
+                }
+                if (mediaType.isCompatibleWith(MediaType.valueOf("application/json"))) {
+                    String exampleString = "{ \"details\" : \"Task with ID 123 does not exist\", \"message\" : \"Task not found\", \"timestamp\" : \"2024-01-01T10:00:00Z\" }";
+                    ApiUtil.setExampleResponse(request, "application/json", exampleString);
+                    break;
+                }
+            }
+        });
+        return new ResponseEntity<>(HttpStatus.NOT_IMPLEMENTED);
+
+    }
+
     /**
      * POST /tasks : Create a new task
-     * Create a new task with the provided information
+     * Create a new task with the provided information. With &#x60;Prefer: respond-async&#x60; (and &#x60;taskmanager.write-behind.enabled&#x60;) the task is validated, given its id and queued, and the response is 202 while a background writer inserts it; &#x60;Location&#x60; names the task, which reads as 404 until the write lands.
      *
      * @param taskRequest  (required)
+     * @param prefer &#x60;respond-async&#x60; asks for write-behind creation (optional)
+     * @param idempotencyKey Client-chosen key that makes retries safe; a repeat with the same key gets the first response back (optional)
      * @return Task created successfully (status code 201)
+     *         or Task accepted and queued for writing (status code 202)
      *         or Invalid input (status code 400)
+     *         or A request with the same Idempotency-Key is still in progress (status code 409)
+     *         or Idempotency-Key was already used for a different request (status code 422)
+     *         or Write-behind queue is full; retry after the Retry-After delay (status code 429)
      *         or Internal server error (status code 500)
      * @see TasksApi#createTask
      */
-    default ResponseEntity<Task> createTask(TaskRequest taskRequest) {
+    default ResponseEntity<Task> createTask(TaskRequest taskRequest,
+        String prefer,
+        String idempotencyKey) {
         getRequest().ifPresent(request -> {
             for (MediaType mediaType: MediaType.parseMediaTypes(request.getHeader("Accept"))) {
+                if (mediaType.isCompatibleWith(MediaType.valueOf("application/json"))) {
+                    String exampleString = "{ \"createdAt\" : \"2024-01-01T10:00:00Z\", \"description\" : \"Write comprehensive documentation for the task management API\", \"id\" : 1, \"completed\" : false, \"title\" : \"Complete project documentation\", \"updatedAt\" : \"2024-01-01T10:00:00Z\" }";
+                    ApiUtil.setExampleResponse(request, "application/json", exampleString);
+                    break;
+                }
                 if (mediaType.isCompatibleWith(MediaType.valueOf("application/json"))) {
                     String exampleString = "{ \"createdAt\" : \"2024-01-01T10:00:00Z\", \"description\" : \"Write comprehensive documentation for the task management API\", \"id\" : 1, \"completed\" : false, \"title\" : \"Complete project documentation\", \"updatedAt\" : \"2024-01-01T10:00:00Z\" }";
                     ApiUtil.setExampleResponse(request, "application/json", exampleString);
@@ -55,6 +144,61 @@ public interface TasksApiDelegate {
                     ApiUtil.setExampleResponse(request, "application/json", exampleString);
                     break;
                 }
+                if (mediaType.isCompatibleWith(MediaType.valueOf("application/json"))) {
+                    String exampleString = "{ \"details\" : \"Task with ID 123 does not exist\", \"message\" : \"Task not found\", \"timestamp\" : \"2024-01-01T10:00:00Z\" }";
+                    ApiUtil.setExampleResponse(request, "application/json", exampleString);
+                    break;
+                }
+                if (mediaType.isCompatibleWith(MediaType.valueOf("application/json"))) {
+                    String exampleString = "{ \"details\" : \"Task with ID 123 does not exist\", \"message\" : \"Task not found\", \"timestamp\" : \"2024-01-01T10:00:00Z\" }";
+                    ApiUtil.setExampleResponse(request, "application/json", exampleString);
+                    break;
+                }
+                if (mediaType.isCompatibleWith(MediaType.valueOf("application/json"))) {
+                    String exampleString = "{ \"details\" : \"Task with ID 123 does not exist\", \"message\" : \"Task not found\", \"timestamp\" : \"2024-01-01T10:00:00Z\" }";
+                    ApiUtil.setExampleResponse(request, "application/json", exampleString);
+                    break;
+                }
+            }
+        });
+        return new ResponseEntity<>(HttpStatus.NOT_IMPLEMENTED);
+
+    }
+
+    /**
+     * POST /tasks:batch : Create tasks in bulk
+     * Create many tasks in a single transaction. Each item is validated on its own; invalid items are reported in &#x60;errors&#x60; and do not prevent the others from being created. The number of items is capped by &#x60;taskmanager.batch.max-size&#x60;.
+     *
+     * @param taskRequest  (required)
+     * @return Valid items created; rejected items listed in errors (status code 201)
+     *         or Malformed body or too many items (status code 400)
+     *         or Every item was rejected (status code 422)
+     *         or Internal server error (status code 500)
+     * @see TasksApi#createTasksBatch
+     */
+    default ResponseEntity<TaskBatchResponse> createTasksBatch(List<TaskRequest> taskRequest) {
+        getRequest().ifPresent(request -> {
+            for (MediaType mediaType: MediaType.parseMediaTypes(request.getHeader("Accept"))) {
+                if (mediaType.isCompatibleWith(MediaType.valueOf("application/json"))) {
+                    String exampleString = "{ \"created\" : [ { \"createdAt\" : \"2024-01-01T10:00:00Z\", \"description\" : \"Write comprehensive documentation for the task management API\", \"id\" : 1, \"completed\" : false, \"title\" : \"Complete project documentation\", \"updatedAt\" : \"2024-01-01T10:00:00Z\" } ], \"errors\" : [ { \"details\" : \"title: must not be null\", \"index\" : 3, \"message\" : \"Invalid task\" } ] }";
+                    ApiUtil.setExampleResponse(request, "application/json", exampleString);
+                    break;
+                }
+                if (mediaType.isCompatibleWith(MediaType.valueOf("application/json"))) {
+                    String exampleString = "{ \"details\" : \"Task with ID 123 does not exist\", \"message\" : \"Task not found\", \"timestamp\" : \"2024-01-01T10:00:00Z\" }";
+                    ApiUtil.setExampleResponse(request, "application/json", exampleString);
+                    break;
+                }
+                if (mediaType.isCompatibleWith(MediaType.valueOf("application/json"))) {
+                    String exampleString = "{ \"created\" : [ { \"createdAt\" : \"2024-01-01T10:00:00Z\", \"description\" : \"Write comprehensive documentation for the task management API\", \"id\" : 1, \"completed\" : false, \"title\" : \"Complete project documentation\", \"updatedAt\" : \"2024-01-01T10:00:00Z\" } ], \"errors\" : [ { \"details\" : \"title: must not be null\", \"index\" : 3, \"message\" : \"Invalid task\" } ] }";
+                    ApiUtil.setExampleResponse(request, "application/json", exampleString);
+                    break;
+                }
+                if (mediaType.isCompatibleWith(MediaType.valueOf("application/json"))) {
+                    String exampleString = "{ \"details\" : \"Task with ID 123 does not exist\", \"message\" : \"Task not found\", \"timestamp\" : \"2024-01-01T10:00:00Z\" }";
+                    ApiUtil.setExampleResponse(request, "application/json", exampleString);
+                    break;
+                }
             }
         });
         return new ResponseEntity<>(HttpStatus.NOT_IMPLEMENTED);
@@ -66,12 +210,15 @@ public interface TasksApiDelegate {
      * Delete a specific task by its ID
      *
      * @param id Task ID (required)
+     * @param ifMatch ETag the task must still have; the write fails with 412 if it has changed since (optional)
      * @return Task deleted successfully (status code 204)
      *         or Task not found (status code 404)
+     *         or Task was modified since the ETag sent in If-Match (status code 412)
      *         or Internal server error (status code 500)
      * @see TasksApi#deleteTask
      */
-    default ResponseEntity<Void> deleteTask(Long id) {
+    default ResponseEntity<Void> deleteTask(Long id,
+        String ifMatch) {
         getRequest().ifPresent(request -> {
             for (MediaType mediaType: MediaType.parseMediaTypes(request.getHeader("Accept"))) {
                 if (mediaType.isCompatibleWith(MediaType.valueOf("application/json"))) {
@@ -84,6 +231,11 @@ public interface TasksApiDelegate {
                     ApiUtil.setExampleResponse(request, "application/json", exampleString);
                     break;
                 }
+                if (mediaType.isCompatibleWith(MediaType.valueOf("application/json"))) {
+                    String exampleString = "{ \"details\" : \"Task with ID 123 does not exist\", \"message\" : \"Task not found\", \"timestamp\" : \"2024-01-01T10:00:00Z\" }";
+                    ApiUtil.setExampleResponse(request, "application/json", exampleString);
+                    break;
+                }
             }
         });
         return new ResponseEntity<>(HttpStatus.NOT_IMPLEMENTED);
@@ -94,11 +246,32 @@ public interface TasksApiDelegate {
      * GET /tasks : Get all tasks
      * Retrieve a list of all tasks
      *
+     * @param limit Maximum number of tasks to return (defaults to the server page size) (optional)
+     * @param sort Sort key; ties are broken by id (optional, default to id)
+     * @param cursor Opaque cursor taken from the X-Next-Cursor header of the previous page (optional)
+     * @param completed Only tasks with this completion flag (optional)
+     * @param createdAfter Only tasks created at or after this instant (optional)
+     * @param createdBefore Only tasks created before this instant (optional)
+     * @param updatedAfter Only tasks updated at or after this instant (optional)
+     * @param updatedBefore Only tasks updated before this instant (optional)
+     * @param titlePrefix Only tasks whose title starts with this text (case-insensitive) (optional)
+     * @param ifNoneMatch ETag of a previously fetched page; answered with 304 if the page is unchanged (optional)
      * @return List of tasks retrieved successfully (status code 200)
+     *         or Page unchanged since the ETag sent in If-None-Match (status code 304)
+     *         or Invalid limit, sort, cursor or filter (status code 400)
      *         or Internal server error (status code 500)
      * @see TasksApi#getAllTasks
      */
-    default ResponseEntity<List<Task>> getAllTasks() {
+    default ResponseEntity<List<Task>> getAllTasks(Integer limit,
+        String sort,
+        String cursor,
+        Boolean completed,
+        OffsetDateTime createdAfter,
+        OffsetDateTime createdBefore,
+        OffsetDateTime updatedAfter,
+        OffsetDateTime updatedBefore,
+        String titlePrefix,
+        String ifNoneMatch) {
         getRequest().ifPresent(request -> {
             for (MediaType mediaType: MediaType.parseMediaTypes(request.getHeader("Accept"))) {
                 if (mediaType.isCompatibleWith(MediaType.valueOf("application/json"))) {
@@ -111,6 +284,11 @@ public interface TasksApiDelegate {
                     ApiUtil.setExampleResponse(request, "application/json", exampleString);
                     break;
                 }
+                if (mediaType.isCompatibleWith(MediaType.valueOf("application/json"))) {
+                    String exampleString = "{ \"details\" : \"Task with ID 123 does not exist\", \"message\" : \"Task not found\", \"timestamp\" : \"2024-01-01T10:00:00Z\" }";
+                    ApiUtil.setExampleResponse(request, "application/json", exampleString);
+                    break;
+                }
             }
         });
         return new ResponseEntity<>(HttpStatus.NOT_IMPLEMENTED);
@@ -122,12 +300,17 @@ public interface TasksApiDelegate {
      * Retrieve a specific task by its ID
      *
      * @param id Task ID (required)
+     * @param ifNoneMatch ETag of a previously fetched copy; answered with 304 if the task is unchanged (optional)
+     * @param ifModifiedSince HTTP date; answered with 304 if the task was not updated after it. Ignored when If-None-Match is sent (optional)
      * @return Task retrieved successfully (status code 200)
+     *         or Task unchanged since the validator sent by the client (status code 304)
      *         or Task not found (status code 404)
      *         or Internal server error (status code 500)
      * @see TasksApi#getTaskById
      */
-    default ResponseEntity<Task> getTaskById(Long id) {
+    default ResponseEntity<Task> getTaskById(Long id,
+        String ifNoneMatch,
+        String ifModifiedSince) {
         getRequest().ifPresent(request -> {
             for (MediaType mediaType: MediaType.parseMediaTypes(request.getHeader("Accept"))) {
                 if (mediaType.isCompatibleWith(MediaType.valueOf("application/json"))) {
@@ -151,20 +334,194 @@ public interface TasksApiDelegate {
 
     }
 
+    /**
+     * GET /tasks/stats : Get task statistics
+     * Totals and recent activity, served from counters kept in memory and reconciled with the database every &#x60;taskmanager.stats.reconcile-interval&#x60;. Figures may briefly lag behind bulk operations.
+     *
+     * @return Current task statistics (status code 200)
+     *         or Statistics are still being loaded (status code 503)
+     *         or Internal server error (status code 500)
+     * @see TasksApi#getTaskStats
+     */
+    default ResponseEntity<TaskStats> getTaskStats() {
+        getRequest().ifPresent(request -> {
+            for (MediaType mediaType: MediaType.parseMediaTypes(request.getHeader("Accept"))) {
+                if (mediaType.isCompatibleWith(MediaType.valueOf("application/json"))) {
+                    String exampleString = "{ \"createdLastHour\" : 3, \"total\" : 42, \"createdLastDay\" : 17, \"completedLastHour\" : 2, \"completionRatio\" : 0.714, \"completedLastDay\" : 9, \"completed\" : 30, \"open\" : 12 }";
+                    ApiUtil.setExampleResponse(request, "application/json", exampleString);
+                    break;
+                }
+                if (mediaType.isCompatibleWith(MediaType.valueOf("application/json"))) {
+                    String exampleString = "{ \"details\" : \"Task with ID 123 does not exist\", \"message\" : \"Task not found\", \"timestamp\" : \"2024-01-01T10:00:00Z\" }";
+                    ApiUtil.setExampleResponse(request, "application/json", exampleString);
+                    break;
+                }
+                if (mediaType.isCompatibleWith(MediaType.valueOf("application/json"))) {
+                    String exampleString = "{ \"details\" : \"Task with ID 123 does not exist\", \"message\" : \"Task not found\", \"timestamp\" : \"2024-01-01T10:00:00Z\" }";
+                    ApiUtil.setExampleResponse(request, "application/json", exampleString);
+                    break;
+                }
+            }
+        });
+        return new ResponseEntity<>(HttpStatus.NOT_IMPLEMENTED);
+
+    }
+
+    /**
+     * PATCH /tasks/{id} : Partially update task by ID
+     * Change only the fields present in the body; omitted fields keep their current values
+     *
+     * @param id Task ID (required)
+     * @param taskPatch  (required)
+     * @param ifMatch ETag the task must still have; the write fails with 412 if it has changed since (optional)
+     * @return Task updated successfully (status code 200)
+     *         or Invalid input, a null field or an empty patch (status code 400)
+     *         or Task not found (status code 404)
+     *         or Task was modified since the ETag sent in If-Match (status code 412)
+     *         or Internal server error (status code 500)
+     * @see TasksApi#patchTask
+     */
+    default ResponseEntity<Task> patchTask(Long id,
+        TaskPatch taskPatch,
+        String ifMatch) {
+        getRequest().ifPresent(request -> {
+            for (MediaType mediaType: MediaType.parseMediaTypes(request.getHeader("Accept"))) {
+                if (mediaType.isCompatibleWith(MediaType.valueOf("application/json"))) {
+                    String exampleString = "{ \"createdAt\" : \"2024-01-01T10:00:00Z\", \"description\" : \"Write comprehensive documentation for the task management API\", \"id\" : 1, \"completed\" : false, \"title\" : \"Complete project documentation\", \"updatedAt\" : \"2024-01-01T10:00:00Z\" }";
+                    ApiUtil.setExampleResponse(request, "application/json", exampleString);
+                    break;
+                }
+                if (mediaType.isCompatibleWith(MediaType.valueOf("application/json"))) {
+                    String exampleString = "{ \"details\" : \"Task with ID 123 does not exist\", \"message\" : \"Task not found\", \"timestamp\" : \"2024-01-01T10:00:00Z\" }";
+                    ApiUtil.setExampleResponse(request, "application/json", exampleString);
+                    break;
+                }
+                if (mediaType.isCompatibleWith(MediaType.valueOf("application/json"))) {
+                    String exampleString = "{ \"details\" : \"Task with ID 123 does not exist\", \"message\" : \"Task not found\", \"timestamp\" : \"2024-01-01T10:00:00Z\" }";
+                    ApiUtil.setExampleResponse(request, "application/json", exampleString);
+                    break;
+                }
+                if (mediaType.isCompatibleWith(MediaType.valueOf("application/json"))) {
+                    String exampleString = "{ \"details\" : \"Task with ID 123 does not exist\", \"message\" : \"Task not found\", \"timestamp\" : \"2024-01-01T10:00:00Z\" }";
+                    ApiUtil.setExampleResponse(request, "application/json", exampleString);
+                    break;
+                }
+                if (mediaType.isCompatibleWith(MediaType.valueOf("application/json"))) {
+                    String exampleString = "{ \"details\" : \"Task with ID 123 does not exist\", \"message\" : \"Task not found\", \"timestamp\" : \"2024-01-01T10:00:00Z\" }";
+                    ApiUtil.setExampleResponse(request, "application/json", exampleString);
+                    break;
+                }
+            }
+        });
+        return new ResponseEntity<>(HttpStatus.NOT_IMPLEMENTED);
+
+    }
+
+    /**
+     * GET /tasks/search : Search tasks
+     * Full-text search over task titles and descriptions. Tasks containing any of the query&#39;s words are ranked by relevance (BM25), title matches counting double. Served from an in-memory index, without querying the database.
+     *
+     * @param q Words to search for; case and accents are ignored (required)
+     * @param limit Maximum number of tasks to return (defaults to the server search limit) (optional)
+     * @return Matching tasks, best match first (status code 200)
+     *         or Missing or invalid query or limit (status code 400)
+     *         or Search is disabled or its index is still loading (status code 503)
+     *         or Internal server error (status code 500)
+     * @see TasksApi#searchTasks
+     */
+    default ResponseEntity<List<Task>> searchTasks(String q,
+        Integer limit) {
+        getRequest().ifPresent(request -> {
+            for (MediaType mediaType: MediaType.parseMediaTypes(request.getHeader("Accept"))) {
+                if (mediaType.isCompatibleWith(MediaType.valueOf("application/json"))) {
+                    String exampleString = "[ { \"createdAt\" : \"2024-01-01T10:00:00Z\", \"description\" : \"Write comprehensive documentation for the task management API\", \"id\" : 1, \"completed\" : false, \"title\" : \"Complete project documentation\", \"updatedAt\" : \"2024-01-01T10:00:00Z\" }, { \"createdAt\" : \"2024-01-01T10:00:00Z\", \"description\" : \"Write comprehensive documentation for the task management API\", \"id\" : 1, \"completed\" : false, \"title\" : \"Complete project documentation\", \"updatedAt\" : \"2024-01-01T10:00:00Z\" } ]";
+                    ApiUtil.setExampleResponse(request, "application/json", exampleString);
+                    break;
+                }
+                if (mediaType.isCompatibleWith(MediaType.valueOf("application/json"))) {
+                    String exampleString = "{ \"details\" : \"Task with ID 123 does not exist\", \"message\" : \"Task not found\", \"timestamp\" : \"2024-01-01T10:00:00Z\" }";
+                    ApiUtil.setExampleResponse(request, "application/json", exampleString);
+                    break;
+                }
+                if (mediaType.isCompatibleWith(MediaType.valueOf("application/json"))) {
+                    String exampleString = "{ \"details\" : \"Task with ID 123 does not exist\", \"message\" : \"Task not found\", \"timestamp\" : \"2024-01-01T10:00:00Z\" }";
+                    ApiUtil.setExampleResponse(request, "application/json", exampleString);
+                    break;
+                }
+                if (mediaType.isCompatibleWith(MediaType.valueOf("application/json"))) {
+                    String exampleString = "{ \"details\" : \"Task with ID 123 does not exist\", \"message\" : \"Task not found\", \"timestamp\" : \"2024-01-01T10:00:00Z\" }";
+                    ApiUtil.setExampleResponse(request, "application/json", exampleString);
+                    break;
+                }
+            }
+        });
+        return new ResponseEntity<>(HttpStatus.NOT_IMPLEMENTED);
+
+    }
+
+    /**
+     * GET /tasks:sync : Get task changes since a sync token
+     * Delta sync for offline clients. Returns the tasks created or updated and the ids of the tasks deleted since the position in `changedSince`, oldest change first, plus the token to send next time. Without `changedSince` every task is returned (page by page) and the token starts tracking deletions from now. Writes are reported once they are `taskmanager.sync.settle-time` old, and deletions are kept for `taskmanager.sync.tombstone-retention`.
+     *
+     * @param changedSince Opaque token from the `next` property of the previous sync response (optional)
+     * @param limit Maximum number of changed tasks, and of deleted ids, to return (defaults to the server page size) (optional)
+     * @return Changes since the token; request again with `next` while `hasMore` is true (status code 200)
+     *         or Malformed token or invalid limit (status code 400)
+     *         or The token is older than the tombstone retention; sync again without `changedSince` (status code 410)
+     *         or Internal server error (status code 500)
+     * @see TasksApi#syncTasks
+     */
+    default ResponseEntity<TaskSyncResponse> syncTasks(String changedSince,
+        Integer limit) {
+        getRequest().ifPresent(request -> {
+            for (MediaType mediaType: MediaType.parseMediaTypes(request.getHeader("Accept"))) {
+                if (mediaType.isCompatibleWith(MediaType.valueOf("application/json"))) {
+                    String exampleString = "{ \"next\" : \"MjAyNC0wMS0wMVQxMDowMDowMFp8MXwyMDI0LTAxLTAxVDA5OjAwOjAwWnw3\", \"deleted\" : [ 7, 12 ], \"hasMore\" : false, \"tasks\" : [ { \"createdAt\" : \"2024-01-01T10:00:00Z\", \"description\" : \"Write comprehensive documentation for the task management API\", \"id\" : 1, \"completed\" : false, \"title\" : \"Complete project documentation\", \"updatedAt\" : \"2024-01-01T10:00:00Z\" }, { \"createdAt\" : \"2024-01-01T10:00:00Z\", \"description\" : \"Write comprehensive documentation for the task management API\", \"id\" : 1, \"completed\" : false, \"title\" : \"Complete project documentation\", \"updatedAt\" : \"2024-01-01T10:00:00Z\" } ] }";
+                    ApiUtil.setExampleResponse(request, "application/json", exampleString);
+                    break;
+                }
+                if (mediaType.isCompatibleWith(MediaType.valueOf("application/json"))) {
+                    String exampleString = "{ \"details\" : \"Task with ID 123 does not exist\", \"message\" : \"Task not found\", \"timestamp\" : \"2024-01-01T10:00:00Z\" }";
+                    ApiUtil.setExampleResponse(request, "application/json", exampleString);
+                    break;
+                }
+                if (mediaType.isCompatibleWith(MediaType.valueOf("application/json"))) {
+                    String exampleString = "{ \"details\" : \"Task with ID 123 does not exist\", \"message\" : \"Task not found\", \"timestamp\" : \"2024-01-01T10:00:00Z\" }";
+                    ApiUtil.setExampleResponse(request, "application/json", exampleString);
+                    break;
+                }
+                if (mediaType.isCompatibleWith(MediaType.valueOf("application/json"))) {
+                    String exampleString = "{ \"details\" : \"Task with ID 123 does not exist\", \"message\" : \"Task not found\", \"timestamp\" : \"2024-01-01T10:00:00Z\" }";
+                    ApiUtil.setExampleResponse(request, "application/json", exampleString);
+                    break;
+                }
+            }
+        });
+        return new ResponseEntity<>(HttpStatus.NOT_IMPLEMENTED);
+
+    }
+
     /**
      * PUT /tasks/{id} : Update task by ID
      * Update an existing task with the provided information
      *
      * @param id Task ID (required)
      * @param taskRequest  (required)
+     * @param ifMatch ETag the task must still have; the write fails with 412 if it has changed since (optional)
+     * @param idempotencyKey Client-chosen key that makes retries safe; a repeat with the same key gets the first response back (optional)
      * @return Task updated successfully (status code 200)
      *         or Invalid input (status code 400)
      *         or Task not found (status code 404)
+     *         or A request with the same Idempotency-Key is still in progress (status code 409)
+     *         or Task was modified since the ETag sent in If-Match (status code 412)
+     *         or Idempotency-Key was already used for a different request (status code 422)
      *         or Internal server error (status code 500)
      * @see TasksApi#updateTask
      */
     default ResponseEntity<Task> updateTask(Long id,
-        TaskRequest taskRequest) {
+        TaskRequest taskRequest,
+        String ifMatch,
+        String idempotencyKey) {
         getRequest().ifPresent(request -> {
             for (MediaType mediaType: MediaType.parseMediaTypes(request.getHeader("Accept"))) {
                 if (mediaType.isCompatibleWith(MediaType.valueOf("application/json"))) {
@@ -187,6 +544,21 @@ public interface TasksApiDelegate {
                     ApiUtil.setExampleResponse(request, "application/json", exampleString);
                     break;
                 }
+                if (mediaType.isCompatibleWith(MediaType.valueOf("application/json"))) {
+                    String exampleString = "{ \"details\" : \"Task with ID 123 does not exist\", \"message\" : \"Task not found\", \"timestamp\" : \"2024-01-01T10:00:00Z\" }";
+                    ApiUtil.setExampleResponse(request, "application/json", exampleString);
+                    break;
+                }
+                if (mediaType.isCompatibleWith(MediaType.valueOf("application/json"))) {
+                    String exampleString = "{ \"details\" : \"Task with ID 123 does not exist\", \"message\" : \"Task not found\", \"timestamp\" : \"2024-01-01T10:00:00Z\" }";
+                    ApiUtil.setExampleResponse(request, "application/json", exampleString);
+                    break;
+                }
+                if (mediaType.isCompatibleWith(MediaType.valueOf("application/json"))) {
+                    String exampleString = "{ \"details\" : \"Task with ID 123 does not exist\", \"message\" : \"Task not found\", \"timestamp\" : \"2024-01-01T10:00:00Z\" }";
+                    ApiUtil.setExampleResponse(request, "application/json", exampleString);
+                    break;
+                }
             }
         });
         return new ResponseEntity<>(HttpStatus.NOT_IMPLEMENTED);
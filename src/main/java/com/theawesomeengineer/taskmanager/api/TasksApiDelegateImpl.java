@@ -1,35 +1,160 @@
 package com.theawesomeengineer.taskmanager.api;
 
+import com.theawesomeengineer.taskmanager.cache.CachedTask;
+import com.theawesomeengineer.taskmanager.cache.TaskCache;
+import com.theawesomeengineer.taskmanager.cache.TaskJsonCache;
+import com.theawesomeengineer.taskmanager.changes.TaskChange;
+import com.theawesomeengineer.taskmanager.changes.TaskChangeFeed;
+import com.theawesomeengineer.taskmanager.config.TaskmanagerProperties;
+import com.theawesomeengineer.taskmanager.idempotency.IdempotencyStore;
 import com.theawesomeengineer.taskmanager.model.*;
+import com.theawesomeengineer.taskmanager.replica.ReadRouting;
+import com.theawesomeengineer.taskmanager.repository.TaskChanges;
+import com.theawesomeengineer.taskmanager.repository.TaskCounts;
+import com.theawesomeengineer.taskmanager.repository.TaskCriteria;
 import com.theawesomeengineer.taskmanager.repository.TaskEntity;
+import com.theawesomeengineer.taskmanager.repository.TaskKeyset;
 import com.theawesomeengineer.taskmanager.repository.TaskRepository;
+import com.theawesomeengineer.taskmanager.repository.TaskSortKey;
+import com.theawesomeengineer.taskmanager.repository.TaskTombstone;
+import com.theawesomeengineer.taskmanager.repository.TaskTombstoneRepository;
+import com.theawesomeengineer.taskmanager.repository.TaskValidators;
+import com.theawesomeengineer.taskmanager.search.SearchHit;
+import com.theawesomeengineer.taskmanager.search.TaskSearchIndex;
+import com.theawesomeengineer.taskmanager.stats.TaskStatistics;
+import com.theawesomeengineer.taskmanager.writebehind.TaskWriteBehind;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.*;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.function.BiFunction;
 import java.util.stream.Collectors;
 
 @Component
+@Profile("!reactive")
 @RequiredArgsConstructor
 public class TasksApiDelegateImpl implements TasksApiDelegate {
 
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    static final String LIST_SIZE_METRIC = "taskmanager.api.list.size";
+    static final String PREFERENCE_APPLIED_HEADER = "Preference-Applied";
+    static final String RESPOND_ASYNC = "respond-async";
+    // Idempotency-Key scopes: a key names one request to one operation
+    static final String CREATE_TASK = "createTask";
+    static final String UPDATE_TASK = "updateTask";
+
     private final TaskRepository repo;
+    private final TaskmanagerProperties properties;
+    private final Validator validator;
+    private final TaskCache cache;
+    private final TaskJsonCache jsonCache;
+    private final MeterRegistry meterRegistry;
+    private final TaskSearchIndex searchIndex;
+    private final TaskStatistics stats;
+    private final TaskChangeFeed changeFeed;
+    private final TaskTombstoneRepository tombstones;
+    private final TaskWriteBehind writeBehind;
+    private final IdempotencyStore idempotency;
+
+    @PostConstruct
+    void listenForWriteBehind() {
+        writeBehind.onWritten(this::created);
+    }
+
+    /* ---------- helpers (shared with ReactiveTasksApiDelegateImpl) ---------- */
+    static ResponseStatusException notFound() {
+        return new ResponseStatusException(HttpStatus.NOT_FOUND, "Task not found");
+    }
+
+    /** Whether a {@code Prefer} header asks for {@code respond-async} (RFC 7240). */
+    static boolean prefersAsync(String prefer) {
+        if (prefer == null) {
+            return false;
+        }
+        for (String preference : prefer.split(",")) {
+            String token = preference.split("[;=]", 2)[0].trim();
+            if (token.equalsIgnoreCase(RESPOND_ASYNC)) {
+                return true;
+            }
+        }
+        return false;
+    }
 
-    /* ---------- helpers ---------- */
-    private TaskEntity findOrThrow(Long id) {
-        return repo.findById(id)
-                   .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Task not found"));
+    /** 429 with a {@code Retry-After}; the queue drains in well under a second unless the database is down. */
+    static ResponseStatusException queueFull() {
+        return new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, "Too many tasks waiting to be written") {
+            @Override
+            public HttpHeaders getHeaders() {
+                HttpHeaders headers = new HttpHeaders();
+                headers.set(HttpHeaders.RETRY_AFTER, "1");
+                return headers;
+            }
+        };
     }
 
-    private Task map(TaskEntity e) {
+    static Task map(TaskEntity e) {
         return new Task(e.getId(), e.getTitle(), e.getDescription(), e.getCompleted(),
                         e.getCreatedAt(), e.getUpdatedAt());
     }
 
-    private TaskEntity map(TaskRequest r) {
+    static CachedTask cached(TaskEntity e) {
+        return new CachedTask(map(e), e.getVersion());
+    }
+
+    /** Reads the primary: the result is cached well beyond any replica lag. */
+    private CachedTask load(Long id) {
+        return ReadRouting.onPrimary(() -> repo.findById(id).map(TasksApiDelegateImpl::cached).orElse(null));
+    }
+
+    static ResponseEntity.BodyBuilder withValidators(ResponseEntity.BodyBuilder response, CachedTask t) {
+        return response.eTag(TaskETags.of(t.id(), t.version()))
+                       .lastModified(t.task().getUpdatedAt().toInstant());
+    }
+
+    /**
+     * Version a conditional write must find: null when there is no {@code If-Match} (or it is
+     * {@code *}, which any existing task satisfies), otherwise the version named by the tag.
+     * A tag that names no version of this task fails the precondition without touching the row.
+     */
+    private Long expectedVersion(Long id, String ifMatch) {
+        if (ifMatch == null || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        OptionalLong version = TaskETags.versionOf(ifMatch, id);
+        if (version.isEmpty()) {
+            throw failedWrite(id);
+        }
+        return version.getAsLong();
+    }
+
+    /** A conditional write touched no row: either the task is gone or its version moved on. */
+    private ResponseStatusException failedWrite(Long id) {
+        return repo.existsById(id)
+                ? new ResponseStatusException(HttpStatus.PRECONDITION_FAILED, "Task was modified; fetch it again")
+                : notFound();
+    }
+
+    static TaskEntity map(TaskRequest r) {
         return TaskEntity.builder()
                          .title(r.getTitle())
                          .description(r.getDescription())
@@ -37,45 +162,455 @@ public class TasksApiDelegateImpl implements TasksApiDelegate {
                          .build();
     }
 
+    static TaskSortKey sortKey(String sort) {
+        return TaskSortKey.fromAttribute(sort == null ? "id" : sort)
+                          .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown sort: " + sort));
+    }
+
+    static TaskKeyset decodeCursor(String cursor, TaskSortKey sortKey) {
+        TaskKeyset after;
+        try {
+            after = TaskCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+        }
+        if (after.sort() != sortKey) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Cursor does not match sort " + sortKey.attribute());
+        }
+        return after;
+    }
+
+    static TaskCriteria criteria(TaskFilter f, int maxIds) {
+        if (f.getIds() != null && f.getIds().size() > maxIds) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Filter lists more than " + maxIds + " ids");
+        }
+        TaskCriteria c = new TaskCriteria(f.getIds(), f.getCompleted(),
+                                          f.getCreatedAfter(), f.getCreatedBefore(),
+                                          f.getUpdatedAfter(), f.getUpdatedBefore(), null);
+        if (c.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Filter must have at least one criterion");
+        }
+        return c;
+    }
+
+    static List<SearchHit> search(TaskSearchIndex index, TaskmanagerProperties.Search config, String q, Integer limit) {
+        if (!index.isEnabled() || !index.isReady()) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Search is not available");
+        }
+        return index.search(q, Math.min(limit != null ? limit : config.getDefaultLimit(), config.getMaxLimit()));
+    }
+
+    static TaskStats taskStats(TaskStatistics stats) {
+        if (!stats.isSeeded()) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Statistics are not available yet");
+        }
+        TaskCounts c = stats.snapshot(TaskEntity.now());
+        long open = c.total() - c.completed();
+        double ratio = c.total() == 0 ? 0 : (double) c.completed() / c.total();
+        return new TaskStats(c.total(), c.completed(), open, ratio,
+                             c.createdLastHour(), c.createdLastDay(), c.completedLastHour(), c.completedLastDay());
+    }
+
+    /**
+     * The position {@code changedSince} names, or the start of a full sync when it is absent.
+     * 400 if malformed; 410 if deletions after it may already have been compacted.
+     */
+    static TaskSyncToken syncToken(String changedSince, OffsetDateTime settled, TaskmanagerProperties.Sync config) {
+        if (changedSince == null) {
+            return TaskSyncToken.initial(settled);
+        }
+        TaskSyncToken token;
+        try {
+            token = TaskSyncToken.decode(changedSince);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid sync token");
+        }
+        if (token.deletedAt().isBefore(settled.minus(config.getTombstoneRetention()))) {
+            throw new ResponseStatusException(HttpStatus.GONE, "Sync token has expired; sync again without changedSince");
+        }
+        return token;
+    }
+
+    /** Only writes older than this are reported by delta sync (see {@code taskmanager.sync.settle-time}). */
+    static OffsetDateTime settled(TaskmanagerProperties.Sync config) {
+        return TaskEntity.now().minus(config.getSettleTime());
+    }
+
+    static TaskCriteria updatedBefore(OffsetDateTime settled) {
+        return new TaskCriteria(null, null, null, null, null, settled, null);
+    }
+
+    /** One sync page from rows and tombstones each read one past {@code pageSize}. */
+    static TaskSyncResponse syncResponse(TaskSyncToken since, List<TaskEntity> rows, List<TaskTombstone> deleted,
+                                         int pageSize) {
+        boolean hasMore = rows.size() > pageSize || deleted.size() > pageSize;
+        rows = rows.subList(0, Math.min(rows.size(), pageSize));
+        deleted = deleted.subList(0, Math.min(deleted.size(), pageSize));
+        return new TaskSyncResponse(rows.stream().map(TasksApiDelegateImpl::map).collect(Collectors.toList()),
+                                    deleted.stream().map(TaskTombstone::getId).collect(Collectors.toList()),
+                                    since.after(rows, deleted).encode(),
+                                    hasMore);
+    }
+
+    /**
+     * {@code before} if it is the state {@code after} was written over (one version earlier),
+     * otherwise null.
+     */
+    static Task previous(CachedTask before, CachedTask after) {
+        return before != null && before.version() == after.version() - 1 ? before.task() : null;
+    }
+
+    /** The error to report for batch item {@code index}, or null when the item is valid. */
+    static TaskBatchError batchError(int index, TaskRequest r, Validator validator) {
+        if (r == null) {
+            return new TaskBatchError(index, "Invalid task").details("item must not be null");
+        }
+        Set<ConstraintViolation<TaskRequest>> violations = validator.validate(r);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return new TaskBatchError(index, "Invalid task").details(violations.stream()
+                .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", ")));
+    }
+
+    /**
+     * Runs {@code statement} over keyset chunks of the matching tasks: each call is given the last
+     * id of the previous chunk and the chunk size, and returns the tasks it changed. Each call is
+     * its own transaction, so row locks are held for one chunk at a time rather than the whole run.
+     */
+    private long inChunks(BiFunction<Long, Integer, List<TaskEntity>> statement) {
+        int chunk = properties.getBulk().getChunkSize();
+        long affected = 0;
+        long last = Long.MIN_VALUE;
+        List<TaskEntity> rows;
+        do {
+            rows = statement.apply(last, chunk);
+            if (!rows.isEmpty()) {
+                affected += rows.size();
+                last = rows.get(rows.size() - 1).getId();
+            }
+        } while (rows.size() == chunk);
+        return affected;
+    }
+
     /* ---------- API methods ---------- */
 
     @Override
-    public ResponseEntity<List<Task>> getAllTasks() {
-        List<Task> list = repo.findAll()
-                              .stream()
-                              .map(this::map)
+    public ResponseEntity<TaskBulkResult> bulkUpdateTasks(TaskBulkUpdateRequest request) {
+        TaskCriteria criteria = criteria(request.getFilter(), properties.getBulk().getMaxIds());
+        TaskBulkPatch patch = request.getPatch();
+        TaskChanges changes = new TaskChanges(patch.getTitle(), patch.getDescription(), patch.getCompleted());
+        if (changes.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Patch must change at least one field");
+        }
+        long affected = inChunks((after, limit) -> {
+            OffsetDateTime now = TaskEntity.now();
+            List<TaskEntity> before = repo.updateChunk(criteria, after, limit, changes, now);
+            for (TaskEntity e : before) {
+                CachedTask updated = new CachedTask(applied(map(e), changes, now), e.getVersion() + 1);
+                cache.invalidate(e.getId());
+                searchIndex.index(updated);
+                stats.updated(map(e), updated.task());
+                changeFeed.publish(TaskChange.updated(updated.task()));
+            }
+            return before;
+        });
+        return ResponseEntity.ok(new TaskBulkResult(affected));
+    }
+
+    @Override
+    public ResponseEntity<TaskBulkResult> bulkDeleteTasks(TaskFilter filter) {
+        TaskCriteria criteria = criteria(filter, properties.getBulk().getMaxIds());
+        long affected = inChunks((after, limit) -> {
+            List<TaskEntity> deleted = repo.deleteChunk(criteria, after, limit);
+            for (TaskEntity e : deleted) {
+                cache.invalidate(e.getId());
+                jsonCache.invalidate(e.getId());
+                searchIndex.remove(e.getId());
+                stats.deleted(map(e));
+                changeFeed.publish(TaskChange.deleted(e.getId()));
+            }
+            return deleted;
+        });
+        return ResponseEntity.ok(new TaskBulkResult(affected));
+    }
+
+    @Override
+    public ResponseEntity<List<Task>> getAllTasks(Integer limit, String sort, String cursor, Boolean completed,
+                                                  OffsetDateTime createdAfter, OffsetDateTime createdBefore,
+                                                  OffsetDateTime updatedAfter, OffsetDateTime updatedBefore,
+                                                  String titlePrefix, String ifNoneMatch) {
+        TaskSortKey sortKey = sortKey(sort);
+        TaskKeyset after = cursor == null ? null : decodeCursor(cursor, sortKey);
+        TaskCriteria criteria = new TaskCriteria(null, completed, createdAfter, createdBefore,
+                                                 updatedAfter, updatedBefore, titlePrefix);
+        TaskmanagerProperties.Page page = properties.getPage();
+        int pageSize = Math.min(limit != null ? limit : page.getDefaultLimit(), page.getMaxLimit());
+
+        // read one row past the page to learn whether a next page exists
+        List<TaskEntity> rows = repo.findPage(sortKey, after, criteria, pageSize + 1);
+        boolean hasNext = rows.size() > pageSize;
+        if (hasNext) {
+            rows = rows.subList(0, pageSize);
+        }
+        List<Task> list = rows.stream()
+                              .map(TasksApiDelegateImpl::map)
                               .collect(Collectors.toList());
-        return ResponseEntity.ok(list);
+        meterRegistry.summary(LIST_SIZE_METRIC).record(list.size());
+
+        String etag = TaskETags.ofList(rows);
+        boolean notModified = ifNoneMatch != null && TaskETags.matches(ifNoneMatch, etag);
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(notModified ? HttpStatus.NOT_MODIFIED : HttpStatus.OK)
+                                                            .eTag(etag);
+        if (hasNext) {
+            response.header(NEXT_CURSOR_HEADER, TaskCursor.encode(TaskKeyset.of(sortKey, rows.get(rows.size() - 1))));
+        }
+        return notModified ? response.build() : response.body(list);
     }
 
+    /**
+     * Ranks tasks with the in-memory index and resolves the hits through the task cache; only
+     * tasks not cached are read, in one {@code IN} query. Hits whose task has meanwhile vanished
+     * are dropped from the result and from the index.
+     */
     @Override
-    public ResponseEntity<Task> createTask(TaskRequest taskRequest) {
-        TaskEntity saved = repo.save(map(taskRequest));
-        return ResponseEntity.status(HttpStatus.CREATED).body(map(saved));
+    public ResponseEntity<List<Task>> searchTasks(String q, Integer limit) {
+        List<SearchHit> hits = search(searchIndex, properties.getSearch(), q, limit);
+        Map<Long, Task> found = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+        for (SearchHit hit : hits) {
+            cache.getIfPresent(hit.id())
+                 .ifPresentOrElse(c -> found.put(c.id(), c.task()), () -> misses.add(hit.id()));
+        }
+        if (!misses.isEmpty()) {
+            // on the primary, since a task missing from a lagging replica would be dropped from the index
+            ReadRouting.onPrimary(() -> repo.findAllById(misses)).forEach(e -> found.put(e.getId(), map(e)));
+            misses.stream().filter(id -> !found.containsKey(id)).forEach(searchIndex::remove);
+        }
+        return ResponseEntity.ok(hits.stream()
+                                     .map(hit -> found.get(hit.id()))
+                                     .filter(Objects::nonNull)
+                                     .collect(Collectors.toList()));
     }
 
+    /**
+     * Two keyset reads, one over the {@code (updated_at, id)} index of tasks and one over the
+     * {@code (deleted_at, id)} index of tombstones, so the cost follows the number of changes
+     * since the token rather than the size of the table.
+     */
     @Override
-    public ResponseEntity<Task> getTaskById(Long id) {
-        return ResponseEntity.ok(map(findOrThrow(id)));
+    public ResponseEntity<TaskSyncResponse> syncTasks(String changedSince, Integer limit) {
+        TaskmanagerProperties.Sync sync = properties.getSync();
+        OffsetDateTime settled = settled(sync);
+        TaskSyncToken since = syncToken(changedSince, settled, sync);
+        TaskmanagerProperties.Page page = properties.getPage();
+        int pageSize = Math.min(limit != null ? limit : page.getDefaultLimit(), page.getMaxLimit());
+
+        // on the primary: a change a lagging replica had not applied yet would be behind the next token for good
+        List<TaskEntity> rows = ReadRouting.onPrimary(
+                () -> repo.findPage(TaskSortKey.UPDATED_AT, since.tasksAfter(), updatedBefore(settled), pageSize + 1));
+        List<TaskTombstone> deleted = ReadRouting.onPrimary(
+                () -> tombstones.findPage(since.deletedAt(), since.tombstoneId(), settled, Limit.of(pageSize + 1)));
+        return ResponseEntity.ok(syncResponse(since, rows, deleted, pageSize));
     }
 
+    /** Served from {@link TaskStatistics}; no database access. */
     @Override
-    public ResponseEntity<Task> updateTask(Long id, TaskRequest taskRequest) {
-        TaskEntity existing = findOrThrow(id);
-        existing.setTitle(taskRequest.getTitle());
-        existing.setDescription(taskRequest.getDescription());
-        existing.setCompleted(taskRequest.getCompleted() != null && taskRequest.getCompleted());
-        existing.setUpdatedAt(OffsetDateTime.now());
-        TaskEntity updated = repo.save(existing);
-        return ResponseEntity.ok(map(updated));
+    public ResponseEntity<TaskStats> getTaskStats() {
+        return ResponseEntity.ok(taskStats(stats));
+    }
+
+    @Override
+    public ResponseEntity<Task> createTask(TaskRequest taskRequest, String prefer, String idempotencyKey) {
+        return idempotency.execute(CREATE_TASK, idempotencyKey, Arrays.asList(taskRequest, prefer),
+                                   () -> create(taskRequest, prefer));
+    }
+
+    private ResponseEntity<Task> create(TaskRequest taskRequest, String prefer) {
+        if (writeBehind.isEnabled() && prefersAsync(prefer)) {
+            return createLater(taskRequest);
+        }
+        CachedTask created = cached(repo.save(map(taskRequest)));
+        cache.put(created);
+        searchIndex.index(created);
+        stats.created(created.task());
+        changeFeed.publish(TaskChange.created(created.task()));
+        return withValidators(ResponseEntity.status(HttpStatus.CREATED), created).body(created.task());
+    }
+
+    /**
+     * Write-behind create: the task gets its id and timestamps now and is handed to
+     * {@link TaskWriteBehind}, which journals it before this returns; the insert follows in a
+     * later batch. 429 when too many tasks are waiting to be written.
+     */
+    private ResponseEntity<Task> createLater(TaskRequest taskRequest) {
+        TaskEntity task = map(taskRequest);
+        repo.assignId(task);
+        task.setCreatedAt(TaskEntity.now());
+        task.setUpdatedAt(task.getCreatedAt());
+        task.setVersion(0L);
+        if (!writeBehind.offer(task)) {
+            throw queueFull();
+        }
+        return ResponseEntity.accepted()
+                             .location(ServletUriComponentsBuilder.fromCurrentRequest()
+                                                                  .path("/{id}")
+                                                                  .buildAndExpand(task.getId())
+                                                                  .toUri())
+                             .header(PREFERENCE_APPLIED_HEADER, RESPOND_ASYNC)
+                             .body(map(task));
+    }
+
+    /** Search index, statistics and change feed for tasks once their insert has committed. */
+    private void created(List<TaskEntity> saved) {
+        saved.forEach(searchIndex::index);
+        saved.forEach(e -> {
+            Task task = map(e);
+            stats.created(task);
+            changeFeed.publish(TaskChange.created(task));
+        });
+    }
+
+    /**
+     * Validates every item on its own and inserts the valid ones in one transaction; with the
+     * pooled sequence on {@link TaskEntity} Hibernate sends them as JDBC batches.
+     */
+    @Override
+    @Transactional
+    public ResponseEntity<TaskBatchResponse> createTasksBatch(List<TaskRequest> taskRequests) {
+        int maxSize = properties.getBatch().getMaxSize();
+        if (taskRequests.size() > maxSize) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Batch exceeds " + maxSize + " items");
+        }
+
+        List<TaskBatchError> errors = new ArrayList<>();
+        List<TaskEntity> valid = new ArrayList<>(taskRequests.size());
+        for (int i = 0; i < taskRequests.size(); i++) {
+            TaskBatchError error = batchError(i, taskRequests.get(i), validator);
+            if (error == null) {
+                valid.add(map(taskRequests.get(i)));
+            } else {
+                errors.add(error);
+            }
+        }
+
+        List<TaskEntity> saved = repo.saveAllAndFlush(valid);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                created(saved);
+            }
+        });
+        List<Task> created = saved.stream()
+                                 .map(TasksApiDelegateImpl::map)
+                                 .collect(Collectors.toList());
+        HttpStatus status = created.isEmpty() && !errors.isEmpty() ? HttpStatus.UNPROCESSABLE_ENTITY : HttpStatus.CREATED;
+        return ResponseEntity.status(status).body(new TaskBatchResponse(created, errors));
+    }
+
+    @Override
+    public ResponseEntity<Task> getTaskById(Long id, String ifNoneMatch, String ifModifiedSince) {
+        if (ifNoneMatch != null || ifModifiedSince != null) {
+            // validate against the cached copy or the validator columns alone; the row is only
+            // read (and serialized) when the client's copy turns out to be stale
+            TaskValidators current = cache.getIfPresent(id)
+                                          .map(c -> new TaskValidators(c.version(), c.task().getUpdatedAt()))
+                                          .or(() -> repo.findValidatorsById(id))
+                                          .orElseThrow(TasksApiDelegateImpl::notFound);
+            boolean notModified = ifNoneMatch != null
+                    ? TaskETags.matches(ifNoneMatch, TaskETags.of(id, current.version()))
+                    : TaskETags.notModifiedSince(ifModifiedSince, current.updatedAt());
+            if (notModified) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                                     .eTag(TaskETags.of(id, current.version()))
+                                     .lastModified(current.updatedAt().toInstant())
+                                     .build();
+            }
+        }
+        CachedTask task = cache.get(id, this::load).orElseThrow(TasksApiDelegateImpl::notFound);
+        return withValidators(ResponseEntity.ok(), task).body(task.task());
+    }
+
+    /**
+     * One {@code UPDATE ... WHERE id = ? [AND version = ?]} that SETs only the non-null columns of
+     * {@code changes}; its row count decides between 200, 404 and 412, so concurrent writers can
+     * never silently overwrite each other. When the write was conditional and the cache holds the
+     * version it was made against, the response is that copy with {@code changes} applied (an
+     * {@code If-Match} write always lands on version + 1); otherwise the row is read back.
+     */
+    private ResponseEntity<Task> write(Long id, String ifMatch, TaskChanges changes) {
+        Long expected = expectedVersion(id, ifMatch);
+        OffsetDateTime now = TaskEntity.now();
+        CachedTask before = cache.getIfPresent(id).orElse(null);
+        if (repo.updateIfVersion(id, expected, changes, now) == 0) {
+            throw failedWrite(id);
+        }
+
+        CachedTask updated = cache.getIfPresent(id)
+                                  .filter(c -> expected != null && c.version() == expected)
+                                  .map(c -> new CachedTask(applied(c.task(), changes, now), expected + 1))
+                                  .orElseGet(() -> load(id));
+        if (updated == null) {
+            // deleted straight after our update
+            cache.invalidate(id);
+            searchIndex.remove(id);
+            throw notFound();
+        }
+        // a concurrent writer of the same task may already have cached a later version
+        cache.putIfNewer(updated);
+        searchIndex.index(updated);
+        stats.updated(previous(before, updated), updated.task());
+        changeFeed.publish(TaskChange.updated(updated.task()));
+        return withValidators(ResponseEntity.ok(), updated).body(updated.task());
+    }
+
+    static Task applied(Task t, TaskChanges changes, OffsetDateTime now) {
+        return new Task(t.getId(),
+                        changes.title() != null ? changes.title() : t.getTitle(),
+                        changes.description() != null ? changes.description() : t.getDescription(),
+                        changes.completed() != null ? changes.completed() : t.getCompleted(),
+                        t.getCreatedAt(), now);
+    }
+
+    @Override
+    public ResponseEntity<Task> updateTask(Long id, TaskRequest taskRequest, String ifMatch, String idempotencyKey) {
+        return idempotency.execute(UPDATE_TASK, idempotencyKey, Arrays.asList(id, taskRequest, ifMatch),
+                () -> write(id, ifMatch, new TaskChanges(taskRequest.getTitle(), taskRequest.getDescription(),
+                                                         taskRequest.getCompleted() != null && taskRequest.getCompleted())));
+    }
+
+    /**
+     * Only the properties present in the body end up in the {@code UPDATE}'s SET list; explicit
+     * nulls were already rejected by validation since every column is NOT NULL.
+     */
+    @Override
+    public ResponseEntity<Task> patchTask(Long id, TaskPatch taskPatch, String ifMatch) {
+        TaskChanges changes = new TaskChanges(taskPatch.getTitle().toOptional().orElse(null),
+                                              taskPatch.getDescription().toOptional().orElse(null),
+                                              taskPatch.getCompleted().toOptional().orElse(null));
+        if (changes.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Patch must change at least one field");
+        }
+        return write(id, ifMatch, changes);
     }
 
     @Override
-    public ResponseEntity<Void> deleteTask(Long id) {
-        if (!repo.existsById(id)) {
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Task not found");
+    public ResponseEntity<Void> deleteTask(Long id, String ifMatch) {
+        Long expected = expectedVersion(id, ifMatch);
+        // the cached copy is what was deleted unless If-Match named another version
+        CachedTask before = cache.getIfPresent(id)
+                                 .filter(c -> expected == null || c.version() == expected)
+                                 .orElse(null);
+        if (repo.deleteIfVersion(id, expected) == 0) {
+            throw failedWrite(id);
         }
-        repo.deleteById(id);
+        cache.invalidate(id);
+        jsonCache.invalidate(id);
+        searchIndex.remove(id);
+        stats.deleted(before == null ? null : before.task());
+        changeFeed.publish(TaskChange.deleted(id));
         return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+}
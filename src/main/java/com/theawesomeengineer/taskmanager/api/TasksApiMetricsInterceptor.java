@@ -0,0 +1,65 @@
+package com.theawesomeengineer.taskmanager.api;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every {@link TasksApi} operation into {@value #METRIC}, tagged with the operation name
+ * and the outcome the client saw. It runs after exception handlers have set the status, so
+ * request validation failures, 404s and precondition failures get their own series instead of
+ * being folded into the successful ones.
+ * Histogram buckets and SLOs come from {@code management.metrics.distribution.*}.
+ */
+public class TasksApiMetricsInterceptor implements HandlerInterceptor {
+
+    static final String METRIC = "taskmanager.api.requests";
+    private static final String START = TasksApiMetricsInterceptor.class.getName() + ".start";
+
+    private final MeterRegistry registry;
+
+    public TasksApiMetricsInterceptor(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod method && TasksApi.class.isAssignableFrom(method.getBeanType())) {
+            request.setAttribute(START, System.nanoTime());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (!(request.getAttribute(START) instanceof Long start) || !(handler instanceof HandlerMethod method)) {
+            return;
+        }
+        Timer.builder(METRIC)
+             .description("Tasks API requests by operation and outcome")
+             .tag("operation", method.getMethod().getName())
+             .tag("outcome", outcome(response.getStatus(), ex))
+             .register(registry)
+             .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * {@code 2xx} / {@code 3xx} for success and not-modified, the exact code for client errors
+     * ({@code 400}, {@code 404}, {@code 412}, ...) and {@code 5xx} for server errors, including
+     * exceptions that escaped before a status was set.
+     */
+    static String outcome(int status, Exception ex) {
+        if (status >= 500 || (ex != null && status < 400)) {
+            return "5xx";
+        }
+        if (status >= 400) {
+            return String.valueOf(status);
+        }
+        return status >= 300 ? "3xx" : "2xx";
+    }
+}
@@ -0,0 +1,90 @@
+package com.theawesomeengineer.taskmanager.api;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.theawesomeengineer.taskmanager.model.Task;
+import com.theawesomeengineer.taskmanager.repository.TaskEntity;
+import com.theawesomeengineer.taskmanager.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * {@code GET /tasks} with {@code Accept: application/x-ndjson}: exports every task, one JSON
+ * object per line, straight from a database cursor to the response. Nothing is collected, so
+ * memory use is constant regardless of table size. Plain {@code application/json} requests are
+ * still served (paginated) by {@link TasksApiController}.
+ */
+@Controller
+@Profile("!reactive")
+@RequestMapping("${openapi.taskManager.base-path:}")
+public class TasksStreamController {
+
+    /** Rows written between explicit flushes of the response. */
+    private static final int FLUSH_EVERY = 1000;
+
+    private final TaskRepository repo;
+    private final EntityManager em;
+    private final ObjectWriter writer;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTx;
+
+    public TasksStreamController(TaskRepository repo, EntityManager em, ObjectMapper objectMapper,
+                                 PlatformTransactionManager txManager) {
+        this.repo = repo;
+        this.em = em;
+        this.objectMapper = objectMapper;
+        // flushing after every row would turn each task into its own socket write
+        this.writer = objectMapper.writerFor(Task.class)
+                                  .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.readOnlyTx = new TransactionTemplate(txManager);
+        this.readOnlyTx.setReadOnly(true);
+    }
+
+    @GetMapping(value = TasksApi.PATH_GET_ALL_TASKS, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllTasks() {
+        StreamingResponseBody body = out -> readOnlyTx.executeWithoutResult(status -> writeAll(out));
+        return ResponseEntity.ok()
+                             .contentType(MediaType.APPLICATION_NDJSON)
+                             .body(body);
+    }
+
+    private void writeAll(OutputStream out) {
+        try (Stream<TaskEntity> rows = repo.streamAll();
+             JsonGenerator gen = objectMapper.getFactory().createGenerator(out)) {
+            gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // lines are terminated explicitly below, not separated by Jackson's default space
+            gen.setRootValueSeparator(null);
+
+            Iterator<TaskEntity> it = rows.iterator();
+            int written = 0;
+            while (it.hasNext()) {
+                TaskEntity e = it.next();
+                writer.writeValue(gen, TasksApiDelegateImpl.map(e));
+                gen.writeRaw('\n');
+                // otherwise the persistence context keeps every row read so far
+                em.detach(e);
+                if (++written % FLUSH_EVERY == 0) {
+                    gen.flush();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.theawesomeengineer.taskmanager.cache;
+
+import com.theawesomeengineer.taskmanager.model.Task;
+
+/**
+ * A task as served to clients together with its row version, which the API body does not carry
+ * but its ETag is built from.
+ */
+public record CachedTask(Task task, long version) {
+
+    public Long id() {
+        return task.getId();
+    }
+}
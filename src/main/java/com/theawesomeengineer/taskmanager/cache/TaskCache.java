@@ -0,0 +1,68 @@
+package com.theawesomeengineer.taskmanager.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.theawesomeengineer.taskmanager.config.TaskmanagerProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Bounded read-through cache of tasks by id. Caffeine evicts by size with W-TinyLFU, so the ids
+ * that are polled constantly stay resident while one-off reads do not push them out, and by age
+ * so that anything a writer failed to refresh is eventually reloaded.
+ * <p>
+ * Writers keep it coherent by calling {@link #put} / {@link #invalidate} after their change is
+ * committed. A put that races with an in-flight load of the same id waits for the load and then
+ * overwrites it, so a stale row read just before the commit cannot outlive the refresh.
+ * Hit, miss and eviction counts are published as {@code cache.*} metrics with {@code cache=tasks}.
+ */
+@Component
+public class TaskCache {
+
+    private final Cache<Long, CachedTask> cache;
+
+    public TaskCache(TaskmanagerProperties properties, MeterRegistry registry) {
+        TaskmanagerProperties.Cache config = properties.getCache();
+        this.cache = Caffeine.newBuilder()
+                             .maximumSize(config.getMaximumSize())
+                             .expireAfterWrite(config.getTtl())
+                             .recordStats()
+                             .build();
+        CaffeineCacheMetrics.monitor(registry, cache, "tasks");
+    }
+
+    /**
+     * Returns the cached task, or loads it with {@code loader} (at most once per id concurrently).
+     * Missing tasks ({@code loader} returning null) are not cached.
+     */
+    public Optional<CachedTask> get(Long id, Function<Long, CachedTask> loader) {
+        return Optional.ofNullable(cache.get(id, loader));
+    }
+
+    /** Returns the cached task without loading it on a miss. */
+    public Optional<CachedTask> getIfPresent(Long id) {
+        return Optional.ofNullable(cache.getIfPresent(id));
+    }
+
+    public void put(CachedTask task) {
+        cache.put(task.id(), task);
+    }
+
+    /**
+     * Caches {@code task} unless a newer version of it is already cached. For writers, whose
+     * refreshes can land out of order when two of them update the same task, and for loads that
+     * cannot run inside {@link #get} (the reactive profile's non-blocking reads), so that a row
+     * read just before a concurrent write cannot replace the writer's refresh.
+     */
+    public void putIfNewer(CachedTask task) {
+        cache.asMap().merge(task.id(), task, (cached, loaded) -> loaded.version() > cached.version() ? loaded : cached);
+    }
+
+    public void invalidate(Long id) {
+        cache.invalidate(id);
+    }
+}
@@ -0,0 +1,81 @@
+package com.theawesomeengineer.taskmanager.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.theawesomeengineer.taskmanager.config.TaskmanagerProperties;
+import com.theawesomeengineer.taskmanager.model.Task;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Each task's JSON as the response converter writes it, so that a task read again while unchanged
+ * is copied into the response instead of serialized again. An entry is kept with the
+ * {@link Task} it was rendered from and only used for an equal one: a task's {@code updatedAt}
+ * moves on every write, so the first response after an update misses and replaces the entry, and
+ * no writer has to invalidate it for correctness. Deletes drop their entry to free the memory.
+ * <p>
+ * Entries are weighed by size and evicted with W-TinyLFU once {@code taskmanager.cache.json-maximum-size}
+ * is reached. Hits and misses are published as {@code cache.*} metrics with {@code cache=task-json}.
+ */
+@Component
+@Profile("!reactive")
+public class TaskJsonCache {
+
+    /** The bytes, plus the task they stand for; the JSON is a function of every field. */
+    private record Fragment(Task task, byte[] json) {
+
+        int weight() {
+            // the bytes and roughly as much again for the strings of the task
+            return 2 * json.length + 64;
+        }
+    }
+
+    private final Cache<Long, Fragment> fragments;
+    private final ObjectWriter writer;
+    private final boolean enabled;
+
+    public TaskJsonCache(TaskmanagerProperties properties, ObjectMapper mapper, MeterRegistry registry) {
+        long budget = properties.getCache().getJsonMaximumSize().toBytes();
+        this.fragments = Caffeine.newBuilder()
+                                 .maximumWeight(budget)
+                                 .<Long, Fragment>weigher((id, fragment) -> fragment.weight())
+                                 .recordStats()
+                                 .build();
+        this.writer = mapper.writerFor(Task.class);
+        this.enabled = budget > 0;
+        CaffeineCacheMetrics.monitor(registry, fragments, "task-json");
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /** {@code task} as JSON: the cached bytes if they were rendered from an equal task, otherwise fresh ones. */
+    public byte[] json(Task task) {
+        Fragment cached = fragments.getIfPresent(task.getId());
+        if (cached != null && (cached.task() == task || cached.task().equals(task))) {
+            return cached.json();
+        }
+        byte[] json = render(task);
+        fragments.put(task.getId(), new Fragment(task, json));
+        return json;
+    }
+
+    private byte[] render(Task task) {
+        try {
+            return writer.writeValueAsBytes(task);
+        } catch (JsonProcessingException e) {
+            throw new HttpMessageNotWritableException("Could not write JSON: " + e.getOriginalMessage(), e);
+        }
+    }
+
+    public void invalidate(Long id) {
+        fragments.invalidate(id);
+    }
+}
@@ -0,0 +1,70 @@
+package com.theawesomeengineer.taskmanager.cache;
+
+import com.theawesomeengineer.taskmanager.model.Task;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.util.List;
+
+/**
+ * Writes {@code Task} and {@code List<Task>} JSON bodies from {@link TaskJsonCache}, ahead of the
+ * Jackson converter. A list is assembled from the tasks' cached bytes, written one after another
+ * into the response's output buffer between {@code [}, {@code ,} and {@code ]}; its length is known
+ * up front, so it goes out with a {@code Content-Length}. Everything else, and every read, is
+ * left to Jackson.
+ */
+public class TaskJsonHttpMessageConverter extends WriteOnlyHttpMessageConverter<Object> {
+
+    private final TaskJsonCache cache;
+
+    public TaskJsonHttpMessageConverter(TaskJsonCache cache) {
+        super(MediaType.APPLICATION_JSON);
+        this.cache = cache;
+    }
+
+    private static boolean isTaskList(Type type) {
+        ResolvableType resolved = ResolvableType.forType(type);
+        return List.class.isAssignableFrom(resolved.toClass()) && resolved.getGeneric(0).toClass() == Task.class;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return clazz == Task.class;
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        return (type == Task.class || (type != null ? isTaskList(type) : clazz == Task.class)) && canWrite(mediaType);
+    }
+
+    @Override
+    protected void writeInternal(Object body, Type type, HttpOutputMessage outputMessage) throws IOException {
+        if (body instanceof Task task) {
+            byte[] json = cache.json(task);
+            outputMessage.getHeaders().setContentLength(json.length);
+            outputMessage.getBody().write(json);
+            return;
+        }
+        List<?> tasks = (List<?>) body;
+        byte[][] fragments = new byte[tasks.size()][];
+        long length = 2 + Math.max(0, tasks.size() - 1);
+        for (int i = 0; i < fragments.length; i++) {
+            fragments[i] = cache.json((Task) tasks.get(i));
+            length += fragments[i].length;
+        }
+        outputMessage.getHeaders().setContentLength(length);
+        OutputStream out = outputMessage.getBody();
+        out.write('[');
+        for (int i = 0; i < fragments.length; i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            out.write(fragments[i]);
+        }
+        out.write(']');
+    }
+}
@@ -0,0 +1,40 @@
+package com.theawesomeengineer.taskmanager.cache;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.lang.reflect.Type;
+
+/**
+ * A converter that only writes. It never claims a request body, so Spring moves on to the next
+ * converter for every read and the read methods here are unreachable; they are final so a
+ * subclass has nothing to stub.
+ */
+abstract class WriteOnlyHttpMessageConverter<T> extends AbstractGenericHttpMessageConverter<T> {
+
+    protected WriteOnlyHttpMessageConverter(MediaType... supportedMediaTypes) {
+        super(supportedMediaTypes);
+    }
+
+    @Override
+    public final boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public final boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public final T read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException(getClass().getSimpleName() + " does not read", inputMessage);
+    }
+
+    @Override
+    protected final T readInternal(Class<? extends T> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException(getClass().getSimpleName() + " does not read", inputMessage);
+    }
+}
@@ -0,0 +1,32 @@
+package com.theawesomeengineer.taskmanager.changes;
+
+import com.theawesomeengineer.taskmanager.model.Task;
+
+/**
+ * Payload of one change-feed event. {@code task} is the task as it is now for {@code created} and
+ * {@code updated}, and null for {@code deleted}. A {@code reset} carries neither id nor task: it
+ * tells the client it may have missed changes and should re-read what it displays.
+ */
+public record TaskChange(String type, Long id, Task task) {
+
+    public static final String CREATED = "created";
+    public static final String UPDATED = "updated";
+    public static final String DELETED = "deleted";
+    public static final String RESET = "reset";
+
+    public static TaskChange created(Task task) {
+        return new TaskChange(CREATED, task.getId(), task);
+    }
+
+    public static TaskChange updated(Task task) {
+        return new TaskChange(UPDATED, task.getId(), task);
+    }
+
+    public static TaskChange deleted(long id) {
+        return new TaskChange(DELETED, id, null);
+    }
+
+    public static TaskChange reset() {
+        return new TaskChange(RESET, null, null);
+    }
+}
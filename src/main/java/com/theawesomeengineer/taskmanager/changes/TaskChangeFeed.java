@@ -0,0 +1,175 @@
+package com.theawesomeengineer.taskmanager.changes;
+
+import com.theawesomeengineer.taskmanager.config.TaskmanagerProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * The last {@code taskmanager.changes.buffer-size} task changes made through this instance, in a
+ * ring buffer numbered by a sequence. Subscribers keep their own position and read the ring at
+ * their own pace. Writers only append and wake them; they never wait for a subscriber. A
+ * subscriber that falls so far behind that its position has been overwritten is told to
+ * {@link TaskChange#RESET reset} and dropped.
+ * <p>
+ * Event ids are {@code <instance>-<sequence>}. The instance part changes on every start, so an id
+ * from before a restart, or from another replica, can never be mistaken for a position here.
+ */
+@Component
+public class TaskChangeFeed {
+
+    /** A change and its position in the feed. */
+    public record Event(long sequence, TaskChange change) {
+    }
+
+    private final String instance = Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
+    private final Event[] ring;
+    private final int maxSubscribers;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ReentrantLock signalLock = new ReentrantLock();
+    private final Condition published = signalLock.newCondition();
+    private final Sinks.Many<Long> ticks = Sinks.many().multicast().directBestEffort();
+    private final AtomicInteger subscribers = new AtomicInteger();
+    private final Counter dropped;
+    private volatile long head;
+
+    public TaskChangeFeed(TaskmanagerProperties properties, MeterRegistry registry) {
+        TaskmanagerProperties.Changes config = properties.getChanges();
+        this.ring = new Event[config.getBufferSize()];
+        this.maxSubscribers = config.getMaxSubscribers();
+        Gauge.builder("taskmanager.changes.subscribers", subscribers, AtomicInteger::get)
+             .description("Open change-feed connections")
+             .register(registry);
+        this.dropped = Counter.builder("taskmanager.changes.dropped")
+                              .description("Change-feed subscribers dropped for falling behind")
+                              .register(registry);
+    }
+
+    public void publish(TaskChange change) {
+        long sequence;
+        lock.writeLock().lock();
+        try {
+            sequence = head + 1;
+            ring[(int) (sequence % ring.length)] = new Event(sequence, change);
+            head = sequence;
+            // emitted under the lock: the sink must not be signalled concurrently
+            ticks.tryEmitNext(sequence);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        signalLock.lock();
+        try {
+            published.signalAll();
+        } finally {
+            signalLock.unlock();
+        }
+    }
+
+    /** Sequence of the latest change; 0 before the first. */
+    public long head() {
+        return head;
+    }
+
+    /**
+     * The position to resume after for a client's {@code Last-Event-ID}, or -1 when it names no
+     * position this instance can serve (absent, malformed, from another instance, or too old), in
+     * which case the client has to start with a reset.
+     */
+    public long resumeFrom(String lastEventId) {
+        if (lastEventId == null) {
+            return head;
+        }
+        int dash = lastEventId.lastIndexOf('-');
+        if (dash <= 0 || !lastEventId.substring(0, dash).equals(instance)) {
+            return -1;
+        }
+        long sequence;
+        try {
+            sequence = Long.parseLong(lastEventId.substring(dash + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+        lock.readLock().lock();
+        try {
+            return sequence > head || sequence < head - ring.length ? -1 : sequence;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * The changes after position {@code after}, oldest first; empty when there are none yet, and
+     * null when some of them have already been overwritten.
+     */
+    public List<Event> since(long after) {
+        lock.readLock().lock();
+        try {
+            if (after > head || after < head - ring.length) {
+                return null;
+            }
+            List<Event> events = new ArrayList<>((int) (head - after));
+            for (long sequence = after + 1; sequence <= head; sequence++) {
+                events.add(ring[(int) (sequence % ring.length)]);
+            }
+            return events;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Blocks until a change after {@code after} exists; false if {@code timeout} passed first. */
+    public boolean awaitAfter(long after, Duration timeout) throws InterruptedException {
+        long nanos = timeout.toNanos();
+        signalLock.lock();
+        try {
+            while (head <= after) {
+                if (nanos <= 0) {
+                    return false;
+                }
+                nanos = published.awaitNanos(nanos);
+            }
+            return true;
+        } finally {
+            signalLock.unlock();
+        }
+    }
+
+    /** The sequence of every change as it is published, for non-blocking subscribers. */
+    public Flux<Long> published() {
+        return ticks.asFlux();
+    }
+
+    public String eventId(long sequence) {
+        return instance + "-" + sequence;
+    }
+
+    /** Claims a subscriber slot; false when {@code taskmanager.changes.max-subscribers} are open. */
+    public boolean subscribe() {
+        if (subscribers.incrementAndGet() > maxSubscribers) {
+            subscribers.decrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    public void unsubscribe() {
+        subscribers.decrementAndGet();
+    }
+
+    /** Records that a subscriber was dropped for falling behind. */
+    public void dropped() {
+        dropped.increment();
+    }
+}
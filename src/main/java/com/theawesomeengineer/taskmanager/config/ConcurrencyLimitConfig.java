@@ -0,0 +1,30 @@
+package com.theawesomeengineer.taskmanager.config;
+
+import com.theawesomeengineer.taskmanager.limiter.ConcurrencyLimitFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+
+/**
+ * Puts the {@link ConcurrencyLimitFilter} in front of the Tasks API unless
+ * {@code taskmanager.concurrency-limit.enabled=false}. It runs right after the {@code Server-Timing}
+ * filter, so a shed request costs as little as possible.
+ */
+@Configuration(proxyBeanMethods = false)
+@Profile("!reactive")
+public class ConcurrencyLimitConfig {
+
+    @Bean
+    FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(TaskmanagerProperties properties,
+                                                                          MeterRegistry registry) {
+        TaskmanagerProperties.ConcurrencyLimit settings = properties.getConcurrencyLimit();
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration =
+                new FilterRegistrationBean<>(new ConcurrencyLimitFilter(settings, registry));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        registration.setEnabled(settings.isEnabled());
+        return registration;
+    }
+}
@@ -0,0 +1,419 @@
+package com.theawesomeengineer.taskmanager.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.CallableStatement;
+import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.NClob;
+import java.sql.PreparedStatement;
+import java.sql.SQLClientInfoException;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.SQLWarning;
+import java.sql.SQLXML;
+import java.sql.Savepoint;
+import java.sql.Statement;
+import java.sql.Struct;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Lets at most {@code permits} connections be checked out at once. Callers past that wait on a
+ * fair semaphore, so with virtual threads thousands of requests queue here in arrival order,
+ * and their wait is timed, instead of all spinning in the pool's own hand-off. The permit is
+ * returned when the connection is closed. Only worth its cost under the {@code vthreads} profile,
+ * which is the only one that turns it on: a bounded thread pool already caps concurrent checkouts.
+ */
+public class ConcurrencyLimitedDataSource extends DelegatingDataSource {
+
+    private final Semaphore semaphore;
+    private final int permits;
+    private final Duration acquireTimeout;
+    private final Timer waitTimer;
+
+    public ConcurrencyLimitedDataSource(DataSource target, int permits, Duration acquireTimeout, MeterRegistry registry) {
+        super(target);
+        this.semaphore = new Semaphore(permits, true);
+        this.permits = permits;
+        this.acquireTimeout = acquireTimeout;
+        this.waitTimer = Timer.builder("taskmanager.db.permit.wait")
+                .description("Time spent queued for a database permit")
+                .publishPercentiles(0.5, 0.99, 0.999)
+                .register(registry);
+        Gauge.builder("taskmanager.db.permit.waiting", semaphore, Semaphore::getQueueLength)
+                .description("Threads queued for a database permit")
+                .register(registry);
+        Gauge.builder("taskmanager.db.permit.active", this, ConcurrencyLimitedDataSource::active)
+                .description("Database permits currently held")
+                .register(registry);
+    }
+
+    public int getPermits() {
+        return permits;
+    }
+
+    int active() {
+        return permits - semaphore.availablePermits();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return releasingOnClose(obtainTargetDataSource().getConnection());
+        } catch (SQLException | RuntimeException e) {
+            semaphore.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return releasingOnClose(obtainTargetDataSource().getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            semaphore.release();
+            throw e;
+        }
+    }
+
+    private void acquire() throws SQLException {
+        long start = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = semaphore.tryAcquire(acquireTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a database permit", e);
+        } finally {
+            waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        if (!acquired) {
+            throw new SQLTransientConnectionException("No database permit available within " + acquireTimeout);
+        }
+    }
+
+    private Connection releasingOnClose(Connection target) {
+        return new PermitConnection(target);
+    }
+
+    /**
+     * The pooled connection with a {@link #close} that also gives the permit back; every other
+     * method is a plain call to the target.
+     */
+    private final class PermitConnection implements Connection {
+
+        private final Connection target;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        PermitConnection(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public void close() throws SQLException {
+            try {
+                target.close();
+            } finally {
+                // Closing twice is legal JDBC; only the first close gives the permit back.
+                if (released.compareAndSet(false, true)) {
+                    semaphore.release();
+                }
+            }
+        }
+
+        @Override
+        public boolean isClosed() throws SQLException {
+            return target.isClosed();
+        }
+
+        @Override
+        public Statement createStatement() throws SQLException {
+            return target.createStatement();
+        }
+
+        @Override
+        public Statement createStatement(int resultSetType, int resultSetConcurrency) throws SQLException {
+            return target.createStatement(resultSetType, resultSetConcurrency);
+        }
+
+        @Override
+        public Statement createStatement(int resultSetType, int resultSetConcurrency, int resultSetHoldability)
+                throws SQLException {
+            return target.createStatement(resultSetType, resultSetConcurrency, resultSetHoldability);
+        }
+
+        @Override
+        public PreparedStatement prepareStatement(String sql) throws SQLException {
+            return target.prepareStatement(sql);
+        }
+
+        @Override
+        public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency)
+                throws SQLException {
+            return target.prepareStatement(sql, resultSetType, resultSetConcurrency);
+        }
+
+        @Override
+        public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency,
+                                                  int resultSetHoldability) throws SQLException {
+            return target.prepareStatement(sql, resultSetType, resultSetConcurrency, resultSetHoldability);
+        }
+
+        @Override
+        public PreparedStatement prepareStatement(String sql, int autoGeneratedKeys) throws SQLException {
+            return target.prepareStatement(sql, autoGeneratedKeys);
+        }
+
+        @Override
+        public PreparedStatement prepareStatement(String sql, int[] columnIndexes) throws SQLException {
+            return target.prepareStatement(sql, columnIndexes);
+        }
+
+        @Override
+        public PreparedStatement prepareStatement(String sql, String[] columnNames) throws SQLException {
+            return target.prepareStatement(sql, columnNames);
+        }
+
+        @Override
+        public CallableStatement prepareCall(String sql) throws SQLException {
+            return target.prepareCall(sql);
+        }
+
+        @Override
+        public CallableStatement prepareCall(String sql, int resultSetType, int resultSetConcurrency)
+                throws SQLException {
+            return target.prepareCall(sql, resultSetType, resultSetConcurrency);
+        }
+
+        @Override
+        public CallableStatement prepareCall(String sql, int resultSetType, int resultSetConcurrency,
+                                             int resultSetHoldability) throws SQLException {
+            return target.prepareCall(sql, resultSetType, resultSetConcurrency, resultSetHoldability);
+        }
+
+        @Override
+        public String nativeSQL(String sql) throws SQLException {
+            return target.nativeSQL(sql);
+        }
+
+        @Override
+        public void setAutoCommit(boolean autoCommit) throws SQLException {
+            target.setAutoCommit(autoCommit);
+        }
+
+        @Override
+        public boolean getAutoCommit() throws SQLException {
+            return target.getAutoCommit();
+        }
+
+        @Override
+        public void commit() throws SQLException {
+            target.commit();
+        }
+
+        @Override
+        public void rollback() throws SQLException {
+            target.rollback();
+        }
+
+        @Override
+        public void rollback(Savepoint savepoint) throws SQLException {
+            target.rollback(savepoint);
+        }
+
+        @Override
+        public Savepoint setSavepoint() throws SQLException {
+            return target.setSavepoint();
+        }
+
+        @Override
+        public Savepoint setSavepoint(String name) throws SQLException {
+            return target.setSavepoint(name);
+        }
+
+        @Override
+        public void releaseSavepoint(Savepoint savepoint) throws SQLException {
+            target.releaseSavepoint(savepoint);
+        }
+
+        @Override
+        public DatabaseMetaData getMetaData() throws SQLException {
+            return target.getMetaData();
+        }
+
+        @Override
+        public void setReadOnly(boolean readOnly) throws SQLException {
+            target.setReadOnly(readOnly);
+        }
+
+        @Override
+        public boolean isReadOnly() throws SQLException {
+            return target.isReadOnly();
+        }
+
+        @Override
+        public void setCatalog(String catalog) throws SQLException {
+            target.setCatalog(catalog);
+        }
+
+        @Override
+        public String getCatalog() throws SQLException {
+            return target.getCatalog();
+        }
+
+        @Override
+        public void setSchema(String schema) throws SQLException {
+            target.setSchema(schema);
+        }
+
+        @Override
+        public String getSchema() throws SQLException {
+            return target.getSchema();
+        }
+
+        @Override
+        public void setTransactionIsolation(int level) throws SQLException {
+            target.setTransactionIsolation(level);
+        }
+
+        @Override
+        public int getTransactionIsolation() throws SQLException {
+            return target.getTransactionIsolation();
+        }
+
+        @Override
+        public SQLWarning getWarnings() throws SQLException {
+            return target.getWarnings();
+        }
+
+        @Override
+        public void clearWarnings() throws SQLException {
+            target.clearWarnings();
+        }
+
+        @Override
+        public Map<String, Class<?>> getTypeMap() throws SQLException {
+            return target.getTypeMap();
+        }
+
+        @Override
+        public void setTypeMap(Map<String, Class<?>> map) throws SQLException {
+            target.setTypeMap(map);
+        }
+
+        @Override
+        public void setHoldability(int holdability) throws SQLException {
+            target.setHoldability(holdability);
+        }
+
+        @Override
+        public int getHoldability() throws SQLException {
+            return target.getHoldability();
+        }
+
+        @Override
+        public Clob createClob() throws SQLException {
+            return target.createClob();
+        }
+
+        @Override
+        public Blob createBlob() throws SQLException {
+            return target.createBlob();
+        }
+
+        @Override
+        public NClob createNClob() throws SQLException {
+            return target.createNClob();
+        }
+
+        @Override
+        public SQLXML createSQLXML() throws SQLException {
+            return target.createSQLXML();
+        }
+
+        @Override
+        public Array createArrayOf(String typeName, Object[] elements) throws SQLException {
+            return target.createArrayOf(typeName, elements);
+        }
+
+        @Override
+        public Struct createStruct(String typeName, Object[] attributes) throws SQLException {
+            return target.createStruct(typeName, attributes);
+        }
+
+        @Override
+        public boolean isValid(int timeout) throws SQLException {
+            return target.isValid(timeout);
+        }
+
+        @Override
+        public void setClientInfo(String name, String value) throws SQLClientInfoException {
+            target.setClientInfo(name, value);
+        }
+
+        @Override
+        public void setClientInfo(Properties properties) throws SQLClientInfoException {
+            target.setClientInfo(properties);
+        }
+
+        @Override
+        public String getClientInfo(String name) throws SQLException {
+            return target.getClientInfo(name);
+        }
+
+        @Override
+        public Properties getClientInfo() throws SQLException {
+            return target.getClientInfo();
+        }
+
+        @Override
+        public void abort(Executor executor) throws SQLException {
+            target.abort(executor);
+        }
+
+        @Override
+        public void setNetworkTimeout(Executor executor, int milliseconds) throws SQLException {
+            target.setNetworkTimeout(executor, milliseconds);
+        }
+
+        @Override
+        public int getNetworkTimeout() throws SQLException {
+            return target.getNetworkTimeout();
+        }
+
+        @Override
+        public void beginRequest() throws SQLException {
+            target.beginRequest();
+        }
+
+        @Override
+        public void endRequest() throws SQLException {
+            target.endRequest();
+        }
+
+        @Override
+        public <T> T unwrap(Class<T> iface) throws SQLException {
+            return iface.isInstance(this) ? iface.cast(this) : target.unwrap(iface);
+        }
+
+        @Override
+        public boolean isWrapperFor(Class<?> iface) throws SQLException {
+            return iface.isInstance(this) || target.isWrapperFor(iface);
+        }
+    }
+}
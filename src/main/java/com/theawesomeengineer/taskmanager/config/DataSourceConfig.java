@@ -0,0 +1,107 @@
+package com.theawesomeengineer.taskmanager.config;
+
+import com.theawesomeengineer.taskmanager.replica.ReadReplicas;
+import com.theawesomeengineer.taskmanager.replica.ReadRoutingFilter;
+import com.theawesomeengineer.taskmanager.repository.TaskIdGenerator;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Wraps the auto-configured Hikari pool in a {@link ConcurrencyLimitedDataSource} when
+ * {@code taskmanager.db.limit-concurrency=true} (set by the {@code vthreads} profile), and, when {@code taskmanager.replicas.instances}
+ * are configured, routes read-only transactions to them (see {@link ReadReplicas}). Id blocks drawn
+ * from a table-backed {@code tasks_seq} get a pool of their own (see {@link TaskIdGenerator}).
+ */
+@Configuration(proxyBeanMethods = false)
+public class DataSourceConfig {
+
+    @Bean
+    static BeanPostProcessor dataSourcePostProcessor(ObjectProvider<TaskmanagerProperties> properties,
+                                                      ObjectProvider<MeterRegistry> registry,
+                                                      ObjectProvider<ReadReplicas> replicas) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof HikariDataSource hikari)) {
+                    return bean;
+                }
+                DataSource primary = hikari;
+                TaskmanagerProperties.Db db = properties.getObject().getDb();
+                if (db.isLimitConcurrency()) {
+                    int permits = db.getMaxConcurrency() > 0 ? db.getMaxConcurrency() : hikari.getMaximumPoolSize();
+                    primary = new ConcurrencyLimitedDataSource(hikari, permits, db.getAcquireTimeout(), registry.getObject());
+                }
+                ReadReplicas readReplicas = replicas.getIfAvailable();
+                return readReplicas != null && readReplicas.isEnabled() ? readReplicas.routing(primary) : primary;
+            }
+        };
+    }
+
+    @Bean
+    @Profile("!reactive")
+    TaskIdConnections taskIdConnections(JdbcConnectionDetails connection, MeterRegistry registry) {
+        return new TaskIdConnections(connection, registry);
+    }
+
+    @Bean(destroyMethod = "close")
+    @Profile("!reactive")
+    ReadReplicas readReplicas(TaskmanagerProperties properties, MeterRegistry registry) {
+        return ReadReplicas.create(properties.getReplicas(), registry);
+    }
+
+    @Bean
+    @Profile("!reactive")
+    FilterRegistrationBean<ReadRoutingFilter> readRoutingFilter(TaskmanagerProperties properties, ReadReplicas replicas) {
+        FilterRegistrationBean<ReadRoutingFilter> registration =
+                new FilterRegistrationBean<>(new ReadRoutingFilter(properties.getReplicas().getClientHeader()));
+        registration.setEnabled(replicas.isEnabled());
+        return registration;
+    }
+
+    /**
+     * A single connection to the primary, outside Hikari's request pool and the
+     * {@code taskmanager.db} permits, handed to {@link TaskIdGenerator}. The pool only starts on
+     * the first block drawn, so databases with real sequences never open it.
+     */
+    static final class TaskIdConnections implements HibernatePropertiesCustomizer, AutoCloseable {
+
+        private final HikariDataSource pool;
+
+        TaskIdConnections(JdbcConnectionDetails connection, MeterRegistry registry) {
+            pool = DataSourceBuilder.create()
+                                    .type(HikariDataSource.class)
+                                    .driverClassName(connection.getDriverClassName())
+                                    .url(connection.getJdbcUrl())
+                                    .username(connection.getUsername())
+                                    .password(connection.getPassword())
+                                    .build();
+            pool.setPoolName("task-ids");
+            // blocks are drawn one at a time, under the optimizer's lock
+            pool.setMaximumPoolSize(1);
+            pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+        }
+
+        @Override
+        public void customize(Map<String, Object> hibernateProperties) {
+            hibernateProperties.put(TaskIdGenerator.CONNECTIONS, pool);
+        }
+
+        @Override
+        public void close() {
+            pool.close();
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.theawesomeengineer.taskmanager.config;
+
+import com.theawesomeengineer.taskmanager.api.TasksApiMetricsInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Per-operation request timers for the servlet stack. Repository calls
+ * ({@code spring.data.repository.invocations}) and Hikari connection acquisition
+ * ({@code hikaricp.connections.acquire}) are timed by Spring Boot's own auto-configuration.
+ */
+@Configuration(proxyBeanMethods = false)
+@Profile("!reactive")
+public class MetricsConfig implements WebMvcConfigurer {
+
+    private final MeterRegistry registry;
+
+    public MetricsConfig(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry interceptors) {
+        interceptors.addInterceptor(new TasksApiMetricsInterceptor(registry));
+    }
+}
@@ -0,0 +1,21 @@
+package com.theawesomeengineer.taskmanager.config;
+
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Settings for the {@code reactive} profile. Tomcat stays on the classpath for the default
+ * servlet mode and Boot would otherwise prefer it for WebFlux too; Netty's event loop is the
+ * better fit for many mostly-idle connections.
+ */
+@Configuration(proxyBeanMethods = false)
+@Profile("reactive")
+public class ReactiveConfig {
+
+    @Bean
+    NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+}
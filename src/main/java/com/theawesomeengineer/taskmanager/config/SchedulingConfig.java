@@ -0,0 +1,14 @@
+package com.theawesomeengineer.taskmanager.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Turns on Spring's scheduler for periodic housekeeping such as the task statistics
+ * reconciliation. Jobs register themselves as {@code SchedulingConfigurer}s so their intervals
+ * can come from {@link TaskmanagerProperties}.
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableScheduling
+public class SchedulingConfig {
+}
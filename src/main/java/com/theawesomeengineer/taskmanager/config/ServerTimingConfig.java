@@ -0,0 +1,62 @@
+package com.theawesomeengineer.taskmanager.config;
+
+import com.theawesomeengineer.taskmanager.timing.ServerTimingFilter;
+import com.theawesomeengineer.taskmanager.timing.ServerTimingInterceptor;
+import com.theawesomeengineer.taskmanager.timing.SqlAccounting;
+import com.theawesomeengineer.taskmanager.timing.SqlTimingListener;
+import com.theawesomeengineer.taskmanager.timing.TimingValidator;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.validation.Validator;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Wires the {@code Server-Timing} hooks (see {@link com.theawesomeengineer.taskmanager.timing.RequestTiming}):
+ * the filter, the handler interceptor, a timing wrapper around the MVC validator and the
+ * Hibernate statement inspector, interceptor and session listener.
+ */
+@Configuration(proxyBeanMethods = false)
+@Profile("!reactive")
+public class ServerTimingConfig implements WebMvcConfigurer {
+
+    private final jakarta.validation.Validator validator;
+
+    public ServerTimingConfig(jakarta.validation.Validator validator) {
+        this.validator = validator;
+    }
+
+    @Bean
+    FilterRegistrationBean<ServerTimingFilter> serverTimingFilter(TaskmanagerProperties properties) {
+        FilterRegistrationBean<ServerTimingFilter> registration =
+                new FilterRegistrationBean<>(new ServerTimingFilter(properties.getServerTiming()));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Bean
+    HibernatePropertiesCustomizer sqlAccountingCustomizer() {
+        SqlAccounting accounting = new SqlAccounting();
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, accounting);
+            hibernateProperties.put(AvailableSettings.INTERCEPTOR, accounting);
+            hibernateProperties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, SqlTimingListener.class.getName());
+        };
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry interceptors) {
+        interceptors.addInterceptor(new ServerTimingInterceptor());
+    }
+
+    @Override
+    public Validator getValidator() {
+        return new TimingValidator(new SpringValidatorAdapter(validator));
+    }
+}
@@ -0,0 +1,39 @@
+package com.theawesomeengineer.taskmanager.config;
+
+import com.theawesomeengineer.taskmanager.cache.TaskJsonCache;
+import com.theawesomeengineer.taskmanager.cache.TaskJsonHttpMessageConverter;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Puts the {@link TaskJsonHttpMessageConverter} just before the Jackson JSON converter, so it
+ * answers for the task bodies it supports and Jackson for everything else.
+ */
+@Configuration(proxyBeanMethods = false)
+@Profile("!reactive")
+public class TaskJsonCacheConfig implements WebMvcConfigurer {
+
+    private final TaskJsonCache cache;
+
+    public TaskJsonCacheConfig(TaskJsonCache cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        if (!cache.isEnabled()) {
+            return;
+        }
+        for (int i = 0; i < converters.size(); i++) {
+            if (converters.get(i) instanceof MappingJackson2HttpMessageConverter) {
+                converters.add(i, new TaskJsonHttpMessageConverter(cache));
+                return;
+            }
+        }
+    }
+}
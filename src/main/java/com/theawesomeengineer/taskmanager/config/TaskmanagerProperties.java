@@ -0,0 +1,216 @@
+package com.theawesomeengineer.taskmanager.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Application settings bound from {@code taskmanager.*} properties.
+ */
+@Data
+@ConfigurationProperties(prefix = "taskmanager")
+public class TaskmanagerProperties {
+
+    private Page page = new Page();
+
+    private Batch batch = new Batch();
+
+    private Bulk bulk = new Bulk();
+
+    private Cache cache = new Cache();
+
+    private Db db = new Db();
+
+    private ServerTiming serverTiming = new ServerTiming();
+
+    private Search search = new Search();
+
+    private Stats stats = new Stats();
+
+    private Changes changes = new Changes();
+
+    private Sync sync = new Sync();
+
+    private WriteBehind writeBehind = new WriteBehind();
+
+    private Idempotency idempotency = new Idempotency();
+
+    private Replicas replicas = new Replicas();
+
+    private ConcurrencyLimit concurrencyLimit = new ConcurrencyLimit();
+
+    @Data
+    public static class Page {
+        /** Page size used by {@code GET /tasks} when the client sends no {@code limit}. */
+        private int defaultLimit = 100;
+        /** Upper bound on {@code limit}, whatever the client asks for. */
+        private int maxLimit = 1000;
+    }
+
+    @Data
+    public static class Batch {
+        /** Largest array accepted by {@code POST /tasks:batch}. */
+        private int maxSize = 1000;
+    }
+
+    @Data
+    public static class Bulk {
+        /** Width of the id range touched by each UPDATE/DELETE statement (and transaction). */
+        private int chunkSize = 1000;
+        /** Most ids accepted in a bulk filter's {@code ids} list. */
+        private int maxIds = 1000;
+    }
+
+    @Data
+    public static class Cache {
+        /** Most tasks kept by the {@code getTaskById} cache. */
+        private long maximumSize = 10_000;
+        /** Age after which a cached task is reloaded from the database. */
+        private Duration ttl = Duration.ofMinutes(5);
+        /**
+         * Memory for tasks' serialized JSON, reused by responses while the task is unchanged;
+         * 0 turns the JSON cache off.
+         */
+        private DataSize jsonMaximumSize = DataSize.ofMegabytes(64);
+    }
+
+    @Data
+    public static class Db {
+        /** Queue callers for a permit before they reach the connection pool; the {@code vthreads} profile turns this on. */
+        private boolean limitConcurrency = false;
+        /** Connections allowed out at once; 0 means the Hikari {@code maximum-pool-size}. */
+        private int maxConcurrency = 0;
+        /** How long a caller waits for a permit before the request fails. */
+        private Duration acquireTimeout = Duration.ofSeconds(30);
+    }
+
+    @Data
+    public static class ServerTiming {
+        /** Add {@code Server-Timing} to every {@code /tasks} response. */
+        private boolean enabled = false;
+        /** Request header that turns timing on for one request; blank disables it. */
+        private String debugHeader = "X-Debug-Timing";
+    }
+
+    @Data
+    public static class Search {
+        /** Keep the in-memory full-text index behind {@code GET /tasks/search}. */
+        private boolean enabled = true;
+        /** Hits returned when the client sends no {@code limit}. */
+        private int defaultLimit = 20;
+        /** Upper bound on {@code limit}, whatever the client asks for. */
+        private int maxLimit = 100;
+    }
+
+    @Data
+    public static class Stats {
+        /** How often the in-memory task counts are checked against the database. */
+        private Duration reconcileInterval = Duration.ofMinutes(1);
+    }
+
+    @Data
+    public static class Changes {
+        /** Changes kept for {@code GET /tasks/changes} subscribers to catch up from. */
+        private int bufferSize = 10000;
+        /** Open change-feed connections allowed; further ones get 503. */
+        private int maxSubscribers = 10000;
+        /** Idle time after which a keep-alive comment is sent to each subscriber. */
+        private Duration heartbeat = Duration.ofSeconds(15);
+    }
+
+    @Data
+    public static class Sync {
+        /**
+         * How old a write must be before delta sync reports it. Timestamps are taken before the
+         * commit, so a just-committed write can carry a time older than one already reported.
+         */
+        private Duration settleTime = Duration.ofSeconds(2);
+        /** How long deletions are kept for delta sync; older sync tokens get 410. */
+        private Duration tombstoneRetention = Duration.ofDays(30);
+        /** How often tombstones past the retention are deleted. */
+        private Duration compactionInterval = Duration.ofHours(1);
+    }
+
+    @Data
+    public static class WriteBehind {
+        /** Honour {@code Prefer: respond-async} on {@code POST /tasks}; otherwise it is ignored. */
+        private boolean enabled = false;
+        /** Tasks accepted but not yet written; further async creates get 429. */
+        private int queueCapacity = 10000;
+        /** Most tasks inserted per transaction by the background writer. */
+        private int batchSize = 1000;
+        /** Local file holding accepted tasks until they are written, replayed on start-up. */
+        private Path journal = Path.of("write-behind.journal");
+        /** Pause before a batch that failed transiently is tried again; doubles with each attempt. */
+        private Duration retryDelay = Duration.ofSeconds(1);
+        /** Longest pause between attempts at a batch. */
+        private Duration maxRetryDelay = Duration.ofSeconds(30);
+        /** Attempts at a batch failing transiently before it is split in halves. */
+        private int maxAttempts = 5;
+        /** Local file receiving, one JSON line each, the tasks the database refuses for good. */
+        private Path deadLetter = Path.of("write-behind.dead-letter");
+    }
+
+    @Data
+    public static class Idempotency {
+        /** Most {@code Idempotency-Key} responses kept. */
+        private long maximumSize = 100_000;
+        /** How long a key's response is kept for retries to replay. */
+        private Duration ttl = Duration.ofHours(24);
+        /** How long a request waits on another one with the same key before getting 409. */
+        private Duration waitTimeout = Duration.ofSeconds(30);
+    }
+
+    @Data
+    public static class Replicas {
+        /** Read replicas of the primary; none means every query goes to {@code spring.datasource}. */
+        private List<Instance> instances = new ArrayList<>();
+        /** Replicas further behind the primary than this are left out of the rotation. */
+        private Duration maxLag = Duration.ofSeconds(2);
+        /** How often each replica is probed for reachability and lag. */
+        private Duration checkInterval = Duration.ofSeconds(2);
+        /**
+         * Query run on a replica to measure its lag in seconds: its {@code Seconds_Behind_Source}
+         * column, or else its first one. No row, or NULL, means it is not replicating.
+         */
+        private String lagQuery = "SHOW REPLICA STATUS";
+        /** How long a read waits for a replica connection before trying the next replica. */
+        private Duration connectionTimeout = Duration.ofSeconds(1);
+        /** How long a client's reads stay on the primary after it wrote. */
+        private Duration stickiness = Duration.ofSeconds(10);
+        /** Request header naming the client for read-your-writes; its remote address when absent. */
+        private String clientHeader = "X-Client-Id";
+
+        @Data
+        public static class Instance {
+            private String url;
+            private String username;
+            private String password;
+            /** Connections kept to this replica. */
+            private int maximumPoolSize = 10;
+        }
+    }
+
+    @Data
+    public static class ConcurrencyLimit {
+        /** Shed {@code /tasks} requests past an adaptive concurrency limit with 503. */
+        private boolean enabled = true;
+        /** Limit before any latency has been observed. */
+        private int initialLimit = 100;
+        /** The limit never drops below this, however slow requests get. */
+        private int minLimit = 20;
+        /** The limit never grows past this, however fast requests are. */
+        private int maxLimit = 1000;
+        /** Share of the limit that lists, searches and other sheddable reads may take up. */
+        private double sheddableShare = 0.8;
+        /** How much slower than their long-run average requests may get before the limit shrinks. */
+        private double tolerance = 1.5;
+        /** {@code Retry-After} sent with a shed request. */
+        private Duration retryAfter = Duration.ofSeconds(1);
+    }
+}
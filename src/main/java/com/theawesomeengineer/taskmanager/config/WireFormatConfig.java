@@ -0,0 +1,102 @@
+package com.theawesomeengineer.taskmanager.config;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.theawesomeengineer.taskmanager.wire.CollectingEncoder;
+import com.theawesomeengineer.taskmanager.wire.ProtobufTaskDecoder;
+import com.theawesomeengineer.taskmanager.wire.ProtobufTaskEncoder;
+import com.theawesomeengineer.taskmanager.wire.ProtobufTaskHttpMessageConverter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.http.codec.cbor.Jackson2CborEncoder;
+import org.springframework.http.codec.json.Jackson2SmileDecoder;
+import org.springframework.http.codec.json.Jackson2SmileEncoder;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.util.MimeType;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Binary bodies next to JSON: CBOR ({@code application/cbor}), Smile
+ * ({@code application/x-jackson-smile}) and Protobuf ({@code application/x-protobuf}, see
+ * {@link com.theawesomeengineer.taskmanager.wire.TaskProtobuf}). JSON stays the default because
+ * it comes first in every endpoint's {@code produces}; the others are picked by {@code Accept}
+ * and {@code Content-Type}.
+ * <p>
+ * CBOR and Smile use Boot's Jackson settings and modules, except that dates are written as epoch
+ * timestamps (seconds with a nanosecond fraction) rather than ISO strings.
+ */
+@Configuration(proxyBeanMethods = false)
+public class WireFormatConfig {
+
+    static ObjectMapper binaryObjectMapper(Jackson2ObjectMapperBuilder builder, JsonFactory factory) {
+        return builder.factory(factory)
+                      .featuresToEnable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                      .build();
+    }
+
+    /**
+     * Spring MVC lists CBOR and Smile converters by default, after JSON; these beans replace them
+     * in place with ones built from Boot's settings. Protobuf goes last.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @Profile("!reactive")
+    static class Servlet implements WebMvcConfigurer {
+
+        @Bean
+        MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+            return new MappingJackson2CborHttpMessageConverter(binaryObjectMapper(builder, new CBORFactory()));
+        }
+
+        @Bean
+        MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+            return new MappingJackson2SmileHttpMessageConverter(binaryObjectMapper(builder, new SmileFactory()));
+        }
+
+        @Override
+        public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+            converters.add(new ProtobufTaskHttpMessageConverter());
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @Profile("reactive")
+    static class Reactive implements WebFluxConfigurer {
+
+        // Jackson codecs built from an ObjectMapper alone claim the JSON media types
+        private static final MimeType SMILE = MimeType.valueOf("application/x-jackson-smile");
+        private static final MimeType CBOR = MimeType.valueOf("application/cbor");
+
+        private final ObjectProvider<Jackson2ObjectMapperBuilder> builders;
+
+        Reactive(ObjectProvider<Jackson2ObjectMapperBuilder> builders) {
+            this.builders = builders;
+        }
+
+        @Override
+        public void configureHttpMessageCodecs(ServerCodecConfigurer configurer) {
+            ObjectMapper smile = binaryObjectMapper(builders.getObject(), new SmileFactory());
+            ObjectMapper cbor = binaryObjectMapper(builders.getObject(), new CBORFactory());
+            // WebFlux casts the default Smile encoder slot to Jackson2SmileEncoder, so the collecting
+            // one goes in as a custom codec; custom object writers are consulted before the defaults.
+            configurer.customCodecs().registerWithDefaultConfig(new CollectingEncoder(new Jackson2SmileEncoder(smile, SMILE)));
+            configurer.defaultCodecs().jackson2SmileDecoder(new Jackson2SmileDecoder(smile, SMILE));
+            configurer.customCodecs().registerWithDefaultConfig(new CollectingEncoder(new Jackson2CborEncoder(cbor, CBOR)));
+            configurer.customCodecs().registerWithDefaultConfig(new Jackson2CborDecoder(cbor, CBOR));
+            configurer.customCodecs().registerWithDefaultConfig(new ProtobufTaskEncoder());
+            configurer.customCodecs().registerWithDefaultConfig(new ProtobufTaskDecoder());
+        }
+    }
+}
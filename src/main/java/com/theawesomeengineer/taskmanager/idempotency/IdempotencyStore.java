@@ -0,0 +1,167 @@
+package com.theawesomeengineer.taskmanager.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.theawesomeengineer.taskmanager.config.TaskmanagerProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Responses to writes sent with an {@code Idempotency-Key}, so that a client retrying after a
+ * timeout gets the original response back instead of a second write. Entries hold the key, a
+ * fingerprint of the request and the response; they are evicted by size (W-TinyLFU) and by age,
+ * so the store stays bounded however many keys clients invent.
+ * <p>
+ * The first request with a key runs; one arriving while it is still running waits for its
+ * response, up to {@code taskmanager.idempotency.wait-timeout} (then 409), rather than running
+ * too. A key sent again with a different request gets 422. A request that fails leaves nothing
+ * behind, so its retry runs afresh, and requests waiting on it get the same error.
+ * Hits (replays) and misses are published as {@code cache.*} metrics with {@code cache=idempotency}.
+ */
+@Component
+public class IdempotencyStore {
+
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    static final int MAX_KEY_LENGTH = 255;
+
+    /** A keyed request: what it was, and what it answered once it has. */
+    private record Attempt(String fingerprint, CompletableFuture<ResponseEntity<?>> response) {
+    }
+
+    private final Cache<String, Attempt> attempts;
+    private final Duration waitTimeout;
+    private final ObjectMapper mapper;
+
+    public IdempotencyStore(TaskmanagerProperties properties, ObjectMapper mapper, MeterRegistry registry) {
+        TaskmanagerProperties.Idempotency config = properties.getIdempotency();
+        this.attempts = Caffeine.newBuilder()
+                                .maximumSize(config.getMaximumSize())
+                                .expireAfterWrite(config.getTtl())
+                                .recordStats()
+                                .build();
+        this.waitTimeout = config.getWaitTimeout();
+        this.mapper = mapper;
+        CaffeineCacheMetrics.monitor(registry, attempts, "idempotency");
+    }
+
+    /**
+     * Runs {@code action} unless {@code key} was already used for {@code operation}, in which case
+     * the stored response is returned. {@code request} is everything that makes up the request
+     * (body, path variables, relevant headers); a null {@code key} just runs {@code action}.
+     */
+    public <T> ResponseEntity<T> execute(String operation, String key, Object request, Supplier<ResponseEntity<T>> action) {
+        if (key == null) {
+            return action.get();
+        }
+        Attempt mine = new Attempt(fingerprint(request), new CompletableFuture<>());
+        Attempt attempt = claim(operation, key, mine);
+        if (attempt != mine) {
+            return replayed(await(attempt));
+        }
+        try {
+            ResponseEntity<T> response = action.get();
+            mine.response().complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            forget(operation, key, mine, e);
+            throw e;
+        }
+    }
+
+    /** Non-blocking {@link #execute}: a request waiting on another one holds no thread. */
+    public <T> Mono<ResponseEntity<T>> executeReactive(String operation, String key, Object request,
+                                                       Supplier<Mono<ResponseEntity<T>>> action) {
+        if (key == null) {
+            return action.get();
+        }
+        return Mono.defer(() -> {
+            Attempt mine = new Attempt(fingerprint(request), new CompletableFuture<>());
+            Attempt attempt = claim(operation, key, mine);
+            if (attempt != mine) {
+                return Mono.fromFuture(attempt.response().copy())
+                           .timeout(waitTimeout, Mono.error(IdempotencyStore::inProgress))
+                           .map(IdempotencyStore::<T>replayed);
+            }
+            return action.get()
+                         .doOnNext(response -> mine.response().complete(response))
+                         .doOnError(e -> forget(operation, key, mine, e))
+                         .doOnCancel(() -> forget(operation, key, mine, new ResponseStatusException(
+                                 HttpStatus.CONFLICT, "The original request was cancelled; retry it")));
+        });
+    }
+
+    /** {@code mine} if {@code key} is new for {@code operation}, otherwise the attempt that holds it. */
+    private Attempt claim(String operation, String key, Attempt mine) {
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                                              "Idempotency-Key must have 1 to " + MAX_KEY_LENGTH + " characters");
+        }
+        Attempt attempt = attempts.get(operation + ' ' + key, k -> mine);
+        if (attempt != mine && !attempt.fingerprint().equals(mine.fingerprint())) {
+            throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY,
+                                              "Idempotency-Key was already used for a different request");
+        }
+        return attempt;
+    }
+
+    private void forget(String operation, String key, Attempt mine, Throwable failure) {
+        if (!mine.response().isDone()) {
+            attempts.asMap().remove(operation + ' ' + key, mine);
+            mine.response().completeExceptionally(failure);
+        }
+    }
+
+    private ResponseEntity<?> await(Attempt attempt) {
+        try {
+            return attempt.response().get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw inProgress();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw inProgress();
+        }
+    }
+
+    private static ResponseStatusException inProgress() {
+        return new ResponseStatusException(HttpStatus.CONFLICT, "A request with this Idempotency-Key is still in progress");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> ResponseEntity<T> replayed(ResponseEntity<?> original) {
+        return (ResponseEntity<T>) ResponseEntity.status(original.getStatusCode())
+                                                 .headers(original.getHeaders())
+                                                 .header(REPLAYED_HEADER, "true")
+                                                 .body(original.getBody());
+    }
+
+    private String fingerprint(Object request) {
+        try {
+            byte[] json = mapper.writeValueAsBytes(request);
+            return Base64.getEncoder().encodeToString(MessageDigest.getInstance("SHA-256").digest(json));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.theawesomeengineer.taskmanager.limiter;
+
+import com.theawesomeengineer.taskmanager.config.TaskmanagerProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.DispatcherServlet;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+/**
+ * Admits {@code /tasks} requests while fewer than the {@link GradientLimit} are in flight and
+ * answers the rest straight away with 503 and a {@code Retry-After}, before they queue for a
+ * thread or a connection. Single-task reads and every write are {@link Priority#CRITICAL} and may
+ * use the whole limit; lists, searches, sync pages and statistics are {@link Priority#SHEDDABLE}
+ * and only get {@code taskmanager.concurrency-limit.sheddable-share} of it, so when the limit
+ * shrinks they are turned away first. NDJSON exports and the change feed are left alone: they
+ * hold their request for minutes, which says nothing about how loaded the database is.
+ * <p>
+ * Unexpected server errors and exceptions count as drops and cut the limit; the application's own
+ * 503s (see {@link #deliberate}) do not.
+ * <p>
+ * Published as {@code taskmanager.api.concurrency.limit}, {@code .inflight} and
+ * {@code .rejected} (by {@code priority}).
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    enum Priority {
+        CRITICAL, SHEDDABLE
+    }
+
+    private static final Pattern TASK_BY_ID = Pattern.compile("/tasks/\\d+");
+
+    private final GradientLimit limit;
+    private final double sheddableShare;
+    private final String retryAfter;
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final Map<Priority, Counter> rejections = new EnumMap<>(Priority.class);
+
+    public ConcurrencyLimitFilter(TaskmanagerProperties.ConcurrencyLimit settings, MeterRegistry registry) {
+        this.limit = new GradientLimit(settings.getInitialLimit(), settings.getMinLimit(), settings.getMaxLimit(),
+                                       settings.getTolerance());
+        this.sheddableShare = settings.getSheddableShare();
+        this.retryAfter = String.valueOf(Math.max(1, settings.getRetryAfter().toSeconds()));
+        Gauge.builder("taskmanager.api.concurrency.limit", limit, GradientLimit::get)
+             .description("Tasks API requests allowed in flight")
+             .register(registry);
+        Gauge.builder("taskmanager.api.concurrency.inflight", inflight, AtomicInteger::get)
+             .description("Tasks API requests in flight")
+             .register(registry);
+        for (Priority priority : Priority.values()) {
+            rejections.put(priority, Counter.builder("taskmanager.api.concurrency.rejected")
+                                            .description("Tasks API requests shed with 503")
+                                            .tag("priority", priority.name().toLowerCase(Locale.ROOT))
+                                            .register(registry));
+        }
+    }
+
+    static Priority priority(HttpServletRequest request, String path) {
+        boolean read = HttpMethod.GET.matches(request.getMethod()) || HttpMethod.HEAD.matches(request.getMethod());
+        return !read || TASK_BY_ID.matcher(path).matches() ? Priority.CRITICAL : Priority.SHEDDABLE;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (!path.startsWith("/tasks") || path.equals("/tasks/changes")) {
+            return true;
+        }
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        return accept != null && (accept.contains("application/x-ndjson") || accept.contains("text/event-stream"));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Priority priority = priority(request, request.getRequestURI().substring(request.getContextPath().length()));
+        if (!tryAcquire(priority)) {
+            rejections.get(priority).increment();
+            response.setHeader(HttpHeaders.RETRY_AFTER, retryAfter);
+            response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value(), "Server is busy; retry later");
+            return;
+        }
+        long start = System.nanoTime();
+        boolean dropped = true;
+        try {
+            chain.doFilter(request, response);
+            dropped = response.getStatus() >= 500 && !deliberate(request, response.getStatus());
+        } finally {
+            release(System.nanoTime() - start, dropped);
+        }
+    }
+
+    /**
+     * Whether a 5xx was the application's chosen answer rather than a failure: a 503 raised as a
+     * {@link ResponseStatusException}, such as search or statistics not being ready yet or too
+     * many change-feed subscribers. Those say nothing about load, so they must not cut the limit;
+     * any other 5xx, and any exception escaping the chain (timeouts included), is a drop.
+     */
+    static boolean deliberate(HttpServletRequest request, int status) {
+        return status == HttpStatus.SERVICE_UNAVAILABLE.value()
+                && request.getAttribute(DispatcherServlet.EXCEPTION_ATTRIBUTE) instanceof ResponseStatusException;
+    }
+
+    boolean tryAcquire(Priority priority) {
+        int cap = priority == Priority.CRITICAL ? limit.get() : (int) (limit.get() * sheddableShare);
+        while (true) {
+            int current = inflight.get();
+            if (current >= cap) {
+                return false;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    void release(long rttNanos, boolean failed) {
+        limit.sample(rttNanos, inflight.getAndDecrement(), failed);
+    }
+
+    int limit() {
+        return limit.get();
+    }
+}
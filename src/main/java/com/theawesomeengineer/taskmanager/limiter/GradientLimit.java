@@ -0,0 +1,78 @@
+package com.theawesomeengineer.taskmanager.limiter;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A concurrency limit steered by latency, after the gradient algorithm of Netflix's
+ * concurrency-limits. Each completed request compares its latency with the long-run average:
+ * <ul>
+ *   <li>within {@code tolerance} of it, the limit grows by about its square root, probing for
+ *       headroom;</li>
+ *   <li>slower than that, the limit is scaled by {@code tolerance * average / latency}, down to
+ *       half, so a database that slows down is met by fewer requests instead of a longer queue;</li>
+ *   <li>a dropped request (an unexpected 5xx or an error) cuts the limit by 10%, as AIMD does.</li>
+ * </ul>
+ * Changes are smoothed over several samples, the limit stays within {@code [min, max]}, and
+ * requests completing while fewer than half the limit were in flight leave it alone: they show
+ * nothing about what more concurrency would cost. Latency samples arriving while another is
+ * being applied are skipped rather than queued behind it; drops always wait for their turn, so a
+ * burst of failures is never lost.
+ */
+public class GradientLimit {
+
+    /** Samples the long-run average latency is taken over. */
+    private static final int LONG_WINDOW = 600;
+    private static final double SMOOTHING = 0.2;
+    private static final double BACKOFF = 0.9;
+
+    private final int min;
+    private final int max;
+    private final double tolerance;
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile double limit;
+    private double longRtt;
+
+    public GradientLimit(int initial, int min, int max, double tolerance) {
+        this.min = min;
+        this.max = max;
+        this.tolerance = tolerance;
+        this.limit = clamp(initial);
+    }
+
+    public int get() {
+        return (int) limit;
+    }
+
+    /** One completed request: its latency, the requests in flight when it ended, and whether it failed. */
+    public void sample(long rttNanos, int inflight, boolean dropped) {
+        if (dropped) {
+            lock.lock();
+        } else if (!lock.tryLock()) {
+            return;
+        }
+        try {
+            if (dropped) {
+                limit = clamp(limit * BACKOFF);
+                return;
+            }
+            double rtt = Math.max(1, rttNanos);
+            longRtt = longRtt == 0 ? rtt : longRtt + (rtt - longRtt) / LONG_WINDOW;
+            if (longRtt / rtt > 2) {
+                // latency fell well below the average (the database recovered): catch up faster
+                longRtt *= 0.95;
+            }
+            if (inflight < limit / 2) {
+                return;
+            }
+            double gradient = Math.max(0.5, Math.min(1.0, tolerance * longRtt / rtt));
+            double target = limit * gradient + Math.sqrt(limit);
+            limit = clamp(limit * (1 - SMOOTHING) + target * SMOOTHING);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private double clamp(double value) {
+        return Math.max(min, Math.min(max, value));
+    }
+}
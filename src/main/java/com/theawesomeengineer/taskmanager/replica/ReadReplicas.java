@@ -0,0 +1,245 @@
+package com.theawesomeengineer.taskmanager.replica;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.theawesomeengineer.taskmanager.config.TaskmanagerProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.FixedDelayTask;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends read-only transactions to the read replicas and everything else to the primary.
+ * {@link #routing} puts a {@link LazyConnectionDataSourceProxy} in front of the primary with the
+ * replicas as its read-only data source, so the physical connection is only picked at the first
+ * statement, once the transaction has marked it read-only. This is not a {@link DataSource} itself:
+ * as a bean it would stand in for the one Boot auto-configures.
+ * <p>
+ * Reads take the replicas in rotation, skipping any that the last probe (every
+ * {@code taskmanager.replicas.check-interval}) found unreachable, not replicating or more than
+ * {@code max-lag} behind, and any that fails to hand out a connection; with none left they read
+ * the primary. So do reads that {@link ReadRouting} keeps on the primary, and for
+ * {@code stickiness} after it wrote, every read of the same client, so that it reads its writes.
+ * <p>
+ * Reads are counted as {@code taskmanager.db.reads} by {@code target} (a replica's name or
+ * {@code primary}); each replica's measured lag is the {@code taskmanager.db.replica.lag} gauge,
+ * NaN while it is out of the rotation for being down or not replicating.
+ */
+public class ReadReplicas implements SchedulingConfigurer, AutoCloseable {
+
+    private static final class Replica {
+        final DataSource dataSource;
+        final Counter reads;
+        volatile double lagSeconds = Double.NaN;
+        volatile boolean usable;
+
+        Replica(String name, DataSource dataSource, MeterRegistry registry) {
+            this.dataSource = dataSource;
+            this.reads = reads(registry, name);
+            Gauge.builder("taskmanager.db.replica.lag", this, r -> r.lagSeconds)
+                 .description("Seconds the replica was behind the primary at its last check")
+                 .tag("replica", name)
+                 .baseUnit("seconds")
+                 .register(registry);
+        }
+    }
+
+    private final List<Replica> replicas = new ArrayList<>();
+    private final AtomicInteger next = new AtomicInteger();
+    private final Cache<String, Boolean> recentWriters;
+    private final TaskmanagerProperties.Replicas settings;
+    private final Counter primaryReads;
+    private DataSource primary;
+
+    public ReadReplicas(TaskmanagerProperties.Replicas settings, Map<String, DataSource> replicas, MeterRegistry registry) {
+        this.settings = settings;
+        replicas.forEach((name, dataSource) -> this.replicas.add(new Replica(name, dataSource, registry)));
+        this.recentWriters = Caffeine.newBuilder().expireAfterWrite(settings.getStickiness()).build();
+        this.primaryReads = reads(registry, "primary");
+    }
+
+    private static Counter reads(MeterRegistry registry, String target) {
+        return Counter.builder("taskmanager.db.reads")
+                      .description("Read-only connections handed out")
+                      .tag("target", target)
+                      .register(registry);
+    }
+
+    /** A Hikari pool per configured {@code taskmanager.replicas.instances} entry, named {@code replica-<n>}. */
+    public static ReadReplicas create(TaskmanagerProperties.Replicas settings, MeterRegistry registry) {
+        Map<String, DataSource> pools = new LinkedHashMap<>();
+        for (TaskmanagerProperties.Replicas.Instance instance : settings.getInstances()) {
+            HikariDataSource pool = DataSourceBuilder.create()
+                                                     .type(HikariDataSource.class)
+                                                     .url(instance.getUrl())
+                                                     .username(instance.getUsername())
+                                                     .password(instance.getPassword())
+                                                     .build();
+            String name = "replica-" + pools.size();
+            pool.setPoolName(name);
+            pool.setMaximumPoolSize(instance.getMaximumPoolSize());
+            pool.setConnectionTimeout(settings.getConnectionTimeout().toMillis());
+            // a replica that is down at startup only stays out of the rotation
+            pool.setInitializationFailTimeout(-1);
+            pool.setReadOnly(true);
+            pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+            pools.put(name, pool);
+        }
+        return new ReadReplicas(settings, pools, registry);
+    }
+
+    public boolean isEnabled() {
+        return !replicas.isEmpty();
+    }
+
+    /**
+     * The data source the application uses: {@code primary} for writes, the replicas for
+     * read-only transactions. Probes the replicas once so reads can use them straight away.
+     */
+    public DataSource routing(DataSource primary) {
+        this.primary = primary;
+        check();
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(new WritingDataSource(primary));
+        proxy.setReadOnlyDataSource(new ReadingDataSource());
+        // now, outside any request: done lazily, it would count as the first request's write
+        proxy.checkDefaultConnectionProperties();
+        return proxy;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        if (isEnabled()) {
+            Duration interval = settings.getCheckInterval();
+            registrar.addFixedDelayTask(new FixedDelayTask(this::check, interval, interval));
+        }
+    }
+
+    /** Probes every replica and takes it in or out of the rotation. */
+    void check() {
+        double maxLag = settings.getMaxLag().toMillis() / 1000.0;
+        for (Replica replica : replicas) {
+            double lag = lagSeconds(replica);
+            replica.lagSeconds = lag;
+            replica.usable = lag <= maxLag;
+        }
+    }
+
+    private double lagSeconds(Replica replica) {
+        try (Connection connection = replica.dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout((int) Math.max(1, settings.getCheckInterval().toSeconds()));
+            try (ResultSet rows = statement.executeQuery(settings.getLagQuery())) {
+                return rows.next() ? lagSeconds(rows) : Double.NaN;
+            }
+        } catch (SQLException | RuntimeException e) {
+            return Double.NaN;
+        }
+    }
+
+    private static double lagSeconds(ResultSet row) throws SQLException {
+        ResultSetMetaData columns = row.getMetaData();
+        int column = 1;
+        for (int i = 1; i <= columns.getColumnCount(); i++) {
+            if ("Seconds_Behind_Source".equalsIgnoreCase(columns.getColumnLabel(i))) {
+                column = i;
+            }
+        }
+        double lag = row.getDouble(column);
+        return row.wasNull() ? Double.NaN : lag;
+    }
+
+    /** A connection for a read-only transaction: from the next usable replica, or the primary. */
+    Connection readConnection() throws SQLException {
+        String client = ReadRouting.replicaClient();
+        if (client != null && recentWriters.getIfPresent(client) == null) {
+            int start = next.getAndIncrement();
+            for (int i = 0; i < replicas.size(); i++) {
+                Replica replica = replicas.get(Math.floorMod(start + i, replicas.size()));
+                if (!replica.usable) {
+                    continue;
+                }
+                try {
+                    Connection connection = replica.dataSource.getConnection();
+                    replica.reads.increment();
+                    return connection;
+                } catch (SQLException | RuntimeException e) {
+                    // out until the next probe finds it back
+                    replica.usable = false;
+                }
+            }
+        }
+        primaryReads.increment();
+        return primary.getConnection();
+    }
+
+    @Override
+    public void close() {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    // shutting down anyway
+                }
+            }
+        }
+    }
+
+    private final class ReadingDataSource extends AbstractDataSource {
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return readConnection();
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            throw new UnsupportedOperationException("Replica connections use their configured credentials");
+        }
+    }
+
+    /**
+     * The primary, noting that the client of the current request has written when the connection
+     * is for a read-write transaction. Connections taken outside one (metadata lookups, say) read.
+     */
+    private final class WritingDataSource extends DelegatingDataSource {
+
+        WritingDataSource(DataSource primary) {
+            super(primary);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (TransactionSynchronizationManager.isActualTransactionActive()
+                    && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+                String client = ReadRouting.wrote();
+                if (client != null) {
+                    recentWriters.put(client, Boolean.TRUE);
+                }
+            }
+            return super.getConnection();
+        }
+    }
+}
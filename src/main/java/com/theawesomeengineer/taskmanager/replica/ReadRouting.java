@@ -0,0 +1,68 @@
+package com.theawesomeengineer.taskmanager.replica;
+
+import java.util.function.Supplier;
+
+/**
+ * Whether read-only transactions on the current thread may go to a replica. Only API requests
+ * opened by {@link ReadRoutingFilter} may, and only until they write; everything else (startup
+ * loads, reconciliation, write-behind replay, threads a request hands work to) reads the
+ * primary, because it feeds state that must never go back in time.
+ */
+public final class ReadRouting {
+
+    private static final ThreadLocal<Request> CURRENT = new ThreadLocal<>();
+
+    private static final class Request {
+        final String client;
+        boolean wrote;
+        boolean pinned;
+
+        Request(String client) {
+            this.client = client;
+        }
+    }
+
+    private ReadRouting() {
+    }
+
+    static void begin(String client) {
+        CURRENT.set(new Request(client));
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Runs {@code reads} against the primary, for results that outlive the request such as
+     * cache fills.
+     */
+    public static <T> T onPrimary(Supplier<T> reads) {
+        Request request = CURRENT.get();
+        if (request == null || request.pinned) {
+            return reads.get();
+        }
+        request.pinned = true;
+        try {
+            return reads.get();
+        } finally {
+            request.pinned = false;
+        }
+    }
+
+    /** The client whose read may go to a replica, or {@code null} when this one must read the primary. */
+    static String replicaClient() {
+        Request request = CURRENT.get();
+        return request == null || request.wrote || request.pinned ? null : request.client;
+    }
+
+    /** Records a primary connection taken for writing; returns the client that wrote, if any. */
+    static String wrote() {
+        Request request = CURRENT.get();
+        if (request == null) {
+            return null;
+        }
+        request.wrote = true;
+        return request.client;
+    }
+}
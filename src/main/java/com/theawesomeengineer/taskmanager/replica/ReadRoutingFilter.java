@@ -0,0 +1,36 @@
+package com.theawesomeengineer.taskmanager.replica;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Lets the read-only transactions of a request go to the replicas (see {@link ReadRouting}),
+ * on behalf of the client named by the {@code taskmanager.replicas.client-header} header or, when
+ * it is absent, the remote address.
+ */
+public class ReadRoutingFilter extends OncePerRequestFilter {
+
+    private final String clientHeader;
+
+    public ReadRoutingFilter(String clientHeader) {
+        this.clientHeader = clientHeader;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String client = StringUtils.hasText(clientHeader) ? request.getHeader(clientHeader) : null;
+        ReadRouting.begin(StringUtils.hasText(client) ? client : request.getRemoteAddr());
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ReadRouting.end();
+        }
+    }
+}
@@ -0,0 +1,391 @@
+package com.theawesomeengineer.taskmanager.repository;
+
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Readable;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.DatabaseClient.GenericExecuteSpec;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * R2DBC counterpart of {@link TaskRepository} for the {@code reactive} profile: the same
+ * {@code tasks} table and {@code tasks_seq} ids, read into {@link TaskEntity} so sort keys,
+ * cursors and ETags work unchanged. Every method is a single statement except id allocation
+ * on MySQL, {@link #insertAll}, the bulk chunks (which lock their rows first) and the deletes
+ * (which also write tombstones); those run in a transaction.
+ */
+@Repository
+@Profile("reactive")
+public class ReactiveTaskRepository {
+
+    private static final String COLUMNS = "id, title, description, completed, created_at, updated_at, version";
+
+    private final DatabaseClient client;
+    private final TransactionalOperator tx;
+    // MySQL has no sequences; Hibernate keeps tasks_seq there as a one-row table instead
+    private final boolean tableSequence;
+
+    public ReactiveTaskRepository(DatabaseClient client, ConnectionFactory connectionFactory,
+                                  ReactiveTransactionManager txManager) {
+        this.client = client;
+        this.tx = TransactionalOperator.create(txManager);
+        String database = connectionFactory.getMetadata().getName();
+        this.tableSequence = database.contains("MySQL") || database.contains("MariaDB");
+    }
+
+    public Mono<TaskEntity> findById(long id) {
+        return client.sql("SELECT " + COLUMNS + " FROM tasks WHERE id = :id")
+                     .bind("id", id)
+                     .map(ReactiveTaskRepository::entity)
+                     .one();
+    }
+
+    public Mono<Boolean> existsById(long id) {
+        return client.sql("SELECT 1 FROM tasks WHERE id = :id")
+                     .bind("id", id)
+                     .map(row -> true)
+                     .first()
+                     .defaultIfEmpty(false);
+    }
+
+    /** Just the validator columns, for conditional GETs that may not need the row at all. */
+    public Mono<TaskValidators> findValidatorsById(long id) {
+        return client.sql("SELECT version, updated_at FROM tasks WHERE id = :id")
+                     .bind("id", id)
+                     .map(row -> new TaskValidators(row.get("version", Long.class), row.get("updated_at", OffsetDateTime.class)))
+                     .one();
+    }
+
+    /** Seek-style page read, see {@link TaskRepositoryCustom#findPage}. */
+    public Flux<TaskEntity> findPage(TaskSortKey sort, TaskKeyset after, TaskCriteria criteria, int limit) {
+        Sql sql = new Sql("SELECT " + COLUMNS + " FROM tasks");
+        matching(criteria, sql);
+        if (after != null) {
+            sql.where(seek(after, sql));
+        }
+        sql.tail(sort == TaskSortKey.ID ? " ORDER BY id" : " ORDER BY " + column(sort) + ", id");
+        sql.tail(" LIMIT " + sql.bind(limit));
+        return sql.spec(client).map(ReactiveTaskRepository::entity).all();
+    }
+
+    /**
+     * Every task in id order. Rows are pulled from the driver as the subscriber requests them,
+     * so a slow client slows the scan down instead of the rows piling up in memory.
+     */
+    public Flux<TaskEntity> streamAll() {
+        return client.sql("SELECT " + COLUMNS + " FROM tasks ORDER BY id")
+                     .map(ReactiveTaskRepository::entity)
+                     .all();
+    }
+
+    /** The tasks among {@code ids} that exist, in no particular order. */
+    public Flux<TaskEntity> findAllById(Collection<Long> ids) {
+        return client.sql("SELECT " + COLUMNS + " FROM tasks WHERE id IN (:ids)")
+                     .bind("ids", ids)
+                     .map(ReactiveTaskRepository::entity)
+                     .all();
+    }
+
+    /** Inserts {@code task} under a fresh id, stamping both timestamps and version 0. */
+    public Mono<TaskEntity> insert(TaskEntity task) {
+        return nextId().flatMap(id -> {
+            OffsetDateTime now = TaskEntity.now();
+            TaskEntity row = new TaskEntity(id, task.getTitle(), task.getDescription(), task.getCompleted(), now, now, 0L);
+            return client.sql("INSERT INTO tasks (" + COLUMNS + ") "
+                            + "VALUES (:id, :title, :description, :completed, :createdAt, :updatedAt, :version)")
+                         .bind("id", row.getId())
+                         .bind("title", row.getTitle())
+                         .bind("description", row.getDescription())
+                         .bind("completed", row.getCompleted())
+                         .bind("createdAt", row.getCreatedAt())
+                         .bind("updatedAt", row.getUpdatedAt())
+                         .bind("version", row.getVersion())
+                         .then()
+                         .thenReturn(row);
+        });
+    }
+
+    /** {@link #insert}s every task in one transaction; all or none are stored. */
+    public Flux<TaskEntity> insertAll(List<TaskEntity> tasks) {
+        return Flux.fromIterable(tasks)
+                   .concatMap(this::insert)
+                   .as(tx::transactional);
+    }
+
+    /** See {@link TaskRepositoryCustom#updateChunk}. */
+    public Mono<List<TaskEntity>> updateChunk(TaskCriteria criteria, long afterId, int limit, TaskChanges changes,
+                                              OffsetDateTime now) {
+        return lockChunk(criteria, afterId, limit)
+                .flatMap(rows -> rows.isEmpty() ? Mono.just(rows) : updateAll(ids(rows), changes, now).thenReturn(rows))
+                .as(tx::transactional);
+    }
+
+    /** See {@link TaskRepositoryCustom#deleteChunk}; locks the chunk, then tombstones and deletes it. */
+    public Mono<List<TaskEntity>> deleteChunk(TaskCriteria criteria, long afterId, int limit) {
+        return lockChunk(criteria, afterId, limit)
+                .flatMap(rows -> {
+                    if (rows.isEmpty()) {
+                        return Mono.just(rows);
+                    }
+                    List<Long> ids = ids(rows);
+                    return tombstone(ids).then(deleteAll(ids)).thenReturn(rows);
+                })
+                .as(tx::transactional);
+    }
+
+    /** {@code SELECT ... WHERE <criteria> AND id > afterId ORDER BY id LIMIT limit FOR UPDATE}. */
+    private Mono<List<TaskEntity>> lockChunk(TaskCriteria criteria, long afterId, int limit) {
+        Sql sql = new Sql("SELECT " + COLUMNS + " FROM tasks");
+        matching(criteria, sql);
+        sql.where("id > " + sql.bind(afterId));
+        sql.tail(" ORDER BY id LIMIT " + sql.bind(limit) + " FOR UPDATE");
+        return sql.spec(client).map(ReactiveTaskRepository::entity).all().collectList();
+    }
+
+    private Mono<Long> updateAll(List<Long> ids, TaskChanges changes, OffsetDateTime now) {
+        Sql sql = new Sql("UPDATE tasks");
+        apply(changes, now, sql);
+        sql.where("id IN (" + sql.bind(ids) + ")");
+        return sql.spec(client).fetch().rowsUpdated();
+    }
+
+    private static List<Long> ids(List<TaskEntity> rows) {
+        return rows.stream().map(TaskEntity::getId).toList();
+    }
+
+    private Mono<Long> deleteAll(List<Long> ids) {
+        return client.sql("DELETE FROM tasks WHERE id IN (:ids)")
+                     .bind("ids", ids)
+                     .fetch()
+                     .rowsUpdated();
+    }
+
+    /** One multi-row {@code INSERT} of a tombstone per id, all stamped now. */
+    private Mono<Void> tombstone(List<Long> ids) {
+        Sql sql = new Sql("INSERT INTO task_tombstones (id, deleted_at) VALUES ");
+        String now = sql.bind(TaskEntity.now());
+        List<String> rows = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            rows.add("(" + sql.bind(id) + ", " + now + ")");
+        }
+        sql.append(String.join(", ", rows));
+        return sql.spec(client).then();
+    }
+
+    /** See {@link TaskRepositoryCustom#updateIfVersion}. */
+    public Mono<Long> updateIfVersion(long id, Long version, TaskChanges changes, OffsetDateTime now) {
+        Sql sql = new Sql("UPDATE tasks");
+        apply(changes, now, sql);
+        identity(id, version, sql);
+        return sql.spec(client).fetch().rowsUpdated();
+    }
+
+    /** See {@link TaskRepositoryCustom#deleteIfVersion}. */
+    public Mono<Long> deleteIfVersion(long id, Long version) {
+        Sql sql = new Sql("DELETE FROM tasks");
+        identity(id, version, sql);
+        return sql.spec(client)
+                  .fetch()
+                  .rowsUpdated()
+                  .flatMap(rows -> rows == 0 ? Mono.just(rows) : tombstone(List.of(id)).thenReturn(rows))
+                  .as(tx::transactional);
+    }
+
+    /** See {@link TaskTombstoneRepository#findPage}. */
+    public Flux<TaskTombstone> findTombstones(OffsetDateTime after, long afterId, OffsetDateTime before, int limit) {
+        return client.sql("SELECT id, deleted_at FROM task_tombstones"
+                        + " WHERE deleted_at < :before"
+                        + " AND (deleted_at > :after OR (deleted_at = :after AND id > :afterId))"
+                        + " ORDER BY deleted_at, id LIMIT :limit")
+                     .bind("before", before)
+                     .bind("after", after)
+                     .bind("afterId", afterId)
+                     .bind("limit", limit)
+                     .map(row -> new TaskTombstone(row.get("id", Long.class), row.get("deleted_at", OffsetDateTime.class)))
+                     .all();
+    }
+
+    /** See {@link TaskTombstoneRepository#deleteOlderThan}. */
+    public Mono<Long> deleteTombstonesOlderThan(OffsetDateTime cutoff) {
+        return client.sql("DELETE FROM task_tombstones WHERE deleted_at < :cutoff")
+                     .bind("cutoff", cutoff)
+                     .fetch()
+                     .rowsUpdated();
+    }
+
+    /** See {@link TaskRepositoryCustom#countTasks}. */
+    public Mono<TaskCounts> countTasks(OffsetDateTime hourAgo, OffsetDateTime dayAgo) {
+        return client.sql("SELECT COUNT(*) AS total,"
+                        + " SUM(CASE WHEN completed THEN 1 ELSE 0 END) AS completed,"
+                        + " SUM(CASE WHEN created_at >= :hourAgo THEN 1 ELSE 0 END) AS created_hour,"
+                        + " SUM(CASE WHEN created_at >= :dayAgo THEN 1 ELSE 0 END) AS created_day,"
+                        + " SUM(CASE WHEN completed AND updated_at >= :hourAgo THEN 1 ELSE 0 END) AS completed_hour,"
+                        + " SUM(CASE WHEN completed AND updated_at >= :dayAgo THEN 1 ELSE 0 END) AS completed_day"
+                        + " FROM tasks")
+                     .bind("hourAgo", hourAgo)
+                     .bind("dayAgo", dayAgo)
+                     .map(row -> new TaskCounts(count(row, "total"), count(row, "completed"),
+                                                count(row, "created_hour"), count(row, "created_day"),
+                                                count(row, "completed_hour"), count(row, "completed_day")))
+                     .one();
+    }
+
+    /** An aggregate column as a long; SUM is null over an empty table. */
+    private static long count(Readable row, String column) {
+        Number value = row.get(column, Number.class);
+        return value == null ? 0 : value.longValue();
+    }
+
+    /**
+     * Draws the next value of {@code tasks_seq} and uses it as the id. {@link TaskEntity}'s pooled
+     * generator only hands out the 50 ids ending at a value it drew itself, so ids taken here
+     * never collide with ones Hibernate assigns against the same database.
+     */
+    private Mono<Long> nextId() {
+        if (!tableSequence) {
+            return client.sql("SELECT NEXT VALUE FOR tasks_seq")
+                         .map(row -> row.get(0, Long.class))
+                         .one();
+        }
+        return client.sql("SELECT next_val FROM tasks_seq FOR UPDATE")
+                     .map(row -> row.get(0, Long.class))
+                     .one()
+                     .flatMap(value -> client.sql("UPDATE tasks_seq SET next_val = :next")
+                                             .bind("next", value + 50)
+                                             .then()
+                                             .thenReturn(value))
+                     .as(tx::transactional);
+    }
+
+    private static TaskEntity entity(Readable row) {
+        return new TaskEntity(row.get("id", Long.class),
+                              row.get("title", String.class),
+                              row.get("description", String.class),
+                              row.get("completed", Boolean.class),
+                              row.get("created_at", OffsetDateTime.class),
+                              row.get("updated_at", OffsetDateTime.class),
+                              row.get("version", Long.class));
+    }
+
+    private static String column(TaskSortKey sort) {
+        return switch (sort) {
+            case ID -> "id";
+            case CREATED_AT -> "created_at";
+            case UPDATED_AT -> "updated_at";
+            case TITLE -> "title";
+        };
+    }
+
+    /** SETs the non-null columns of {@code changes} plus {@code updated_at} and {@code version}. */
+    private static void apply(TaskChanges changes, OffsetDateTime now, Sql sql) {
+        List<String> set = new ArrayList<>();
+        if (changes.title() != null) {
+            set.add("title = " + sql.bind(changes.title()));
+        }
+        if (changes.description() != null) {
+            set.add("description = " + sql.bind(changes.description()));
+        }
+        if (changes.completed() != null) {
+            set.add("completed = " + sql.bind(changes.completed()));
+        }
+        set.add("updated_at = " + sql.bind(now));
+        set.add("version = version + 1");
+        sql.append(" SET " + String.join(", ", set));
+    }
+
+    private static void identity(long id, Long version, Sql sql) {
+        sql.where("id = " + sql.bind(id));
+        if (version != null) {
+            sql.where("version = " + sql.bind(version));
+        }
+    }
+
+    private static void matching(TaskCriteria c, Sql sql) {
+        if (c.ids() != null && !c.ids().isEmpty()) {
+            sql.where("id IN (" + sql.bind(c.ids()) + ")");
+        }
+        if (c.completed() != null) {
+            sql.where("completed = " + sql.bind(c.completed()));
+        }
+        if (c.createdAfter() != null) {
+            sql.where("created_at >= " + sql.bind(c.createdAfter()));
+        }
+        if (c.createdBefore() != null) {
+            sql.where("created_at < " + sql.bind(c.createdBefore()));
+        }
+        if (c.updatedAfter() != null) {
+            sql.where("updated_at >= " + sql.bind(c.updatedAfter()));
+        }
+        if (c.updatedBefore() != null) {
+            sql.where("updated_at < " + sql.bind(c.updatedBefore()));
+        }
+        if (c.titlePrefix() != null) {
+            sql.where("title LIKE " + sql.bind(TaskCriteria.likePrefix(c.titlePrefix())) + " ESCAPE '" + TaskCriteria.LIKE_ESCAPE + "'");
+        }
+    }
+
+    /** {@code key > value OR (key = value AND id > lastId)}, as in {@link TaskRepositoryCustomImpl}. */
+    private static String seek(TaskKeyset after, Sql sql) {
+        String lastId = sql.bind(after.id());
+        if (after.sort() == TaskSortKey.ID) {
+            return "id > " + lastId;
+        }
+        String key = column(after.sort());
+        String value = sql.bind(after.value());
+        return "(" + key + " > " + value + " OR (" + key + " = " + value + " AND id > " + lastId + "))";
+    }
+
+    /** Statement text with generated named binds; WHERE conditions are ANDed in the order added. */
+    private static final class Sql {
+
+        private final StringBuilder head;
+        private final List<String> where = new ArrayList<>();
+        private final StringBuilder tail = new StringBuilder();
+        private final Map<String, Object> binds = new LinkedHashMap<>();
+
+        Sql(String head) {
+            this.head = new StringBuilder(head);
+        }
+
+        /** Registers {@code value} and returns the placeholder to put in the statement. */
+        String bind(Object value) {
+            String name = "p" + binds.size();
+            binds.put(name, value);
+            return ":" + name;
+        }
+
+        /** Appends to the part before WHERE, e.g. an UPDATE's SET list. */
+        void append(String clause) {
+            head.append(clause);
+        }
+
+        void where(String condition) {
+            where.add(condition);
+        }
+
+        /** Appends to the part after WHERE, e.g. ORDER BY and LIMIT. */
+        void tail(String clause) {
+            tail.append(clause);
+        }
+
+        GenericExecuteSpec spec(DatabaseClient client) {
+            String statement = head + (where.isEmpty() ? "" : " WHERE " + String.join(" AND ", where)) + tail;
+            GenericExecuteSpec spec = client.sql(statement);
+            for (Map.Entry<String, Object> bind : binds.entrySet()) {
+                spec = spec.bind(bind.getKey(), bind.getValue());
+            }
+            return spec;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.theawesomeengineer.taskmanager.repository;
+
+/**
+ * Column values to write in a set-based update; {@code null} leaves the column untouched.
+ */
+public record TaskChanges(String title, String description, Boolean completed) {
+
+    public boolean isEmpty() {
+        return title == null && description == null && completed == null;
+    }
+}
@@ -0,0 +1,10 @@
+package com.theawesomeengineer.taskmanager.repository;
+
+/**
+ * Task totals, and how many tasks were created, or completed and last updated, within the last
+ * hour and the last day.
+ */
+public record TaskCounts(long total, long completed,
+                         long createdLastHour, long createdLastDay,
+                         long completedLastHour, long completedLastDay) {
+}
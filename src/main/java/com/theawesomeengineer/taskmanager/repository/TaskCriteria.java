@@ -0,0 +1,42 @@
+package com.theawesomeengineer.taskmanager.repository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * Conjunction of optional task filters; {@code null} (or an empty id list) means "no constraint".
+ * Lower time bounds are inclusive, upper bounds exclusive. {@code titlePrefix} matches with the
+ * column's collation (case-insensitive on MySQL) and can use the {@code (title, id)} index.
+ */
+public record TaskCriteria(List<Long> ids,
+                           Boolean completed,
+                           OffsetDateTime createdAfter,
+                           OffsetDateTime createdBefore,
+                           OffsetDateTime updatedAfter,
+                           OffsetDateTime updatedBefore,
+                           String titlePrefix) {
+
+    /** No filtering at all. */
+    public static final TaskCriteria NONE = new TaskCriteria(null, null, null, null, null, null, null);
+
+    /**
+     * Escape character for {@link #likePrefix}; not a backslash, which MySQL string literals
+     * would themselves treat as an escape.
+     */
+    public static final char LIKE_ESCAPE = '!';
+
+    /** {@code LIKE} pattern matching values that start with {@code prefix} literally. */
+    public static String likePrefix(String prefix) {
+        return prefix.replace("!", "!!")
+                     .replace("%", "!%")
+                     .replace("_", "!_") + "%";
+    }
+
+    public boolean isEmpty() {
+        return (ids == null || ids.isEmpty())
+                && completed == null
+                && createdAfter == null && createdBefore == null
+                && updatedAfter == null && updatedBefore == null
+                && titlePrefix == null;
+    }
+}
@@ -5,18 +5,37 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
 
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+        // (sortKey, id) indexes backing keyset pagination, see TaskSortKey
+        @Index(name = "idx_tasks_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_tasks_updated_at_id", columnList = "updated_at, id"),
+        @Index(name = "idx_tasks_title_id", columnList = "title, id"),
+        // equality on completed, then a range (and keyset order) on the timestamp, see TaskCriteria
+        @Index(name = "idx_tasks_completed_updated_at_id", columnList = "completed, updated_at, id"),
+        @Index(name = "idx_tasks_completed_created_at_id", columnList = "completed, created_at, id")
+})
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class TaskEntity {
 
+    // IDENTITY would force an INSERT per row to learn the key, which silently disables JDBC
+    // insert batching; the pooled sequence hands out ids in blocks of 50 instead, drawn on a
+    // connection of their own where tasks_seq is a table (see TaskIdGenerator)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "tasks_seq")
+    @GenericGenerator(name = "tasks_seq", type = TaskIdGenerator.class, parameters = {
+            @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "tasks_seq"),
+            @Parameter(name = SequenceStyleGenerator.INCREMENT_PARAM, value = "50")
+    })
     private Long id;
 
     @Column(length = 255, nullable = false)
@@ -28,19 +47,32 @@ public class TaskEntity {
     @Column(nullable = false)
     private Boolean completed = false;
 
-    @Column(nullable = false, updatable = false)
+    @Column(name = "created_at", nullable = false, updatable = false)
     private OffsetDateTime createdAt;
 
-    @Column(nullable = false)
+    @Column(name = "updated_at", nullable = false)
     private OffsetDateTime updatedAt;
 
+    // optimistic lock; the statement-level writes in TaskRepositoryCustomImpl bump it themselves
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    /**
+     * Current time at the microsecond precision of the {@code datetime(6)} columns, so the value
+     * held in memory after a write equals what a later read returns (ETags are derived from it).
+     */
+    public static OffsetDateTime now() {
+        return OffsetDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    }
+
     @PrePersist
     protected void onCreate() {
-        createdAt = updatedAt = OffsetDateTime.now();
+        createdAt = updatedAt = now();
     }
 
     @PreUpdate
     protected void onUpdate() {
-        updatedAt = OffsetDateTime.now();
+        updatedAt = now();
     }
 }
\ No newline at end of file
@@ -0,0 +1,168 @@
+package com.theawesomeengineer.taskmanager.repository;
+
+import org.hibernate.boot.model.relational.Database;
+import org.hibernate.boot.model.relational.QualifiedName;
+import org.hibernate.boot.model.relational.SqlStringGenerationContext;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerationException;
+import org.hibernate.id.IdentifierGeneratorHelper;
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.id.enhanced.AccessCallback;
+import org.hibernate.id.enhanced.DatabaseStructure;
+import org.hibernate.id.enhanced.Optimizer;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Properties;
+
+/**
+ * The pooled {@code tasks_seq} generator, drawing its blocks on a pool of its own where the
+ * database has no sequences. Hibernate keeps {@code tasks_seq} as a one-row table on MySQL and
+ * draws each block in a separate transaction, on a second connection taken from the request pool
+ * while the creating transaction holds its first and every other create waits on the optimizer's
+ * lock. Once creates hold every pooled connection (or every {@code taskmanager.db} permit), that
+ * second connection never comes and all of them stall until the pool's connection timeout. Here
+ * the block is drawn on the {@link DataSource} found under {@link #CONNECTIONS} instead; without
+ * one, or on a database with real sequences, it behaves as {@link SequenceStyleGenerator}.
+ */
+public class TaskIdGenerator extends SequenceStyleGenerator {
+
+    /** Hibernate setting holding the {@link DataSource} that table-backed blocks are drawn on. */
+    public static final String CONNECTIONS = "taskmanager.ids.connections";
+
+    private DataSource connections;
+
+    @Override
+    public void configure(Type type, Properties parameters, ServiceRegistry serviceRegistry) {
+        connections = (DataSource) serviceRegistry.requireService(ConfigurationService.class)
+                                                  .getSettings().get(CONNECTIONS);
+        super.configure(type, parameters, serviceRegistry);
+    }
+
+    @Override
+    protected DatabaseStructure buildTableStructure(Type type, Properties parameters, JdbcEnvironment jdbcEnvironment,
+                                                    QualifiedName sequenceName, int initialValue, int incrementSize) {
+        DatabaseStructure table = super.buildTableStructure(type, parameters, jdbcEnvironment, sequenceName,
+                                                            initialValue, incrementSize);
+        return connections == null ? table : new SeparatelyDrawnTable(table, connections,
+                determineValueColumnName(parameters, jdbcEnvironment).render(jdbcEnvironment.getDialect()));
+    }
+
+    /**
+     * Hibernate's table structure for the schema, with its select-for-update and update run in a
+     * transaction of their own on {@code connections}.
+     */
+    private static final class SeparatelyDrawnTable implements DatabaseStructure {
+
+        private final DatabaseStructure table;
+        private final DataSource connections;
+        private final String valueColumn;
+        private int step;
+        private String selectSql;
+        private String updateSql;
+
+        SeparatelyDrawnTable(DatabaseStructure table, DataSource connections, String valueColumn) {
+            this.table = table;
+            this.connections = connections;
+            this.valueColumn = valueColumn;
+            this.step = table.getIncrementSize();
+        }
+
+        @Override
+        public QualifiedName getPhysicalName() {
+            return table.getPhysicalName();
+        }
+
+        @Override
+        public int getTimesAccessed() {
+            return table.getTimesAccessed();
+        }
+
+        @Override
+        public int getInitialValue() {
+            return table.getInitialValue();
+        }
+
+        @Override
+        public int getIncrementSize() {
+            return table.getIncrementSize();
+        }
+
+        @Override
+        public void configure(Optimizer optimizer) {
+            table.configure(optimizer);
+            // the pooled optimizer expects the stored value to move a whole block per draw
+            step = optimizer.applyIncrementSizeToSourceValues() ? table.getIncrementSize() : 1;
+        }
+
+        @Override
+        public void registerExportables(Database database) {
+            table.registerExportables(database);
+        }
+
+        @Override
+        public void initialize(SqlStringGenerationContext context) {
+            table.initialize(context);
+            String name = context.format(table.getPhysicalName());
+            selectSql = "select " + valueColumn + " from " + name + context.getDialect().getForUpdateString();
+            updateSql = "update " + name + " set " + valueColumn + " = ?";
+        }
+
+        @Override
+        public boolean isPhysicalSequence() {
+            return false;
+        }
+
+        @Override
+        public AccessCallback buildCallback(SharedSessionContractImplementor session) {
+            return new AccessCallback() {
+                @Override
+                public IntegralDataTypeHolder getNextValue() {
+                    return draw();
+                }
+
+                @Override
+                public String getTenantIdentifier() {
+                    return session.getTenantIdentifier();
+                }
+            };
+        }
+
+        private IntegralDataTypeHolder draw() {
+            try (Connection connection = connections.getConnection()) {
+                connection.setAutoCommit(false);
+                try {
+                    long value;
+                    try (PreparedStatement select = connection.prepareStatement(selectSql);
+                         ResultSet row = select.executeQuery()) {
+                        if (!row.next()) {
+                            throw new IdentifierGenerationException("No row in " + getPhysicalName() + "; was it initialized?");
+                        }
+                        value = row.getLong(1);
+                    }
+                    try (PreparedStatement update = connection.prepareStatement(updateSql)) {
+                        update.setLong(1, value + step);
+                        update.executeUpdate();
+                    }
+                    connection.commit();
+                    IntegralDataTypeHolder next = IdentifierGeneratorHelper.getIntegralDataTypeHolder(Long.class);
+                    next.initialize(value);
+                    return next;
+                } catch (SQLException | RuntimeException e) {
+                    connection.rollback();
+                    throw e;
+                }
+            } catch (SQLException e) {
+                throw new IdentifierGenerationException("Could not draw the next block from " + getPhysicalName(), e);
+            }
+        }
+    }
+}
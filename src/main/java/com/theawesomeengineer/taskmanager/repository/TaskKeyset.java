@@ -0,0 +1,12 @@
+package com.theawesomeengineer.taskmanager.repository;
+
+/**
+ * Position of the last row of a page: the value of the sort key and the id of that row.
+ * The next page starts strictly after {@code (value, id)}.
+ */
+public record TaskKeyset(TaskSortKey sort, Comparable<?> value, long id) {
+
+    public static TaskKeyset of(TaskSortKey sort, TaskEntity last) {
+        return new TaskKeyset(sort, sort.valueOf(last), last.getId());
+    }
+}
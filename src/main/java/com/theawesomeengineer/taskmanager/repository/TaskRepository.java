@@ -1,8 +1,39 @@
 package com.theawesomeengineer.taskmanager.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 @Repository
-public interface TaskRepository extends JpaRepository<TaskEntity, Long> {
-}
\ No newline at end of file
+public interface TaskRepository extends JpaRepository<TaskEntity, Long>, TaskRepositoryCustom {
+
+    /**
+     * Forward-only scan of the whole table for exports. Rows are fetched from a server-side cursor
+     * ({@code useCursorFetch=true} on MySQL) instead of being buffered by the driver, and loaded
+     * read-only so Hibernate keeps no dirty-checking snapshots. Must be consumed inside a
+     * transaction and closed; callers should detach each entity once written.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select t from TaskEntity t order by t.id")
+    Stream<TaskEntity> streamAll();
+
+    /** Just the validator columns, for conditional GETs that may not need the row at all. */
+    @Query("select new com.theawesomeengineer.taskmanager.repository.TaskValidators(t.version, t.updatedAt) "
+         + "from TaskEntity t where t.id = :id")
+    Optional<TaskValidators> findValidatorsById(Long id);
+
+    /** Which of {@code ids} exist, e.g. to skip journaled tasks that were already written. */
+    @Query("select t.id from TaskEntity t where t.id in :ids")
+    List<Long> findExistingIds(Collection<Long> ids);
+}
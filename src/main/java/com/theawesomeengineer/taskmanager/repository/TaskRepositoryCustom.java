@@ -0,0 +1,68 @@
+package com.theawesomeengineer.taskmanager.repository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * Queries that Spring Data cannot derive from method names.
+ */
+public interface TaskRepositoryCustom {
+
+    /**
+     * Seek-style page read: returns at most {@code limit} tasks matching {@code criteria}, ordered
+     * by {@code sort} then id, starting strictly after {@code after} (or from the first row when
+     * {@code after} is null). Cost depends only on {@code limit}, never on how deep the page is,
+     * as long as an index covers the filter followed by the sort key.
+     */
+    List<TaskEntity> findPage(TaskSortKey sort, TaskKeyset after, TaskCriteria criteria, int limit);
+
+    /**
+     * One keyset chunk of a bulk update: locks the first {@code limit} tasks matching
+     * {@code criteria} whose id is above {@code afterId}
+     * ({@code SELECT ... WHERE <criteria> AND id > ? ORDER BY id LIMIT ? FOR UPDATE}), then applies
+     * {@code changes} to exactly those ids in one {@code UPDATE}, stamping {@code updatedAt = now}
+     * and incrementing the version. Returns the locked tasks as they were before the update, in id
+     * order; fewer than {@code limit} means no matching task is left after them.
+     */
+    List<TaskEntity> updateChunk(TaskCriteria criteria, long afterId, int limit, TaskChanges changes,
+                                 OffsetDateTime now);
+
+    /**
+     * {@code DELETE} counterpart of {@link #updateChunk}, leaving a {@link TaskTombstone} for
+     * every deleted task in the same transaction. Returns the deleted tasks.
+     */
+    List<TaskEntity> deleteChunk(TaskCriteria criteria, long afterId, int limit);
+
+    /**
+     * Single {@code UPDATE ... WHERE id = ? [AND version = ?]} applying {@code changes}, stamping
+     * {@code updatedAt = now} and incrementing the version. A null {@code version} updates
+     * unconditionally. Returns 0 when the task is missing or its version differs.
+     */
+    int updateIfVersion(long id, Long version, TaskChanges changes, OffsetDateTime now);
+
+    /**
+     * Single {@code DELETE} counterpart of {@link #updateIfVersion}, plus the deleted task's
+     * {@link TaskTombstone} in the same transaction.
+     */
+    int deleteIfVersion(long id, Long version);
+
+    /**
+     * Gives {@code task} the id its insert would get, from the same pooled {@code tasks_seq}
+     * generator, without writing it; see {@link #insertAll}.
+     */
+    void assignId(TaskEntity task);
+
+    /**
+     * Inserts tasks whose id, timestamps and version are already set, as multi-row
+     * {@code INSERT ... VALUES} statements in one transaction. {@code save} cannot be used for
+     * them: the sequence generator would replace the assigned id.
+     */
+    void insertAll(List<TaskEntity> tasks);
+
+    /**
+     * Every figure of {@link TaskCounts} in one aggregate statement (a single pass over the
+     * table), counting as "last hour" / "last day" what happened at or after {@code hourAgo} /
+     * {@code dayAgo}.
+     */
+    TaskCounts countTasks(OffsetDateTime hourAgo, OffsetDateTime dayAgo);
+}
@@ -0,0 +1,278 @@
+package com.theawesomeengineer.taskmanager.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaDelete;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+
+    /** Rows per {@code INSERT} in {@link #insertAll}; keeps each statement well under bind-variable limits. */
+    private static final int INSERT_ROWS = 100;
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TaskEntity> findPage(TaskSortKey sort, TaskKeyset after, TaskCriteria criteria, int limit) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<TaskEntity> query = cb.createQuery(TaskEntity.class);
+        Root<TaskEntity> task = query.from(TaskEntity.class);
+
+        List<Predicate> where = matching(cb, task, criteria);
+        if (after != null) {
+            where.add(seek(cb, task, after));
+        }
+        query.where(where.toArray(Predicate[]::new));
+        if (sort == TaskSortKey.ID) {
+            query.orderBy(cb.asc(task.get("id")));
+        } else {
+            query.orderBy(cb.asc(task.get(sort.attribute())), cb.asc(task.get("id")));
+        }
+        return em.createQuery(query)
+                 .setMaxResults(limit)
+                 .getResultList();
+    }
+
+    @Override
+    @Transactional
+    public List<TaskEntity> updateChunk(TaskCriteria criteria, long afterId, int limit, TaskChanges changes,
+                                        OffsetDateTime now) {
+        List<TaskEntity> rows = lockChunk(criteria, afterId, limit);
+        if (rows.isEmpty()) {
+            return rows;
+        }
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaUpdate<TaskEntity> update = cb.createCriteriaUpdate(TaskEntity.class);
+        Root<TaskEntity> task = update.from(TaskEntity.class);
+        apply(cb, update, task, changes, now);
+        update.where(task.get("id").in(ids(rows)));
+        em.createQuery(update).executeUpdate();
+        return rows;
+    }
+
+    /**
+     * The chunk is read (and locked) first so that exactly the deleted tasks get a tombstone; the
+     * tombstones go out as JDBC batches and the rows as one {@code DELETE}.
+     */
+    @Override
+    @Transactional
+    public List<TaskEntity> deleteChunk(TaskCriteria criteria, long afterId, int limit) {
+        List<TaskEntity> rows = lockChunk(criteria, afterId, limit);
+        if (rows.isEmpty()) {
+            return rows;
+        }
+        List<Long> ids = ids(rows);
+        OffsetDateTime now = TaskEntity.now();
+        ids.forEach(id -> em.persist(new TaskTombstone(id, now)));
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaDelete<TaskEntity> delete = cb.createCriteriaDelete(TaskEntity.class);
+        Root<TaskEntity> task = delete.from(TaskEntity.class);
+        delete.where(task.get("id").in(ids));
+        em.createQuery(delete).executeUpdate();
+        return rows;
+    }
+
+    /**
+     * {@code SELECT ... WHERE <criteria> AND id > afterId ORDER BY id LIMIT limit FOR UPDATE}. The
+     * statements that follow bypass the persistence context, so the entities keep the state they
+     * were read with.
+     */
+    private List<TaskEntity> lockChunk(TaskCriteria criteria, long afterId, int limit) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<TaskEntity> select = cb.createQuery(TaskEntity.class);
+        Root<TaskEntity> task = select.from(TaskEntity.class);
+        List<Predicate> where = matching(cb, task, criteria);
+        where.add(cb.greaterThan(task.<Long>get("id"), afterId));
+        select.where(where.toArray(Predicate[]::new))
+              .orderBy(cb.asc(task.get("id")));
+        return em.createQuery(select)
+                 .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                 .setMaxResults(limit)
+                 .getResultList();
+    }
+
+    private static List<Long> ids(List<TaskEntity> rows) {
+        return rows.stream().map(TaskEntity::getId).toList();
+    }
+
+    @Override
+    @Transactional
+    public int updateIfVersion(long id, Long version, TaskChanges changes, OffsetDateTime now) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaUpdate<TaskEntity> update = cb.createCriteriaUpdate(TaskEntity.class);
+        Root<TaskEntity> task = update.from(TaskEntity.class);
+        apply(cb, update, task, changes, now);
+        update.where(identity(cb, task, id, version));
+        return em.createQuery(update).executeUpdate();
+    }
+
+    @Override
+    @Transactional
+    public int deleteIfVersion(long id, Long version) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaDelete<TaskEntity> delete = cb.createCriteriaDelete(TaskEntity.class);
+        Root<TaskEntity> task = delete.from(TaskEntity.class);
+        delete.where(identity(cb, task, id, version));
+        int deleted = em.createQuery(delete).executeUpdate();
+        if (deleted > 0) {
+            em.persist(new TaskTombstone(id, TaskEntity.now()));
+        }
+        return deleted;
+    }
+
+    @Override
+    @Transactional
+    public void assignId(TaskEntity task) {
+        SharedSessionContractImplementor session = em.unwrap(SharedSessionContractImplementor.class);
+        EntityPersister persister = session.getFactory().getMappingMetamodel().getEntityDescriptor(TaskEntity.class);
+        BeforeExecutionGenerator generator = (BeforeExecutionGenerator) persister.getGenerator();
+        task.setId((Long) generator.generate(session, task, null, EventType.INSERT));
+    }
+
+    @Override
+    @Transactional
+    public void insertAll(List<TaskEntity> tasks) {
+        for (int from = 0; from < tasks.size(); from += INSERT_ROWS) {
+            List<TaskEntity> rows = tasks.subList(from, Math.min(from + INSERT_ROWS, tasks.size()));
+            StringBuilder hql = new StringBuilder(
+                    "insert into TaskEntity (id, title, description, completed, createdAt, updatedAt, version) values ");
+            for (int i = 0; i < rows.size(); i++) {
+                hql.append(i == 0 ? "(" : ", (")
+                   .append(":id").append(i).append(", :title").append(i).append(", :description").append(i)
+                   .append(", :completed").append(i).append(", :createdAt").append(i)
+                   .append(", :updatedAt").append(i).append(", :version").append(i).append(')');
+            }
+            Query insert = em.createQuery(hql.toString());
+            for (int i = 0; i < rows.size(); i++) {
+                TaskEntity t = rows.get(i);
+                insert.setParameter("id" + i, t.getId())
+                      .setParameter("title" + i, t.getTitle())
+                      .setParameter("description" + i, t.getDescription())
+                      .setParameter("completed" + i, t.getCompleted())
+                      .setParameter("createdAt" + i, t.getCreatedAt())
+                      .setParameter("updatedAt" + i, t.getUpdatedAt())
+                      .setParameter("version" + i, t.getVersion());
+            }
+            insert.executeUpdate();
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TaskCounts countTasks(OffsetDateTime hourAgo, OffsetDateTime dayAgo) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<Object[]> query = cb.createQuery(Object[].class);
+        Root<TaskEntity> task = query.from(TaskEntity.class);
+        Path<Boolean> completed = task.get("completed");
+        Path<OffsetDateTime> createdAt = task.get("createdAt");
+        Path<OffsetDateTime> updatedAt = task.get("updatedAt");
+        query.multiselect(cb.count(task),
+                          countWhere(cb, cb.isTrue(completed)),
+                          countWhere(cb, cb.greaterThanOrEqualTo(createdAt, hourAgo)),
+                          countWhere(cb, cb.greaterThanOrEqualTo(createdAt, dayAgo)),
+                          countWhere(cb, cb.and(cb.isTrue(completed), cb.greaterThanOrEqualTo(updatedAt, hourAgo))),
+                          countWhere(cb, cb.and(cb.isTrue(completed), cb.greaterThanOrEqualTo(updatedAt, dayAgo))));
+
+        Object[] row = em.createQuery(query).getSingleResult();
+        return new TaskCounts(count(row[0]), count(row[1]), count(row[2]), count(row[3]), count(row[4]), count(row[5]));
+    }
+
+    /** {@code SUM(CASE WHEN condition THEN 1 ELSE 0 END)}; null over an empty table. */
+    private static Expression<Long> countWhere(CriteriaBuilder cb, Expression<Boolean> condition) {
+        return cb.sum(cb.<Long>selectCase().when(condition, 1L).otherwise(0L));
+    }
+
+    private static long count(Object value) {
+        return value == null ? 0 : ((Number) value).longValue();
+    }
+
+    /**
+     * SETs the non-null columns of {@code changes}. Statement-level updates bypass
+     * {@code @PreUpdate} and {@code @Version}, so {@code updatedAt} and {@code version} are
+     * maintained here.
+     */
+    private static void apply(CriteriaBuilder cb, CriteriaUpdate<TaskEntity> update, Root<TaskEntity> task,
+                              TaskChanges changes, OffsetDateTime now) {
+        if (changes.title() != null) {
+            update.set(task.<String>get("title"), changes.title());
+        }
+        if (changes.description() != null) {
+            update.set(task.<String>get("description"), changes.description());
+        }
+        if (changes.completed() != null) {
+            update.set(task.<Boolean>get("completed"), changes.completed());
+        }
+        update.set(task.<OffsetDateTime>get("updatedAt"), now);
+        Path<Long> version = task.get("version");
+        update.set(version, cb.sum(version, 1L));
+    }
+
+    private static Predicate identity(CriteriaBuilder cb, Root<TaskEntity> task, long id, Long version) {
+        Predicate byId = cb.equal(task.get("id"), id);
+        return version == null ? byId : cb.and(byId, cb.equal(task.get("version"), version));
+    }
+
+    private static List<Predicate> matching(CriteriaBuilder cb, Root<TaskEntity> task, TaskCriteria c) {
+        List<Predicate> where = new ArrayList<>();
+        if (c.ids() != null && !c.ids().isEmpty()) {
+            where.add(task.get("id").in(c.ids()));
+        }
+        if (c.completed() != null) {
+            where.add(cb.equal(task.get("completed"), c.completed()));
+        }
+        Path<OffsetDateTime> createdAt = task.get("createdAt");
+        if (c.createdAfter() != null) {
+            where.add(cb.greaterThanOrEqualTo(createdAt, c.createdAfter()));
+        }
+        if (c.createdBefore() != null) {
+            where.add(cb.lessThan(createdAt, c.createdBefore()));
+        }
+        Path<OffsetDateTime> updatedAt = task.get("updatedAt");
+        if (c.updatedAfter() != null) {
+            where.add(cb.greaterThanOrEqualTo(updatedAt, c.updatedAfter()));
+        }
+        if (c.updatedBefore() != null) {
+            where.add(cb.lessThan(updatedAt, c.updatedBefore()));
+        }
+        if (c.titlePrefix() != null) {
+            where.add(cb.like(task.get("title"), TaskCriteria.likePrefix(c.titlePrefix()), TaskCriteria.LIKE_ESCAPE));
+        }
+        return where;
+    }
+
+    /**
+     * {@code (key, id) > (value, lastId)}, spelled out as
+     * {@code key > value OR (key = value AND id > lastId)} so that every dialect turns it into a
+     * range scan on the {@code (key, id)} index.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Predicate seek(CriteriaBuilder cb, Root<TaskEntity> task, TaskKeyset after) {
+        Path<Long> id = task.get("id");
+        if (after.sort() == TaskSortKey.ID) {
+            return cb.greaterThan(id, after.id());
+        }
+        Path<Comparable> key = task.get(after.sort().attribute());
+        Comparable value = after.value();
+        return cb.or(cb.greaterThan(key, value),
+                     cb.and(cb.equal(key, value), cb.greaterThan(id, after.id())));
+    }
+}
@@ -0,0 +1,50 @@
+package com.theawesomeengineer.taskmanager.repository;
+
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Sort orders supported by keyset pagination. Every key is paired with {@code id} as a
+ * tie-breaker so the ordering is total, and each one is backed by a {@code (key, id)} index
+ * on {@link TaskEntity}.
+ */
+public enum TaskSortKey {
+
+    ID("id", TaskEntity::getId, Long::valueOf),
+    CREATED_AT("createdAt", TaskEntity::getCreatedAt, OffsetDateTime::parse),
+    UPDATED_AT("updatedAt", TaskEntity::getUpdatedAt, OffsetDateTime::parse),
+    TITLE("title", TaskEntity::getTitle, raw -> raw);
+
+    private final String attribute;
+    private final Function<TaskEntity, Comparable<?>> extractor;
+    private final Function<String, Comparable<?>> parser;
+
+    TaskSortKey(String attribute,
+                Function<TaskEntity, Comparable<?>> extractor,
+                Function<String, Comparable<?>> parser) {
+        this.attribute = attribute;
+        this.extractor = extractor;
+        this.parser = parser;
+    }
+
+    /** Entity attribute name, which is also the value accepted by the {@code sort} query parameter. */
+    public String attribute() {
+        return attribute;
+    }
+
+    public Comparable<?> valueOf(TaskEntity e) {
+        return extractor.apply(e);
+    }
+
+    public Comparable<?> parseValue(String raw) {
+        return parser.apply(raw);
+    }
+
+    public static Optional<TaskSortKey> fromAttribute(String attribute) {
+        return Arrays.stream(values())
+                     .filter(k -> k.attribute.equals(attribute))
+                     .findFirst();
+    }
+}
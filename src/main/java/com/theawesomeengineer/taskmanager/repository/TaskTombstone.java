@@ -0,0 +1,31 @@
+package com.theawesomeengineer.taskmanager.repository;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Trace left by a deleted task so delta sync can report the deletion. Only the id is kept; task
+ * ids come from {@code tasks_seq} and are never reused, so a tombstone can never hide a live task.
+ * Tombstones older than {@code taskmanager.sync.tombstone-retention} are compacted away.
+ */
+@Entity
+@Table(name = "task_tombstones", indexes = {
+        // keyset reads for delta sync, and range deletes for compaction
+        @Index(name = "idx_task_tombstones_deleted_at_id", columnList = "deleted_at, id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskTombstone {
+
+    /** Id of the deleted task; assigned, never generated. */
+    @Id
+    private Long id;
+
+    @Column(name = "deleted_at", nullable = false)
+    private OffsetDateTime deletedAt;
+}
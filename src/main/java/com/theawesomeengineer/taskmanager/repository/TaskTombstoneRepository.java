@@ -0,0 +1,32 @@
+package com.theawesomeengineer.taskmanager.repository;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+@Repository
+public interface TaskTombstoneRepository extends JpaRepository<TaskTombstone, Long> {
+
+    /**
+     * Seek-style page of tombstones strictly after {@code (after, afterId)} and older than
+     * {@code before}, in {@code (deletedAt, id)} order; a range scan on the
+     * {@code (deleted_at, id)} index like {@link TaskRepositoryCustom#findPage}.
+     */
+    @Query("select t from TaskTombstone t "
+         + "where t.deletedAt < :before "
+         + "and (t.deletedAt > :after or (t.deletedAt = :after and t.id > :afterId)) "
+         + "order by t.deletedAt, t.id")
+    List<TaskTombstone> findPage(OffsetDateTime after, long afterId, OffsetDateTime before, Limit limit);
+
+    /** Single {@code DELETE} of every tombstone older than {@code cutoff}; returns the row count. */
+    @Modifying
+    @Transactional
+    @Query("delete from TaskTombstone t where t.deletedAt < :cutoff")
+    int deleteOlderThan(OffsetDateTime cutoff);
+}
@@ -0,0 +1,10 @@
+package com.theawesomeengineer.taskmanager.repository;
+
+import java.time.OffsetDateTime;
+
+/**
+ * The columns a task's HTTP validators are derived from: {@code version} for the ETag and
+ * {@code updatedAt} for Last-Modified.
+ */
+public record TaskValidators(long version, OffsetDateTime updatedAt) {
+}
@@ -0,0 +1,88 @@
+package com.theawesomeengineer.taskmanager.search;
+
+import java.util.Arrays;
+
+/**
+ * Postings list of one term: (document ordinal, term frequency) pairs in ascending ordinal order,
+ * stored as varint-encoded ordinal gaps followed by the frequency. Ordinals only ever grow, so
+ * new documents are appended without re-encoding; a typical entry takes two or three bytes.
+ */
+final class Postings {
+
+    private byte[] bytes = new byte[8];
+    private int size;
+    private int count;
+    private int last;
+
+    void add(int ordinal, int frequency) {
+        ensureCapacity(10);
+        writeVarint(ordinal - last);
+        writeVarint(frequency);
+        last = ordinal;
+        count++;
+    }
+
+    /** Entries written, including those of documents removed since (until the next compaction). */
+    int count() {
+        return count;
+    }
+
+    int sizeInBytes() {
+        return size;
+    }
+
+    Cursor cursor() {
+        return new Cursor();
+    }
+
+    private void writeVarint(int value) {
+        while ((value & ~0x7F) != 0) {
+            bytes[size++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        bytes[size++] = (byte) value;
+    }
+
+    private void ensureCapacity(int extra) {
+        if (size + extra > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + extra));
+        }
+    }
+
+    /** Forward-only reader over the entries. */
+    final class Cursor {
+
+        private int position;
+        private int ordinal;
+        private int frequency;
+
+        boolean next() {
+            if (position >= size) {
+                return false;
+            }
+            ordinal += readVarint();
+            frequency = readVarint();
+            return true;
+        }
+
+        int ordinal() {
+            return ordinal;
+        }
+
+        int frequency() {
+            return frequency;
+        }
+
+        private int readVarint() {
+            int value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = bytes[position++];
+                value |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            return value;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.theawesomeengineer.taskmanager.search;
+
+import com.theawesomeengineer.taskmanager.repository.ReactiveTaskRepository;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link TaskSearchIndexLoader} for the {@code reactive} profile: the same startup fill, streamed
+ * through R2DBC.
+ */
+@Component
+@Profile("reactive")
+public class ReactiveTaskSearchIndexLoader implements ApplicationRunner {
+
+    private final TaskSearchIndex index;
+    private final ReactiveTaskRepository repo;
+
+    public ReactiveTaskSearchIndexLoader(TaskSearchIndex index, ReactiveTaskRepository repo) {
+        this.index = index;
+        this.repo = repo;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!index.isEnabled()) {
+            return;
+        }
+        repo.streamAll()
+            .doOnNext(index::index)
+            .then()
+            .block();
+        index.markReady();
+    }
+}
@@ -0,0 +1,5 @@
+package com.theawesomeengineer.taskmanager.search;
+
+/** A matching task and its BM25 score; higher is better. */
+public record SearchHit(long id, double score) {
+}
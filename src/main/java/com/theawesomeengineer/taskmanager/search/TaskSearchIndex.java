@@ -0,0 +1,322 @@
+package com.theawesomeengineer.taskmanager.search;
+
+import com.theawesomeengineer.taskmanager.cache.CachedTask;
+import com.theawesomeengineer.taskmanager.config.TaskmanagerProperties;
+import com.theawesomeengineer.taskmanager.repository.TaskEntity;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-process inverted index over task titles and descriptions, ranked with BM25, so full-text
+ * search never reaches the database. Title terms count {@value #TITLE_WEIGHT} times.
+ * <p>
+ * Every indexed version of a task gets a fresh document ordinal; re-indexing or removing a task
+ * only marks its old ordinal dead, so postings lists stay append-only and writers never re-encode
+ * them. Dead entries are skipped at query time and dropped by a compaction once they make up
+ * half of all entries. Until then document frequencies still count them, which slightly lowers
+ * the idf of terms in frequently edited tasks.
+ * <p>
+ * Writers keep it current the same way as {@link com.theawesomeengineer.taskmanager.cache.TaskCache}:
+ * after their change is committed. A version older than the one indexed is ignored, so the
+ * startup load cannot undo a concurrent write.
+ */
+@Component
+public class TaskSearchIndex {
+
+    static final int TITLE_WEIGHT = 2;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int SPARE_SCORE_BUFFERS = 16;
+
+    private final boolean enabled;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // score accumulators of finished queries, cleared via their touched ordinals; pooled rather
+    // than thread-local since every request may run on a fresh virtual thread
+    private final BlockingQueue<float[]> spareScores = new ArrayBlockingQueue<>(SPARE_SCORE_BUFFERS);
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final Map<Long, Integer> ordinalById = new HashMap<>();
+    private long[] ids = new long[1024];
+    private long[] versions = new long[1024];
+    private int[] lengths = new int[1024];
+    private int[] termCounts = new int[1024];
+    private BitSet live = new BitSet();
+    private int nextOrdinal;
+    private int liveDocs;
+    private long totalLength;
+    private long entries;
+    private long deadEntries;
+    private volatile boolean ready;
+
+    public TaskSearchIndex(TaskmanagerProperties properties, MeterRegistry registry) {
+        this.enabled = properties.getSearch().isEnabled();
+        Gauge.builder("taskmanager.search.documents", this, TaskSearchIndex::size)
+             .description("Tasks in the full-text search index")
+             .register(registry);
+        Gauge.builder("taskmanager.search.terms", this, TaskSearchIndex::terms)
+             .description("Distinct terms in the full-text search index")
+             .register(registry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /** Whether the startup load has finished; until then results may be incomplete. */
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void markReady() {
+        ready = true;
+    }
+
+    public void index(TaskEntity task) {
+        index(task.getId(), task.getVersion(), task.getTitle(), task.getDescription());
+    }
+
+    public void index(CachedTask task) {
+        index(task.id(), task.version(), task.task().getTitle(), task.task().getDescription());
+    }
+
+    /** Indexes (or re-indexes) a task, unless the same or a newer version is already indexed. */
+    public void index(long id, long version, String title, String description) {
+        if (!enabled) {
+            return;
+        }
+        Map<String, Integer> frequencies = frequencies(title, description);
+        int length = frequencies.values().stream().mapToInt(Integer::intValue).sum();
+        lock.writeLock().lock();
+        try {
+            add(id, version, frequencies, length);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        if (!enabled) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinalById.remove(id);
+            if (ordinal != null) {
+                retire(ordinal);
+                compactIfNeeded();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * The {@code limit} best matches for {@code query}: tasks containing any of its terms, ranked
+     * by BM25, ties broken by id.
+     */
+    public List<SearchHit> search(String query, int limit) {
+        Set<String> terms = new LinkedHashSet<>(Tokenizer.tokenize(query));
+        if (!enabled || terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            if (liveDocs == 0) {
+                return List.of();
+            }
+            double averageLength = (double) totalLength / liveDocs;
+            float[] scores = scoreBuffer();
+            int[] touched = new int[16];
+            int touchedCount = 0;
+            try {
+                for (String term : terms) {
+                    Postings list = postings.get(term);
+                    if (list == null) {
+                        continue;
+                    }
+                    int df = Math.min(list.count(), liveDocs);
+                    double idf = Math.log(1 + (liveDocs - df + 0.5) / (df + 0.5));
+                    Postings.Cursor cursor = list.cursor();
+                    while (cursor.next()) {
+                        int ordinal = cursor.ordinal();
+                        if (!live.get(ordinal)) {
+                            continue;
+                        }
+                        int tf = cursor.frequency();
+                        double norm = K1 * (1 - B + B * lengths[ordinal] / averageLength);
+                        if (scores[ordinal] == 0) {
+                            if (touchedCount == touched.length) {
+                                touched = Arrays.copyOf(touched, touchedCount * 2);
+                            }
+                            touched[touchedCount++] = ordinal;
+                        }
+                        scores[ordinal] += (float) (idf * tf * (K1 + 1) / (tf + norm));
+                    }
+                }
+                return top(scores, touched, touchedCount, limit);
+            } finally {
+                for (int i = 0; i < touchedCount; i++) {
+                    scores[touched[i]] = 0;
+                }
+                spareScores.offer(scores);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * A zeroed score accumulator covering every ordinal, taken from {@link #spareScores} when one
+     * is large enough. Called with the read lock held, so the index cannot grow meanwhile.
+     */
+    private float[] scoreBuffer() {
+        float[] scores = spareScores.poll();
+        return scores != null && scores.length >= nextOrdinal ? scores : new float[ids.length];
+    }
+
+    public int size() {
+        return liveDocs;
+    }
+
+    int terms() {
+        return postings.size();
+    }
+
+    /* ---------- internals, called with the write lock held ---------- */
+
+    private void add(long id, long version, Map<String, Integer> frequencies, int length) {
+        Integer previous = ordinalById.get(id);
+        if (previous != null) {
+            if (versions[previous] >= version) {
+                return;
+            }
+            retire(previous);
+        }
+        int ordinal = nextOrdinal++;
+        ensureCapacity(nextOrdinal);
+        ids[ordinal] = id;
+        versions[ordinal] = version;
+        lengths[ordinal] = length;
+        termCounts[ordinal] = frequencies.size();
+        live.set(ordinal);
+        liveDocs++;
+        totalLength += length;
+        entries += frequencies.size();
+        frequencies.forEach((term, tf) -> postings.computeIfAbsent(term, t -> new Postings()).add(ordinal, tf));
+        ordinalById.put(id, ordinal);
+    }
+
+    private void retire(int ordinal) {
+        live.clear(ordinal);
+        liveDocs--;
+        totalLength -= lengths[ordinal];
+        deadEntries += termCounts[ordinal];
+    }
+
+    private void compactIfNeeded() {
+        if (deadEntries > 10_000 && deadEntries * 2 > entries) {
+            compact();
+        }
+    }
+
+    /** Renumbers live documents densely (keeping their order) and rewrites every postings list. */
+    void compact() {
+        int[] remap = new int[nextOrdinal];
+        int next = 0;
+        for (int ordinal = 0; ordinal < nextOrdinal; ordinal++) {
+            if (live.get(ordinal)) {
+                remap[ordinal] = next;
+                ids[next] = ids[ordinal];
+                versions[next] = versions[ordinal];
+                lengths[next] = lengths[ordinal];
+                termCounts[next] = termCounts[ordinal];
+                next++;
+            } else {
+                remap[ordinal] = -1;
+            }
+        }
+
+        long kept = 0;
+        Iterator<Map.Entry<String, Postings>> it = postings.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<String, Postings> entry = it.next();
+            Postings rewritten = new Postings();
+            Postings.Cursor cursor = entry.getValue().cursor();
+            while (cursor.next()) {
+                int ordinal = remap[cursor.ordinal()];
+                if (ordinal >= 0) {
+                    rewritten.add(ordinal, cursor.frequency());
+                }
+            }
+            if (rewritten.count() == 0) {
+                it.remove();
+            } else {
+                entry.setValue(rewritten);
+                kept += rewritten.count();
+            }
+        }
+        ordinalById.replaceAll((id, ordinal) -> remap[ordinal]);
+
+        live = new BitSet(next);
+        live.set(0, next);
+        nextOrdinal = next;
+        entries = kept;
+        deadEntries = 0;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > ids.length) {
+            int grown = Math.max(capacity, ids.length * 2);
+            ids = Arrays.copyOf(ids, grown);
+            versions = Arrays.copyOf(versions, grown);
+            lengths = Arrays.copyOf(lengths, grown);
+            termCounts = Arrays.copyOf(termCounts, grown);
+        }
+    }
+
+    private List<SearchHit> top(float[] scores, int[] touched, int touchedCount, int limit) {
+        // min-heap on (score, then reversed id) so the weakest hit is evicted first
+        PriorityQueue<SearchHit> best = new PriorityQueue<>(limit + 1, TaskSearchIndex::compareHits);
+        for (int i = 0; i < touchedCount; i++) {
+            int ordinal = touched[i];
+            best.add(new SearchHit(ids[ordinal], scores[ordinal]));
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+        List<SearchHit> hits = new ArrayList<>(best);
+        hits.sort((a, b) -> compareHits(b, a));
+        return hits;
+    }
+
+    private static int compareHits(SearchHit a, SearchHit b) {
+        int byScore = Double.compare(a.score(), b.score());
+        return byScore != 0 ? byScore : Long.compare(b.id(), a.id());
+    }
+
+    private static Map<String, Integer> frequencies(String title, String description) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String term : Tokenizer.tokenize(title)) {
+            frequencies.merge(term, TITLE_WEIGHT, Integer::sum);
+        }
+        for (String term : Tokenizer.tokenize(description)) {
+            frequencies.merge(term, 1, Integer::sum);
+        }
+        return frequencies;
+    }
+}
@@ -0,0 +1,56 @@
+package com.theawesomeengineer.taskmanager.search;
+
+import com.theawesomeengineer.taskmanager.repository.TaskEntity;
+import com.theawesomeengineer.taskmanager.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Fills the {@link TaskSearchIndex} from the {@code tasks} table before the application reports
+ * itself ready, reading through the same forward-only cursor as the NDJSON export. Writes that
+ * land meanwhile are indexed by the API as usual and win over the older rows read here.
+ */
+@Component
+@Profile("!reactive")
+public class TaskSearchIndexLoader implements ApplicationRunner {
+
+    private final TaskSearchIndex index;
+    private final TaskRepository repo;
+    private final EntityManager em;
+    private final TransactionTemplate readOnlyTx;
+
+    public TaskSearchIndexLoader(TaskSearchIndex index, TaskRepository repo, EntityManager em,
+                                 PlatformTransactionManager txManager) {
+        this.index = index;
+        this.repo = repo;
+        this.em = em;
+        this.readOnlyTx = new TransactionTemplate(txManager);
+        this.readOnlyTx.setReadOnly(true);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!index.isEnabled()) {
+            return;
+        }
+        readOnlyTx.executeWithoutResult(status -> {
+            try (Stream<TaskEntity> rows = repo.streamAll()) {
+                Iterator<TaskEntity> it = rows.iterator();
+                while (it.hasNext()) {
+                    TaskEntity e = it.next();
+                    index.index(e);
+                    em.detach(e);
+                }
+            }
+        });
+        index.markReady();
+    }
+}
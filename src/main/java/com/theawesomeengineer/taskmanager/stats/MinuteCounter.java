@@ -0,0 +1,58 @@
+package com.theawesomeengineer.taskmanager.stats;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Event counts per minute over the last {@value #MINUTES} minutes, as a ring of striped
+ * {@link LongAdder}s. A slot is claimed for a new minute by CAS on its stamp and then reset, so
+ * an increment racing with that reset can be lost; the reconciliation in {@link TaskStatistics}
+ * puts it back. Counts for minutes that have left the ring are dropped.
+ */
+final class MinuteCounter {
+
+    static final int MINUTES = 24 * 60;
+
+    private final AtomicLongArray stamps = new AtomicLongArray(MINUTES);
+    private final LongAdder[] counts = new LongAdder[MINUTES];
+
+    MinuteCounter() {
+        for (int i = 0; i < MINUTES; i++) {
+            stamps.set(i, Long.MIN_VALUE);
+            counts[i] = new LongAdder();
+        }
+    }
+
+    /** Adds {@code delta} to the count of {@code minute} (minutes since the epoch). */
+    void add(long minute, long delta) {
+        int slot = (int) Math.floorMod(minute, (long) MINUTES);
+        while (true) {
+            long stamp = stamps.get(slot);
+            if (stamp == minute) {
+                counts[slot].add(delta);
+                return;
+            }
+            if (stamp > minute) {
+                // the slot already holds a later minute: this one is more than a day old
+                return;
+            }
+            if (stamps.compareAndSet(slot, stamp, minute)) {
+                counts[slot].reset();
+                counts[slot].add(delta);
+                return;
+            }
+        }
+    }
+
+    /** Sum over the {@code span} minutes ending with (and including) {@code now}. */
+    long sum(long now, int span) {
+        long sum = 0;
+        for (long minute = now - span + 1; minute <= now; minute++) {
+            int slot = (int) Math.floorMod(minute, (long) MINUTES);
+            if (stamps.get(slot) == minute) {
+                sum += counts[slot].sum();
+            }
+        }
+        return sum;
+    }
+}
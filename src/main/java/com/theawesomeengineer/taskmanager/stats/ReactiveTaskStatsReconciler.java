@@ -0,0 +1,50 @@
+package com.theawesomeengineer.taskmanager.stats;
+
+import com.theawesomeengineer.taskmanager.config.TaskmanagerProperties;
+import com.theawesomeengineer.taskmanager.repository.ReactiveTaskRepository;
+import com.theawesomeengineer.taskmanager.repository.TaskEntity;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.FixedDelayTask;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+
+/** {@link TaskStatsReconciler} for the {@code reactive} profile, querying through R2DBC. */
+@Component
+@Profile("reactive")
+public class ReactiveTaskStatsReconciler implements ApplicationRunner, SchedulingConfigurer {
+
+    private final TaskStatistics stats;
+    private final ReactiveTaskRepository repo;
+    private final Duration interval;
+
+    public ReactiveTaskStatsReconciler(TaskStatistics stats, ReactiveTaskRepository repo,
+                                       TaskmanagerProperties properties) {
+        this.stats = stats;
+        this.repo = repo;
+        this.interval = properties.getStats().getReconcileInterval();
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        reconcile();
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        // runs on the scheduler's own thread, never on an event loop
+        registrar.addFixedDelayTask(new FixedDelayTask(this::reconcile, interval, interval));
+    }
+
+    void reconcile() {
+        OffsetDateTime now = TaskEntity.now();
+        repo.countTasks(now.minusHours(1), now.minusDays(1))
+            .doOnNext(counts -> stats.reconcile(counts, now))
+            .block();
+    }
+}
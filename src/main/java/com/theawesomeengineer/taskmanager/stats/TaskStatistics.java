@@ -0,0 +1,129 @@
+package com.theawesomeengineer.taskmanager.stats;
+
+import com.theawesomeengineer.taskmanager.model.Task;
+import com.theawesomeengineer.taskmanager.repository.TaskCounts;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.OffsetDateTime;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Task counts kept in memory so {@code GET /tasks/stats} never queries the database. Totals are
+ * {@link LongAdder}s; "last hour" and "last day" figures are sliding sums over per-minute
+ * {@link MinuteCounter}s, keyed by {@code createdAt} and, for completed tasks, {@code updatedAt}.
+ * <p>
+ * Writers report each change after it is committed. An update or delete is only counted exactly
+ * when the caller knows the task's previous state (its cached copy, or the row a bulk chunk
+ * locked); otherwise the figures drift until the next {@link #reconcile}, which compares them with
+ * one aggregate query and adds the difference. The size of each correction is published as
+ * {@code taskmanager.stats.drift}. Figures are reported as they are, so drift shows up rather
+ * than being clamped away.
+ */
+@Component
+public class TaskStatistics {
+
+    private static final int HOUR = 60;
+    private static final int DAY = MinuteCounter.MINUTES;
+
+    private final LongAdder total = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final MinuteCounter created = new MinuteCounter();
+    private final MinuteCounter completedAt = new MinuteCounter();
+    private final DistributionSummary drift;
+    private volatile boolean seeded;
+
+    public TaskStatistics(MeterRegistry registry) {
+        this.drift = DistributionSummary.builder("taskmanager.stats.drift")
+                                        .description("Sum of the corrections made by each reconciliation")
+                                        .register(registry);
+    }
+
+    /** Whether the counts have been loaded from the database at least once. */
+    public boolean isSeeded() {
+        return seeded;
+    }
+
+    public void created(Task task) {
+        total.increment();
+        created.add(minute(task.getCreatedAt()), 1);
+        if (Boolean.TRUE.equals(task.getCompleted())) {
+            completed.increment();
+            completedAt.add(minute(task.getUpdatedAt()), 1);
+        }
+    }
+
+    /** {@code before} is the task's previous state, or null when it is not known. */
+    public void updated(Task before, Task after) {
+        if (before == null) {
+            return;
+        }
+        if (Boolean.TRUE.equals(before.getCompleted())) {
+            completed.decrement();
+            completedAt.add(minute(before.getUpdatedAt()), -1);
+        }
+        if (Boolean.TRUE.equals(after.getCompleted())) {
+            completed.increment();
+            completedAt.add(minute(after.getUpdatedAt()), 1);
+        }
+    }
+
+    /** {@code before} is the deleted task's last known state, or null when it is not known. */
+    public void deleted(Task before) {
+        total.decrement();
+        if (before == null) {
+            return;
+        }
+        created.add(minute(before.getCreatedAt()), -1);
+        if (Boolean.TRUE.equals(before.getCompleted())) {
+            completed.decrement();
+            completedAt.add(minute(before.getUpdatedAt()), -1);
+        }
+    }
+
+    public TaskCounts snapshot(OffsetDateTime now) {
+        return counts(minute(now));
+    }
+
+    /**
+     * Brings the figures in line with {@code actual}, as counted by the database at {@code asOf}.
+     * The differences are added rather than the values overwritten, so changes reported while the
+     * query ran are kept. A window's difference goes into the bucket of minute {@code asOf}; the
+     * day window's remainder goes into the minute just outside the hour window.
+     */
+    public void reconcile(TaskCounts actual, OffsetDateTime asOf) {
+        long now = minute(asOf);
+        TaskCounts current = counts(now);
+        long totalDelta = actual.total() - current.total();
+        long completedDelta = actual.completed() - current.completed();
+        long createdHourDelta = actual.createdLastHour() - current.createdLastHour();
+        long createdDayDelta = actual.createdLastDay() - current.createdLastDay();
+        long completedHourDelta = actual.completedLastHour() - current.completedLastHour();
+        long completedDayDelta = actual.completedLastDay() - current.completedLastDay();
+
+        total.add(totalDelta);
+        completed.add(completedDelta);
+        created.add(now, createdHourDelta);
+        created.add(now - HOUR, createdDayDelta - createdHourDelta);
+        completedAt.add(now, completedHourDelta);
+        completedAt.add(now - HOUR, completedDayDelta - completedHourDelta);
+
+        if (seeded) {
+            drift.record(Math.abs(totalDelta) + Math.abs(completedDelta)
+                         + Math.abs(createdHourDelta) + Math.abs(createdDayDelta)
+                         + Math.abs(completedHourDelta) + Math.abs(completedDayDelta));
+        }
+        seeded = true;
+    }
+
+    private TaskCounts counts(long now) {
+        return new TaskCounts(total.sum(), completed.sum(),
+                              created.sum(now, HOUR), created.sum(now, DAY),
+                              completedAt.sum(now, HOUR), completedAt.sum(now, DAY));
+    }
+
+    private static long minute(OffsetDateTime time) {
+        return Math.floorDiv(time.toEpochSecond(), 60);
+    }
+}
@@ -0,0 +1,49 @@
+package com.theawesomeengineer.taskmanager.stats;
+
+import com.theawesomeengineer.taskmanager.config.TaskmanagerProperties;
+import com.theawesomeengineer.taskmanager.repository.TaskEntity;
+import com.theawesomeengineer.taskmanager.repository.TaskRepository;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.FixedDelayTask;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+
+/**
+ * Seeds {@link TaskStatistics} from the database before the application reports itself ready,
+ * then reconciles it every {@code taskmanager.stats.reconcile-interval}.
+ */
+@Component
+@Profile("!reactive")
+public class TaskStatsReconciler implements ApplicationRunner, SchedulingConfigurer {
+
+    private final TaskStatistics stats;
+    private final TaskRepository repo;
+    private final Duration interval;
+
+    public TaskStatsReconciler(TaskStatistics stats, TaskRepository repo, TaskmanagerProperties properties) {
+        this.stats = stats;
+        this.repo = repo;
+        this.interval = properties.getStats().getReconcileInterval();
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        reconcile();
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        registrar.addFixedDelayTask(new FixedDelayTask(this::reconcile, interval, interval));
+    }
+
+    void reconcile() {
+        OffsetDateTime now = TaskEntity.now();
+        stats.reconcile(repo.countTasks(now.minusHours(1), now.minusDays(1)), now);
+    }
+}
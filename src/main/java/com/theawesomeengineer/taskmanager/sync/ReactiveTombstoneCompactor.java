@@ -0,0 +1,45 @@
+package com.theawesomeengineer.taskmanager.sync;
+
+import com.theawesomeengineer.taskmanager.config.TaskmanagerProperties;
+import com.theawesomeengineer.taskmanager.repository.ReactiveTaskRepository;
+import com.theawesomeengineer.taskmanager.repository.TaskEntity;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.FixedDelayTask;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/** {@link TombstoneCompactor} for the {@code reactive} profile, deleting through R2DBC. */
+@Component
+@Profile("reactive")
+public class ReactiveTombstoneCompactor implements SchedulingConfigurer {
+
+    private final ReactiveTaskRepository repo;
+    private final Duration retention;
+    private final Duration interval;
+    private final Counter compacted;
+
+    public ReactiveTombstoneCompactor(ReactiveTaskRepository repo, TaskmanagerProperties properties,
+                                      MeterRegistry registry) {
+        this.repo = repo;
+        this.retention = properties.getSync().getTombstoneRetention();
+        this.interval = properties.getSync().getCompactionInterval();
+        this.compacted = TombstoneCompactor.compactedCounter(registry);
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        // runs on the scheduler's own thread, never on an event loop
+        registrar.addFixedDelayTask(new FixedDelayTask(this::compact, interval, interval));
+    }
+
+    void compact() {
+        repo.deleteTombstonesOlderThan(TaskEntity.now().minus(retention))
+            .doOnNext(compacted::increment)
+            .block();
+    }
+}
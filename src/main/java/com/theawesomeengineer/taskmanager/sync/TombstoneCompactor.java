@@ -0,0 +1,52 @@
+package com.theawesomeengineer.taskmanager.sync;
+
+import com.theawesomeengineer.taskmanager.config.TaskmanagerProperties;
+import com.theawesomeengineer.taskmanager.repository.TaskEntity;
+import com.theawesomeengineer.taskmanager.repository.TaskTombstoneRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.FixedDelayTask;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Deletes tombstones older than {@code taskmanager.sync.tombstone-retention} every
+ * {@code taskmanager.sync.compaction-interval}, so the table holds one retention window of
+ * deletions rather than every deletion ever made. Sync tokens that old are answered with 410.
+ */
+@Component
+@Profile("!reactive")
+public class TombstoneCompactor implements SchedulingConfigurer {
+
+    private final TaskTombstoneRepository tombstones;
+    private final Duration retention;
+    private final Duration interval;
+    private final Counter compacted;
+
+    public TombstoneCompactor(TaskTombstoneRepository tombstones, TaskmanagerProperties properties,
+                              MeterRegistry registry) {
+        this.tombstones = tombstones;
+        this.retention = properties.getSync().getTombstoneRetention();
+        this.interval = properties.getSync().getCompactionInterval();
+        this.compacted = compactedCounter(registry);
+    }
+
+    static Counter compactedCounter(MeterRegistry registry) {
+        return Counter.builder("taskmanager.sync.tombstones.compacted")
+                      .description("Tombstones deleted after the sync retention window")
+                      .register(registry);
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        registrar.addFixedDelayTask(new FixedDelayTask(this::compact, interval, interval));
+    }
+
+    void compact() {
+        compacted.increment(tombstones.deleteOlderThan(TaskEntity.now().minus(retention)));
+    }
+}
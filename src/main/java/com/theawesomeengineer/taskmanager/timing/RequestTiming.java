@@ -0,0 +1,138 @@
+package com.theawesomeengineer.taskmanager.timing;
+
+import java.util.Locale;
+import java.util.StringJoiner;
+
+/**
+ * Phase durations and SQL accounting for the request on the current thread, rendered as a
+ * {@code Server-Timing} header. {@link ServerTimingFilter} opens one per timed request; the hooks
+ * in the web and JPA layers record into it through the static methods, which do nothing when the
+ * request is not being timed.
+ * <p>
+ * Phases: {@code deser} (request body read), {@code valid} (Bean Validation of the body),
+ * {@code delegate} (handler time outside the other web phases, including SQL), {@code db} (JDBC
+ * execution, with statement and row counts), {@code ser} (response body write) and {@code total}.
+ */
+public final class RequestTiming {
+
+    public static final String HEADER = "Server-Timing";
+
+    private static final ThreadLocal<RequestTiming> CURRENT = new ThreadLocal<>();
+
+    private final long start = System.nanoTime();
+    private long handlerStart;
+    private long handlerEnd;
+    private long bodyReadStart;
+    private long bodyWriteStart;
+    private long deserNanos;
+    private long validationNanos;
+    private long sqlNanos;
+    private int statements;
+    private long rows;
+
+    RequestTiming() {
+    }
+
+    static RequestTiming begin() {
+        RequestTiming timing = new RequestTiming();
+        CURRENT.set(timing);
+        return timing;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    /** The timing of the request on this thread, or {@code null} when it is not being timed. */
+    public static RequestTiming current() {
+        return CURRENT.get();
+    }
+
+    static void statementPrepared() {
+        RequestTiming timing = CURRENT.get();
+        if (timing != null) {
+            timing.statements++;
+        }
+    }
+
+    static void rowLoaded() {
+        RequestTiming timing = CURRENT.get();
+        if (timing != null) {
+            timing.rows++;
+        }
+    }
+
+    static void sqlExecuted(long nanos) {
+        RequestTiming timing = CURRENT.get();
+        if (timing != null) {
+            timing.sqlNanos += nanos;
+        }
+    }
+
+    static void validated(long nanos) {
+        RequestTiming timing = CURRENT.get();
+        if (timing != null) {
+            timing.validationNanos += nanos;
+        }
+    }
+
+    void handlerStarted() {
+        handlerStart = System.nanoTime();
+    }
+
+    void handlerEnded() {
+        if (handlerEnd == 0) {
+            handlerEnd = System.nanoTime();
+        }
+    }
+
+    void bodyReadStarted() {
+        bodyReadStart = System.nanoTime();
+    }
+
+    void bodyReadEnded() {
+        if (bodyReadStart != 0) {
+            deserNanos += System.nanoTime() - bodyReadStart;
+            bodyReadStart = 0;
+        }
+    }
+
+    void bodyWriteStarted() {
+        bodyWriteStart = System.nanoTime();
+        handlerEnded();
+    }
+
+    /** SQL statements prepared so far; what statement budgets in tests are checked against. */
+    public int statements() {
+        return statements;
+    }
+
+    /** Entity rows loaded so far. */
+    public long rows() {
+        return rows;
+    }
+
+    String header(long now) {
+        StringJoiner entries = new StringJoiner(", ");
+        if (deserNanos > 0) {
+            entries.add(entry("deser", deserNanos));
+        }
+        if (validationNanos > 0) {
+            entries.add(entry("valid", validationNanos));
+        }
+        if (handlerStart != 0) {
+            long handler = (handlerEnd != 0 ? handlerEnd : now) - handlerStart;
+            entries.add(entry("delegate", Math.max(0, handler - deserNanos - validationNanos)));
+        }
+        entries.add(entry("db", sqlNanos) + ";desc=\"" + statements + " statements, " + rows + " rows\"");
+        if (bodyWriteStart != 0) {
+            entries.add(entry("ser", now - bodyWriteStart));
+        }
+        entries.add(entry("total", now - start));
+        return entries.toString();
+    }
+
+    private static String entry(String name, long nanos) {
+        return String.format(Locale.ROOT, "%s;dur=%.2f", name, nanos / 1e6);
+    }
+}
@@ -0,0 +1,56 @@
+package com.theawesomeengineer.taskmanager.timing;
+
+import com.theawesomeengineer.taskmanager.config.TaskmanagerProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+
+/**
+ * Times {@code /tasks} requests when {@code taskmanager.server-timing.enabled} is set or the
+ * client sends the debug header, and adds the {@code Server-Timing} header. The response body is
+ * buffered so the header can still be set once serialization has finished; NDJSON exports and
+ * the change feed are never timed because buffering would defeat streaming.
+ */
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    private final TaskmanagerProperties.ServerTiming settings;
+
+    public ServerTimingFilter(TaskmanagerProperties.ServerTiming settings) {
+        this.settings = settings;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (!path.startsWith("/tasks") || path.equals("/tasks/changes")) {
+            return true;
+        }
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        if (accept != null && (accept.contains("application/x-ndjson") || accept.contains("text/event-stream"))) {
+            return true;
+        }
+        return !settings.isEnabled()
+                && !(StringUtils.hasText(settings.getDebugHeader()) && request.getHeader(settings.getDebugHeader()) != null);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RequestTiming timing = RequestTiming.begin();
+        ContentCachingResponseWrapper buffered = new ContentCachingResponseWrapper(response);
+        try {
+            chain.doFilter(request, buffered);
+        } finally {
+            RequestTiming.end();
+            buffered.setHeader(RequestTiming.HEADER, timing.header(System.nanoTime()));
+            buffered.copyBodyToResponse();
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.theawesomeengineer.taskmanager.timing;
+
+import org.hibernate.Interceptor;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.type.Type;
+
+/**
+ * Counts the SQL statements Hibernate prepares and the entity rows it loads for the current
+ * {@link RequestTiming}. Registered as both the session factory's statement inspector and its
+ * interceptor; the SQL itself is passed through unchanged.
+ */
+public class SqlAccounting implements StatementInspector, Interceptor {
+
+    @Override
+    public String inspect(String sql) {
+        RequestTiming.statementPrepared();
+        return sql;
+    }
+
+    @Override
+    public boolean onLoad(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+        RequestTiming.rowLoaded();
+        return false;
+    }
+}
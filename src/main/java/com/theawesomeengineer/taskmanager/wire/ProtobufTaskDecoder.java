@@ -0,0 +1,51 @@
+package com.theawesomeengineer.taskmanager.wire;
+
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.AbstractDataBufferDecoder;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+
+/**
+ * Reads {@code application/x-protobuf} request bodies for WebFlux (see {@link TaskProtobuf}). A
+ * message carries no length of its own, so the whole body is joined before it is read, within
+ * the codecs' {@code max-in-memory-size}.
+ */
+public class ProtobufTaskDecoder extends AbstractDataBufferDecoder<Object> {
+
+    public ProtobufTaskDecoder() {
+        super(TaskProtobuf.APPLICATION_PROTOBUF);
+    }
+
+    @Override
+    public boolean canDecode(ResolvableType elementType, MimeType mimeType) {
+        return (TaskProtobuf.supports(elementType.toClass()) || ProtobufTaskHttpMessageConverter.isTaskList(elementType.getType()))
+               && super.canDecode(elementType, mimeType);
+    }
+
+    @Override
+    public Flux<Object> decode(Publisher<DataBuffer> input, ResolvableType elementType,
+                               MimeType mimeType, Map<String, Object> hints) {
+        return decodeToMono(input, elementType, mimeType, hints).flux();
+    }
+
+    @Override
+    public Object decode(DataBuffer buffer, ResolvableType targetType, MimeType mimeType, Map<String, Object> hints) {
+        try (InputStream body = buffer.asInputStream()) {
+            return ProtobufTaskHttpMessageConverter.isTaskList(targetType.getType())
+                   ? TaskProtobuf.readList(body)
+                   : TaskProtobuf.read(targetType.toClass(), body);
+        } catch (IOException e) {
+            throw new DecodingException("Invalid Protobuf message: " + e.getMessage(), e);
+        } finally {
+            DataBufferUtils.release(buffer);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.theawesomeengineer.taskmanager.wire;
+
+import com.theawesomeengineer.taskmanager.model.Task;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.Encoder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@code application/x-protobuf} bodies for WebFlux, in the encoding of {@link TaskProtobuf}. A
+ * single value is one message; a {@link Flux} of tasks is written as a {@code TaskList}, one
+ * entry per task as it arrives, so a page is never held as a second, encoded copy.
+ */
+public class ProtobufTaskEncoder implements Encoder<Object> {
+
+    @Override
+    public boolean canEncode(ResolvableType elementType, MimeType mimeType) {
+        return (mimeType == null || TaskProtobuf.APPLICATION_PROTOBUF.isCompatibleWith(mimeType))
+               && (TaskProtobuf.supports(elementType.toClass()) || ProtobufTaskHttpMessageConverter.isTaskList(elementType.getType()));
+    }
+
+    @Override
+    public Flux<DataBuffer> encode(Publisher<?> inputStream, DataBufferFactory bufferFactory,
+                                   ResolvableType elementType, MimeType mimeType, Map<String, Object> hints) {
+        if (inputStream instanceof Mono<?> mono) {
+            return mono.map(value -> encodeValue(value, bufferFactory, elementType, mimeType, hints)).flux();
+        }
+        return Flux.from(inputStream).map(task -> bufferFactory.wrap(TaskProtobuf.listEntry((Task) task)));
+    }
+
+    @Override
+    public DataBuffer encodeValue(Object value, DataBufferFactory bufferFactory,
+                                  ResolvableType valueType, MimeType mimeType, Map<String, Object> hints) {
+        return bufferFactory.wrap(TaskProtobuf.toBytes(value));
+    }
+
+    @Override
+    public List<MimeType> getEncodableMimeTypes() {
+        return List.of(TaskProtobuf.APPLICATION_PROTOBUF);
+    }
+}
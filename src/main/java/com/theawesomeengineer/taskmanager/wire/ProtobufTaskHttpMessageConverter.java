@@ -0,0 +1,75 @@
+package com.theawesomeengineer.taskmanager.wire;
+
+import com.theawesomeengineer.taskmanager.model.Task;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.List;
+
+/**
+ * {@code application/x-protobuf} bodies for Spring MVC, in the encoding of {@link TaskProtobuf}:
+ * {@code Task}, {@code TaskRequest} and {@code Error}, and {@code List<Task>} as a {@code TaskList}.
+ * Other types have no message in the schema, so a request for them in Protobuf gets 406.
+ */
+public class ProtobufTaskHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    public ProtobufTaskHttpMessageConverter() {
+        super(TaskProtobuf.APPLICATION_PROTOBUF);
+    }
+
+    static boolean isTaskList(Type type) {
+        ResolvableType resolved = ResolvableType.forType(type);
+        return List.class.isAssignableFrom(resolved.toClass()) && resolved.getGeneric(0).toClass() == Task.class;
+    }
+
+    private static boolean supports(Type type) {
+        return type instanceof Class<?> clazz ? TaskProtobuf.supports(clazz) : isTaskList(type);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return TaskProtobuf.supports(clazz);
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return supports(type) && canRead(mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        return (type != null ? supports(type) : supports(clazz)) && canWrite(mediaType);
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) throws IOException {
+        try {
+            return isTaskList(type)
+                   ? TaskProtobuf.readList(inputMessage.getBody())
+                   : TaskProtobuf.read(ResolvableType.forType(type).toClass(), inputMessage.getBody());
+        } catch (IOException e) {
+            throw new HttpMessageNotReadableException("Invalid Protobuf message: " + e.getMessage(), e, inputMessage);
+        }
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        return read(clazz, null, inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(Object body, Type type, HttpOutputMessage outputMessage) throws IOException {
+        try {
+            TaskProtobuf.writeTo(body, outputMessage.getBody());
+        } catch (IllegalArgumentException e) {
+            throw new HttpMessageNotWritableException(e.getMessage(), e);
+        }
+    }
+}
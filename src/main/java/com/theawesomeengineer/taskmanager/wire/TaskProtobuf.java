@@ -0,0 +1,337 @@
+package com.theawesomeengineer.taskmanager.wire;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+import com.theawesomeengineer.taskmanager.model.Error;
+import com.theawesomeengineer.taskmanager.model.Task;
+import com.theawesomeengineer.taskmanager.model.TaskRequest;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads and writes the API models in the Protobuf encoding of {@code src/main/proto/tasks.proto},
+ * straight from and to the generated model classes, so no second set of message classes has to
+ * be generated and copied. Timestamps are microseconds since the epoch; read back they are UTC.
+ * <p>
+ * A list is a {@code TaskList}: one length-delimited field 1 per task and nothing else, so
+ * {@link #listEntry} outputs can be concatenated as tasks arrive and still form a valid message.
+ */
+public final class TaskProtobuf {
+
+    public static final MediaType APPLICATION_PROTOBUF = MediaType.valueOf("application/x-protobuf");
+
+    private static final int TASK_ID = tag(1, WireFormat.WIRETYPE_VARINT);
+    private static final int TASK_TITLE = tag(2, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+    private static final int TASK_DESCRIPTION = tag(3, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+    private static final int TASK_COMPLETED = tag(4, WireFormat.WIRETYPE_VARINT);
+    private static final int TASK_CREATED_AT = tag(5, WireFormat.WIRETYPE_VARINT);
+    private static final int TASK_UPDATED_AT = tag(6, WireFormat.WIRETYPE_VARINT);
+
+    private static final int LIST_TASKS = tag(1, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+
+    private static final int REQUEST_TITLE = tag(1, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+    private static final int REQUEST_DESCRIPTION = tag(2, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+    private static final int REQUEST_COMPLETED = tag(3, WireFormat.WIRETYPE_VARINT);
+
+    private static final int ERROR_MESSAGE = tag(1, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+    private static final int ERROR_TIMESTAMP = tag(2, WireFormat.WIRETYPE_VARINT);
+    private static final int ERROR_DETAILS = tag(3, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+
+    private TaskProtobuf() {
+    }
+
+    private static int tag(int field, int wireType) {
+        return field << 3 | wireType;
+    }
+
+    /** Whether {@code type} has a message in the schema; lists only as {@code List<Task>}. */
+    public static boolean supports(Class<?> type) {
+        return type == Task.class || type == TaskRequest.class || type == Error.class;
+    }
+
+    /** {@code body} as a single message: a {@link Task}, {@link TaskRequest}, {@link Error} or list of tasks. */
+    public static byte[] toBytes(Object body) {
+        byte[] bytes = new byte[size(body)];
+        CodedOutputStream out = CodedOutputStream.newInstance(bytes);
+        try {
+            write(body, out);
+        } catch (IOException e) {
+            // only thrown when the array is too small, which size() rules out
+            throw new IllegalStateException(e);
+        }
+        out.checkNoSpaceLeft();
+        return bytes;
+    }
+
+    /** Writes {@code body} (see {@link #toBytes}) to {@code stream}, which is not closed. */
+    public static void writeTo(Object body, OutputStream stream) throws IOException {
+        CodedOutputStream out = CodedOutputStream.newInstance(stream);
+        write(body, out);
+        out.flush();
+    }
+
+    /** One task of a {@code TaskList}, to be concatenated with others. */
+    public static byte[] listEntry(Task task) {
+        int size = size(task);
+        byte[] bytes = new byte[CodedOutputStream.computeTagSize(1) + CodedOutputStream.computeUInt32SizeNoTag(size) + size];
+        CodedOutputStream out = CodedOutputStream.newInstance(bytes);
+        try {
+            writeEntry(task, size, out);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return bytes;
+    }
+
+    private static int size(Object body) {
+        if (body instanceof Task task) {
+            return size(task);
+        }
+        if (body instanceof TaskRequest request) {
+            return size(request);
+        }
+        if (body instanceof Error error) {
+            return size(error);
+        }
+        if (body instanceof List<?> tasks) {
+            int size = 0;
+            for (Object task : tasks) {
+                int taskSize = size((Task) task);
+                size += CodedOutputStream.computeTagSize(1) + CodedOutputStream.computeUInt32SizeNoTag(taskSize) + taskSize;
+            }
+            return size;
+        }
+        throw new IllegalArgumentException("No Protobuf message for " + body.getClass().getName());
+    }
+
+    private static void write(Object body, CodedOutputStream out) throws IOException {
+        if (body instanceof Task task) {
+            write(task, out);
+        } else if (body instanceof TaskRequest request) {
+            write(request, out);
+        } else if (body instanceof Error error) {
+            write(error, out);
+        } else if (body instanceof List<?> tasks) {
+            for (Object task : tasks) {
+                writeEntry((Task) task, size((Task) task), out);
+            }
+        } else {
+            throw new IllegalArgumentException("No Protobuf message for " + body.getClass().getName());
+        }
+    }
+
+    private static void writeEntry(Task task, int size, CodedOutputStream out) throws IOException {
+        out.writeTag(1, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+        out.writeUInt32NoTag(size);
+        write(task, out);
+    }
+
+    // proto3: fields holding their default value are not written
+
+    private static int size(Task t) {
+        int size = 0;
+        if (t.getId() != null && t.getId() != 0) {
+            size += CodedOutputStream.computeInt64Size(1, t.getId());
+        }
+        if (t.getTitle() != null && !t.getTitle().isEmpty()) {
+            size += CodedOutputStream.computeStringSize(2, t.getTitle());
+        }
+        if (t.getDescription() != null && !t.getDescription().isEmpty()) {
+            size += CodedOutputStream.computeStringSize(3, t.getDescription());
+        }
+        if (Boolean.TRUE.equals(t.getCompleted())) {
+            size += CodedOutputStream.computeBoolSize(4, true);
+        }
+        if (t.getCreatedAt() != null) {
+            size += CodedOutputStream.computeInt64Size(5, micros(t.getCreatedAt()));
+        }
+        if (t.getUpdatedAt() != null) {
+            size += CodedOutputStream.computeInt64Size(6, micros(t.getUpdatedAt()));
+        }
+        return size;
+    }
+
+    private static void write(Task t, CodedOutputStream out) throws IOException {
+        if (t.getId() != null && t.getId() != 0) {
+            out.writeInt64(1, t.getId());
+        }
+        if (t.getTitle() != null && !t.getTitle().isEmpty()) {
+            out.writeString(2, t.getTitle());
+        }
+        if (t.getDescription() != null && !t.getDescription().isEmpty()) {
+            out.writeString(3, t.getDescription());
+        }
+        if (Boolean.TRUE.equals(t.getCompleted())) {
+            out.writeBool(4, true);
+        }
+        if (t.getCreatedAt() != null) {
+            out.writeInt64(5, micros(t.getCreatedAt()));
+        }
+        if (t.getUpdatedAt() != null) {
+            out.writeInt64(6, micros(t.getUpdatedAt()));
+        }
+    }
+
+    // TaskRequest fields are proto3 optional: present whenever they are not null
+
+    private static int size(TaskRequest r) {
+        int size = 0;
+        if (r.getTitle() != null) {
+            size += CodedOutputStream.computeStringSize(1, r.getTitle());
+        }
+        if (r.getDescription() != null) {
+            size += CodedOutputStream.computeStringSize(2, r.getDescription());
+        }
+        if (r.getCompleted() != null) {
+            size += CodedOutputStream.computeBoolSize(3, r.getCompleted());
+        }
+        return size;
+    }
+
+    private static void write(TaskRequest r, CodedOutputStream out) throws IOException {
+        if (r.getTitle() != null) {
+            out.writeString(1, r.getTitle());
+        }
+        if (r.getDescription() != null) {
+            out.writeString(2, r.getDescription());
+        }
+        if (r.getCompleted() != null) {
+            out.writeBool(3, r.getCompleted());
+        }
+    }
+
+    private static int size(Error e) {
+        int size = 0;
+        if (e.getMessage() != null && !e.getMessage().isEmpty()) {
+            size += CodedOutputStream.computeStringSize(1, e.getMessage());
+        }
+        if (e.getTimestamp() != null) {
+            size += CodedOutputStream.computeInt64Size(2, micros(e.getTimestamp()));
+        }
+        if (e.getDetails() != null) {
+            size += CodedOutputStream.computeStringSize(3, e.getDetails());
+        }
+        return size;
+    }
+
+    private static void write(Error e, CodedOutputStream out) throws IOException {
+        if (e.getMessage() != null && !e.getMessage().isEmpty()) {
+            out.writeString(1, e.getMessage());
+        }
+        if (e.getTimestamp() != null) {
+            out.writeInt64(2, micros(e.getTimestamp()));
+        }
+        if (e.getDetails() != null) {
+            out.writeString(3, e.getDetails());
+        }
+    }
+
+    /** Reads one message of {@code type} (see {@link #supports}) from all of {@code stream}. */
+    public static <T> T read(Class<T> type, InputStream stream) throws IOException {
+        CodedInputStream in = CodedInputStream.newInstance(stream);
+        Object body;
+        if (type == Task.class) {
+            body = readTask(in);
+        } else if (type == TaskRequest.class) {
+            body = readRequest(in);
+        } else if (type == Error.class) {
+            body = readError(in);
+        } else {
+            throw new IllegalArgumentException("No Protobuf message for " + type.getName());
+        }
+        return type.cast(body);
+    }
+
+    /** Reads a {@code TaskList} from all of {@code stream}. */
+    public static List<Task> readList(InputStream stream) throws IOException {
+        CodedInputStream in = CodedInputStream.newInstance(stream);
+        List<Task> tasks = new ArrayList<>();
+        for (int tag = in.readTag(); tag != 0; tag = in.readTag()) {
+            if (tag == LIST_TASKS) {
+                int limit = in.pushLimit(in.readRawVarint32());
+                tasks.add(readTask(in));
+                in.popLimit(limit);
+            } else if (!in.skipField(tag)) {
+                break;
+            }
+        }
+        return tasks;
+    }
+
+    private static Task readTask(CodedInputStream in) throws IOException {
+        Task task = new Task(0L, "", "", false, epoch(0), epoch(0));
+        for (int tag = in.readTag(); tag != 0; tag = in.readTag()) {
+            if (tag == TASK_ID) {
+                task.setId(in.readInt64());
+            } else if (tag == TASK_TITLE) {
+                task.setTitle(in.readStringRequireUtf8());
+            } else if (tag == TASK_DESCRIPTION) {
+                task.setDescription(in.readStringRequireUtf8());
+            } else if (tag == TASK_COMPLETED) {
+                task.setCompleted(in.readBool());
+            } else if (tag == TASK_CREATED_AT) {
+                task.setCreatedAt(epoch(in.readInt64()));
+            } else if (tag == TASK_UPDATED_AT) {
+                task.setUpdatedAt(epoch(in.readInt64()));
+            } else if (!in.skipField(tag)) {
+                break;
+            }
+        }
+        return task;
+    }
+
+    private static TaskRequest readRequest(CodedInputStream in) throws IOException {
+        TaskRequest request = new TaskRequest();
+        for (int tag = in.readTag(); tag != 0; tag = in.readTag()) {
+            if (tag == REQUEST_TITLE) {
+                request.setTitle(in.readStringRequireUtf8());
+            } else if (tag == REQUEST_DESCRIPTION) {
+                request.setDescription(in.readStringRequireUtf8());
+            } else if (tag == REQUEST_COMPLETED) {
+                request.setCompleted(in.readBool());
+            } else if (!in.skipField(tag)) {
+                break;
+            }
+        }
+        return request;
+    }
+
+    private static Error readError(CodedInputStream in) throws IOException {
+        Error error = new Error("", epoch(0));
+        for (int tag = in.readTag(); tag != 0; tag = in.readTag()) {
+            if (tag == ERROR_MESSAGE) {
+                error.setMessage(in.readStringRequireUtf8());
+            } else if (tag == ERROR_TIMESTAMP) {
+                error.setTimestamp(epoch(in.readInt64()));
+            } else if (tag == ERROR_DETAILS) {
+                error.setDetails(in.readStringRequireUtf8());
+            } else if (!in.skipField(tag)) {
+                break;
+            }
+        }
+        return error;
+    }
+
+    static long micros(OffsetDateTime time) {
+        Instant instant = time.toInstant();
+        try {
+            return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), 1_000_000L), instant.getNano() / 1_000);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Timestamp out of range: " + time, e);
+        }
+    }
+
+    static OffsetDateTime epoch(long micros) {
+        return Instant.ofEpochSecond(Math.floorDiv(micros, 1_000_000L), Math.floorMod(micros, 1_000_000L) * 1_000L)
+                      .atOffset(ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,308 @@
+package com.theawesomeengineer.taskmanager.writebehind;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.theawesomeengineer.taskmanager.config.TaskmanagerProperties;
+import com.theawesomeengineer.taskmanager.repository.TaskEntity;
+import com.theawesomeengineer.taskmanager.repository.TaskRepository;
+import com.theawesomeengineer.taskmanager.repository.TaskTombstone;
+import com.theawesomeengineer.taskmanager.repository.TaskTombstoneRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.NonTransientDataAccessException;
+import org.springframework.dao.NonTransientDataAccessResourceException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Write-behind for {@code POST /tasks} with {@code Prefer: respond-async}. Accepted tasks already
+ * carry their id and timestamps; they are journaled to local disk, queued, and inserted by one
+ * background writer that takes whatever has queued up (up to {@code taskmanager.write-behind.batch-size})
+ * per transaction, so a burst pays for a few commits instead of one per task.
+ * <p>
+ * At most {@code queue-capacity} tasks are accepted and not yet written; beyond that
+ * {@link #offer} refuses. A batch that fails transiently (the database unreachable, busy or slow)
+ * is retried with a growing pause, so while the database is down the queue fills and callers are
+ * pushed back; no task is given up for an outage. A batch the database refuses, or that keeps
+ * failing {@code max-attempts} times, is split in halves that are written on their own, down to
+ * single tasks: a task refused for good is appended to the {@code dead-letter} file instead, and
+ * the rest of its batch is written. Whatever is still journaled at start-up (after a crash, or a
+ * shutdown with the database unreachable) is written before requests are served, skipping tasks
+ * that were written, or written and deleted, already.
+ */
+@Component
+@Profile("!reactive")
+public class TaskWriteBehind {
+
+    private final TaskRepository repo;
+    private final TaskTombstoneRepository tombstones;
+    private final ObjectMapper mapper;
+    private final TaskmanagerProperties.WriteBehind config;
+    private final BlockingQueue<TaskEntity> queue = new LinkedBlockingQueue<>();
+    private final Semaphore capacity;
+    private final Timer flushes;
+    private final DistributionSummary batches;
+    private final Counter rejected;
+    private final Counter failures;
+    private final Counter deadLetters;
+    private volatile Consumer<List<TaskEntity>> onWritten = tasks -> { };
+    private volatile boolean running;
+    private WriteBehindJournal journal;
+    private Thread writer;
+
+    public TaskWriteBehind(TaskRepository repo, TaskTombstoneRepository tombstones, ObjectMapper mapper,
+                           TaskmanagerProperties properties, MeterRegistry registry) {
+        this.repo = repo;
+        this.tombstones = tombstones;
+        this.mapper = mapper;
+        this.config = properties.getWriteBehind();
+        this.capacity = new Semaphore(config.getQueueCapacity());
+        Gauge.builder("taskmanager.writebehind.queue.depth", capacity, c -> config.getQueueCapacity() - c.availablePermits())
+             .description("Tasks accepted for write-behind and not yet written")
+             .register(registry);
+        this.flushes = Timer.builder("taskmanager.writebehind.flush")
+                            .description("Time to insert and commit one write-behind batch")
+                            .register(registry);
+        this.batches = DistributionSummary.builder("taskmanager.writebehind.batch.size")
+                                          .description("Tasks inserted per write-behind transaction")
+                                          .register(registry);
+        this.rejected = Counter.builder("taskmanager.writebehind.rejected")
+                               .description("Async creates refused because the write-behind queue was full")
+                               .register(registry);
+        this.failures = Counter.builder("taskmanager.writebehind.failures")
+                               .description("Write-behind inserts that failed and were retried or split")
+                               .register(registry);
+        this.deadLetters = Counter.builder("taskmanager.writebehind.dead.letters")
+                                  .description("Tasks the database refused, moved to the dead-letter file")
+                                  .register(registry);
+    }
+
+    public boolean isEnabled() {
+        return config.isEnabled();
+    }
+
+    /** Called on the writer thread with each batch once it has committed. */
+    public void onWritten(Consumer<List<TaskEntity>> listener) {
+        this.onWritten = listener;
+    }
+
+    @PostConstruct
+    void start() throws IOException {
+        if (!config.isEnabled()) {
+            return;
+        }
+        journal = new WriteBehindJournal(config.getJournal(), mapper);
+        WriteBehindJournal.read(config.getJournal(), mapper, config.getBatchSize(), this::replay);
+        journal.clear();
+        running = true;
+        writer = Thread.ofPlatform().name("task-write-behind").daemon().start(this::drain);
+    }
+
+    /** Stops taking batches once the queue is empty; tasks it cannot write stay journaled. */
+    @PreDestroy
+    void stop() throws InterruptedException, IOException {
+        if (writer == null) {
+            return;
+        }
+        running = false;
+        writer.join();
+        journal.close();
+    }
+
+    /**
+     * Journals and queues {@code task}, whose id, timestamps and version must already be set.
+     * Returns false, without keeping the task, when the queue is full.
+     */
+    public boolean offer(TaskEntity task) {
+        if (!capacity.tryAcquire()) {
+            rejected.increment();
+            return false;
+        }
+        try {
+            journal.append(task);
+        } catch (IOException e) {
+            capacity.release();
+            throw new UncheckedIOException(e);
+        }
+        queue.add(task);
+        return true;
+    }
+
+    /** Inserts the journaled tasks that are not in the database yet; a transient failure aborts start-up. */
+    private void replay(List<WriteBehindJournal.Entry> entries) {
+        List<TaskEntity> batch = entries.stream().map(WriteBehindJournal.Entry::toEntity).collect(Collectors.toList());
+        List<Long> ids = ids(batch);
+        Set<Long> done = new HashSet<>(repo.findExistingIds(ids));
+        tombstones.findAllById(ids).stream().map(TaskTombstone::getId).forEach(done::add);
+        List<TaskEntity> missing = batch.stream()
+                                        .filter(t -> !done.contains(t.getId()))
+                                        .collect(Collectors.toList());
+        if (!missing.isEmpty()) {
+            try {
+                write(missing, true);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while replaying the write-behind journal", e);
+            }
+        }
+    }
+
+    private void drain() {
+        List<TaskEntity> batch = new ArrayList<>(config.getBatchSize());
+        while (running || !queue.isEmpty()) {
+            try {
+                TaskEntity first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, config.getBatchSize() - 1);
+                write(batch, false);
+            } catch (InterruptedException e) {
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Inserts {@code batch}, splitting it in halves on a permanent failure, or after
+     * {@code max-attempts} transient ones, until every task is written or dead-lettered. While
+     * {@code replaying}, nothing is acknowledged (the journal is cleared afterwards) and a
+     * transient failure is thrown rather than waited out. Returns false when shutdown interrupted
+     * the retries; what was not written stays journaled for the next start.
+     */
+    private boolean write(List<TaskEntity> batch, boolean replaying) throws InterruptedException {
+        Deque<List<TaskEntity>> parts = new ArrayDeque<>();
+        parts.push(batch);
+        int attempts = 0;
+        while (!parts.isEmpty()) {
+            List<TaskEntity> part = parts.pop();
+            Timer.Sample sample = Timer.start();
+            try {
+                repo.insertAll(part);
+                sample.stop(flushes);
+                attempts = 0;
+                if (!replaying) {
+                    written(part);
+                }
+                continue;
+            } catch (RuntimeException e) {
+                failures.increment();
+                attempts++;
+                boolean permanent = isPermanent(e);
+                if (part.size() > 1 && (permanent || attempts >= config.getMaxAttempts())) {
+                    int half = part.size() / 2;
+                    parts.push(part.subList(half, part.size()));
+                    parts.push(part.subList(0, half));
+                    attempts = 0;
+                    continue;
+                }
+                if (permanent && refused(part.get(0), e, replaying)) {
+                    attempts = 0;
+                    continue;
+                }
+                if (replaying) {
+                    throw e;
+                }
+                if (!running) {
+                    return false;
+                }
+                parts.push(part);
+            }
+            Thread.sleep(backoff(attempts));
+        }
+        return true;
+    }
+
+    /**
+     * Whether retrying {@code e} unchanged cannot help: the database refused the data itself, e.g.
+     * a constraint or a value too long. Anything else, such as the database being unreachable,
+     * busy or slow, may clear up.
+     */
+    static boolean isPermanent(RuntimeException e) {
+        return e instanceof NonTransientDataAccessException && !(e instanceof NonTransientDataAccessResourceException);
+    }
+
+    /** {@code retry-delay} doubled for every attempt after the first, up to {@code max-retry-delay}. */
+    long backoff(int attempts) {
+        long delay = config.getRetryDelay().toMillis() << Math.min(Math.max(attempts - 1, 0), 20);
+        return Math.min(delay, config.getMaxRetryDelay().toMillis());
+    }
+
+    /**
+     * Disposes of a single task whose insert failed permanently: written already if it exists (its
+     * insert committed but the acknowledgement was lost, so the retry hit its own id), otherwise
+     * dead-lettered. False when that cannot be told because the database failed again.
+     */
+    private boolean refused(TaskEntity task, RuntimeException cause, boolean replaying) {
+        boolean exists;
+        try {
+            exists = repo.existsById(task.getId());
+        } catch (RuntimeException e) {
+            return false;
+        }
+        if (exists) {
+            if (!replaying) {
+                written(List.of(task));
+            }
+            return true;
+        }
+        try {
+            WriteBehindJournal.deadLetter(config.getDeadLetter(), mapper, task,
+                                          NestedExceptionUtils.getMostSpecificCause(cause).toString());
+        } catch (IOException e) {
+            if (replaying) {
+                throw new UncheckedIOException(e);
+            }
+            // nowhere to keep it but the journal: it is refused again after the next start
+            capacity.release();
+            return true;
+        }
+        deadLetters.increment();
+        if (!replaying) {
+            acknowledge(List.of(task));
+        }
+        return true;
+    }
+
+    private void written(List<TaskEntity> part) {
+        batches.record(part.size());
+        onWritten.accept(List.copyOf(part));
+        acknowledge(part);
+    }
+
+    private void acknowledge(List<TaskEntity> tasks) {
+        try {
+            journal.written(ids(tasks));
+        } catch (IOException e) {
+            // the lines stay until the file is next emptied; replay skips tasks that exist
+        }
+        capacity.release(tasks.size());
+    }
+
+    private static List<Long> ids(List<TaskEntity> tasks) {
+        return tasks.stream().map(TaskEntity::getId).collect(Collectors.toList());
+    }
+}
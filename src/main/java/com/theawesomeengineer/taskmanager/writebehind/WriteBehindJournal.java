@@ -0,0 +1,252 @@
+package com.theawesomeengineer.taskmanager.writebehind;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.theawesomeengineer.taskmanager.repository.TaskEntity;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Append-only file of the tasks accepted for write-behind that are not yet known to be in the
+ * database, one JSON object per line. An append returns once its line is on disk; appenders that
+ * arrive while a force is running share the next one, so a burst costs far fewer syncs than
+ * tasks. The file is emptied whenever every task in it has been written, and compacted down to
+ * the tasks still outstanding once at least half of its lines are written ones, so it stays
+ * around the size of the queue even when the writer never quite catches up.
+ * <p>
+ * After a crash the file may hold tasks that were written but not yet acknowledged, and a torn
+ * last line; {@link #read} skips lines it cannot parse and the caller skips tasks that exist.
+ */
+class WriteBehindJournal implements Closeable {
+
+    /** Files smaller than this are left alone until they can simply be emptied. */
+    static final long COMPACT_AFTER_BYTES = 1 << 20;
+
+    /** What is needed to insert a task exactly as it was acknowledged. */
+    record Entry(long id, String title, String description, boolean completed, OffsetDateTime createdAt) {
+
+        static Entry of(TaskEntity t) {
+            return new Entry(t.getId(), t.getTitle(), t.getDescription(), t.getCompleted(), t.getCreatedAt());
+        }
+
+        TaskEntity toEntity() {
+            return new TaskEntity(id, title, description, completed, createdAt, createdAt, 0L);
+        }
+    }
+
+    /** A task the database refused for good, and why. */
+    record DeadLetter(Entry task, String error) {
+    }
+
+    private final Path path;
+    private final ObjectMapper mapper;
+    private final long compactAfterBytes;
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final ReentrantLock forceLock = new ReentrantLock();
+    // swapped by compaction while both locks are held
+    private FileChannel channel;
+    // lines of tasks appended and not yet acknowledged, in append order; guarded by appendLock
+    private final Map<Long, byte[]> outstanding = new LinkedHashMap<>();
+    // lines and bytes in the file; guarded by appendLock
+    private long lines;
+    private long size;
+    // bytes appended since opening, across truncations; guarded by appendLock
+    private long appended;
+    // how much of appended is known to be on disk
+    private volatile long forced;
+
+    WriteBehindJournal(Path path, ObjectMapper mapper) throws IOException {
+        this(path, mapper, COMPACT_AFTER_BYTES);
+    }
+
+    WriteBehindJournal(Path path, ObjectMapper mapper, long compactAfterBytes) throws IOException {
+        this.path = path;
+        this.mapper = mapper;
+        this.compactAfterBytes = compactAfterBytes;
+        this.channel = open(path);
+        this.size = channel.size();
+    }
+
+    private static FileChannel open(Path path) throws IOException {
+        return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Hands every task left in the journal at {@code path} to {@code consumer}, oldest first, in
+     * lists of at most {@code batchSize}. The file is streamed, not loaded whole.
+     */
+    static void read(Path path, ObjectMapper mapper, int batchSize, Consumer<List<Entry>> consumer) throws IOException {
+        if (!Files.exists(path)) {
+            return;
+        }
+        List<Entry> batch = new ArrayList<>(batchSize);
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                try {
+                    batch.add(mapper.readValue(line, Entry.class));
+                } catch (JsonProcessingException e) {
+                    // torn write from a crash; the task behind it was never acknowledged
+                    continue;
+                }
+                if (batch.size() == batchSize) {
+                    consumer.accept(List.copyOf(batch));
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            consumer.accept(List.copyOf(batch));
+        }
+    }
+
+    /** Every task left in the journal at {@code path}, oldest first. */
+    static List<Entry> read(Path path, ObjectMapper mapper) throws IOException {
+        List<Entry> entries = new ArrayList<>();
+        read(path, mapper, 1000, entries::addAll);
+        return entries;
+    }
+
+    /** Appends {@code task}, refused with {@code error}, to the dead-letter file at {@code path}. */
+    static void deadLetter(Path path, ObjectMapper mapper, TaskEntity task, String error) throws IOException {
+        Files.writeString(path, mapper.writeValueAsString(new DeadLetter(Entry.of(task), error)) + "\n",
+                          StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND,
+                          StandardOpenOption.DSYNC);
+    }
+
+    /** Appends {@code task} and returns once it is on disk. */
+    void append(TaskEntity task) throws IOException {
+        byte[] bytes = (mapper.writeValueAsString(Entry.of(task)) + "\n").getBytes(StandardCharsets.UTF_8);
+        ByteBuffer line = ByteBuffer.wrap(bytes);
+        long end;
+        appendLock.lock();
+        try {
+            try {
+                while (line.hasRemaining()) {
+                    channel.write(line);
+                }
+            } catch (IOException e) {
+                // drop the partial line so the next append starts on a line of its own
+                channel.truncate(size);
+                throw e;
+            }
+            size += bytes.length;
+            lines++;
+            appended += bytes.length;
+            outstanding.put(task.getId(), bytes);
+            end = appended;
+        } finally {
+            appendLock.unlock();
+        }
+        force(end);
+    }
+
+    private void force(long end) throws IOException {
+        if (forced >= end) {
+            return;
+        }
+        forceLock.lock();
+        try {
+            if (forced >= end) {
+                return;
+            }
+            long target;
+            appendLock.lock();
+            try {
+                target = appended;
+            } finally {
+                appendLock.unlock();
+            }
+            channel.force(false);
+            forced = target;
+        } finally {
+            forceLock.unlock();
+        }
+    }
+
+    /**
+     * The tasks {@code ids} are in the database (or dead-lettered). Empties the file once all of
+     * its tasks are, and compacts it once most of them are.
+     */
+    void written(Collection<Long> ids) throws IOException {
+        forceLock.lock();
+        appendLock.lock();
+        try {
+            ids.forEach(outstanding::remove);
+            if (outstanding.isEmpty()) {
+                channel.truncate(0);
+                size = 0;
+                lines = 0;
+            } else if (size >= compactAfterBytes && lines >= 2L * outstanding.size()) {
+                compact();
+            }
+        } finally {
+            appendLock.unlock();
+            forceLock.unlock();
+        }
+    }
+
+    /**
+     * Rewrites the file with just the outstanding lines: written to a temporary file, forced, then
+     * moved over the journal, so a crash leaves either the old file or the new one. Called with
+     * both locks held, so no append or force runs meanwhile.
+     */
+    private void compact() throws IOException {
+        Path compacted = path.resolveSibling(path.getFileName() + ".compacting");
+        long bytes = 0;
+        try (FileChannel out = FileChannel.open(compacted, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                                                StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (byte[] line : outstanding.values()) {
+                ByteBuffer buffer = ByteBuffer.wrap(line);
+                while (buffer.hasRemaining()) {
+                    out.write(buffer);
+                }
+                bytes += line.length;
+            }
+            out.force(false);
+        }
+        Files.move(compacted, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        channel.close();
+        channel = open(path);
+        size = bytes;
+        lines = outstanding.size();
+        // every outstanding line, forced or not before, is on disk in the new file
+        forced = appended;
+    }
+
+    /** Forgets everything in the file, e.g. once a replay has written it; not for use alongside appends. */
+    void clear() throws IOException {
+        appendLock.lock();
+        try {
+            channel.truncate(0);
+            channel.force(false);
+            outstanding.clear();
+            size = 0;
+            lines = 0;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -9,6 +9,8 @@ import java.util.Optional;
  * A container for nullable values that can be serialized/deserialized with Jackson.
  */
 public final class JsonNullable<T> {
+    private static final JsonNullable<?> UNDEFINED = new JsonNullable<>(null, false);
+
     private final T value;
     private final boolean isPresent;
 
@@ -25,8 +27,17 @@ public final class JsonNullable<T> {
         return new JsonNullable<>(null, false);
     }
 
+    @SuppressWarnings("unchecked")
     public static <T> JsonNullable<T> undefined() {
-        return new JsonNullable<>(null, false);
+        return (JsonNullable<T>) UNDEFINED;
+    }
+
+    /**
+     * A present value that may itself be {@code null}, which is how an explicit JSON {@code null}
+     * is told apart from an omitted property ({@link #undefined()}).
+     */
+    public static <T> JsonNullable<T> ofNullable(T value) {
+        return new JsonNullable<>(value, true);
     }
 
     @JsonValue
@@ -46,7 +57,7 @@ public final class JsonNullable<T> {
     }
 
     public Optional<T> toOptional() {
-        return isPresent ? Optional.of(value) : Optional.empty();
+        return isPresent ? Optional.ofNullable(value) : Optional.empty();
     }
 
     @Override
@@ -0,0 +1,59 @@
+package org.openapitools.jackson.nullable;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleDeserializers;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+import java.io.IOException;
+
+/**
+ * Jackson support for reading {@link JsonNullable} properties: an omitted property stays
+ * {@link JsonNullable#undefined()}, an explicit {@code null} becomes a present {@code null}, and
+ * any other value is read as the declared content type.
+ */
+public class JsonNullableModule extends SimpleModule {
+
+    public JsonNullableModule() {
+        super("JsonNullableModule");
+        setDeserializers(new SimpleDeserializers() {
+            @Override
+            public JsonDeserializer<?> findBeanDeserializer(JavaType type, DeserializationConfig config,
+                                                            BeanDescription beanDesc) {
+                return type.hasRawClass(JsonNullable.class)
+                        ? new JsonNullableDeserializer(type.containedTypeOrUnknown(0))
+                        : null;
+            }
+        });
+    }
+
+    static final class JsonNullableDeserializer extends StdDeserializer<JsonNullable<?>> {
+
+        private final JavaType contentType;
+
+        JsonNullableDeserializer(JavaType contentType) {
+            super(JsonNullable.class);
+            this.contentType = contentType;
+        }
+
+        @Override
+        public JsonNullable<?> deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            return JsonNullable.ofNullable(ctxt.readValue(p, contentType));
+        }
+
+        @Override
+        public JsonNullable<?> getNullValue(DeserializationContext ctxt) {
+            return JsonNullable.ofNullable(null);
+        }
+
+        @Override
+        public Object getAbsentValue(DeserializationContext ctxt) {
+            return JsonNullable.undefined();
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package org.openapitools.jackson.nullable;
+
+import jakarta.validation.valueextraction.ExtractedValue;
+import jakarta.validation.valueextraction.UnwrapByDefault;
+import jakarta.validation.valueextraction.ValueExtractor;
+
+/**
+ * Lets Bean Validation constraints reach the value inside a {@link JsonNullable}. Undefined
+ * values are not extracted, so an omitted property is never validated.
+ */
+@UnwrapByDefault
+public class JsonNullableValueExtractor implements ValueExtractor<JsonNullable<@ExtractedValue ?>> {
+
+    @Override
+    public void extractValues(JsonNullable<?> originalValue, ValueReceiver receiver) {
+        if (originalValue.isPresent()) {
+            receiver.value(null, originalValue.get());
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.theawesomeengineer.taskmanager;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * {@link TasksApiBehaviourTests} against the reactive profile: WebFlux on Netty over an in-memory
+ * H2 database reached through its R2DBC driver. The web application type is set here because
+ * {@code @SpringBootTest} decides it before profile properties are read.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.main.web-application-type=reactive",
+        "spring.sql.init.schema-locations=classpath:schema-reactive-h2.sql"
+})
+@ActiveProfiles("reactive")
+class ReactiveTaskmanagerApplicationTests extends TasksApiBehaviourTests {
+}
@@ -0,0 +1,852 @@
+package com.theawesomeengineer.taskmanager;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.RequestEntity;
+import org.springframework.http.ResponseEntity;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.theawesomeengineer.taskmanager.model.Task;
+import com.theawesomeengineer.taskmanager.model.TaskBatchResponse;
+import com.theawesomeengineer.taskmanager.model.TaskBulkPatch;
+import com.theawesomeengineer.taskmanager.model.TaskBulkResult;
+import com.theawesomeengineer.taskmanager.model.TaskBulkUpdateRequest;
+import com.theawesomeengineer.taskmanager.model.TaskFilter;
+import com.theawesomeengineer.taskmanager.model.TaskRequest;
+import com.theawesomeengineer.taskmanager.model.TaskStats;
+import com.theawesomeengineer.taskmanager.model.TaskSyncResponse;
+import com.theawesomeengineer.taskmanager.wire.TaskProtobuf;
+
+/**
+ * HTTP-level behaviour of the Tasks API, run against both deployment variants: the servlet stack
+ * on MySQL ({@link TaskmanagerApplicationTests}) and the reactive one on H2's R2DBC driver
+ * ({@link ReactiveTaskmanagerApplicationTests}). Subclasses start the server and the database.
+ */
+abstract class TasksApiBehaviourTests {
+
+    @Autowired
+    TestRestTemplate rest;
+
+    /* ---------- helpers ---------- */
+    private TaskRequest buildRequest(String title, String desc, Boolean completed) {
+        TaskRequest rq = new TaskRequest();
+        rq.setTitle(title);
+        rq.setDescription(desc);
+        rq.setCompleted(completed);
+        return rq;
+    }
+
+    /**
+     * Reads Server-Sent Events lines until an event of {@code type} whose data contains
+     * {@code text}, and returns that event's id.
+     */
+    private static String awaitEvent(Iterator<String> lines, String type, String text) {
+        String id = null;
+        String event = null;
+        while (lines.hasNext()) {
+            String line = lines.next();
+            if (line.isEmpty()) {
+                id = null;
+                event = null;
+            } else if (line.startsWith("id:")) {
+                id = line.substring(3).trim();
+            } else if (line.startsWith("event:")) {
+                event = line.substring(6).trim();
+            } else if (line.startsWith("data:") && type.equals(event) && line.contains(text)) {
+                return id;
+            }
+        }
+        throw new AssertionError("stream ended before a " + type + " event containing " + text);
+    }
+
+    /* ========== HAPPY PATH ========== */
+
+    @Test
+    void contextLoads() {
+        assertThat(rest).isNotNull();
+    }
+
+    @Test
+    void createAndFetchTask() {
+        TaskRequest request = buildRequest("Integration test", "via Testcontainers", false);
+
+        ResponseEntity<Task> createResponse = rest.postForEntity("/tasks", request, Task.class);
+        assertThat(createResponse.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        Task created = createResponse.getBody();
+
+        ResponseEntity<Task> getResponse = rest.getForEntity("/tasks/" + created.getId(), Task.class);
+        assertThat(getResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
+        Task fetched = getResponse.getBody();
+
+        assertThat(fetched)
+            .usingRecursiveComparison()
+            .ignoringFields("createdAt", "updatedAt")
+            .isEqualTo(created);
+
+        assertThat(fetched.getCreatedAt())
+            .isCloseTo(created.getCreatedAt(), within(1, ChronoUnit.SECONDS));
+        assertThat(fetched.getUpdatedAt())
+            .isCloseTo(created.getUpdatedAt(), within(1, ChronoUnit.SECONDS));
+    }
+
+    @Test
+    void listAllTasks() {
+        rest.postForEntity("/tasks", buildRequest("A", "desc", true), Task.class);
+        rest.postForEntity("/tasks", buildRequest("B", "desc", false), Task.class);
+
+        ResponseEntity<List> listResp = rest.getForEntity("/tasks", List.class);
+        assertThat(listResp.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(listResp.getBody()).asList().hasSizeGreaterThanOrEqualTo(2);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void listTasksPagesWithCursor() {
+        for (int i = 0; i < 3; i++) {
+            rest.postForEntity("/tasks", buildRequest("page " + i, "desc", false), Task.class);
+        }
+
+        ResponseEntity<List> first = rest.getForEntity("/tasks?limit=2", List.class);
+        assertThat(first.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(first.getBody()).hasSize(2);
+        String cursor = first.getHeaders().getFirst("X-Next-Cursor");
+        assertThat(cursor).isNotBlank();
+
+        ResponseEntity<List> second = rest.getForEntity("/tasks?limit=2&cursor={cursor}", List.class, cursor);
+        assertThat(second.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(second.getBody()).isNotEmpty();
+
+        long lastOfFirst = ((Number) ((Map<String, Object>) first.getBody().get(1)).get("id")).longValue();
+        long firstOfSecond = ((Number) ((Map<String, Object>) second.getBody().get(0)).get("id")).longValue();
+        assertThat(firstOfSecond).isGreaterThan(lastOfFirst);
+    }
+
+    @Test
+    void listTasksSortedByTitle() {
+        rest.postForEntity("/tasks", buildRequest("zzz", "desc", false), Task.class);
+        rest.postForEntity("/tasks", buildRequest("aaa", "desc", false), Task.class);
+
+        ResponseEntity<Task[]> resp = rest.getForEntity("/tasks?sort=title&limit=1000", Task[].class);
+        assertThat(resp.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(resp.getBody()).extracting(Task::getTitle).isSortedAccordingTo(String.CASE_INSENSITIVE_ORDER);
+    }
+
+    @Test
+    void listTasksFilteredByCompletedAndTitlePrefix() {
+        rest.postForEntity("/tasks", buildRequest("Filter_me open", "desc", false), Task.class);
+        rest.postForEntity("/tasks", buildRequest("filter_me done", "desc", true), Task.class);
+        rest.postForEntity("/tasks", buildRequest("filterXme done", "desc", true), Task.class);
+
+        ResponseEntity<Task[]> resp = rest.getForEntity("/tasks?titlePrefix={prefix}&completed=true", Task[].class, "FILTER_ME");
+        assertThat(resp.getStatusCode()).isEqualTo(HttpStatus.OK);
+        // case-insensitive, and "_" is matched literally rather than as a wildcard
+        assertThat(resp.getBody()).extracting(Task::getTitle).containsExactly("filter_me done");
+    }
+
+    @Test
+    void listTasksFilteredByUpdatedRange() {
+        Task created = rest.postForEntity("/tasks", buildRequest("ranged", "desc", false), Task.class).getBody();
+        String before = created.getUpdatedAt().minusSeconds(1).toInstant().toString();
+        String after = created.getUpdatedAt().plusSeconds(1).toInstant().toString();
+
+        ResponseEntity<Task[]> inRange = rest.getForEntity(
+                "/tasks?updatedAfter={from}&updatedBefore={to}&completed=false&limit=1000", Task[].class, before, after);
+        assertThat(inRange.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(inRange.getBody()).extracting(Task::getId).contains(created.getId());
+
+        ResponseEntity<Task[]> later = rest.getForEntity("/tasks?updatedAfter={from}&limit=1000", Task[].class, after);
+        assertThat(later.getBody()).extracting(Task::getId).doesNotContain(created.getId());
+    }
+
+    @Test
+    void searchRanksTitleMatchesFirstAndFollowsWrites() {
+        Task inDescription = rest.postForEntity("/tasks", buildRequest("plain", "mentions zeppelinium once", false), Task.class).getBody();
+        Task inTitle = rest.postForEntity("/tasks", buildRequest("Zeppelinium launch", "desc", false), Task.class).getBody();
+        rest.postForEntity("/tasks", buildRequest("unrelated", "desc", false), Task.class);
+
+        ResponseEntity<Task[]> resp = rest.getForEntity("/tasks/search?q={q}", Task[].class, "ZEPPELINIUM");
+        assertThat(resp.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(resp.getBody()).extracting(Task::getId).containsExactly(inTitle.getId(), inDescription.getId());
+
+        rest.put("/tasks/{id}", buildRequest("plain", "no longer", false), inDescription.getId());
+        rest.delete("/tasks/{id}", inTitle.getId());
+        assertThat(rest.getForEntity("/tasks/search?q=zeppelinium", Task[].class).getBody()).isEmpty();
+        assertThat(rest.getForEntity("/tasks/search?q=longer", Task[].class).getBody())
+            .extracting(Task::getId).contains(inDescription.getId());
+    }
+
+    @Test
+    void statsFollowCreatesCompletionsAndDeletes() {
+        TaskStats before = rest.getForEntity("/tasks/stats", TaskStats.class).getBody();
+        Task open = rest.postForEntity("/tasks", buildRequest("stats open", "desc", false), Task.class).getBody();
+        Task done = rest.postForEntity("/tasks", buildRequest("stats done", "desc", false), Task.class).getBody();
+        rest.put("/tasks/{id}", buildRequest("stats done", "desc", true), done.getId());
+
+        ResponseEntity<TaskStats> resp = rest.getForEntity("/tasks/stats", TaskStats.class);
+        assertThat(resp.getStatusCode()).isEqualTo(HttpStatus.OK);
+        TaskStats after = resp.getBody();
+        assertThat(after.getTotal()).isEqualTo(before.getTotal() + 2);
+        assertThat(after.getCompleted()).isEqualTo(before.getCompleted() + 1);
+        assertThat(after.getOpen()).isEqualTo(after.getTotal() - after.getCompleted());
+        assertThat(after.getCreatedLastHour()).isEqualTo(before.getCreatedLastHour() + 2);
+        assertThat(after.getCompletedLastDay()).isEqualTo(before.getCompletedLastDay() + 1);
+
+        rest.delete("/tasks/{id}", open.getId());
+        assertThat(rest.getForEntity("/tasks/stats", TaskStats.class).getBody().getTotal()).isEqualTo(before.getTotal() + 1);
+    }
+
+    @Test
+    void statsFollowBulkOperations() {
+        TaskStats before = rest.getForEntity("/tasks/stats", TaskStats.class).getBody();
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            ids.add(rest.postForEntity("/tasks", buildRequest("stats bulk " + i, "desc", false), Task.class)
+                        .getBody().getId());
+        }
+
+        rest.postForEntity("/tasks:bulkUpdate", new TaskBulkUpdateRequest(new TaskFilter().ids(ids),
+                new TaskBulkPatch().completed(true)), TaskBulkResult.class);
+        TaskStats completed = rest.getForEntity("/tasks/stats", TaskStats.class).getBody();
+        assertThat(completed.getTotal()).isEqualTo(before.getTotal() + 3);
+        assertThat(completed.getCompleted()).isEqualTo(before.getCompleted() + 3);
+        assertThat(completed.getCompletedLastHour()).isEqualTo(before.getCompletedLastHour() + 3);
+
+        rest.postForEntity("/tasks:bulkDelete", new TaskFilter().ids(ids), TaskBulkResult.class);
+        TaskStats after = rest.getForEntity("/tasks/stats", TaskStats.class).getBody();
+        assertThat(after.getTotal()).isEqualTo(before.getTotal());
+        assertThat(after.getCompleted()).isEqualTo(before.getCompleted());
+        assertThat(after.getCreatedLastHour()).isEqualTo(before.getCreatedLastHour());
+        assertThat(after.getCompletedLastHour()).isEqualTo(before.getCompletedLastHour());
+    }
+
+    @Test
+    void syncReportsChangesAndDeletionsSinceToken() {
+        // a full sync first, to learn the current position
+        TaskSyncResponse full = rest.getForEntity("/tasks:sync?limit=1000", TaskSyncResponse.class).getBody();
+        while (full.getHasMore()) {
+            full = rest.getForEntity("/tasks:sync?limit=1000&changedSince={t}", TaskSyncResponse.class, full.getNext()).getBody();
+        }
+
+        Task kept = rest.postForEntity("/tasks", buildRequest("sync kept", "desc", false), Task.class).getBody();
+        Task gone = rest.postForEntity("/tasks", buildRequest("sync gone", "desc", false), Task.class).getBody();
+        rest.put("/tasks/{id}", buildRequest("sync kept", "desc", true), kept.getId());
+        rest.delete("/tasks/{id}", gone.getId());
+
+        ResponseEntity<TaskSyncResponse> resp =
+                rest.getForEntity("/tasks:sync?changedSince={t}", TaskSyncResponse.class, full.getNext());
+        assertThat(resp.getStatusCode()).isEqualTo(HttpStatus.OK);
+        TaskSyncResponse delta = resp.getBody();
+        assertThat(delta.getTasks()).extracting(Task::getId).containsExactly(kept.getId());
+        assertThat(delta.getTasks().get(0).getCompleted()).isTrue();
+        assertThat(delta.getDeleted()).containsExactly(gone.getId());
+        assertThat(delta.getHasMore()).isFalse();
+
+        TaskSyncResponse quiet = rest.getForEntity("/tasks:sync?changedSince={t}", TaskSyncResponse.class, delta.getNext()).getBody();
+        assertThat(quiet.getTasks()).isEmpty();
+        assertThat(quiet.getDeleted()).isEmpty();
+
+        // bulk deletes leave tombstones too
+        rest.postForEntity("/tasks:bulkDelete", new TaskFilter().ids(List.of(kept.getId())), TaskBulkResult.class);
+        TaskSyncResponse bulk = rest.getForEntity("/tasks:sync?changedSince={t}", TaskSyncResponse.class, quiet.getNext()).getBody();
+        assertThat(bulk.getTasks()).isEmpty();
+        assertThat(bulk.getDeleted()).containsExactly(kept.getId());
+    }
+
+    @Test
+    void syncWithMalformedTokenReturns400() {
+        ResponseEntity<String> resp = rest.getForEntity("/tasks:sync?changedSince=not-a-token", String.class);
+        assertThat(resp.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void changeFeedStreamsWritesAndResumesFromLastEventId() {
+        HttpClient client = HttpClient.newHttpClient();
+        HttpRequest subscribe = HttpRequest.newBuilder(URI.create(rest.getRootUri() + "/tasks/changes"))
+                                           .header("Accept", "text/event-stream")
+                                           .build();
+        assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+            HttpResponse<Stream<String>> live = client.send(subscribe, HttpResponse.BodyHandlers.ofLines());
+            assertThat(live.statusCode()).isEqualTo(200);
+            assertThat(live.headers().firstValue("Content-Type")).hasValueSatisfying(
+                    type -> assertThat(type).startsWith("text/event-stream"));
+            Iterator<String> lines = live.body().iterator();
+
+            Task first = rest.postForEntity("/tasks", buildRequest("sse first", "desc", false), Task.class).getBody();
+            String firstId = awaitEvent(lines, "created", "\"title\":\"sse first\"");
+            rest.delete("/tasks/{id}", first.getId());
+            awaitEvent(lines, "deleted", "\"id\":" + first.getId() + ",");
+            live.body().close();
+
+            // changes made while disconnected are replayed after the last event the client saw
+            rest.postForEntity("/tasks", buildRequest("sse second", "desc", false), Task.class);
+            HttpRequest resume = HttpRequest.newBuilder(subscribe, (name, value) -> true)
+                                            .header("Last-Event-ID", firstId)
+                                            .build();
+            HttpResponse<Stream<String>> resumed = client.send(resume, HttpResponse.BodyHandlers.ofLines());
+            Iterator<String> replay = resumed.body().iterator();
+            awaitEvent(replay, "deleted", "\"id\":" + first.getId() + ",");
+            awaitEvent(replay, "created", "\"title\":\"sse second\"");
+            resumed.body().close();
+        });
+    }
+
+    @Test
+    void changeFeedStreamsBulkWritesPerTask() {
+        HttpClient client = HttpClient.newHttpClient();
+        HttpRequest subscribe = HttpRequest.newBuilder(URI.create(rest.getRootUri() + "/tasks/changes"))
+                                           .header("Accept", "text/event-stream")
+                                           .build();
+        assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+            HttpResponse<Stream<String>> live = client.send(subscribe, HttpResponse.BodyHandlers.ofLines());
+            Iterator<String> lines = live.body().iterator();
+
+            List<Long> ids = new ArrayList<>();
+            for (String title : List.of("sse bulk a", "sse bulk b")) {
+                ids.add(rest.postForEntity("/tasks", buildRequest(title, "desc", false), Task.class).getBody().getId());
+            }
+            rest.postForEntity("/tasks:bulkUpdate", new TaskBulkUpdateRequest(new TaskFilter().ids(ids),
+                    new TaskBulkPatch().completed(true)), TaskBulkResult.class);
+            awaitEvent(lines, "updated", "\"title\":\"sse bulk a\"");
+            awaitEvent(lines, "updated", "\"title\":\"sse bulk b\"");
+            rest.postForEntity("/tasks:bulkDelete", new TaskFilter().ids(ids), TaskBulkResult.class);
+            awaitEvent(lines, "deleted", "\"id\":" + ids.get(0) + ",");
+            awaitEvent(lines, "deleted", "\"id\":" + ids.get(1) + ",");
+            live.body().close();
+        });
+    }
+
+    @Test
+    void exportAllTasksAsNdjson() {
+        rest.postForEntity("/tasks", buildRequest("ndjson export", "desc", false), Task.class);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setAccept(List.of(MediaType.APPLICATION_NDJSON));
+        ResponseEntity<String> resp = rest.exchange("/tasks", HttpMethod.GET, new HttpEntity<>(headers), String.class);
+
+        assertThat(resp.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(resp.getHeaders().getContentType()).isNotNull();
+        assertThat(resp.getHeaders().getContentType().isCompatibleWith(MediaType.APPLICATION_NDJSON)).isTrue();
+        assertThat(resp.getBody().lines().toList())
+            .isNotEmpty()
+            .allSatisfy(line -> assertThat(line).startsWith("{").endsWith("}"))
+            .anySatisfy(line -> assertThat(line).contains("\"title\":\"ndjson export\""));
+    }
+
+    @Test
+    void binaryFormatsAreNegotiatedAndJsonStaysTheDefault() throws IOException {
+        ResponseEntity<byte[]> created = rest.exchange(RequestEntity.post(URI.create("/tasks"))
+                .contentType(TaskProtobuf.APPLICATION_PROTOBUF)
+                .accept(TaskProtobuf.APPLICATION_PROTOBUF)
+                .body(TaskProtobuf.toBytes(buildRequest("wire formats", "desc", true))), byte[].class);
+        assertThat(created.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(created.getHeaders().getContentType().isCompatibleWith(TaskProtobuf.APPLICATION_PROTOBUF)).isTrue();
+        Task task = TaskProtobuf.read(Task.class, new ByteArrayInputStream(created.getBody()));
+        assertThat(task.getTitle()).isEqualTo("wire formats");
+        assertThat(task.getCompleted()).isTrue();
+
+        ResponseEntity<byte[]> cbor = rest.exchange(RequestEntity.get(URI.create("/tasks/" + task.getId()))
+                .accept(MediaType.valueOf("application/cbor")).build(), byte[].class);
+        assertThat(cbor.getStatusCode()).isEqualTo(HttpStatus.OK);
+        JsonNode cborTask = new ObjectMapper(new CBORFactory()).readTree(cbor.getBody());
+        assertThat(cborTask.get("title").asText()).isEqualTo("wire formats");
+        assertThat(cborTask.get("createdAt").isNumber()).isTrue();
+        assertThat(cborTask.get("createdAt").doubleValue())
+            .isCloseTo(task.getCreatedAt().toInstant().toEpochMilli() / 1000.0, within(0.001));
+
+        ResponseEntity<byte[]> page = rest.exchange(RequestEntity.get(URI.create("/tasks?limit=1000"))
+                .accept(TaskProtobuf.APPLICATION_PROTOBUF).build(), byte[].class);
+        assertThat(page.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(TaskProtobuf.readList(new ByteArrayInputStream(page.getBody())))
+            .extracting(Task::getId).contains(task.getId());
+
+        ResponseEntity<byte[]> smile = rest.exchange(RequestEntity.get(URI.create("/tasks?limit=1000"))
+                .accept(MediaType.valueOf("application/x-jackson-smile")).build(), byte[].class);
+        assertThat(smile.getStatusCode()).isEqualTo(HttpStatus.OK);
+        JsonNode smilePage = new ObjectMapper(new SmileFactory()).readTree(smile.getBody());
+        assertThat(smilePage.isArray()).isTrue();
+        assertThat(smilePage.findValuesAsText("title")).contains("wire formats");
+
+        ResponseEntity<String> json = rest.exchange(RequestEntity.get(URI.create("/tasks/" + task.getId()))
+                .accept(MediaType.ALL).build(), String.class);
+        assertThat(json.getHeaders().getContentType().isCompatibleWith(MediaType.APPLICATION_JSON)).isTrue();
+
+        // statistics have no Protobuf message
+        ResponseEntity<byte[]> stats = rest.exchange(RequestEntity.get(URI.create("/tasks/stats"))
+                .accept(TaskProtobuf.APPLICATION_PROTOBUF).build(), byte[].class);
+        assertThat(stats.getStatusCode()).isEqualTo(HttpStatus.NOT_ACCEPTABLE);
+    }
+
+    @Test
+    void createTasksBatchReportsInvalidItems() {
+        List<TaskRequest> batch = List.of(
+                buildRequest("batch 1", "desc", false),
+                buildRequest(null, "missing title", false),
+                buildRequest("batch 3", "desc", true));
+
+        ResponseEntity<TaskBatchResponse> resp = rest.postForEntity("/tasks:batch", batch, TaskBatchResponse.class);
+
+        assertThat(resp.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        TaskBatchResponse body = resp.getBody();
+        assertThat(body.getCreated()).extracting(Task::getTitle).containsExactly("batch 1", "batch 3");
+        assertThat(body.getCreated()).allSatisfy(t -> assertThat(t.getId()).isNotNull());
+        assertThat(body.getErrors()).singleElement()
+            .satisfies(e -> {
+                assertThat(e.getIndex()).isEqualTo(1);
+                assertThat(e.getDetails()).contains("title");
+            });
+    }
+
+    @Test
+    void createTasksBatchWithOnlyInvalidItemsReturns422() {
+        List<TaskRequest> batch = List.of(buildRequest(null, "desc", false));
+
+        ResponseEntity<TaskBatchResponse> resp = rest.postForEntity("/tasks:batch", batch, TaskBatchResponse.class);
+
+        assertThat(resp.getStatusCode()).isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+        assertThat(resp.getBody().getCreated()).isEmpty();
+    }
+
+    @Test
+    void bulkUpdateThenBulkDeleteByIds() {
+        Long a = rest.postForEntity("/tasks", buildRequest("bulk a", "desc", false), Task.class).getBody().getId();
+        Long b = rest.postForEntity("/tasks", buildRequest("bulk b", "desc", false), Task.class).getBody().getId();
+
+        TaskBulkUpdateRequest update = new TaskBulkUpdateRequest(
+                new TaskFilter().ids(List.of(a, b)).completed(false),
+                new TaskBulkPatch().completed(true));
+        ResponseEntity<TaskBulkResult> updated = rest.postForEntity("/tasks:bulkUpdate", update, TaskBulkResult.class);
+        assertThat(updated.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(updated.getBody().getAffected()).isEqualTo(2L);
+        assertThat(rest.getForEntity("/tasks/{id}", Task.class, a).getBody().getCompleted()).isTrue();
+
+        ResponseEntity<TaskBulkResult> deleted = rest.postForEntity("/tasks:bulkDelete",
+                new TaskFilter().ids(List.of(a, b)), TaskBulkResult.class);
+        assertThat(deleted.getBody().getAffected()).isEqualTo(2L);
+        assertThat(rest.getForEntity("/tasks/{id}", String.class, b).getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    void bulkOperationsOnlyTouchMatchingTasksAcrossChunks() {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ids.add(rest.postForEntity("/tasks", buildRequest("chunked " + i, "desc", i % 2 == 1), Task.class)
+                        .getBody().getId());
+        }
+
+        TaskBulkUpdateRequest update = new TaskBulkUpdateRequest(
+                new TaskFilter().ids(ids).completed(false),
+                new TaskBulkPatch().title("quasicrystal"));
+        assertThat(rest.postForEntity("/tasks:bulkUpdate", update, TaskBulkResult.class).getBody().getAffected())
+                .isEqualTo(3L);
+        assertThat(rest.getForEntity("/tasks/{id}", Task.class, ids.get(1)).getBody().getTitle()).isEqualTo("chunked 1");
+        assertThat(rest.getForEntity("/tasks/{id}", Task.class, ids.get(4)).getBody().getTitle()).isEqualTo("quasicrystal");
+        assertThat(rest.getForEntity("/tasks/search?q=quasicrystal", Task[].class).getBody())
+                .extracting(Task::getId).containsExactlyInAnyOrder(ids.get(0), ids.get(2), ids.get(4));
+
+        ResponseEntity<TaskBulkResult> deleted = rest.postForEntity("/tasks:bulkDelete",
+                new TaskFilter().ids(ids).completed(true), TaskBulkResult.class);
+        assertThat(deleted.getBody().getAffected()).isEqualTo(2L);
+        assertThat(rest.getForEntity("/tasks/{id}", String.class, ids.get(3)).getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(rest.getForEntity("/tasks/{id}", String.class, ids.get(2)).getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    void bulkDeleteWithEmptyFilterReturns400() {
+        ResponseEntity<String> resp = rest.postForEntity("/tasks:bulkDelete", new TaskFilter(), String.class);
+        assertThat(resp.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void updateTask() {
+        Task created = rest.postForEntity("/tasks",
+                buildRequest("before", "desc", false), Task.class).getBody();
+
+        TaskRequest update = buildRequest("after", "new desc", true);
+        RequestEntity<TaskRequest> req = RequestEntity
+                .put(URI.create("/tasks/" + created.getId()))
+                .body(update);
+        ResponseEntity<Task> putResp = rest.exchange(req, Task.class);
+        assertThat(putResp.getStatusCode()).isEqualTo(HttpStatus.OK);
+        Task updated = putResp.getBody();
+        assertThat(updated.getTitle()).isEqualTo("after");
+        assertThat(updated.getCompleted()).isTrue();
+    }
+
+    @Test
+    void retriedWritesWithAnIdempotencyKeyReplayTheFirstResponse() {
+        RequestEntity<TaskRequest> create = RequestEntity.post(URI.create("/tasks"))
+                .header("Idempotency-Key", "create-once")
+                .body(buildRequest("idempotent", "desc", false));
+        ResponseEntity<Task> first = rest.exchange(create, Task.class);
+        ResponseEntity<Task> retry = rest.exchange(create, Task.class);
+        assertThat(first.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(retry.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(retry.getHeaders().getFirst("Idempotent-Replayed")).isEqualTo("true");
+        assertThat(retry.getHeaders().getETag()).isEqualTo(first.getHeaders().getETag());
+        assertThat(retry.getBody().getId()).isEqualTo(first.getBody().getId());
+
+        ResponseEntity<String> reused = rest.exchange(RequestEntity.post(URI.create("/tasks"))
+                .header("Idempotency-Key", "create-once")
+                .body(buildRequest("something else", "desc", false)), String.class);
+        assertThat(reused.getStatusCode()).isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+
+        // a replayed conditional update answers 200 again, not 412 against the version it created
+        RequestEntity<TaskRequest> update = RequestEntity.put(URI.create("/tasks/" + first.getBody().getId()))
+                .header("Idempotency-Key", "update-once")
+                .header("If-Match", first.getHeaders().getETag())
+                .body(buildRequest("idempotent 2", "desc", true));
+        ResponseEntity<Task> updated = rest.exchange(update, Task.class);
+        ResponseEntity<Task> updateRetry = rest.exchange(update, Task.class);
+        assertThat(updated.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(updateRetry.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(updateRetry.getHeaders().getETag()).isEqualTo(updated.getHeaders().getETag());
+    }
+
+    @Test
+    void deleteTask() {
+        Long id = Objects.requireNonNull(
+                rest.postForEntity("/tasks", buildRequest("to delete", "desc", false), Task.class)
+                    .getBody()).getId();
+
+        rest.delete("/tasks/{id}", id);
+
+        ResponseEntity<String> getAfter = rest.getForEntity("/tasks/{id}", String.class, id);
+        assertThat(getAfter.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    void cachedTaskIsRefreshedByUpdate() {
+        Task created = rest.postForEntity("/tasks", buildRequest("cached", "desc", false), Task.class).getBody();
+        assertThat(rest.getForEntity("/tasks/{id}", Task.class, created.getId()).getBody().getTitle()).isEqualTo("cached");
+
+        rest.put("/tasks/{id}", buildRequest("refreshed", "desc", true), created.getId());
+
+        Task fetched = rest.getForEntity("/tasks/{id}", Task.class, created.getId()).getBody();
+        assertThat(fetched.getTitle()).isEqualTo("refreshed");
+        assertThat(fetched.getCompleted()).isTrue();
+    }
+
+    @Test
+    void cacheMetricsAreExposed() {
+        Task created = rest.postForEntity("/tasks", buildRequest("metered", "desc", false), Task.class).getBody();
+        rest.getForEntity("/tasks/{id}", Task.class, created.getId());
+
+        ResponseEntity<Map> resp = rest.getForEntity("/actuator/metrics/cache.gets?tag=cache:tasks&tag=result:hit", Map.class);
+        assertThat(resp.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(resp.getBody()).containsKey("measurements");
+    }
+
+    @Test
+    void getTaskHonoursIfNoneMatch() {
+        Task created = rest.postForEntity("/tasks", buildRequest("etag", "desc", false), Task.class).getBody();
+        ResponseEntity<Task> first = rest.getForEntity("/tasks/{id}", Task.class, created.getId());
+        String etag = first.getHeaders().getETag();
+        assertThat(etag).isNotNull();
+        assertThat(first.getHeaders().getLastModified()).isPositive();
+
+        HttpHeaders conditional = new HttpHeaders();
+        conditional.setIfNoneMatch(etag);
+        ResponseEntity<String> unchanged = rest.exchange("/tasks/{id}", HttpMethod.GET,
+                new HttpEntity<>(conditional), String.class, created.getId());
+        assertThat(unchanged.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(unchanged.getBody()).isNull();
+        assertThat(unchanged.getHeaders().getETag()).isEqualTo(etag);
+
+        rest.put("/tasks/{id}", buildRequest("etag changed", "desc", false), created.getId());
+        ResponseEntity<Task> changed = rest.exchange("/tasks/{id}", HttpMethod.GET,
+                new HttpEntity<>(conditional), Task.class, created.getId());
+        assertThat(changed.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(changed.getBody().getTitle()).isEqualTo("etag changed");
+        assertThat(changed.getHeaders().getETag()).isNotEqualTo(etag);
+    }
+
+    @Test
+    void getTaskHonoursIfModifiedSince() {
+        Task created = rest.postForEntity("/tasks", buildRequest("ims", "desc", false), Task.class).getBody();
+
+        HttpHeaders conditional = new HttpHeaders();
+        conditional.setIfModifiedSince(created.getUpdatedAt().plusSeconds(1).toInstant());
+        ResponseEntity<String> unchanged = rest.exchange("/tasks/{id}", HttpMethod.GET,
+                new HttpEntity<>(conditional), String.class, created.getId());
+        assertThat(unchanged.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+
+        conditional.setIfModifiedSince(created.getUpdatedAt().minusSeconds(1).toInstant());
+        ResponseEntity<Task> modified = rest.exchange("/tasks/{id}", HttpMethod.GET,
+                new HttpEntity<>(conditional), Task.class, created.getId());
+        assertThat(modified.getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    void listTasksHonoursIfNoneMatch() {
+        rest.postForEntity("/tasks", buildRequest("list etag", "desc", false), Task.class);
+        ResponseEntity<String> first = rest.getForEntity("/tasks?limit=5", String.class);
+        String etag = first.getHeaders().getETag();
+        assertThat(etag).startsWith("W/");
+
+        HttpHeaders conditional = new HttpHeaders();
+        conditional.setIfNoneMatch(etag);
+        ResponseEntity<String> again = rest.exchange("/tasks?limit=5", HttpMethod.GET,
+                new HttpEntity<>(conditional), String.class);
+        assertThat(again.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(again.getBody()).isNull();
+    }
+
+    @Test
+    void updateWithCurrentIfMatchSucceedsAndReturnsNewETag() {
+        ResponseEntity<Task> created = rest.postForEntity("/tasks", buildRequest("v0", "desc", false), Task.class);
+        String etag = created.getHeaders().getETag();
+        assertThat(etag).isNotNull();
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfMatch(etag);
+        ResponseEntity<Task> updated = rest.exchange("/tasks/{id}", HttpMethod.PUT,
+                new HttpEntity<>(buildRequest("v1", "desc", true), headers), Task.class, created.getBody().getId());
+        assertThat(updated.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(updated.getBody().getTitle()).isEqualTo("v1");
+        assertThat(updated.getBody().getCreatedAt())
+            .isCloseTo(created.getBody().getCreatedAt(), within(1, ChronoUnit.SECONDS));
+        assertThat(updated.getHeaders().getETag()).isNotEqualTo(etag);
+        assertThat(rest.getForEntity("/tasks/{id}", Task.class, created.getBody().getId()).getHeaders().getETag())
+            .isEqualTo(updated.getHeaders().getETag());
+    }
+
+    @Test
+    void updateWithStaleIfMatchReturns412() {
+        ResponseEntity<Task> created = rest.postForEntity("/tasks", buildRequest("race", "desc", false), Task.class);
+        String stale = created.getHeaders().getETag();
+        rest.put("/tasks/{id}", buildRequest("first writer", "desc", false), created.getBody().getId());
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfMatch(stale);
+        ResponseEntity<String> second = rest.exchange("/tasks/{id}", HttpMethod.PUT,
+                new HttpEntity<>(buildRequest("second writer", "desc", false), headers), String.class, created.getBody().getId());
+        assertThat(second.getStatusCode()).isEqualTo(HttpStatus.PRECONDITION_FAILED);
+        assertThat(rest.getForEntity("/tasks/{id}", Task.class, created.getBody().getId()).getBody().getTitle())
+            .isEqualTo("first writer");
+    }
+
+    @Test
+    void deleteWithStaleIfMatchReturns412() {
+        ResponseEntity<Task> created = rest.postForEntity("/tasks", buildRequest("keep", "desc", false), Task.class);
+        String stale = created.getHeaders().getETag();
+        rest.put("/tasks/{id}", buildRequest("keep changed", "desc", false), created.getBody().getId());
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfMatch(stale);
+        ResponseEntity<String> deleted = rest.exchange("/tasks/{id}", HttpMethod.DELETE,
+                new HttpEntity<>(headers), String.class, created.getBody().getId());
+        assertThat(deleted.getStatusCode()).isEqualTo(HttpStatus.PRECONDITION_FAILED);
+        assertThat(rest.getForEntity("/tasks/{id}", Task.class, created.getBody().getId()).getStatusCode())
+            .isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    void deleteWithCurrentIfMatchReturns204() {
+        ResponseEntity<Task> created = rest.postForEntity("/tasks", buildRequest("drop", "desc", false), Task.class);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfMatch(created.getHeaders().getETag());
+        ResponseEntity<String> deleted = rest.exchange("/tasks/{id}", HttpMethod.DELETE,
+                new HttpEntity<>(headers), String.class, created.getBody().getId());
+        assertThat(deleted.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+    }
+
+    private ResponseEntity<Task> patch(Long id, String json, String ifMatch) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.valueOf("application/merge-patch+json"));
+        if (ifMatch != null) {
+            headers.setIfMatch(ifMatch);
+        }
+        return rest.exchange("/tasks/{id}", HttpMethod.PATCH, new HttpEntity<>(json, headers), Task.class, id);
+    }
+
+    @Test
+    void patchChangesOnlyPresentFields() {
+        Task created = rest.postForEntity("/tasks", buildRequest("keep title", "keep desc", false), Task.class).getBody();
+
+        ResponseEntity<Task> patched = patch(created.getId(), "{\"completed\": true}", null);
+        assertThat(patched.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(patched.getBody().getCompleted()).isTrue();
+        assertThat(patched.getBody().getTitle()).isEqualTo("keep title");
+        assertThat(patched.getBody().getDescription()).isEqualTo("keep desc");
+
+        Task fetched = rest.getForEntity("/tasks/{id}", Task.class, created.getId()).getBody();
+        assertThat(fetched.getCompleted()).isTrue();
+        assertThat(fetched.getTitle()).isEqualTo("keep title");
+    }
+
+    @Test
+    void patchWithIfMatchChainsETags() {
+        ResponseEntity<Task> created = rest.postForEntity("/tasks", buildRequest("chain", "desc", false), Task.class);
+        Long id = created.getBody().getId();
+        rest.getForEntity("/tasks/{id}", Task.class, id);
+
+        ResponseEntity<Task> first = patch(id, "{\"title\": \"chain 1\"}", created.getHeaders().getETag());
+        assertThat(first.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(first.getBody().getDescription()).isEqualTo("desc");
+
+        ResponseEntity<Task> second = patch(id, "{\"completed\": true}", first.getHeaders().getETag());
+        assertThat(second.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(second.getBody().getTitle()).isEqualTo("chain 1");
+        assertThat(second.getBody().getCompleted()).isTrue();
+
+        ResponseEntity<Task> stale = patch(id, "{\"completed\": false}", first.getHeaders().getETag());
+        assertThat(stale.getStatusCode()).isEqualTo(HttpStatus.PRECONDITION_FAILED);
+    }
+
+    @Test
+    void patchWithExplicitNullReturns400() {
+        Task created = rest.postForEntity("/tasks", buildRequest("no nulls", "desc", false), Task.class).getBody();
+
+        assertThat(patch(created.getId(), "{\"title\": null}", null).getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void patchWithEmptyBodyReturns400() {
+        Task created = rest.postForEntity("/tasks", buildRequest("empty patch", "desc", false), Task.class).getBody();
+
+        assertThat(patch(created.getId(), "{}", null).getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void patchWithTooLongTitleReturns400() {
+        Task created = rest.postForEntity("/tasks", buildRequest("long patch", "desc", false), Task.class).getBody();
+
+        assertThat(patch(created.getId(), "{\"title\": \"" + "X".repeat(256) + "\"}", null).getStatusCode())
+            .isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    /* ========== SAD PATH / BOUNDARY ========== */
+
+    @Test
+    void createTaskWithInvalidPayloadReturns400() {
+        String invalidJson = "{ invalid json }";
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        HttpEntity<String> entity = new HttpEntity<>(invalidJson, headers);
+
+        ResponseEntity<String> response = rest.postForEntity("/tasks", entity, String.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void createTaskWithNullTitleReturns400() {
+        TaskRequest rq = new TaskRequest();
+        rq.setTitle(null);
+        rq.setDescription("desc");
+        rq.setCompleted(false);
+        ResponseEntity<String> resp = rest.postForEntity("/tasks", rq, String.class);
+        assertThat(resp.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void listTasksWithInvalidCursorReturns400() {
+        ResponseEntity<String> resp = rest.getForEntity("/tasks?cursor={cursor}", String.class, "garbage!");
+        assertThat(resp.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void listTasksWithUnknownSortReturns400() {
+        ResponseEntity<String> resp = rest.getForEntity("/tasks?sort=priority", String.class);
+        assertThat(resp.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void listTasksWithMalformedDateFilterReturns400() {
+        ResponseEntity<String> resp = rest.getForEntity("/tasks?createdAfter={date}", String.class, "last tuesday");
+        assertThat(resp.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void searchWithoutQueryReturns400() {
+        assertThat(rest.getForEntity("/tasks/search", String.class).getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(rest.getForEntity("/tasks/search?q=x&limit=101", String.class).getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void listTasksWithOutOfRangeLimitReturns400() {
+        ResponseEntity<String> resp = rest.getForEntity("/tasks?limit=0", String.class);
+        assertThat(resp.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void getTaskByNonExistentIdReturns404() {
+        ResponseEntity<String> resp = rest.getForEntity("/tasks/{id}", String.class, 9999L);
+        assertThat(resp.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    void updateNonExistentTaskReturns404() {
+        TaskRequest rq = buildRequest("ghost", "no such task", false);
+        RequestEntity<TaskRequest> req = RequestEntity
+                .put(URI.create("/tasks/8888"))
+                .body(rq);
+        ResponseEntity<String> resp = rest.exchange(req, String.class);
+        assertThat(resp.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    void deleteNonExistentTaskReturns404() {
+        rest.delete("/tasks/{id}", 7777L);
+        ResponseEntity<String> resp = rest.getForEntity("/tasks/{id}", String.class, 7777L);
+        assertThat(resp.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    void patchNonExistentTaskReturns404() {
+        Long taskId = 9999L;
+        String patchJson = "{\"title\": \"Patched\"}";
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        HttpEntity<String> entity = new HttpEntity<>(patchJson, headers);
+
+        ResponseEntity<Void> response = rest.exchange(
+            "/tasks/" + taskId,
+            HttpMethod.PATCH,
+            entity,
+            Void.class
+        );
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    void createTaskWithMaxLengthFields() {
+        String maxTitle = "X".repeat(255);
+        String maxDesc = "Y".repeat(1000);
+        TaskRequest rq = buildRequest(maxTitle, maxDesc, true);
+        ResponseEntity<Task> resp = rest.postForEntity("/tasks", rq, Task.class);
+        assertThat(resp.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        Task body = resp.getBody();
+        assertThat(body.getTitle()).hasSize(255);
+        assertThat(body.getDescription()).hasSize(1000);
+    }
+}
\ No newline at end of file
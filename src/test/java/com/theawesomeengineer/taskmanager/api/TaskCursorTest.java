@@ -0,0 +1,56 @@
+package com.theawesomeengineer.taskmanager.api;
+
+import java.time.OffsetDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.Test;
+
+import com.theawesomeengineer.taskmanager.repository.TaskKeyset;
+import com.theawesomeengineer.taskmanager.repository.TaskSortKey;
+
+class TaskCursorTest {
+
+    @Test
+    void roundTripsIdCursor() {
+        TaskKeyset keyset = new TaskKeyset(TaskSortKey.ID, 42L, 42L);
+
+        assertThat(TaskCursor.decode(TaskCursor.encode(keyset))).isEqualTo(keyset);
+    }
+
+    @Test
+    void roundTripsTimestampCursor() {
+        OffsetDateTime ts = OffsetDateTime.parse("2025-01-01T10:00:00.123456Z");
+        TaskKeyset keyset = new TaskKeyset(TaskSortKey.UPDATED_AT, ts, 7L);
+
+        assertThat(TaskCursor.decode(TaskCursor.encode(keyset))).isEqualTo(keyset);
+    }
+
+    @Test
+    void roundTripsTitleContainingSeparator() {
+        TaskKeyset keyset = new TaskKeyset(TaskSortKey.TITLE, "a|b|c", 3L);
+
+        assertThat(TaskCursor.decode(TaskCursor.encode(keyset))).isEqualTo(keyset);
+    }
+
+    @Test
+    void encodedCursorIsUrlSafe() {
+        String cursor = TaskCursor.encode(new TaskKeyset(TaskSortKey.TITLE, "???>>>", 1L));
+
+        assertThat(cursor).doesNotContain("+", "/", "=");
+    }
+
+    @Test
+    void rejectsGarbage() {
+        assertThatThrownBy(() -> TaskCursor.decode("not a cursor!"))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TaskCursor.decode("Zm9v"))   // "foo"
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void sortKeyLookupByAttribute() {
+        assertThat(TaskSortKey.fromAttribute("createdAt")).contains(TaskSortKey.CREATED_AT);
+        assertThat(TaskSortKey.fromAttribute("priority")).isEmpty();
+    }
+}
@@ -0,0 +1,66 @@
+package com.theawesomeengineer.taskmanager.api;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.Test;
+
+import com.theawesomeengineer.taskmanager.repository.TaskEntity;
+
+class TaskETagsTest {
+
+    private static final OffsetDateTime UPDATED = OffsetDateTime.parse("2025-01-01T10:00:00.123456Z");
+
+    @Test
+    void strongETagCombinesIdAndVersion() {
+        assertThat(TaskETags.of(42L, 3)).isEqualTo("\"42-3\"");
+    }
+
+    @Test
+    void listETagIsWeakAndOrderSensitive() {
+        TaskEntity a = TaskEntity.builder().id(1L).version(0L).build();
+        TaskEntity b = TaskEntity.builder().id(2L).version(5L).build();
+
+        assertThat(TaskETags.ofList(List.of(a, b))).startsWith("W/\"");
+        assertThat(TaskETags.ofList(List.of(a, b))).isEqualTo(TaskETags.ofList(List.of(a, b)));
+        assertThat(TaskETags.ofList(List.of(a, b))).isNotEqualTo(TaskETags.ofList(List.of(b, a)));
+    }
+
+    @Test
+    void ifNoneMatchUsesWeakComparison() {
+        String etag = TaskETags.of(1L, 7);
+
+        assertThat(TaskETags.matches(etag, etag)).isTrue();
+        assertThat(TaskETags.matches("W/" + etag, etag)).isTrue();
+        assertThat(TaskETags.matches("\"other\", " + etag, etag)).isTrue();
+        assertThat(TaskETags.matches("*", etag)).isTrue();
+        assertThat(TaskETags.matches("\"other\"", etag)).isFalse();
+    }
+
+    @Test
+    void ifMatchYieldsVersionOfStrongTagForSameTask() {
+        assertThat(TaskETags.versionOf("\"42-3\"", 42L)).hasValue(3);
+        assertThat(TaskETags.versionOf(" \"42-3\" ", 42L)).hasValue(3);
+    }
+
+    @Test
+    void ifMatchRejectsWeakForeignOrMalformedTags() {
+        assertThat(TaskETags.versionOf("W/\"42-3\"", 42L)).isEmpty();
+        assertThat(TaskETags.versionOf("\"41-3\"", 42L)).isEmpty();
+        assertThat(TaskETags.versionOf("\"42-\"", 42L)).isEmpty();
+        assertThat(TaskETags.versionOf("\"42-x\"", 42L)).isEmpty();
+        assertThat(TaskETags.versionOf("42-3", 42L)).isEmpty();
+    }
+
+    @Test
+    void ifModifiedSinceComparesWholeSeconds() {
+        assertThat(TaskETags.notModifiedSince("Wed, 1 Jan 2025 10:00:00 GMT", UPDATED)).isTrue();
+        assertThat(TaskETags.notModifiedSince("Wed, 1 Jan 2025 09:59:59 GMT", UPDATED)).isFalse();
+    }
+
+    @Test
+    void unparseableIfModifiedSinceIsIgnored() {
+        assertThat(TaskETags.notModifiedSince("yesterday", UPDATED)).isFalse();
+    }
+}
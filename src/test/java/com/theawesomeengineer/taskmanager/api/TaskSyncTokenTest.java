@@ -0,0 +1,59 @@
+package com.theawesomeengineer.taskmanager.api;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.Test;
+
+import com.theawesomeengineer.taskmanager.repository.TaskEntity;
+import com.theawesomeengineer.taskmanager.repository.TaskKeyset;
+import com.theawesomeengineer.taskmanager.repository.TaskSortKey;
+import com.theawesomeengineer.taskmanager.repository.TaskTombstone;
+
+class TaskSyncTokenTest {
+
+    private static final OffsetDateTime T0 = OffsetDateTime.parse("2025-01-01T10:00:00.123456Z");
+
+    @Test
+    void roundTripsInitialAndAdvancedTokens() {
+        TaskSyncToken initial = TaskSyncToken.initial(T0);
+        TaskSyncToken advanced = new TaskSyncToken(T0.plusSeconds(5), 42L, T0.plusSeconds(3), 7L);
+
+        assertThat(TaskSyncToken.decode(initial.encode())).isEqualTo(initial);
+        assertThat(TaskSyncToken.decode(advanced.encode())).isEqualTo(advanced);
+        assertThat(advanced.encode()).doesNotContain("+", "/", "=");
+    }
+
+    @Test
+    void startsFromTheFirstTaskUntilOneWasReported() {
+        assertThat(TaskSyncToken.initial(T0).tasksAfter()).isNull();
+        assertThat(new TaskSyncToken(T0, 3L, T0, 0L).tasksAfter())
+            .isEqualTo(new TaskKeyset(TaskSortKey.UPDATED_AT, T0, 3L));
+    }
+
+    @Test
+    void movesPastTheLastTaskAndTombstoneOfAPage() {
+        TaskEntity older = TaskEntity.builder().id(9L).updatedAt(T0.plusSeconds(1)).build();
+        TaskEntity newer = TaskEntity.builder().id(4L).updatedAt(T0.plusSeconds(2)).build();
+        TaskTombstone tombstone = new TaskTombstone(11L, T0.plusSeconds(4));
+        TaskSyncToken initial = TaskSyncToken.initial(T0);
+
+        assertThat(initial.after(List.of(older, newer), List.of()))
+            .isEqualTo(new TaskSyncToken(T0.plusSeconds(2), 4L, T0, 0L));
+        assertThat(initial.after(List.of(), List.of(tombstone)))
+            .isEqualTo(new TaskSyncToken(null, 0L, T0.plusSeconds(4), 11L));
+        assertThat(initial.after(List.of(), List.of())).isEqualTo(initial);
+    }
+
+    @Test
+    void rejectsGarbage() {
+        assertThatThrownBy(() -> TaskSyncToken.decode("not a token!"))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TaskSyncToken.decode("Zm9v"))   // "foo"
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TaskSyncToken.decode("fDB8eHw3"))   // "|0|x|7"
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
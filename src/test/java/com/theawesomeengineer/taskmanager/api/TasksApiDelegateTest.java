@@ -11,7 +11,15 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.context.request.NativeWebRequest;
 
 import com.theawesomeengineer.taskmanager.model.Task;
+import com.theawesomeengineer.taskmanager.model.TaskBatchResponse;
+import com.theawesomeengineer.taskmanager.model.TaskBulkPatch;
+import com.theawesomeengineer.taskmanager.model.TaskBulkResult;
+import com.theawesomeengineer.taskmanager.model.TaskBulkUpdateRequest;
+import com.theawesomeengineer.taskmanager.model.TaskFilter;
+import com.theawesomeengineer.taskmanager.model.TaskPatch;
 import com.theawesomeengineer.taskmanager.model.TaskRequest;
+import com.theawesomeengineer.taskmanager.model.TaskStats;
+import com.theawesomeengineer.taskmanager.model.TaskSyncResponse;
 
 class TasksApiDelegateTest {
 
@@ -23,35 +31,78 @@ class TasksApiDelegateTest {
         assertThat(result).isEmpty();
     }
 
+    @Test
+    void bulkDeleteTasks_returnsNotImplemented() {
+        ResponseEntity<TaskBulkResult> response = delegate.bulkDeleteTasks(new TaskFilter().completed(true));
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_IMPLEMENTED);
+    }
+
+    @Test
+    void bulkUpdateTasks_returnsNotImplemented() {
+        TaskBulkUpdateRequest request = new TaskBulkUpdateRequest(new TaskFilter().completed(false), new TaskBulkPatch().completed(true));
+        ResponseEntity<TaskBulkResult> response = delegate.bulkUpdateTasks(request);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_IMPLEMENTED);
+    }
+
     @Test
     void createTask_returnsNotImplemented() {
         TaskRequest request = new TaskRequest("title", "desc");
-        ResponseEntity<Task> response = delegate.createTask(request);
+        ResponseEntity<Task> response = delegate.createTask(request, null, null);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_IMPLEMENTED);
+    }
+
+    @Test
+    void createTasksBatch_returnsNotImplemented() {
+        ResponseEntity<TaskBatchResponse> response = delegate.createTasksBatch(List.of(new TaskRequest("title", "desc")));
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_IMPLEMENTED);
     }
 
     @Test
     void deleteTask_returnsNotImplemented() {
-        ResponseEntity<Void> response = delegate.deleteTask(1L);
+        ResponseEntity<Void> response = delegate.deleteTask(1L, null);
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_IMPLEMENTED);
     }
 
     @Test
     void getAllTasks_returnsNotImplemented() {
-        ResponseEntity<List<Task>> response = delegate.getAllTasks();
+        ResponseEntity<List<Task>> response = delegate.getAllTasks(null, "id", null, null, null, null, null, null, null, null);
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_IMPLEMENTED);
     }
 
     @Test
     void getTaskById_returnsNotImplemented() {
-        ResponseEntity<Task> response = delegate.getTaskById(1L);
+        ResponseEntity<Task> response = delegate.getTaskById(1L, null, null);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_IMPLEMENTED);
+    }
+
+    @Test
+    void getTaskStats_returnsNotImplemented() {
+        ResponseEntity<TaskStats> response = delegate.getTaskStats();
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_IMPLEMENTED);
+    }
+
+    @Test
+    void searchTasks_returnsNotImplemented() {
+        ResponseEntity<List<Task>> response = delegate.searchTasks("docs", null);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_IMPLEMENTED);
+    }
+
+    @Test
+    void syncTasks_returnsNotImplemented() {
+        ResponseEntity<TaskSyncResponse> response = delegate.syncTasks(null, null);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_IMPLEMENTED);
+    }
+
+    @Test
+    void patchTask_returnsNotImplemented() {
+        ResponseEntity<Task> response = delegate.patchTask(1L, new TaskPatch().completed(true), null);
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_IMPLEMENTED);
     }
 
     @Test
     void updateTask_returnsNotImplemented() {
         TaskRequest request = new TaskRequest("updated", "new desc");
-        ResponseEntity<Task> response = delegate.updateTask(1L, request);
+        ResponseEntity<Task> response = delegate.updateTask(1L, request, null, null);
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_IMPLEMENTED);
     }
 }
\ No newline at end of file
@@ -0,0 +1,68 @@
+package com.theawesomeengineer.taskmanager.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TasksApiMetricsInterceptorTest {
+
+    private SimpleMeterRegistry registry;
+    private TasksApiMetricsInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        interceptor = new TasksApiMetricsInterceptor(registry);
+    }
+
+    private HandlerMethod handler(Object bean, String name) throws NoSuchMethodException {
+        return new HandlerMethod(bean, bean.getClass().getMethod(name, Long.class, String.class, String.class));
+    }
+
+    @Test
+    void outcome_groupsSuccessAndServerErrorsButKeepsClientErrorCodes() {
+        assertThat(TasksApiMetricsInterceptor.outcome(200, null)).isEqualTo("2xx");
+        assertThat(TasksApiMetricsInterceptor.outcome(201, null)).isEqualTo("2xx");
+        assertThat(TasksApiMetricsInterceptor.outcome(304, null)).isEqualTo("3xx");
+        assertThat(TasksApiMetricsInterceptor.outcome(400, null)).isEqualTo("400");
+        assertThat(TasksApiMetricsInterceptor.outcome(404, null)).isEqualTo("404");
+        assertThat(TasksApiMetricsInterceptor.outcome(503, null)).isEqualTo("5xx");
+        assertThat(TasksApiMetricsInterceptor.outcome(200, new IllegalStateException())).isEqualTo("5xx");
+    }
+
+    @Test
+    void timesTasksApiHandlersByOperationAndOutcome() throws Exception {
+        HandlerMethod handler = handler(new TasksApiController(new TasksApiDelegate() {}), "getTaskById");
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThat(interceptor.preHandle(request, response, handler)).isTrue();
+        response.setStatus(404);
+        interceptor.afterCompletion(request, response, handler, null);
+
+        Timer timer = registry.find(TasksApiMetricsInterceptor.METRIC)
+                              .tag("operation", "getTaskById")
+                              .tag("outcome", "404")
+                              .timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+    @Test
+    void ignoresOtherHandlers() throws Exception {
+        HandlerMethod handler = new HandlerMethod(new Object(), Object.class.getMethod("toString"));
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        interceptor.preHandle(request, response, handler);
+        interceptor.afterCompletion(request, response, handler, null);
+
+        assertThat(registry.find(TasksApiMetricsInterceptor.METRIC).timers()).isEmpty();
+    }
+}
@@ -0,0 +1,79 @@
+package com.theawesomeengineer.taskmanager.cache;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.theawesomeengineer.taskmanager.config.TaskmanagerProperties;
+import com.theawesomeengineer.taskmanager.model.Task;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TaskCacheTest {
+
+    private SimpleMeterRegistry registry;
+    private TaskCache cache;
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        cache = new TaskCache(new TaskmanagerProperties(), registry);
+    }
+
+    private CachedTask load(Long id) {
+        loads.incrementAndGet();
+        return id < 0 ? null : new CachedTask(new Task().id(id).title("task " + id), 0);
+    }
+
+    @Test
+    void loadsOnceThenServesFromCache() {
+        assertThat(cache.get(1L, this::load)).map(c -> c.task().getTitle()).contains("task 1");
+        assertThat(cache.get(1L, this::load)).map(c -> c.task().getTitle()).contains("task 1");
+
+        assertThat(loads).hasValue(1);
+        assertThat(registry.get("cache.gets").tag("cache", "tasks").tag("result", "hit").functionCounter().count()).isEqualTo(1.0);
+        assertThat(registry.get("cache.gets").tag("cache", "tasks").tag("result", "miss").functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void missingTaskIsNotCached() {
+        assertThat(cache.get(-1L, this::load)).isEmpty();
+        assertThat(cache.get(-1L, this::load)).isEmpty();
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void putReplacesCachedTask() {
+        cache.get(1L, this::load);
+        cache.put(new CachedTask(new Task().id(1L).title("renamed"), 1));
+
+        assertThat(cache.get(1L, this::load)).map(c -> c.task().getTitle()).contains("renamed");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void putIfNewerKeepsTheHigherVersion() {
+        cache.put(new CachedTask(new Task().id(1L).title("v2"), 2));
+        cache.putIfNewer(new CachedTask(new Task().id(1L).title("v1"), 1));
+        assertThat(cache.getIfPresent(1L)).map(c -> c.task().getTitle()).contains("v2");
+
+        cache.putIfNewer(new CachedTask(new Task().id(1L).title("v3"), 3));
+        assertThat(cache.getIfPresent(1L)).map(c -> c.task().getTitle()).contains("v3");
+
+        cache.putIfNewer(new CachedTask(new Task().id(2L).title("new"), 0));
+        assertThat(cache.getIfPresent(2L)).isPresent();
+    }
+
+    @Test
+    void invalidateForcesReload() {
+        cache.get(1L, this::load);
+        cache.invalidate(1L);
+        cache.get(1L, this::load);
+
+        assertThat(loads).hasValue(2);
+    }
+}
@@ -0,0 +1,95 @@
+package com.theawesomeengineer.taskmanager.cache;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import org.springframework.util.unit.DataSize;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.theawesomeengineer.taskmanager.config.TaskmanagerProperties;
+import com.theawesomeengineer.taskmanager.model.Task;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TaskJsonCacheTest {
+
+    private static final OffsetDateTime CREATED = OffsetDateTime.parse("2025-10-28T12:34:46.383096+07:00");
+
+    private SimpleMeterRegistry registry;
+    private ObjectMapper mapper;
+    private TaskJsonCache cache;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        mapper = new ObjectMapper().registerModule(new JavaTimeModule())
+                                   .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        cache = new TaskJsonCache(new TaskmanagerProperties(), mapper, registry);
+    }
+
+    private static Task task(long id, String title) {
+        return new Task(id, title, "desc", false, CREATED, CREATED);
+    }
+
+    private double gets(String result) {
+        return registry.get("cache.gets").tag("cache", "task-json").tag("result", result).functionCounter().count();
+    }
+
+    @Test
+    void reusesTheBytesOfAnEqualTask() throws IOException {
+        byte[] first = cache.json(task(1, "one"));
+
+        assertThat(first).isEqualTo(mapper.writeValueAsBytes(task(1, "one")));
+        assertThat(cache.json(task(1, "one"))).isSameAs(first);
+        assertThat(gets("hit")).isEqualTo(1.0);
+    }
+
+    @Test
+    void anUpdatedTaskReplacesItsEntry() throws IOException {
+        byte[] before = cache.json(task(1, "one"));
+        Task updated = task(1, "one").updatedAt(CREATED.plusSeconds(1));
+
+        byte[] after = cache.json(updated);
+        assertThat(after).isNotEqualTo(before).isEqualTo(mapper.writeValueAsBytes(updated));
+        assertThat(cache.json(updated)).isSameAs(after);
+    }
+
+    @Test
+    void aZeroBudgetTurnsTheCacheOff() {
+        TaskmanagerProperties properties = new TaskmanagerProperties();
+        properties.getCache().setJsonMaximumSize(DataSize.ofBytes(0));
+
+        assertThat(new TaskJsonCache(properties, mapper, registry).isEnabled()).isFalse();
+        assertThat(cache.isEnabled()).isTrue();
+    }
+
+    @Test
+    void listsAreTheCachedTasksJoinedIntoAnArray() throws IOException {
+        TaskJsonHttpMessageConverter converter = new TaskJsonHttpMessageConverter(cache);
+        List<Task> tasks = List.of(task(1, "one"), task(2, "two \"quoted\""));
+        ResolvableType listType = ResolvableType.forClassWithGenerics(List.class, Task.class);
+        assertThat(converter.canWrite(listType.getType(), List.class, MediaType.APPLICATION_JSON)).isTrue();
+        assertThat(converter.canWrite(listType.getType(), List.class, MediaType.valueOf("application/cbor"))).isFalse();
+        assertThat(converter.canRead(listType.getType(), null, MediaType.APPLICATION_JSON)).isFalse();
+        assertThat(converter.canRead(Task.class, MediaType.APPLICATION_JSON)).isFalse();
+
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+        converter.write(tasks, listType.getType(), MediaType.APPLICATION_JSON, output);
+
+        assertThat(output.getBodyAsBytes()).isEqualTo(mapper.writeValueAsBytes(tasks));
+        assertThat(output.getHeaders().getContentLength()).isEqualTo(output.getBodyAsBytes().length);
+
+        MockHttpOutputMessage empty = new MockHttpOutputMessage();
+        converter.write(List.of(), listType.getType(), MediaType.APPLICATION_JSON, empty);
+        assertThat(empty.getBodyAsString()).isEqualTo("[]");
+    }
+}
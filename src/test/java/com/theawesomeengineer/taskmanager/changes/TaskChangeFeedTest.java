@@ -0,0 +1,90 @@
+package com.theawesomeengineer.taskmanager.changes;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.theawesomeengineer.taskmanager.config.TaskmanagerProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TaskChangeFeedTest {
+
+    private SimpleMeterRegistry registry;
+    private TaskChangeFeed feed;
+
+    @BeforeEach
+    void setUp() {
+        TaskmanagerProperties properties = new TaskmanagerProperties();
+        properties.getChanges().setBufferSize(4);
+        properties.getChanges().setMaxSubscribers(2);
+        registry = new SimpleMeterRegistry();
+        feed = new TaskChangeFeed(properties, registry);
+    }
+
+    private static List<Long> sequences(List<TaskChangeFeed.Event> events) {
+        return events.stream().map(TaskChangeFeed.Event::sequence).toList();
+    }
+
+    @Test
+    void returnsChangesAfterAPosition() {
+        assertThat(feed.since(0)).isEmpty();
+        feed.publish(TaskChange.deleted(1));
+        feed.publish(TaskChange.deleted(2));
+        feed.publish(TaskChange.reset());
+
+        assertThat(feed.head()).isEqualTo(3);
+        assertThat(sequences(feed.since(0))).containsExactly(1L, 2L, 3L);
+        assertThat(feed.since(1)).extracting(TaskChangeFeed.Event::change)
+                                 .containsExactly(TaskChange.deleted(2), TaskChange.reset());
+        assertThat(feed.since(3)).isEmpty();
+    }
+
+    @Test
+    void reportsAGapOnceChangesAreOverwritten() {
+        for (long id = 1; id <= 6; id++) {
+            feed.publish(TaskChange.deleted(id));
+        }
+
+        assertThat(sequences(feed.since(2))).containsExactly(3L, 4L, 5L, 6L);
+        assertThat(feed.since(1)).isNull();
+        assertThat(feed.since(7)).isNull();
+    }
+
+    @Test
+    void resumesOnlyFromItsOwnRecentEventIds() {
+        for (long id = 1; id <= 6; id++) {
+            feed.publish(TaskChange.deleted(id));
+        }
+
+        assertThat(feed.resumeFrom(null)).isEqualTo(6);
+        assertThat(feed.resumeFrom(feed.eventId(4))).isEqualTo(4);
+        assertThat(feed.resumeFrom(feed.eventId(1))).isEqualTo(-1);
+        assertThat(feed.resumeFrom(feed.eventId(9))).isEqualTo(-1);
+        assertThat(feed.resumeFrom("elsewhere-4")).isEqualTo(-1);
+        assertThat(feed.resumeFrom("garbage")).isEqualTo(-1);
+        assertThat(feed.resumeFrom(feed.eventId(4).replace("-4", "-x"))).isEqualTo(-1);
+    }
+
+    @Test
+    void awaitReturnsOncePublishedOrTimedOut() throws Exception {
+        assertThat(feed.awaitAfter(0, Duration.ofMillis(10))).isFalse();
+
+        Thread.ofVirtual().start(() -> feed.publish(TaskChange.deleted(1)));
+        assertThat(feed.awaitAfter(0, Duration.ofSeconds(10))).isTrue();
+    }
+
+    @Test
+    void limitsAndCountsSubscribers() {
+        assertThat(feed.subscribe()).isTrue();
+        assertThat(feed.subscribe()).isTrue();
+        assertThat(feed.subscribe()).isFalse();
+        assertThat(registry.get("taskmanager.changes.subscribers").gauge().value()).isEqualTo(2.0);
+
+        feed.unsubscribe();
+        assertThat(feed.subscribe()).isTrue();
+    }
+}
@@ -0,0 +1,104 @@
+package com.theawesomeengineer.taskmanager.config;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ConcurrencyLimitedDataSourceTest {
+
+    private SimpleMeterRegistry registry;
+    private DataSource target;
+    private ConcurrencyLimitedDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        registry = new SimpleMeterRegistry();
+        target = mock(DataSource.class);
+        when(target.getConnection()).thenAnswer(inv -> mock(Connection.class));
+        dataSource = new ConcurrencyLimitedDataSource(target, 2, Duration.ofMillis(50), registry);
+    }
+
+    @Test
+    void closeReturnsThePermitOnce() throws SQLException {
+        Connection first = dataSource.getConnection();
+        Connection second = dataSource.getConnection();
+        assertThat(dataSource.active()).isEqualTo(2);
+
+        first.close();
+        first.close();
+        assertThat(dataSource.active()).isEqualTo(1);
+
+        second.close();
+        assertThat(dataSource.active()).isZero();
+    }
+
+    @Test
+    void forwardsCallsToTheTargetConnection() throws SQLException {
+        Connection connection = dataSource.getConnection();
+        connection.setAutoCommit(false);
+        connection.close();
+
+        Connection delegate = mock(Connection.class);
+        when(target.getConnection()).thenReturn(delegate);
+        try (Connection c = dataSource.getConnection()) {
+            c.commit();
+        }
+        verify(delegate).commit();
+        verify(delegate).close();
+    }
+
+    @Test
+    void timesOutWhenAllPermitsAreHeld() throws SQLException {
+        dataSource.getConnection();
+        dataSource.getConnection();
+
+        assertThatThrownBy(dataSource::getConnection)
+                .isInstanceOf(SQLTransientConnectionException.class)
+                .hasMessageContaining("No database permit");
+        assertThat(registry.get("taskmanager.db.permit.wait").timer().count()).isEqualTo(3);
+        assertThat(registry.get("taskmanager.db.permit.wait").timer().max(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(50);
+    }
+
+    @Test
+    void waiterProceedsWhenAPermitIsReleased() throws Exception {
+        dataSource = new ConcurrencyLimitedDataSource(target, 1, Duration.ofSeconds(5), new SimpleMeterRegistry());
+        Connection held = dataSource.getConnection();
+
+        CompletableFuture<Connection> waiter = CompletableFuture.supplyAsync(() -> {
+            try {
+                return dataSource.getConnection();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        Thread.sleep(50);
+        assertThat(waiter).isNotDone();
+
+        held.close();
+        assertThat(waiter.get(5, TimeUnit.SECONDS)).isNotNull();
+    }
+
+    @Test
+    void failedCheckoutReleasesThePermit() throws SQLException {
+        when(target.getConnection()).thenThrow(new SQLException("pool closed"));
+
+        assertThatThrownBy(dataSource::getConnection).hasMessage("pool closed");
+        assertThat(dataSource.active()).isZero();
+        assertThat(registry.get("taskmanager.db.permit.active").gauge().value()).isZero();
+    }
+}
@@ -0,0 +1,63 @@
+package com.theawesomeengineer.taskmanager.config;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.DecoderHttpMessageReader;
+import org.springframework.http.codec.EncoderHttpMessageWriter;
+import org.springframework.http.codec.HttpMessageReader;
+import org.springframework.http.codec.HttpMessageWriter;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.theawesomeengineer.taskmanager.model.Task;
+import com.theawesomeengineer.taskmanager.wire.CollectingEncoder;
+
+class WireFormatConfigTest {
+
+    private static final MediaType SMILE = MediaType.valueOf("application/x-jackson-smile");
+    private static final MediaType CBOR = MediaType.valueOf("application/cbor");
+
+    private static ServerCodecConfigurer reactiveCodecs() {
+        DefaultListableBeanFactory beans = new DefaultListableBeanFactory();
+        beans.registerSingleton("jacksonObjectMapperBuilder", new Jackson2ObjectMapperBuilder());
+        ServerCodecConfigurer configurer = ServerCodecConfigurer.create();
+        new WireFormatConfig.Reactive(beans.getBeanProvider(Jackson2ObjectMapperBuilder.class))
+                .configureHttpMessageCodecs(configurer);
+        return configurer;
+    }
+
+    private static HttpMessageWriter<?> writerFor(List<HttpMessageWriter<?>> writers, MediaType mediaType) {
+        ResolvableType task = ResolvableType.forClass(Task.class);
+        return writers.stream().filter(w -> w.canWrite(task, mediaType)).findFirst().orElseThrow();
+    }
+
+    @Test
+    void reactiveBinaryListsAreWrittenAsOneArray() {
+        // getWriters() is where the server codec configurer bean fails if a default slot has the wrong type
+        List<HttpMessageWriter<?>> writers = reactiveCodecs().getWriters();
+
+        for (MediaType mediaType : List.of(SMILE, CBOR)) {
+            assertThat(writerFor(writers, mediaType)).isInstanceOfSatisfying(EncoderHttpMessageWriter.class,
+                    writer -> assertThat(writer.getEncoder()).isInstanceOf(CollectingEncoder.class));
+        }
+    }
+
+    @Test
+    void reactiveJsonIsLeftToTheJsonCodecs() {
+        ResolvableType task = ResolvableType.forClass(Task.class);
+
+        assertThat(writerFor(reactiveCodecs().getWriters(), MediaType.APPLICATION_JSON))
+                .isInstanceOfSatisfying(EncoderHttpMessageWriter.class,
+                        writer -> assertThat(writer.getEncoder()).isInstanceOf(Jackson2JsonEncoder.class));
+        assertThat(reactiveCodecs().getReaders().stream().filter(r -> r.canRead(task, MediaType.APPLICATION_JSON)).findFirst())
+                .get().isInstanceOfSatisfying(DecoderHttpMessageReader.class,
+                        reader -> assertThat(reader.getDecoder()).isInstanceOf(Jackson2JsonDecoder.class));
+    }
+}
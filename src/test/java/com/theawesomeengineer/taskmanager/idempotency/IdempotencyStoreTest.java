@@ -0,0 +1,128 @@
+package com.theawesomeengineer.taskmanager.idempotency;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.theawesomeengineer.taskmanager.config.TaskmanagerProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+
+class IdempotencyStoreTest {
+
+    private IdempotencyStore store;
+    private AtomicInteger runs;
+
+    @BeforeEach
+    void setUp() {
+        TaskmanagerProperties properties = new TaskmanagerProperties();
+        properties.getIdempotency().setWaitTimeout(Duration.ofSeconds(5));
+        store = new IdempotencyStore(properties, new ObjectMapper(), new SimpleMeterRegistry());
+        runs = new AtomicInteger();
+    }
+
+    private ResponseEntity<String> created() {
+        return ResponseEntity.status(HttpStatus.CREATED).eTag("\"1\"").body("task " + runs.incrementAndGet());
+    }
+
+    @Test
+    void replaysTheFirstResponseForARepeatedKey() {
+        ResponseEntity<String> first = store.execute("createTask", "k1", List.of("body"), this::created);
+        ResponseEntity<String> retry = store.execute("createTask", "k1", List.of("body"), this::created);
+
+        assertThat(runs).hasValue(1);
+        assertThat(retry.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(retry.getBody()).isEqualTo(first.getBody());
+        assertThat(retry.getHeaders().getETag()).isEqualTo("\"1\"");
+        assertThat(retry.getHeaders().getFirst(IdempotencyStore.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(first.getHeaders().containsKey(IdempotencyStore.REPLAYED_HEADER)).isFalse();
+    }
+
+    @Test
+    void keysAreScopedToTheOperationAndAbsentKeysAlwaysRun() {
+        store.execute("createTask", "k1", List.of("body"), this::created);
+        store.execute("updateTask", "k1", List.of("body"), this::created);
+        store.execute("createTask", null, List.of("body"), this::created);
+        store.execute("createTask", null, List.of("body"), this::created);
+
+        assertThat(runs).hasValue(4);
+    }
+
+    @Test
+    void rejectsAKeyReusedForADifferentRequest() {
+        store.execute("createTask", "k1", List.of("body"), this::created);
+
+        assertThatThrownBy(() -> store.execute("createTask", "k1", List.of("other body"), this::created))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY));
+        assertThat(runs).hasValue(1);
+    }
+
+    @Test
+    void rejectsBlankAndOverlongKeys() {
+        for (String key : List.of(" ", "k".repeat(IdempotencyStore.MAX_KEY_LENGTH + 1))) {
+            assertThatThrownBy(() -> store.execute("createTask", key, List.of("body"), this::created))
+                    .isInstanceOfSatisfying(ResponseStatusException.class,
+                            e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+        }
+        assertThat(runs).hasValue(0);
+    }
+
+    @Test
+    void aFailedRequestLeavesNothingBehind() {
+        assertThatThrownBy(() -> store.execute("createTask", "k1", List.of("body"), () -> {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE);
+        })).isInstanceOf(ResponseStatusException.class);
+
+        ResponseEntity<String> retry = store.execute("createTask", "k1", List.of("body"), this::created);
+        assertThat(runs).hasValue(1);
+        assertThat(retry.getHeaders().containsKey(IdempotencyStore.REPLAYED_HEADER)).isFalse();
+    }
+
+    @Test
+    void aConcurrentRequestWaitsForTheFirstInsteadOfRunning() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<ResponseEntity<String>> first = CompletableFuture.supplyAsync(
+                () -> store.execute("createTask", "k1", List.of("body"), () -> {
+                    started.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        throw new IllegalStateException(e);
+                    }
+                    return created();
+                }));
+        started.await();
+        CompletableFuture<ResponseEntity<String>> second = CompletableFuture.supplyAsync(
+                () -> store.execute("createTask", "k1", List.of("body"), this::created));
+        Thread.sleep(50);
+        assertThat(second).isNotDone();
+
+        release.countDown();
+        assertThat(second.get().getBody()).isEqualTo(first.get().getBody());
+        assertThat(runs).hasValue(1);
+    }
+
+    @Test
+    void reactiveRequestsShareTheSameStore() {
+        store.execute("createTask", "k1", List.of("body"), this::created);
+
+        ResponseEntity<String> replayed = store.<String>executeReactive("createTask", "k1", List.of("body"),
+                () -> Mono.fromSupplier(this::created)).block();
+        assertThat(replayed.getBody()).isEqualTo("task 1");
+        assertThat(runs).hasValue(1);
+    }
+}
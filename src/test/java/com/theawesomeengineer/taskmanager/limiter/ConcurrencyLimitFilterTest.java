@@ -0,0 +1,134 @@
+package com.theawesomeengineer.taskmanager.limiter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.DispatcherServlet;
+
+import com.theawesomeengineer.taskmanager.config.TaskmanagerProperties;
+import com.theawesomeengineer.taskmanager.limiter.ConcurrencyLimitFilter.Priority;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+class ConcurrencyLimitFilterTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(settings(), registry);
+
+    private static TaskmanagerProperties.ConcurrencyLimit settings() {
+        TaskmanagerProperties.ConcurrencyLimit settings = new TaskmanagerProperties.ConcurrencyLimit();
+        settings.setInitialLimit(20);
+        settings.setMinLimit(10);
+        return settings;
+    }
+
+    private MockHttpServletResponse run(MockHttpServletRequest request, int status) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        HttpServlet servlet = new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) {
+                resp.setStatus(status);
+            }
+        };
+        filter.doFilter(request, response, new MockFilterChain(servlet));
+        return response;
+    }
+
+    private void occupy(int requests) {
+        for (int i = 0; i < requests; i++) {
+            assertThat(filter.tryAcquire(Priority.CRITICAL)).isTrue();
+        }
+    }
+
+    private double gauge(String name) {
+        return registry.get(name).gauge().value();
+    }
+
+    @Test
+    void classifiesSingleTaskReadsAndWritesAsCritical() {
+        assertThat(ConcurrencyLimitFilter.priority(new MockHttpServletRequest("GET", "/tasks/7"), "/tasks/7"))
+                .isEqualTo(Priority.CRITICAL);
+        assertThat(ConcurrencyLimitFilter.priority(new MockHttpServletRequest("POST", "/tasks"), "/tasks"))
+                .isEqualTo(Priority.CRITICAL);
+        assertThat(ConcurrencyLimitFilter.priority(new MockHttpServletRequest("DELETE", "/tasks/7"), "/tasks/7"))
+                .isEqualTo(Priority.CRITICAL);
+        assertThat(ConcurrencyLimitFilter.priority(new MockHttpServletRequest("GET", "/tasks"), "/tasks"))
+                .isEqualTo(Priority.SHEDDABLE);
+        assertThat(ConcurrencyLimitFilter.priority(new MockHttpServletRequest("GET", "/tasks/search"), "/tasks/search"))
+                .isEqualTo(Priority.SHEDDABLE);
+    }
+
+    @Test
+    void shedsListsFirstWithRetryAfter() throws Exception {
+        occupy(16);
+
+        MockHttpServletResponse list = run(new MockHttpServletRequest("GET", "/tasks"), 200);
+        assertThat(list.getStatus()).isEqualTo(503);
+        assertThat(list.getHeader("Retry-After")).isEqualTo("1");
+
+        assertThat(run(new MockHttpServletRequest("GET", "/tasks/1"), 200).getStatus()).isEqualTo(200);
+
+        occupy(4);
+        assertThat(run(new MockHttpServletRequest("GET", "/tasks/1"), 200).getStatus()).isEqualTo(503);
+
+        assertThat(registry.get("taskmanager.api.concurrency.rejected").tag("priority", "sheddable").counter().count())
+                .isEqualTo(1.0);
+        assertThat(registry.get("taskmanager.api.concurrency.rejected").tag("priority", "critical").counter().count())
+                .isEqualTo(1.0);
+        assertThat(gauge("taskmanager.api.concurrency.inflight")).isEqualTo(20.0);
+        assertThat(gauge("taskmanager.api.concurrency.limit")).isEqualTo(20.0);
+    }
+
+    @Test
+    void releasesItsSlotAndBacksOffOnServerErrors() throws Exception {
+        assertThat(run(new MockHttpServletRequest("GET", "/tasks"), 200).getStatus()).isEqualTo(200);
+        assertThat(gauge("taskmanager.api.concurrency.inflight")).isZero();
+
+        run(new MockHttpServletRequest("GET", "/tasks/1"), 500);
+        assertThat(filter.limit()).isEqualTo(18);
+    }
+
+    @Test
+    void deliberateUnavailabilityIsNotADrop() throws Exception {
+        MockHttpServletRequest search = new MockHttpServletRequest("GET", "/tasks/search");
+        // as left by DispatcherServlet once ResponseStatusExceptionResolver has sent the 503
+        search.setAttribute(DispatcherServlet.EXCEPTION_ATTRIBUTE,
+                            new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Search is not available"));
+        assertThat(run(search, 503).getStatus()).isEqualTo(503);
+        assertThat(filter.limit()).isEqualTo(20);
+
+        run(new MockHttpServletRequest("GET", "/tasks/1"), 503);
+        assertThat(filter.limit()).isEqualTo(18);
+
+        MockFilterChain failing = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) {
+                throw new IllegalStateException("query timed out");
+            }
+        });
+        assertThatThrownBy(() -> filter.doFilter(new MockHttpServletRequest("GET", "/tasks/1"),
+                                                 new MockHttpServletResponse(), failing))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(filter.limit()).isEqualTo(16);
+        assertThat(gauge("taskmanager.api.concurrency.inflight")).isZero();
+    }
+
+    @Test
+    void leavesStreamsAndOtherPathsAlone() throws Exception {
+        occupy(20);
+
+        MockHttpServletRequest export = new MockHttpServletRequest("GET", "/tasks");
+        export.addHeader("Accept", "application/x-ndjson");
+        assertThat(run(export, 200).getStatus()).isEqualTo(200);
+        assertThat(run(new MockHttpServletRequest("GET", "/tasks/changes"), 200).getStatus()).isEqualTo(200);
+        assertThat(run(new MockHttpServletRequest("GET", "/actuator/health"), 200).getStatus()).isEqualTo(200);
+    }
+}
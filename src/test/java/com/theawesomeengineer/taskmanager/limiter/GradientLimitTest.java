@@ -0,0 +1,81 @@
+package com.theawesomeengineer.taskmanager.limiter;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.Test;
+
+class GradientLimitTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final GradientLimit limit = new GradientLimit(100, 20, 1000, 1.5);
+
+    private void samples(int count, long rtt, int inflight) {
+        for (int i = 0; i < count; i++) {
+            limit.sample(rtt, inflight, false);
+        }
+    }
+
+    @Test
+    void growsWhileLatencyHoldsUnderLoad() {
+        samples(20, FAST, 100);
+
+        assertThat(limit.get()).isGreaterThan(100);
+    }
+
+    @Test
+    void shrinksWhenLatencyClimbs() {
+        samples(50, FAST, 100);
+        int before = limit.get();
+
+        samples(20, SLOW, before);
+
+        assertThat(limit.get()).isLessThan(before / 2).isGreaterThanOrEqualTo(20);
+    }
+
+    @Test
+    void requestsFarBelowTheLimitLeaveItAlone() {
+        samples(20, FAST, 10);
+        samples(20, SLOW, 10);
+
+        assertThat(limit.get()).isEqualTo(100);
+    }
+
+    @Test
+    void failuresCutTheLimitDownToItsFloor() {
+        limit.sample(FAST, 100, true);
+        assertThat(limit.get()).isEqualTo(90);
+
+        for (int i = 0; i < 50; i++) {
+            limit.sample(FAST, 100, true);
+        }
+        assertThat(limit.get()).isEqualTo(20);
+    }
+
+    @Test
+    void concurrentDropsAreAllApplied() throws Exception {
+        Thread[] threads = new Thread[10];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> limit.sample(FAST, 100, true));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // 100 * 0.9^10
+        assertThat(limit.get()).isEqualTo(34);
+    }
+
+    @Test
+    void staysWithinItsBounds() {
+        samples(1000, FAST, 1000);
+
+        assertThat(limit.get()).isEqualTo(1000);
+        assertThat(new GradientLimit(5, 20, 1000, 1.5).get()).isEqualTo(20);
+    }
+}
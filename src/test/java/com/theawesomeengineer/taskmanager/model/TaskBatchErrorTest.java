@@ -0,0 +1,48 @@
+package com.theawesomeengineer.taskmanager.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.Test;
+
+class TaskBatchErrorTest {
+
+    @Test
+    void testConstructorAndGetters() {
+        TaskBatchError error = new TaskBatchError(3, "Invalid task");
+
+        assertThat(error.getIndex()).isEqualTo(3);
+        assertThat(error.getMessage()).isEqualTo("Invalid task");
+        assertThat(error.getDetails()).isNull();
+    }
+
+    @Test
+    void testFluentSetters() {
+        TaskBatchError error = new TaskBatchError()
+                .index(1)
+                .message("Invalid task")
+                .details("title: must not be null");
+
+        assertThat(error.getIndex()).isEqualTo(1);
+        assertThat(error.getDetails()).isEqualTo("title: must not be null");
+    }
+
+    @Test
+    void testEqualsAndHashCode() {
+        TaskBatchError e1 = new TaskBatchError(0, "Invalid task").details("x");
+        TaskBatchError e2 = new TaskBatchError(0, "Invalid task").details("x");
+        TaskBatchError e3 = new TaskBatchError(1, "Invalid task");
+
+        assertThat(e1)
+            .isEqualTo(e2)
+            .hasSameHashCodeAs(e2)
+            .isNotEqualTo(e3);
+    }
+
+    @Test
+    void testToString() {
+        assertThat(new TaskBatchError(2, "Invalid task").toString())
+            .contains("class TaskBatchError")
+            .contains("index: 2")
+            .contains("message: Invalid task")
+            .contains("details: null");
+    }
+}
@@ -0,0 +1,47 @@
+package com.theawesomeengineer.taskmanager.model;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.Test;
+
+class TaskBatchResponseTest {
+
+    private static final OffsetDateTime NOW = OffsetDateTime.parse("2025-01-01T10:00:00Z");
+
+    @Test
+    void testConstructorAndGetters() {
+        Task task = new Task(1L, "A", "desc", false, NOW, NOW);
+        TaskBatchError error = new TaskBatchError(1, "Invalid task");
+        TaskBatchResponse response = new TaskBatchResponse(List.of(task), List.of(error));
+
+        assertThat(response.getCreated()).containsExactly(task);
+        assertThat(response.getErrors()).containsExactly(error);
+    }
+
+    @Test
+    void testAddItemsOnEmptyResponse() {
+        TaskBatchResponse response = new TaskBatchResponse()
+                .created(null)
+                .errors(new ArrayList<>())
+                .addCreatedItem(new Task(1L, "A", "desc", false, NOW, NOW))
+                .addErrorsItem(new TaskBatchError(0, "Invalid task"));
+
+        assertThat(response.getCreated()).hasSize(1);
+        assertThat(response.getErrors()).hasSize(1);
+    }
+
+    @Test
+    void testEqualsHashCodeAndToString() {
+        TaskBatchResponse r1 = new TaskBatchResponse(new ArrayList<>(), new ArrayList<>());
+        TaskBatchResponse r2 = new TaskBatchResponse(new ArrayList<>(), new ArrayList<>());
+
+        assertThat(r1).isEqualTo(r2).hasSameHashCodeAs(r2);
+        assertThat(r1.toString())
+            .contains("class TaskBatchResponse")
+            .contains("created: []")
+            .contains("errors: []");
+    }
+}
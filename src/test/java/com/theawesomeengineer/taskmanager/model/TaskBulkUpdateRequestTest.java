@@ -0,0 +1,53 @@
+package com.theawesomeengineer.taskmanager.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.Test;
+
+class TaskBulkUpdateRequestTest {
+
+    @Test
+    void testConstructorAndGetters() {
+        TaskFilter filter = new TaskFilter().completed(false);
+        TaskBulkPatch patch = new TaskBulkPatch().completed(true);
+        TaskBulkUpdateRequest request = new TaskBulkUpdateRequest(filter, patch);
+
+        assertThat(request.getFilter()).isSameAs(filter);
+        assertThat(request.getPatch()).isSameAs(patch);
+    }
+
+    @Test
+    void testPatchFluentSettersAndEquality() {
+        TaskBulkPatch p1 = new TaskBulkPatch().title("T").description("D").completed(true);
+        TaskBulkPatch p2 = new TaskBulkPatch().title("T").description("D").completed(true);
+
+        assertThat(p1.getTitle()).isEqualTo("T");
+        assertThat(p1.getDescription()).isEqualTo("D");
+        assertThat(p1)
+            .isEqualTo(p2)
+            .hasSameHashCodeAs(p2)
+            .isNotEqualTo(new TaskBulkPatch().completed(false));
+        assertThat(p1.toString()).contains("class TaskBulkPatch").contains("title: T");
+    }
+
+    @Test
+    void testResult() {
+        TaskBulkResult r1 = new TaskBulkResult(42L);
+        TaskBulkResult r2 = new TaskBulkResult().affected(42L);
+
+        assertThat(r1.getAffected()).isEqualTo(42L);
+        assertThat(r1).isEqualTo(r2).hasSameHashCodeAs(r2);
+        assertThat(r1.toString()).contains("class TaskBulkResult").contains("affected: 42");
+    }
+
+    @Test
+    void testEqualsAndToString() {
+        TaskBulkUpdateRequest r1 = new TaskBulkUpdateRequest(new TaskFilter(), new TaskBulkPatch());
+        TaskBulkUpdateRequest r2 = new TaskBulkUpdateRequest().filter(new TaskFilter()).patch(new TaskBulkPatch());
+
+        assertThat(r1).isEqualTo(r2).hasSameHashCodeAs(r2);
+        assertThat(r1.toString())
+            .contains("class TaskBulkUpdateRequest")
+            .contains("filter: class TaskFilter")
+            .contains("patch: class TaskBulkPatch");
+    }
+}
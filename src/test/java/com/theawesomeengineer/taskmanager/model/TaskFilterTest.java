@@ -0,0 +1,59 @@
+package com.theawesomeengineer.taskmanager.model;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.Test;
+
+class TaskFilterTest {
+
+    private static final OffsetDateTime FROM = OffsetDateTime.parse("2025-01-01T00:00:00Z");
+    private static final OffsetDateTime TO = OffsetDateTime.parse("2025-02-01T00:00:00Z");
+
+    @Test
+    void testDefaults() {
+        TaskFilter filter = new TaskFilter();
+
+        assertThat(filter.getIds()).isEmpty();
+        assertThat(filter.getCompleted()).isNull();
+        assertThat(filter.getCreatedAfter()).isNull();
+        assertThat(filter.getUpdatedBefore()).isNull();
+    }
+
+    @Test
+    void testFluentSetters() {
+        TaskFilter filter = new TaskFilter()
+                .ids(null)
+                .addIdsItem(7L)
+                .completed(true)
+                .createdAfter(FROM)
+                .createdBefore(TO)
+                .updatedAfter(FROM)
+                .updatedBefore(TO);
+
+        assertThat(filter.getIds()).containsExactly(7L);
+        assertThat(filter.getCompleted()).isTrue();
+        assertThat(filter.getCreatedAfter()).isEqualTo(FROM);
+        assertThat(filter.getCreatedBefore()).isEqualTo(TO);
+        assertThat(filter.getUpdatedAfter()).isEqualTo(FROM);
+        assertThat(filter.getUpdatedBefore()).isEqualTo(TO);
+    }
+
+    @Test
+    void testEqualsHashCodeAndToString() {
+        TaskFilter f1 = new TaskFilter().ids(List.of(1L, 2L)).completed(false);
+        TaskFilter f2 = new TaskFilter().ids(List.of(1L, 2L)).completed(false);
+        TaskFilter f3 = new TaskFilter().completed(true);
+
+        assertThat(f1)
+            .isEqualTo(f2)
+            .hasSameHashCodeAs(f2)
+            .isNotEqualTo(f3);
+        assertThat(f1.toString())
+            .contains("class TaskFilter")
+            .contains("ids: [1, 2]")
+            .contains("completed: false")
+            .contains("createdAfter: null");
+    }
+}
@@ -0,0 +1,56 @@
+package com.theawesomeengineer.taskmanager.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openapitools.jackson.nullable.JsonNullable;
+import org.openapitools.jackson.nullable.JsonNullableModule;
+
+class TaskPatchTest {
+
+    private final ObjectMapper mapper = new ObjectMapper().registerModule(new JsonNullableModule());
+
+    @Test
+    void testDefaultsAreUndefined() {
+        TaskPatch patch = new TaskPatch();
+
+        assertThat(patch.getTitle().isPresent()).isFalse();
+        assertThat(patch.getDescription().isPresent()).isFalse();
+        assertThat(patch.getCompleted().isPresent()).isFalse();
+    }
+
+    @Test
+    void testFluentSetters() {
+        TaskPatch patch = new TaskPatch().title("t").description("d").completed(true);
+
+        assertThat(patch.getTitle().get()).isEqualTo("t");
+        assertThat(patch.getDescription().get()).isEqualTo("d");
+        assertThat(patch.getCompleted().get()).isTrue();
+    }
+
+    @Test
+    void testDeserializationDistinguishesAbsentFromNull() throws Exception {
+        TaskPatch patch = mapper.readValue("{\"title\": null, \"completed\": true}", TaskPatch.class);
+
+        assertThat(patch.getTitle()).isEqualTo(JsonNullable.ofNullable(null));
+        assertThat(patch.getDescription().isPresent()).isFalse();
+        assertThat(patch.getCompleted().get()).isTrue();
+    }
+
+    @Test
+    void testEqualsHashCodeAndToString() {
+        TaskPatch p1 = new TaskPatch().completed(true);
+        TaskPatch p2 = new TaskPatch().completed(true);
+        TaskPatch p3 = new TaskPatch().completed(false);
+
+        assertThat(p1)
+            .isEqualTo(p2)
+            .hasSameHashCodeAs(p2)
+            .isNotEqualTo(p3);
+        assertThat(p1.toString())
+            .contains("class TaskPatch")
+            .contains("completed: true")
+            .contains("title: null");
+    }
+}
@@ -0,0 +1,20 @@
+package com.theawesomeengineer.taskmanager.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.Test;
+
+class TaskStatsTest {
+
+    @Test
+    void testConstructorAndFluentSetters() {
+        TaskStats s1 = new TaskStats(42L, 30L, 12L, 0.714, 3L, 17L, 2L, 9L);
+        TaskStats s2 = new TaskStats().total(42L).completed(30L).open(12L).completionRatio(0.714)
+                                      .createdLastHour(3L).createdLastDay(17L)
+                                      .completedLastHour(2L).completedLastDay(9L);
+
+        assertThat(s1.getTotal()).isEqualTo(42L);
+        assertThat(s1.getCompletionRatio()).isEqualTo(0.714);
+        assertThat(s1).isEqualTo(s2).hasSameHashCodeAs(s2).isNotEqualTo(new TaskStats().total(42L));
+        assertThat(s1.toString()).contains("class TaskStats").contains("open: 12");
+    }
+}
@@ -0,0 +1,52 @@
+package com.theawesomeengineer.taskmanager.model;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.Test;
+
+class TaskSyncResponseTest {
+
+    private static final OffsetDateTime NOW = OffsetDateTime.parse("2025-01-01T10:00:00Z");
+
+    @Test
+    void testConstructorAndGetters() {
+        Task task = new Task(1L, "A", "desc", false, NOW, NOW);
+        TaskSyncResponse response = new TaskSyncResponse(List.of(task), List.of(7L), "token", true);
+
+        assertThat(response.getTasks()).containsExactly(task);
+        assertThat(response.getDeleted()).containsExactly(7L);
+        assertThat(response.getNext()).isEqualTo("token");
+        assertThat(response.getHasMore()).isTrue();
+    }
+
+    @Test
+    void testAddItemsOnEmptyResponse() {
+        TaskSyncResponse response = new TaskSyncResponse()
+                .tasks(null)
+                .deleted(null)
+                .addTasksItem(new Task(1L, "A", "desc", false, NOW, NOW))
+                .addDeletedItem(2L)
+                .next("token")
+                .hasMore(false);
+
+        assertThat(response.getTasks()).hasSize(1);
+        assertThat(response.getDeleted()).containsExactly(2L);
+        assertThat(response.getHasMore()).isFalse();
+    }
+
+    @Test
+    void testEqualsHashCodeAndToString() {
+        TaskSyncResponse r1 = new TaskSyncResponse(new ArrayList<>(), new ArrayList<>(), "t", false);
+        TaskSyncResponse r2 = new TaskSyncResponse(new ArrayList<>(), new ArrayList<>(), "t", false);
+
+        assertThat(r1).isEqualTo(r2).hasSameHashCodeAs(r2);
+        assertThat(r1.toString())
+            .contains("class TaskSyncResponse")
+            .contains("deleted: []")
+            .contains("next: t")
+            .contains("hasMore: false");
+    }
+}
@@ -0,0 +1,180 @@
+package com.theawesomeengineer.taskmanager.replica;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.theawesomeengineer.taskmanager.config.TaskmanagerProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Routing over in-memory H2 databases standing in for the primary and two replicas; each holds a
+ * row naming itself, so a query shows where it ran.
+ */
+class ReadReplicasTest {
+
+    /** A replica that can be taken down: it then refuses connections. */
+    private static final class Switchable extends DelegatingDataSource {
+        volatile boolean down;
+
+        Switchable(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (down) {
+                throw new SQLException("Connection refused");
+            }
+            return super.getConnection();
+        }
+    }
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final Map<String, Switchable> replicaDataSources = new LinkedHashMap<>();
+    private ReadReplicas replicas;
+    private JdbcTemplate jdbc;
+    private TransactionTemplate reads;
+    private TransactionTemplate writes;
+
+    private static DataSource database(String name) {
+        DriverManagerDataSource dataSource =
+                new DriverManagerDataSource("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate setup = new JdbcTemplate(dataSource);
+        setup.execute("CREATE TABLE node (name VARCHAR(20))");
+        setup.update("INSERT INTO node VALUES (?)", name);
+        setup.execute("CREATE TABLE lag (seconds DOUBLE)");
+        setup.update("INSERT INTO lag VALUES (0)");
+        return dataSource;
+    }
+
+    @BeforeEach
+    void setUp() {
+        TaskmanagerProperties.Replicas settings = new TaskmanagerProperties().getReplicas();
+        settings.setLagQuery("SELECT seconds FROM lag");
+        replicaDataSources.put("replica-a", new Switchable(database("replica-a")));
+        replicaDataSources.put("replica-b", new Switchable(database("replica-b")));
+        replicas = new ReadReplicas(settings, Map.copyOf(replicaDataSources), registry);
+
+        DataSource routing = replicas.routing(database("primary"));
+        DataSourceTransactionManager transactions = new DataSourceTransactionManager(routing);
+        jdbc = new JdbcTemplate(routing);
+        writes = new TransactionTemplate(transactions);
+        reads = new TransactionTemplate(transactions);
+        reads.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadRouting.end();
+    }
+
+    private String read() {
+        return reads.execute(status -> jdbc.queryForObject("SELECT name FROM node", String.class));
+    }
+
+    private void write() {
+        writes.executeWithoutResult(status -> jdbc.update("UPDATE node SET name = name"));
+    }
+
+    private void setLag(String replica, Double seconds) {
+        new JdbcTemplate(replicaDataSources.get(replica)).update("UPDATE lag SET seconds = ?", seconds);
+        replicas.check();
+    }
+
+    @Test
+    void readOnlyTransactionsOfARequestRotateOverTheReplicas() {
+        ReadRouting.begin("client-1");
+
+        assertThat(read()).isIn("replica-a", "replica-b");
+        String first = read();
+        String second = read();
+
+        assertThat(first).isNotEqualTo(second);
+        assertThat(read()).isEqualTo(first);
+        assertThat(registry.get("taskmanager.db.reads").tag("target", "primary").counter().count()).isZero();
+        assertThat(registry.get("taskmanager.db.replica.lag").tag("replica", "replica-a").gauge().value()).isZero();
+    }
+
+    @Test
+    void aClientReadsThePrimaryForAWhileAfterItWrote() {
+        ReadRouting.begin("client-1");
+        write();
+        assertThat(read()).isEqualTo("primary");
+        ReadRouting.end();
+
+        ReadRouting.begin("client-1");
+        assertThat(read()).isEqualTo("primary");
+        ReadRouting.end();
+
+        ReadRouting.begin("client-2");
+        assertThat(read()).startsWith("replica");
+    }
+
+    @Test
+    void readsOutsideARequestOrPinnedToThePrimaryStayThere() {
+        assertThat(read()).isEqualTo("primary");
+
+        ReadRouting.begin("client-1");
+        assertThat(ReadRouting.onPrimary(this::read)).isEqualTo("primary");
+        assertThat(read()).startsWith("replica");
+    }
+
+    @Test
+    void onlyReadWriteTransactionsCountAsWrites() {
+        ReadRouting.begin("client-1");
+        assertThat(jdbc.queryForObject("SELECT name FROM node", String.class)).isEqualTo("primary");
+        assertThat(read()).startsWith("replica");
+
+        write();
+        assertThat(read()).isEqualTo("primary");
+    }
+
+    @Test
+    void laggingAndStoppedReplicasLeaveTheRotation() {
+        ReadRouting.begin("client-1");
+
+        setLag("replica-a", 10.0);
+        assertThat(read()).isEqualTo("replica-b");
+        assertThat(read()).isEqualTo("replica-b");
+        assertThat(registry.get("taskmanager.db.replica.lag").tag("replica", "replica-a").gauge().value()).isEqualTo(10.0);
+
+        setLag("replica-b", null);
+        assertThat(read()).isEqualTo("primary");
+
+        setLag("replica-a", 1.0);
+        assertThat(read()).isEqualTo("replica-a");
+    }
+
+    @Test
+    void aReplicaThatRefusesConnectionsIsSkippedUntilItIsBack() {
+        ReadRouting.begin("client-1");
+        replicaDataSources.get("replica-a").down = true;
+
+        assertThat(read()).isEqualTo("replica-b");
+        assertThat(read()).isEqualTo("replica-b");
+
+        replicas.check();
+        assertThat(registry.get("taskmanager.db.replica.lag").tag("replica", "replica-a").gauge().value()).isNaN();
+
+        replicaDataSources.get("replica-a").down = false;
+        replicas.check();
+        assertThat(read()).isIn("replica-a", "replica-b");
+        assertThat(read()).isIn("replica-a", "replica-b").isNotEqualTo(read());
+    }
+}
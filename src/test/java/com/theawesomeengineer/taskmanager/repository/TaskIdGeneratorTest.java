@@ -0,0 +1,73 @@
+package com.theawesomeengineer.taskmanager.repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.TestPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.theawesomeengineer.taskmanager.model.Task;
+import com.theawesomeengineer.taskmanager.model.TaskRequest;
+
+/**
+ * Creates on MySQL, where {@code tasks_seq} is a table, from more clients than there are pooled
+ * connections: drawing a block must not need one of them.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(properties = {
+        "spring.datasource.hikari.maximum-pool-size=2",
+        // a create waiting for a third connection fails after this instead of the default 30s
+        "spring.datasource.hikari.connection-timeout=2000"
+})
+@Testcontainers
+class TaskIdGeneratorTest {
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0")
+            .withDatabaseName("taskdb")
+            .withUsername("taskuser")
+            .withPassword("taskpass")
+            .withLabel("app", "taskmanager-test");
+
+    @Autowired
+    TestRestTemplate rest;
+
+    @Test
+    void concurrentCreatesDrawBlocksWithoutAPooledConnection() {
+        // several blocks of 50, with both pooled connections held by creates most of the time
+        int creates = 400;
+        List<ResponseEntity<Task>> responses = assertTimeoutPreemptively(Duration.ofSeconds(60), () -> {
+            try (ExecutorService clients = Executors.newFixedThreadPool(16)) {
+                List<Future<ResponseEntity<Task>>> pending = new ArrayList<>();
+                for (int i = 0; i < creates; i++) {
+                    TaskRequest request = new TaskRequest("concurrent " + i, "desc");
+                    pending.add(clients.submit(() -> rest.postForEntity("/tasks", request, Task.class)));
+                }
+                List<ResponseEntity<Task>> done = new ArrayList<>();
+                for (Future<ResponseEntity<Task>> response : pending) {
+                    done.add(response.get());
+                }
+                return done;
+            }
+        });
+
+        assertThat(responses).extracting(ResponseEntity::getStatusCode).containsOnly(HttpStatus.CREATED);
+        assertThat(responses).extracting(response -> response.getBody().getId()).doesNotHaveDuplicates();
+    }
+}
@@ -1,24 +1,23 @@
 package com.theawesomeengineer.taskmanager;
 
 import java.net.URI;
-import java.time.temporal.ChronoUnit;
-import java.util.List;
-import java.util.Objects;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
-import org.springframework.beans.factory.annotation.Autowired;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
-import org.springframework.http.RequestEntity;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
@@ -31,7 +30,7 @@ import com.theawesomeengineer.taskmanager.model.TaskRequest;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 @Testcontainers
-class TaskmanagerApplicationTests {
+class TaskmanagerApplicationTests extends TasksApiBehaviourTests {
 
     /* ---------- Testcontainers MySQL ---------- */
     @Container
@@ -47,19 +46,12 @@ class TaskmanagerApplicationTests {
         registry.add("spring.datasource.url", mysql::getJdbcUrl);
         registry.add("spring.datasource.username", mysql::getUsername);
         registry.add("spring.datasource.password", mysql::getPassword);
+        registry.add("taskmanager.write-behind.enabled", () -> "true");
+        registry.add("taskmanager.write-behind.journal", () -> journalDir.resolve("write-behind.journal").toString());
     }
 
-    @Autowired
-    TestRestTemplate rest;
-
-    /* ---------- helpers ---------- */
-    private TaskRequest buildRequest(String title, String desc, Boolean completed) {
-        TaskRequest rq = new TaskRequest();
-        rq.setTitle(title);
-        rq.setDescription(desc);
-        rq.setCompleted(completed);
-        return rq;
-    }
+    @TempDir
+    static Path journalDir;
 
     @BeforeAll
     static void beforeAll() {
@@ -67,148 +59,106 @@ class TaskmanagerApplicationTests {
         System.out.println("MySQL IS RUNNING at: " + mysql.getJdbcUrl());
     }
 
-    /* ========== HAPPY PATH ========== */
-
+    /* ---------- servlet-only metrics ---------- */
     @Test
-    void contextLoads() {
-        assertThat(rest).isNotNull();
-    }
+    void apiTimersAreTaggedByOperationAndOutcome() {
+        rest.getForEntity("/tasks/{id}", String.class, 987654321L);
+        rest.getForEntity("/tasks?limit=5", String.class);
 
-    @Test
-    void createAndFetchTask() {
-        TaskRequest request = buildRequest("Integration test", "via Testcontainers", false);
-
-        ResponseEntity<Task> createResponse = rest.postForEntity("/tasks", request, Task.class);
-        assertThat(createResponse.getStatusCode()).isEqualTo(HttpStatus.CREATED);
-        Task created = createResponse.getBody();
-
-        ResponseEntity<Task> getResponse = rest.getForEntity("/tasks/" + created.getId(), Task.class);
-        assertThat(getResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
-        Task fetched = getResponse.getBody();
-
-        assertThat(fetched)
-            .usingRecursiveComparison()
-            .ignoringFields("createdAt", "updatedAt")
-            .isEqualTo(created);
-
-        assertThat(fetched.getCreatedAt())
-            .isCloseTo(created.getCreatedAt(), within(1, ChronoUnit.SECONDS));
-        assertThat(fetched.getUpdatedAt())
-            .isCloseTo(created.getUpdatedAt(), within(1, ChronoUnit.SECONDS));
-    }
+        ResponseEntity<Map> notFound = rest.getForEntity(
+                "/actuator/metrics/taskmanager.api.requests?tag=operation:getTaskById&tag=outcome:404", Map.class);
+        assertThat(notFound.getStatusCode()).isEqualTo(HttpStatus.OK);
 
-    @Test
-    void listAllTasks() {
-        rest.postForEntity("/tasks", buildRequest("A", "desc", true), Task.class);
-        rest.postForEntity("/tasks", buildRequest("B", "desc", false), Task.class);
-
-        ResponseEntity<List> listResp = rest.getForEntity("/tasks", List.class);
-        assertThat(listResp.getStatusCode()).isEqualTo(HttpStatus.OK);
-        assertThat(listResp.getBody()).asList().hasSizeGreaterThanOrEqualTo(2);
-    }
-
-    @Test
-    void updateTask() {
-        Task created = rest.postForEntity("/tasks",
-                buildRequest("before", "desc", false), Task.class).getBody();
-
-        TaskRequest update = buildRequest("after", "new desc", true);
-        RequestEntity<TaskRequest> req = RequestEntity
-                .put(URI.create("/tasks/" + created.getId()))
-                .body(update);
-        ResponseEntity<Task> putResp = rest.exchange(req, Task.class);
-        assertThat(putResp.getStatusCode()).isEqualTo(HttpStatus.OK);
-        Task updated = putResp.getBody();
-        assertThat(updated.getTitle()).isEqualTo("after");
-        assertThat(updated.getCompleted()).isTrue();
+        ResponseEntity<Map> listSize = rest.getForEntity("/actuator/metrics/taskmanager.api.list.size", Map.class);
+        assertThat(listSize.getStatusCode()).isEqualTo(HttpStatus.OK);
     }
 
-    @Test
-    void deleteTask() {
-        Long id = Objects.requireNonNull(
-                rest.postForEntity("/tasks", buildRequest("to delete", "desc", false), Task.class)
-                    .getBody()).getId();
-
-        rest.delete("/tasks/{id}", id);
+    /* ---------- SQL statement budgets (Server-Timing) ---------- */
+    private static final Pattern STATEMENTS = Pattern.compile("db;dur=[0-9.]+;desc=\"(\\d+) statements");
 
-        ResponseEntity<String> getAfter = rest.getForEntity("/tasks/{id}", String.class, id);
-        assertThat(getAfter.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
-    }
-
-    /* ========== SAD PATH / BOUNDARY ========== */
-
-    @Test
-    void createTaskWithInvalidPayloadReturns400() {
-        String invalidJson = "{ invalid json }";
+    private <T> ResponseEntity<T> timed(HttpMethod method, String url, Object body, Class<T> type, Object... vars) {
         HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        HttpEntity<String> entity = new HttpEntity<>(invalidJson, headers);
-
-        ResponseEntity<String> response = rest.postForEntity("/tasks", entity, String.class);
-        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
-    }
-
-    @Test
-    void createTaskWithNullTitleReturns400() {
-        TaskRequest rq = new TaskRequest();
-        rq.setTitle(null);
-        rq.setDescription("desc");
-        rq.setCompleted(false);
-        ResponseEntity<String> resp = rest.postForEntity("/tasks", rq, String.class);
-        assertThat(resp.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        headers.set("X-Debug-Timing", "1");
+        return rest.exchange(url, method, new HttpEntity<>(body, headers), type, vars);
     }
 
-    @Test
-    void getTaskByNonExistentIdReturns404() {
-        ResponseEntity<String> resp = rest.getForEntity("/tasks/{id}", String.class, 9999L);
-        assertThat(resp.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    private static int statements(ResponseEntity<?> response) {
+        String header = response.getHeaders().getFirst("Server-Timing");
+        assertThat(header).as("Server-Timing header").isNotNull();
+        Matcher m = STATEMENTS.matcher(header);
+        assertThat(m.find()).as("db entry in " + header).isTrue();
+        return Integer.parseInt(m.group(1));
     }
 
     @Test
-    void updateNonExistentTaskReturns404() {
-        TaskRequest rq = buildRequest("ghost", "no such task", false);
-        RequestEntity<TaskRequest> req = RequestEntity
-                .put(URI.create("/tasks/8888"))
-                .body(rq);
-        ResponseEntity<String> resp = rest.exchange(req, String.class);
-        assertThat(resp.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    void requestsStayWithinTheirSqlStatementBudget() {
+        ResponseEntity<Task> created = timed(HttpMethod.POST, "/tasks", new TaskRequest("budget", "desc"), Task.class);
+        assertThat(created.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(statements(created)).isLessThanOrEqualTo(2);   // sequence block + INSERT
+        Long id = created.getBody().getId();
+
+        assertThat(statements(timed(HttpMethod.GET, "/tasks/{id}", null, Task.class, id))).isLessThanOrEqualTo(1);
+        assertThat(statements(timed(HttpMethod.GET, "/tasks?limit=20", null, String.class))).isEqualTo(1);
+        assertThat(statements(timed(HttpMethod.PUT, "/tasks/{id}", new TaskRequest("budget 2", "desc"), Task.class, id)))
+                .isLessThanOrEqualTo(2);                           // UPDATE + reload
+        assertThat(statements(timed(HttpMethod.GET, "/tasks/search?q=budget", null, String.class)))
+                .isLessThanOrEqualTo(1);                           // only hits missing from the cache
+        assertThat(statements(timed(HttpMethod.GET, "/tasks/stats", null, String.class))).isZero();
+        assertThat(statements(timed(HttpMethod.GET, "/tasks:sync?limit=20", null, String.class)))
+                .isEqualTo(2);                                     // task page + tombstone page
+        assertThat(statements(timed(HttpMethod.DELETE, "/tasks/{id}", null, Void.class, id)))
+                .isEqualTo(2);                                     // DELETE + tombstone INSERT
     }
 
+    /* ---------- serialized JSON cache ---------- */
     @Test
-    void deleteNonExistentTaskReturns404() {
-        rest.delete("/tasks/{id}", 7777L);
-        ResponseEntity<String> resp = rest.getForEntity("/tasks/{id}", String.class, 7777L);
-        assertThat(resp.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    void unchangedTasksAreServedFromTheirCachedJson() {
+        Long id = rest.postForEntity("/tasks", new TaskRequest("json cache", "desc"), Task.class).getBody().getId();
+
+        ResponseEntity<String> first = rest.getForEntity("/tasks/{id}", String.class, id);
+        ResponseEntity<String> second = rest.getForEntity("/tasks/{id}", String.class, id);
+        assertThat(second.getBody()).isEqualTo(first.getBody()).contains("\"title\":\"json cache\"");
+        assertThat(second.getHeaders().getContentLength()).isEqualTo(second.getBody().length());
+        ResponseEntity<Map> hits = rest.getForEntity("/actuator/metrics/cache.gets?tag=cache:task-json&tag=result:hit", Map.class);
+        assertThat(hits.getStatusCode()).isEqualTo(HttpStatus.OK);
+
+        rest.put("/tasks/{id}", new TaskRequest("json cache 2", "desc"), id);
+        assertThat(rest.getForEntity("/tasks/{id}", String.class, id).getBody()).contains("\"title\":\"json cache 2\"");
+        ResponseEntity<Task[]> page = rest.getForEntity("/tasks?limit=1000", Task[].class);
+        assertThat(page.getBody()).extracting(Task::getTitle).contains("json cache 2").doesNotContain("json cache");
     }
 
+    /* ---------- write-behind ---------- */
     @Test
-    void patchIsNotSupportedReturns405() {
-        Long taskId = 1L;
-        String patchJson = "{\"title\": \"Patched\"}";
-
+    void respondAsyncAcceptsTheTaskAndWritesItBehind() {
         HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        HttpEntity<String> entity = new HttpEntity<>(patchJson, headers);
-
-        ResponseEntity<Void> response = rest.exchange(
-            "/tasks/" + taskId,
-            HttpMethod.PATCH,
-            entity,
-            Void.class
-        );
-
-        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.METHOD_NOT_ALLOWED);
+        headers.set("X-Debug-Timing", "1");
+        headers.set("Prefer", "respond-async");
+        ResponseEntity<Task> accepted = rest.exchange("/tasks", HttpMethod.POST,
+                new HttpEntity<>(new TaskRequest("write-behind", "desc"), headers), Task.class);
+        assertThat(accepted.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        assertThat(accepted.getHeaders().getFirst("Preference-Applied")).isEqualTo("respond-async");
+        assertThat(statements(accepted)).isLessThanOrEqualTo(1);   // at most a sequence block; the INSERT comes later
+        Task task = accepted.getBody();
+        URI location = accepted.getHeaders().getLocation();
+        assertThat(location).hasPath("/tasks/" + task.getId());
+
+        ResponseEntity<Task> written = assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            while (true) {
+                ResponseEntity<Task> response = rest.getForEntity(location, Task.class);
+                if (response.getStatusCode() == HttpStatus.OK) {
+                    return response;
+                }
+                Thread.sleep(20);
+            }
+        });
+        assertThat(written.getBody().getTitle()).isEqualTo("write-behind");
+        assertThat(written.getBody().getCreatedAt().toInstant()).isEqualTo(task.getCreatedAt().toInstant());
     }
 
     @Test
-    void createTaskWithMaxLengthFields() {
-        String maxTitle = "X".repeat(255);
-        String maxDesc = "Y".repeat(1000);
-        TaskRequest rq = buildRequest(maxTitle, maxDesc, true);
-        ResponseEntity<Task> resp = rest.postForEntity("/tasks", rq, Task.class);
-        assertThat(resp.getStatusCode()).isEqualTo(HttpStatus.CREATED);
-        Task body = resp.getBody();
-        assertThat(body.getTitle()).hasSize(255);
-        assertThat(body.getDescription()).hasSize(1000);
+    void serverTimingIsOffWithoutTheDebugHeader() {
+        ResponseEntity<String> response = rest.getForEntity("/tasks?limit=1", String.class);
+        assertThat(response.getHeaders().containsKey("Server-Timing")).isFalse();
     }
-}
\ No newline at end of file
+}
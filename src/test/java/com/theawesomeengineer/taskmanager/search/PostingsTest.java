@@ -0,0 +1,38 @@
+package com.theawesomeengineer.taskmanager.search;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.Test;
+
+class PostingsTest {
+
+    @Test
+    void readsBackWhatWasAppended() {
+        Postings postings = new Postings();
+        int[][] entries = { {0, 1}, {3, 2}, {200, 1}, {70_000, 300}, {Integer.MAX_VALUE - 1, 1} };
+        for (int[] e : entries) {
+            postings.add(e[0], e[1]);
+        }
+
+        List<int[]> read = new ArrayList<>();
+        Postings.Cursor cursor = postings.cursor();
+        while (cursor.next()) {
+            read.add(new int[] { cursor.ordinal(), cursor.frequency() });
+        }
+
+        assertThat(read).containsExactly(entries);
+        assertThat(postings.count()).isEqualTo(entries.length);
+    }
+
+    @Test
+    void smallGapsTakeTwoBytes() {
+        Postings postings = new Postings();
+        for (int ordinal = 0; ordinal < 1000; ordinal += 5) {
+            postings.add(ordinal, 1);
+        }
+
+        assertThat(postings.sizeInBytes()).isEqualTo(2 * postings.count());
+    }
+}
@@ -0,0 +1,116 @@
+package com.theawesomeengineer.taskmanager.search;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.theawesomeengineer.taskmanager.config.TaskmanagerProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TaskSearchIndexTest {
+
+    private SimpleMeterRegistry registry;
+    private TaskSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        index = new TaskSearchIndex(new TaskmanagerProperties(), registry);
+    }
+
+    private List<Long> ids(String query) {
+        return index.search(query, 10).stream().map(SearchHit::id).toList();
+    }
+
+    @Test
+    void ranksByRelevance() {
+        index.index(1, 0, "Write docs", "for the release");
+        index.index(2, 0, "Release", "cut the release branch and tag the release");
+        index.index(3, 0, "Lunch", "nothing to do with it");
+
+        assertThat(ids("release")).containsExactly(2L, 1L);
+        // a rarer term outweighs a common one
+        assertThat(ids("docs the")).first().isEqualTo(1L);
+        assertThat(ids("nope")).isEmpty();
+    }
+
+    @Test
+    void titleMatchesOutrankDescriptionMatches() {
+        index.index(1, 0, "alpha", "beta");
+        index.index(2, 0, "beta", "alpha");
+
+        assertThat(ids("beta")).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void equalScoresAreOrderedById() {
+        index.index(7, 0, "same", "");
+        index.index(3, 0, "same", "");
+        index.index(5, 0, "same", "");
+
+        assertThat(ids("same")).containsExactly(3L, 5L, 7L);
+        assertThat(index.search("same", 2)).extracting(SearchHit::id).containsExactly(3L, 5L);
+    }
+
+    @Test
+    void reindexReplacesTermsButIgnoresOlderVersions() {
+        index.index(1, 1, "old title", "");
+        index.index(1, 2, "new title", "");
+        index.index(1, 1, "old title", "");
+
+        assertThat(ids("old")).isEmpty();
+        assertThat(ids("new")).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void removeDropsTheTask() {
+        index.index(1, 0, "keep", "");
+        index.index(2, 0, "keep", "");
+        index.remove(2);
+
+        assertThat(ids("keep")).containsExactly(1L);
+        assertThat(registry.get("taskmanager.search.documents").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    void repeatedQueriesScoreTheSame() {
+        index.index(1, 0, "alpha beta", "");
+        index.index(2, 0, "beta", "alpha alpha");
+        List<SearchHit> first = index.search("alpha beta", 10);
+
+        // reuses the pooled score buffer; its scores must not leak into the next query
+        index.search("beta", 10);
+
+        assertThat(index.search("alpha beta", 10)).isEqualTo(first);
+    }
+
+    @Test
+    void compactionKeepsResults() {
+        for (int round = 0; round < 5; round++) {
+            for (long id = 0; id < 100; id++) {
+                index.index(id, round, "task " + id, "round r" + round);
+            }
+        }
+        index.compact();
+
+        assertThat(ids("round")).hasSize(10);
+        assertThat(ids("r4")).hasSize(10);
+        assertThat(ids("r3")).isEmpty();
+        assertThat(ids("42")).containsExactly(42L);
+        assertThat(index.size()).isEqualTo(100);
+    }
+
+    @Test
+    void disabledIndexFindsNothing() {
+        TaskmanagerProperties properties = new TaskmanagerProperties();
+        properties.getSearch().setEnabled(false);
+        TaskSearchIndex disabled = new TaskSearchIndex(properties, new SimpleMeterRegistry());
+        disabled.index(1, 0, "anything", "");
+
+        assertThat(disabled.search("anything", 10)).isEmpty();
+    }
+}
@@ -0,0 +1,29 @@
+package com.theawesomeengineer.taskmanager.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.Test;
+
+class TokenizerTest {
+
+    @Test
+    void splitsOnNonAlphanumericsAndLowerCases() {
+        assertThat(Tokenizer.tokenize("Fix the API-docs, v2!")).containsExactly("fix", "the", "api", "docs", "v2");
+    }
+
+    @Test
+    void foldsAccents() {
+        assertThat(Tokenizer.tokenize("Caf\u00e9 Cre\u0300me")).containsExactly("cafe", "creme");
+    }
+
+    @Test
+    void truncatesVeryLongTerms() {
+        assertThat(Tokenizer.tokenize("a".repeat(100))).singleElement()
+            .satisfies(term -> assertThat(term).hasSize(Tokenizer.MAX_TERM_LENGTH));
+    }
+
+    @Test
+    void blankOrNullTextHasNoTerms() {
+        assertThat(Tokenizer.tokenize(null)).isEmpty();
+        assertThat(Tokenizer.tokenize(" -- ")).isEmpty();
+    }
+}
@@ -0,0 +1,37 @@
+package com.theawesomeengineer.taskmanager.stats;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.Test;
+
+class MinuteCounterTest {
+
+    private static final long NOW = 29_000_000L;
+
+    private final MinuteCounter counter = new MinuteCounter();
+
+    @Test
+    void sumsTheRequestedSpan() {
+        counter.add(NOW, 2);
+        counter.add(NOW - 59, 1);
+        counter.add(NOW - 60, 4);
+
+        assertThat(counter.sum(NOW, 60)).isEqualTo(3);
+        assertThat(counter.sum(NOW, MinuteCounter.MINUTES)).isEqualTo(7);
+    }
+
+    @Test
+    void slotIsResetWhenItsMinuteComesRoundAgain() {
+        counter.add(NOW, 5);
+        counter.add(NOW + MinuteCounter.MINUTES, 1);
+
+        assertThat(counter.sum(NOW + MinuteCounter.MINUTES, MinuteCounter.MINUTES)).isEqualTo(1);
+    }
+
+    @Test
+    void minutesOlderThanTheRingAreIgnored() {
+        counter.add(NOW, 5);
+        counter.add(NOW - MinuteCounter.MINUTES, -1);
+
+        assertThat(counter.sum(NOW, MinuteCounter.MINUTES)).isEqualTo(5);
+    }
+}
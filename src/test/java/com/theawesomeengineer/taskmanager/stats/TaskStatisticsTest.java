@@ -0,0 +1,92 @@
+package com.theawesomeengineer.taskmanager.stats;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.theawesomeengineer.taskmanager.model.Task;
+import com.theawesomeengineer.taskmanager.repository.TaskCounts;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TaskStatisticsTest {
+
+    private static final OffsetDateTime NOW = OffsetDateTime.of(2025, 3, 1, 12, 0, 0, 0, ZoneOffset.UTC);
+
+    private SimpleMeterRegistry registry;
+    private TaskStatistics stats;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        stats = new TaskStatistics(registry);
+    }
+
+    private static Task task(boolean completed, OffsetDateTime createdAt, OffsetDateTime updatedAt) {
+        return new Task(1L, "t", "d", completed, createdAt, updatedAt);
+    }
+
+    @Test
+    void countsCreatesByWindow() {
+        stats.created(task(false, NOW, NOW));
+        stats.created(task(true, NOW.minusHours(3), NOW.minusMinutes(10)));
+        stats.created(task(false, NOW.minusDays(2), NOW.minusDays(2)));
+
+        assertThat(stats.snapshot(NOW)).isEqualTo(new TaskCounts(3, 1, 1, 2, 1, 1));
+    }
+
+    @Test
+    void updateMovesCompletionOnlyWhenThePreviousStateIsKnown() {
+        Task open = task(false, NOW.minusHours(2), NOW.minusHours(2));
+        Task done = task(true, NOW.minusHours(2), NOW);
+        stats.created(open);
+
+        stats.updated(open, done);
+        assertThat(stats.snapshot(NOW).completed()).isEqualTo(1);
+        assertThat(stats.snapshot(NOW).completedLastHour()).isEqualTo(1);
+
+        stats.updated(done, task(false, NOW.minusHours(2), NOW));
+        assertThat(stats.snapshot(NOW).completed()).isZero();
+
+        stats.updated(null, done);
+        assertThat(stats.snapshot(NOW).completed()).isZero();
+    }
+
+    @Test
+    void deleteWithoutPreviousStateOnlyAdjustsTheTotal() {
+        Task done = task(true, NOW, NOW);
+        stats.created(done);
+        stats.created(done);
+
+        stats.deleted(done);
+        stats.deleted((Task) null);
+
+        TaskCounts counts = stats.snapshot(NOW);
+        assertThat(counts.total()).isZero();
+        assertThat(counts.completed()).isEqualTo(1);
+        assertThat(counts.createdLastHour()).isEqualTo(1);
+    }
+
+    @Test
+    void reconcileAdoptsTheDatabaseFiguresAndRecordsDrift() {
+        stats.reconcile(new TaskCounts(100, 40, 5, 20, 2, 10), NOW);
+        assertThat(stats.isSeeded()).isTrue();
+        assertThat(stats.snapshot(NOW)).isEqualTo(new TaskCounts(100, 40, 5, 20, 2, 10));
+        assertThat(registry.get("taskmanager.stats.drift").summary().count()).isZero();
+
+        stats.created(task(true, NOW, NOW));
+        stats.reconcile(new TaskCounts(100, 40, 5, 20, 2, 10), NOW);
+        assertThat(stats.snapshot(NOW)).isEqualTo(new TaskCounts(100, 40, 5, 20, 2, 10));
+        assertThat(registry.get("taskmanager.stats.drift").summary().totalAmount()).isEqualTo(6.0);
+    }
+
+    @Test
+    void snapshotShowsDriftInsteadOfClampingIt() {
+        stats.deleted(task(true, NOW, NOW));
+
+        assertThat(stats.snapshot(NOW)).isEqualTo(new TaskCounts(-1, -1, -1, -1, -1, -1));
+    }
+}
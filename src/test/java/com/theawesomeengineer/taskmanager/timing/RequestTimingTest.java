@@ -0,0 +1,59 @@
+package com.theawesomeengineer.taskmanager.timing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class RequestTimingTest {
+
+    @AfterEach
+    void tearDown() {
+        RequestTiming.end();
+    }
+
+    @Test
+    void staticHooks_doNothingWhenRequestIsNotTimed() {
+        RequestTiming.statementPrepared();
+        RequestTiming.rowLoaded();
+        RequestTiming.sqlExecuted(1_000_000);
+        RequestTiming.validated(1_000_000);
+
+        assertThat(RequestTiming.current()).isNull();
+    }
+
+    @Test
+    void header_listsPhasesAndSqlCounts() {
+        RequestTiming timing = RequestTiming.begin();
+        timing.handlerStarted();
+        timing.bodyReadStarted();
+        timing.bodyReadEnded();
+        RequestTiming.validated(2_000_000);
+        RequestTiming.statementPrepared();
+        RequestTiming.statementPrepared();
+        RequestTiming.rowLoaded();
+        RequestTiming.sqlExecuted(1_500_000);
+        timing.bodyWriteStarted();
+
+        String header = timing.header(System.nanoTime());
+
+        assertThat(timing.statements()).isEqualTo(2);
+        assertThat(timing.rows()).isEqualTo(1);
+        assertThat(header).contains("valid;dur=2.00")
+                          .contains("delegate;dur=")
+                          .contains("db;dur=1.50;desc=\"2 statements, 1 rows\"")
+                          .contains("ser;dur=")
+                          .contains("total;dur=");
+    }
+
+    @Test
+    void header_omitsPhasesThatDidNotRun() {
+        RequestTiming timing = RequestTiming.begin();
+
+        String header = timing.header(System.nanoTime());
+
+        assertThat(header).startsWith("db;dur=0.00;desc=\"0 statements, 0 rows\", total;dur=")
+                          .doesNotContain("deser")
+                          .doesNotContain("ser;")
+                          .doesNotContain("delegate");
+    }
+}
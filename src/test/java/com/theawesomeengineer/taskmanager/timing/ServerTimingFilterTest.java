@@ -0,0 +1,65 @@
+package com.theawesomeengineer.taskmanager.timing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.theawesomeengineer.taskmanager.config.TaskmanagerProperties;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+
+class ServerTimingFilterTest {
+
+    private final TaskmanagerProperties.ServerTiming settings = new TaskmanagerProperties.ServerTiming();
+
+    private MockHttpServletResponse run(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        HttpServlet servlet = new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                RequestTiming.statementPrepared();
+                resp.getWriter().write("[]");
+            }
+        };
+        new ServerTimingFilter(settings).doFilter(request, response, new MockFilterChain(servlet));
+        return response;
+    }
+
+    @Test
+    void addsHeaderWhenDebugHeaderIsSent() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/tasks");
+        request.addHeader("X-Debug-Timing", "1");
+
+        MockHttpServletResponse response = run(request);
+
+        assertThat(response.getHeader(RequestTiming.HEADER)).contains("1 statements").contains("total;dur=");
+        assertThat(response.getContentAsString()).isEqualTo("[]");
+        assertThat(RequestTiming.current()).isNull();
+    }
+
+    @Test
+    void skipsRequestsWithoutDebugHeaderUnlessEnabled() throws Exception {
+        assertThat(run(new MockHttpServletRequest("GET", "/tasks")).getHeader(RequestTiming.HEADER)).isNull();
+
+        settings.setEnabled(true);
+        assertThat(run(new MockHttpServletRequest("GET", "/tasks/1")).getHeader(RequestTiming.HEADER)).isNotNull();
+    }
+
+    @Test
+    void skipsOtherPathsAndStreams() throws Exception {
+        settings.setEnabled(true);
+        assertThat(run(new MockHttpServletRequest("GET", "/actuator/health")).getHeader(RequestTiming.HEADER)).isNull();
+
+        MockHttpServletRequest export = new MockHttpServletRequest("GET", "/tasks");
+        export.addHeader("Accept", "application/x-ndjson");
+        assertThat(run(export).getHeader(RequestTiming.HEADER)).isNull();
+
+        assertThat(run(new MockHttpServletRequest("GET", "/tasks/changes")).getHeader(RequestTiming.HEADER)).isNull();
+    }
+}
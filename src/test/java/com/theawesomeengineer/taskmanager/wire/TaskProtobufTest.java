@@ -0,0 +1,110 @@
+package com.theawesomeengineer.taskmanager.wire;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.Test;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.UnknownFieldSet;
+import com.theawesomeengineer.taskmanager.model.Error;
+import com.theawesomeengineer.taskmanager.model.Task;
+import com.theawesomeengineer.taskmanager.model.TaskRequest;
+
+class TaskProtobufTest {
+
+    private static final OffsetDateTime CREATED = OffsetDateTime.parse("2025-10-28T12:34:46.383096+07:00");
+
+    private static Task task(long id) {
+        return new Task(id, "Task " + id, "desc " + id, id % 2 == 0, CREATED, CREATED.plusMinutes(id));
+    }
+
+    @Test
+    void roundTripsATaskWithMicrosecondTimestampsInUtc() throws IOException {
+        Task read = TaskProtobuf.read(Task.class, new ByteArrayInputStream(TaskProtobuf.toBytes(task(2))));
+
+        assertThat(read).usingRecursiveComparison().ignoringFields("createdAt", "updatedAt").isEqualTo(task(2));
+        assertThat(read.getCreatedAt()).isEqualTo(CREATED.withOffsetSameInstant(ZoneOffset.UTC));
+        assertThat(read.getUpdatedAt()).isAtSameInstantAs(CREATED.plusMinutes(2));
+    }
+
+    @Test
+    void writesTheFieldNumbersOfTheSchema() throws IOException {
+        UnknownFieldSet fields = UnknownFieldSet.parseFrom(TaskProtobuf.toBytes(task(2)));
+
+        assertThat(fields.getField(1).getVarintList()).containsExactly(2L);
+        assertThat(fields.getField(2).getLengthDelimitedList()).containsExactly(ByteString.copyFromUtf8("Task 2"));
+        assertThat(fields.getField(3).getLengthDelimitedList()).containsExactly(ByteString.copyFromUtf8("desc 2"));
+        assertThat(fields.getField(4).getVarintList()).containsExactly(1L);
+        assertThat(fields.getField(5).getVarintList()).containsExactly(TaskProtobuf.micros(CREATED));
+    }
+
+    @Test
+    void aListIsTheConcatenationOfItsEntries() throws IOException {
+        List<Task> tasks = List.of(task(1), task(2), task(3));
+        ByteArrayOutputStream entries = new ByteArrayOutputStream();
+        for (Task task : tasks) {
+            entries.write(TaskProtobuf.listEntry(task));
+        }
+        ByteArrayOutputStream streamed = new ByteArrayOutputStream();
+        TaskProtobuf.writeTo(tasks, streamed);
+
+        assertThat(entries.toByteArray()).isEqualTo(TaskProtobuf.toBytes(tasks)).isEqualTo(streamed.toByteArray());
+        assertThat(TaskProtobuf.readList(new ByteArrayInputStream(entries.toByteArray())))
+                .extracting(Task::getId).containsExactly(1L, 2L, 3L);
+        assertThat(TaskProtobuf.readList(new ByteArrayInputStream(new byte[0]))).isEmpty();
+    }
+
+    @Test
+    void absentRequestFieldsReadLikeMissingJsonProperties() throws IOException {
+        TaskRequest request = new TaskRequest();
+        request.setTitle("only a title");
+        request.setCompleted(null);
+
+        TaskRequest read = TaskProtobuf.read(TaskRequest.class, new ByteArrayInputStream(TaskProtobuf.toBytes(request)));
+
+        assertThat(read.getTitle()).isEqualTo("only a title");
+        assertThat(read.getDescription()).isNull();
+        assertThat(read.getCompleted()).isFalse();
+    }
+
+    @Test
+    void roundTripsAnError() throws IOException {
+        Error error = new Error("Validation failed", CREATED).details("title: must not be blank");
+
+        Error read = TaskProtobuf.read(Error.class, new ByteArrayInputStream(TaskProtobuf.toBytes(error)));
+
+        assertThat(read.getMessage()).isEqualTo("Validation failed");
+        assertThat(read.getDetails()).isEqualTo("title: must not be blank");
+        assertThat(read.getTimestamp()).isAtSameInstantAs(CREATED);
+    }
+
+    @Test
+    void skipsFieldsItDoesNotKnow() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        CodedOutputStream out = CodedOutputStream.newInstance(bytes);
+        out.writeString(15, "added in a later version");
+        out.writeInt64(1, 7);
+        out.flush();
+
+        assertThat(TaskProtobuf.read(Task.class, new ByteArrayInputStream(bytes.toByteArray())).getId()).isEqualTo(7L);
+    }
+
+    @Test
+    void rejectsATruncatedMessage() {
+        byte[] bytes = TaskProtobuf.toBytes(task(1));
+        byte[] truncated = Arrays.copyOf(bytes, bytes.length - 3);
+
+        assertThatThrownBy(() -> TaskProtobuf.read(Task.class, new ByteArrayInputStream(truncated)))
+                .isInstanceOf(InvalidProtocolBufferException.class);
+    }
+}
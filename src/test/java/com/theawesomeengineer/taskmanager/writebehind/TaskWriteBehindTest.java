@@ -0,0 +1,143 @@
+package com.theawesomeengineer.taskmanager.writebehind;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.theawesomeengineer.taskmanager.config.TaskmanagerProperties;
+import com.theawesomeengineer.taskmanager.repository.TaskEntity;
+import com.theawesomeengineer.taskmanager.repository.TaskRepository;
+import com.theawesomeengineer.taskmanager.repository.TaskTombstoneRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TaskWriteBehindTest {
+
+    private static final OffsetDateTime CREATED = OffsetDateTime.of(2024, 1, 1, 10, 0, 0, 0, ZoneOffset.UTC);
+
+    @TempDir
+    Path dir;
+
+    private final TaskRepository repo = mock(TaskRepository.class);
+    private final List<Long> written = new CopyOnWriteArrayList<>();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private TaskmanagerProperties properties;
+    private TaskWriteBehind writeBehind;
+
+    @BeforeEach
+    void setUp() {
+        properties = new TaskmanagerProperties();
+        TaskmanagerProperties.WriteBehind config = properties.getWriteBehind();
+        config.setEnabled(true);
+        config.setJournal(dir.resolve("write-behind.journal"));
+        config.setDeadLetter(dir.resolve("write-behind.dead-letter"));
+        config.setRetryDelay(Duration.ofMillis(1));
+        config.setMaxRetryDelay(Duration.ofMillis(4));
+        config.setMaxAttempts(3);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (writeBehind != null) {
+            writeBehind.stop();
+        }
+    }
+
+    private void start() throws IOException {
+        writeBehind = new TaskWriteBehind(repo, mock(TaskTombstoneRepository.class),
+                                          new ObjectMapper().registerModule(new JavaTimeModule()), properties, registry);
+        writeBehind.onWritten(tasks -> tasks.forEach(t -> written.add(t.getId())));
+        writeBehind.start();
+    }
+
+    private static TaskEntity task(long id) {
+        return new TaskEntity(id, "task " + id, "desc", false, CREATED, CREATED, 0L);
+    }
+
+    private void offer(long... ids) {
+        for (long id : ids) {
+            assertThat(writeBehind.offer(task(id))).isTrue();
+        }
+    }
+
+    private void awaitWritten(int count) throws InterruptedException {
+        for (int i = 0; i < 500 && written.size() < count; i++) {
+            Thread.sleep(10);
+        }
+    }
+
+    @Test
+    void deadLettersTheRefusedTaskAndWritesTheRest() throws Exception {
+        doAnswer(inv -> {
+            List<TaskEntity> batch = inv.getArgument(0);
+            if (batch.stream().anyMatch(t -> t.getId() == 3)) {
+                throw new DataIntegrityViolationException("Data too long for column 'title'");
+            }
+            return null;
+        }).when(repo).insertAll(anyList());
+        start();
+
+        offer(1, 2, 3, 4, 5);
+        awaitWritten(4);
+        writeBehind.stop();
+        writeBehind = null;
+
+        assertThat(written).containsExactlyInAnyOrder(1L, 2L, 4L, 5L);
+        assertThat(Files.readAllLines(properties.getWriteBehind().getDeadLetter()))
+                .singleElement().asString().contains("\"id\":3").contains("Data too long");
+        assertThat(WriteBehindJournal.read(properties.getWriteBehind().getJournal(), new ObjectMapper()
+                .registerModule(new JavaTimeModule()))).isEmpty();
+        assertThat(registry.get("taskmanager.writebehind.dead.letters").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void retriesTransientFailuresWithoutDeadLettering() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        doAnswer(inv -> {
+            if (calls.incrementAndGet() <= 2) {
+                throw new QueryTimeoutException("statement timed out");
+            }
+            return null;
+        }).when(repo).insertAll(anyList());
+        start();
+
+        offer(1, 2);
+        awaitWritten(2);
+
+        assertThat(written).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(properties.getWriteBehind().getDeadLetter()).doesNotExist();
+    }
+
+    @Test
+    void classifiesErrorsAndBacksOff() throws Exception {
+        assertThat(TaskWriteBehind.isPermanent(new DataIntegrityViolationException("duplicate"))).isTrue();
+        assertThat(TaskWriteBehind.isPermanent(new DataAccessResourceFailureException("connection refused"))).isFalse();
+        assertThat(TaskWriteBehind.isPermanent(new QueryTimeoutException("timed out"))).isFalse();
+        assertThat(TaskWriteBehind.isPermanent(new IllegalStateException())).isFalse();
+
+        start();
+        assertThat(writeBehind.backoff(1)).isEqualTo(1);
+        assertThat(writeBehind.backoff(3)).isEqualTo(4);
+        assertThat(writeBehind.backoff(30)).isEqualTo(4);
+    }
+}
@@ -0,0 +1,118 @@
+package com.theawesomeengineer.taskmanager.writebehind;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.theawesomeengineer.taskmanager.repository.TaskEntity;
+
+class WriteBehindJournalTest {
+
+    private static final OffsetDateTime CREATED = OffsetDateTime.of(2024, 1, 1, 10, 0, 0, 0, ZoneOffset.UTC);
+
+    @TempDir
+    Path dir;
+
+    private Path path;
+    private ObjectMapper mapper;
+
+    @BeforeEach
+    void setUp() {
+        path = dir.resolve("write-behind.journal");
+        mapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    }
+
+    private static TaskEntity task(long id, String title) {
+        return new TaskEntity(id, title, "line one\nline two", false, CREATED, CREATED, 0L);
+    }
+
+    @Test
+    void readsBackWhatWasAppended() throws IOException {
+        try (WriteBehindJournal journal = new WriteBehindJournal(path, mapper)) {
+            journal.append(task(1, "first"));
+            journal.append(task(2, "second"));
+        }
+
+        assertThat(WriteBehindJournal.read(path, mapper))
+                .extracting(WriteBehindJournal.Entry::toEntity)
+                .containsExactly(task(1, "first"), task(2, "second"));
+    }
+
+    @Test
+    void emptiesOnceEveryTaskIsWritten() throws IOException {
+        try (WriteBehindJournal journal = new WriteBehindJournal(path, mapper)) {
+            journal.append(task(1, "first"));
+            journal.append(task(2, "second"));
+            journal.written(List.of(1L));
+            assertThat(WriteBehindJournal.read(path, mapper)).hasSize(2);
+
+            journal.written(List.of(2L));
+            assertThat(WriteBehindJournal.read(path, mapper)).isEmpty();
+
+            journal.append(task(3, "third"));
+            assertThat(WriteBehindJournal.read(path, mapper)).extracting(WriteBehindJournal.Entry::id).containsExactly(3L);
+        }
+    }
+
+    @Test
+    void compactsOnceMostLinesAreWritten() throws IOException {
+        try (WriteBehindJournal journal = new WriteBehindJournal(path, mapper, 0)) {
+            journal.append(task(1, "first"));
+            journal.append(task(2, "second"));
+            journal.append(task(3, "third"));
+            journal.append(task(4, "fourth"));
+            journal.written(List.of(2L));
+            assertThat(WriteBehindJournal.read(path, mapper)).hasSize(4);
+
+            journal.written(List.of(1L));
+            assertThat(WriteBehindJournal.read(path, mapper)).extracting(WriteBehindJournal.Entry::id)
+                                                             .containsExactly(3L, 4L);
+
+            journal.append(task(5, "fifth"));
+            assertThat(WriteBehindJournal.read(path, mapper)).extracting(WriteBehindJournal.Entry::id)
+                                                             .containsExactly(3L, 4L, 5L);
+        }
+    }
+
+    @Test
+    void readsInBatches() throws IOException {
+        try (WriteBehindJournal journal = new WriteBehindJournal(path, mapper)) {
+            for (long id = 1; id <= 5; id++) {
+                journal.append(task(id, "task " + id));
+            }
+        }
+        List<Integer> sizes = new ArrayList<>();
+
+        WriteBehindJournal.read(path, mapper, 2, batch -> sizes.add(batch.size()));
+
+        assertThat(sizes).containsExactly(2, 2, 1);
+    }
+
+    @Test
+    void skipsATornLastLine() throws IOException {
+        try (WriteBehindJournal journal = new WriteBehindJournal(path, mapper)) {
+            journal.append(task(1, "first"));
+        }
+        Files.writeString(path, "{\"id\":2,\"title\":\"sec", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        assertThat(WriteBehindJournal.read(path, mapper)).extracting(WriteBehindJournal.Entry::id).containsExactly(1L);
+    }
+
+    @Test
+    void readsNothingWhenThereIsNoFile() throws IOException {
+        assertThat(WriteBehindJournal.read(path, mapper)).isEmpty();
+    }
+}
@@ -0,0 +1,50 @@
+package org.openapitools.jackson.nullable;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class JsonNullableModuleTest {
+
+    static class Holder {
+        @JsonProperty("name")
+        JsonNullable<String> name = JsonNullable.undefined();
+
+        @JsonProperty("count")
+        JsonNullable<Integer> count = JsonNullable.undefined();
+
+        @JsonProperty("tags")
+        JsonNullable<List<String>> tags = JsonNullable.undefined();
+    }
+
+    private final ObjectMapper mapper = new ObjectMapper().registerModule(new JsonNullableModule());
+
+    @Test
+    void absentPropertyStaysUndefined() throws Exception {
+        Holder holder = mapper.readValue("{}", Holder.class);
+
+        assertThat(holder.name).isSameAs(JsonNullable.undefined());
+    }
+
+    @Test
+    void explicitNullIsPresentNull() throws Exception {
+        Holder holder = mapper.readValue("{\"name\": null}", Holder.class);
+
+        assertThat(holder.name.isPresent()).isTrue();
+        assertThat(holder.name.get()).isNull();
+        assertThat(holder.name.toOptional()).isEmpty();
+    }
+
+    @Test
+    void valuesAreReadAsTheDeclaredContentType() throws Exception {
+        Holder holder = mapper.readValue("{\"name\": \"x\", \"count\": \"42\", \"tags\": [\"a\", \"b\"]}", Holder.class);
+
+        assertThat(holder.name.get()).isEqualTo("x");
+        assertThat(holder.count.get()).isEqualTo(42);
+        assertThat(holder.tags.get()).containsExactly("a", "b");
+    }
+}
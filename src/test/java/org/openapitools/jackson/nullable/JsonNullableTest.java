@@ -91,6 +91,21 @@ class JsonNullableTest {
         assertThat(fromEmpty.isPresent()).isFalse();
     }
 
+    @Test
+    void ofNullable_shouldAllowPresentNull() {
+        JsonNullable<String> nullable = JsonNullable.ofNullable(null);
+
+        assertThat(nullable.isPresent()).isTrue();
+        assertThat(nullable.get()).isNull();
+        assertThat(nullable.toOptional()).isEmpty();
+        assertThat(nullable).isNotEqualTo(JsonNullable.undefined());
+    }
+
+    @Test
+    void undefined_shouldBeSharedInstance() {
+        assertThat(JsonNullable.<String>undefined()).isSameAs(JsonNullable.<Integer>undefined());
+    }
+
     @Test
     void of_shouldRejectNull() {
         assertThatThrownBy(() -> JsonNullable.of(null))
@@ -0,0 +1,26 @@
+-- tasks and task_tombstones schema as Hibernate creates it, for ReactiveTaskmanagerApplicationTests on H2's R2DBC driver.
+-- title is case-insensitive like MySQL's default collation, so sort=title orders the same way.
+CREATE SEQUENCE IF NOT EXISTS tasks_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS tasks (
+    id          BIGINT                      NOT NULL PRIMARY KEY,
+    title       VARCHAR_IGNORECASE(255)     NOT NULL,
+    description VARCHAR(1000)               NOT NULL,
+    completed   BOOLEAN                     NOT NULL,
+    created_at  TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    updated_at  TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    version     BIGINT                      NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_tasks_created_at_id ON tasks (created_at, id);
+CREATE INDEX IF NOT EXISTS idx_tasks_updated_at_id ON tasks (updated_at, id);
+CREATE INDEX IF NOT EXISTS idx_tasks_title_id ON tasks (title, id);
+CREATE INDEX IF NOT EXISTS idx_tasks_completed_updated_at_id ON tasks (completed, updated_at, id);
+CREATE INDEX IF NOT EXISTS idx_tasks_completed_created_at_id ON tasks (completed, created_at, id);
+
+CREATE TABLE IF NOT EXISTS task_tombstones (
+    id         BIGINT                      NOT NULL PRIMARY KEY,
+    deleted_at TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_task_tombstones_deleted_at_id ON task_tombstones (deleted_at, id);